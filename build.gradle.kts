@@ -4,6 +4,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.4"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "io.github.beom"
@@ -79,6 +80,8 @@ dependencies {
 
 	// 썸네일 라이브러리
 	implementation("net.coobird:thumbnailator:0.4.20")
+	// WebP ImageIO 플러그인 (렌디션 .webp 사본 생성, 네이티브 libwebp 포함)
+	implementation("com.github.usefulness:webp-imageio:0.10.0")
 
 	// QueryDSL
 	implementation("com.querydsl:querydsl-jpa:$queryDslVersion:jakarta")
@@ -133,6 +136,15 @@ tasks.named<Test>("test") {
 	include("**/*Test.class", "**/*Tests.class", "**/*IT.class")
 }
 
+// JMH 벤치마크 (src/jmh/java, ./gradlew jmh 로 실행하며 기본 test 태스크에는 포함되지 않음)
+jmh {
+	jmhVersion.set("1.37")
+	warmupIterations.set(2)
+	iterations.set(5)
+	fork.set(1)
+	resultFormat.set("JSON")
+}
+
 // QueryDSL Q클래스 생성을 위한 소스 경로 설정
 sourceSets {
 	named("main") {
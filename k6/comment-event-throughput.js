@@ -0,0 +1,104 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import encoding from 'k6/encoding';
+
+// 댓글 이벤트 소비 처리량 벤치마크
+// RabbitMQ 관리 API로 comment.exchange에 댓글 생성 이벤트를 직접 발행한 뒤,
+// 댓글 이벤트 큐가 모두 소비될 때까지 걸린 시간으로 초당 처리 메시지 수를 계산합니다.
+//
+// 설정별 비교 예시 (앱 재시작 후 각각 실행):
+//   EVENT_LISTENER_MODE=queue       EVENT_LISTENER_CONCURRENCY=1 EVENT_LISTENER_PREFETCH=1
+//   EVENT_LISTENER_MODE=queue       EVENT_LISTENER_CONCURRENCY=4 EVENT_LISTENER_PREFETCH=250
+//   EVENT_LISTENER_MODE=partitioned EVENT_LISTENER_PARTITIONS=4  EVENT_LISTENER_BATCH_SIZE=50
+//
+// 실행: docker-compose --profile testing run --rm k6 run /scripts/comment-event-throughput.js
+
+const RABBITMQ_URL = __ENV.RABBITMQ_URL || 'http://rabbitmq:15672';
+const RABBITMQ_USER = __ENV.RABBITMQ_USER || 'guest';
+const RABBITMQ_PASS = __ENV.RABBITMQ_PASS || 'guest';
+const MESSAGES = parseInt(__ENV.MESSAGES || '20000');
+const POSTS = parseInt(__ENV.POSTS || '100');
+const DRAIN_TIMEOUT_SECONDS = parseInt(__ENV.DRAIN_TIMEOUT_SECONDS || '600');
+
+const AUTH_HEADERS = {
+    'Content-Type': 'application/json',
+    'Authorization': 'Basic ' + encoding.b64encode(`${RABBITMQ_USER}:${RABBITMQ_PASS}`),
+};
+
+export let options = {
+    scenarios: {
+        publish: {
+            executor: 'shared-iterations',
+            vus: 20,
+            iterations: MESSAGES,
+            maxDuration: '30m',
+        },
+    },
+    teardownTimeout: `${DRAIN_TIMEOUT_SECONDS + 30}s`,
+};
+
+function pendingMessages() {
+    let response = http.get(`${RABBITMQ_URL}/api/queues/%2F?columns=name,messages`, { headers: AUTH_HEADERS });
+    if (response.status !== 200) {
+        return -1;
+    }
+    return response.json()
+        .filter((queue) => queue.name === 'comment.created.queue' || queue.name.startsWith('comment.partition.'))
+        .reduce((sum, queue) => sum + (queue.messages || 0), 0);
+}
+
+export function setup() {
+    return { startedAt: Date.now() };
+}
+
+export default function() {
+    let sequence = __ITER + __VU * MESSAGES;
+    let postId = sequence % POSTS + 1;
+    let event = {
+        eventId: `bench-${__VU}-${__ITER}-${Date.now()}`,
+        eventType: 'COMMENT_CREATED',
+        aggregateId: `${sequence}`,
+        eventData: {
+            commentId: sequence,
+            postId: postId,
+            boardId: 1,
+            content: 'benchmark',
+            author: '1',
+            depth: 0,
+        },
+    };
+
+    let response = http.post(`${RABBITMQ_URL}/api/exchanges/%2F/comment.exchange/publish`, JSON.stringify({
+        properties: {
+            content_type: 'application/json',
+            headers: {
+                '__TypeId__': 'io.github.beom.practiceboard.comment.event.CommentCreatedEvent',
+                'partition-key': `${postId}`,
+            },
+        },
+        routing_key: 'comment.created',
+        payload: JSON.stringify(event),
+        payload_encoding: 'string',
+    }), { headers: AUTH_HEADERS });
+
+    check(response, {
+        'event routed': (r) => r.status === 200 && r.json('routed') === true,
+    });
+}
+
+export function teardown(data) {
+    let publishedAt = Date.now();
+    let deadline = publishedAt + DRAIN_TIMEOUT_SECONDS * 1000;
+    let pending = pendingMessages();
+
+    while (pending !== 0 && Date.now() < deadline) {
+        sleep(0.5);
+        pending = pendingMessages();
+    }
+
+    let drainedAt = Date.now();
+    let totalSeconds = (drainedAt - data.startedAt) / 1000;
+    console.log(`발행 ${MESSAGES}건, 남은 메시지 ${pending}건`);
+    console.log(`발행 소요 ${((publishedAt - data.startedAt) / 1000).toFixed(1)}s, 소비 완료까지 ${totalSeconds.toFixed(1)}s`);
+    console.log(`처리량: ${(MESSAGES / totalSeconds).toFixed(1)} msg/s`);
+}
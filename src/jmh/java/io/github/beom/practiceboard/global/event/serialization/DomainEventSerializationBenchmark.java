@@ -0,0 +1,57 @@
+package io.github.beom.practiceboard.global.event.serialization;
+
+import io.github.beom.practiceboard.comment.event.CommentCreatedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 이벤트 직렬화 형식 비교 벤치마크 (JSON vs 바이너리)
+ * 실행: ./gradlew jmh
+ * 형식별 페이로드 크기는 Setup 단계에서 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainEventSerializationBenchmark {
+
+    @Param({"json", "binary"})
+    private String format;
+
+    @Param({"20", "500"})
+    private int contentLength;
+
+    private DomainEventMessageConverter converter;
+    private CommentCreatedEvent event;
+    private Message message;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        converter = new DomainEventMessageConverter(new Jackson2JsonMessageConverter("*"), format, null);
+        event = CommentCreatedEvent.of(123456L, 7890L, 12L, "댓글".repeat(contentLength / 2), "writer", 99L, 1);
+        message = converter.toMessage(event, new MessageProperties());
+        System.out.printf("%n[payload] format=%s, contentLength=%d, bytes=%d%n",
+                format, contentLength, message.getBody().length);
+    }
+
+    @Benchmark
+    public Message serialize() {
+        return converter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return converter.fromMessage(message);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.beom.practiceboard.security.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 검증 벤치마크 (매번 서명 검증/파싱 vs 검증 완료 캐시 사용)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JWTUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+    private JWTUtil coldJwtUtil;
+    private JWTUtil cachedJwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        coldJwtUtil = create(0);
+        cachedJwtUtil = create(10000);
+        token = cachedJwtUtil.generateToken(Map.of("mid", "user@example.com", "jti", "benchmark"), true);
+        cachedJwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Map<String, Object> coldParse() {
+        return coldJwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Map<String, Object> cachedVerify() {
+        return cachedJwtUtil.validateToken(token);
+    }
+
+    private JWTUtil create(int cacheSize) throws Exception {
+        JWTUtil jwtUtil = new JWTUtil();
+        set(jwtUtil, "key", SECRET);
+        set(jwtUtil, "accessTokenExpiration", 3_600_000L);
+        set(jwtUtil, "refreshTokenExpiration", 86_400_000L);
+        set(jwtUtil, "verifiedCacheMaxSize", cacheSize);
+        set(jwtUtil, "verifiedCacheTtlSeconds", 300L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private void set(JWTUtil target, String name, Object value) throws Exception {
+        Field field = JWTUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
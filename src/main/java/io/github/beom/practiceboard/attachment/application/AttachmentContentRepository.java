@@ -0,0 +1,61 @@
+package io.github.beom.practiceboard.attachment.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 첨부파일 내용(콘텐츠) 인덱스
+ * 내용의 SHA-256 해시로 정해지는 S3 키별로 참조 수를 관리해, 같은 내용은 한 번만 저장하고
+ * 마지막 참조가 사라질 때만 S3 객체를 삭제하기 위한 인터페이스입니다.
+ *
+ * 참조 수는 첨부파일별 참조(attachmentId -> S3 키, 소유자)로만 늘고 줄어듭니다.
+ * S3 키는 내용만 알면 누구나 계산할 수 있으므로 키로는 참조를 해제할 수 없습니다.
+ */
+public interface AttachmentContentRepository {
+
+    /**
+     * 이미 저장된 내용이면 참조를 추가하고 참조 수를 1 증가
+     * 삭제 대기 중인 내용은 재사용하지 않습니다.
+     * @return 인덱스에 있으면 true (업로드 생략 가능), 없으면 false
+     */
+    boolean acquire(String attachmentId, String ownerId, String s3Key);
+
+    /**
+     * 새로 업로드한 내용을 참조 수 1로 등록하고 참조를 추가
+     * 동시에 같은 내용이 먼저 등록된 경우에는 참조 수만 증가합니다.
+     * @return 등록했으면 true, 같은 키가 삭제 대기 중이라 쓸 수 없으면 false (다른 키로 다시 업로드해야 함)
+     */
+    boolean register(String attachmentId, String ownerId, String s3Key, String contentHash, long fileSize, String contentType);
+
+    /**
+     * 참조 해제 (멱등)
+     * 참조 행을 지우고 참조 수를 1 감소합니다. 마지막 참조였다면 내용 행을 삭제 대기로 바꾸며, S3 삭제는 커밋 후 호출한 쪽에서 합니다.
+     * @return 해제한 참조, 이미 해제됐거나 없는 참조면 null
+     * @throws io.github.beom.practiceboard.attachment.exception.FileAccessDeniedException 소유자가 다른 경우
+     */
+    ReleasedReference release(String attachmentId, String ownerId);
+
+    /**
+     * S3 객체 삭제가 끝난 삭제 대기 행 제거
+     */
+    void removeUnreferenced(String s3Key);
+
+    /**
+     * 기준 시각 이전부터 삭제 대기 중인 S3 키 (S3 삭제 재시도용)
+     */
+    List<String> findUnreferenced(LocalDateTime before, int limit);
+
+    /**
+     * 해제한 참조
+     */
+    @Getter
+    @AllArgsConstructor
+    class ReleasedReference {
+        private final String s3Key;
+        //마지막 참조였으면 true (S3 객체 삭제 대상)
+        private final boolean lastReference;
+    }
+}
@@ -0,0 +1,407 @@
+package io.github.beom.practiceboard.attachment.application;
+
+import io.github.beom.practiceboard.attachment.domain.RenditionStatus;
+import io.github.beom.practiceboard.s3.helper.S3Helper;
+import io.github.beom.practiceboard.s3.util.S3Uploader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 렌디션 생성 서비스
+ * 업로드 요청은 원본 저장까지만 기다리고, 크기별 사본(렌디션) 생성은 제한된 작업 풀에서 비동기로 처리합니다.
+ *
+ * - 크기: attachment.rendition.sizes (가장 작은 크기는 기존 썸네일 이름 s_UUID_파일명을 그대로 사용)
+ * - 그 외 크기: r{크기}_UUID_파일명
+ * - WebP: 런타임에 WebP ImageIO writer가 있으면 각 크기마다 .webp 사본을 추가로 생성
+ *
+ * 생성 상태(PENDING/READY/FAILED)는 Redis(attachment:rendition:{uuid})에 보관해 어느 인스턴스에서든 조회할 수 있습니다.
+ * 작업 대기열이 가득 차면 요청 스레드에서 처리하지 않고 FAILED로 표시합니다. (원본은 그대로 사용 가능)
+ *
+ * 메모리: 대기 중인 작업은 이미지 바이트 대신 원본 S3 키만 들고 있고, 작업 스레드가 실행 시점에 S3에서 읽습니다.
+ * 동시에 디코딩하는 이미지는 스레드 수만큼이며, 픽셀 수가 attachment.rendition.max-pixels를 넘으면 디코딩하지 않습니다.
+ *
+ * 종료: 종료 시점까지 끝나지 않은 작업은 Redis 목록(attachment:rendition:handoff)으로 넘기고,
+ * 살아 있는 인스턴스(또는 재시작한 인스턴스)가 주기적으로 가져가 이어서 처리합니다.
+ * 인계도 못 한 작업(비정상 종료 등)은 PENDING 상태가 짧은 TTL로 만료되어 NONE이 되고, 같은 내용이 다시 올라오면 재생성합니다.
+ */
+@Component
+@Log4j2
+public class AttachmentRenditionService {
+
+    private static final String STATUS_KEY_PREFIX = "attachment:rendition:";
+    private static final String HANDOFF_KEY = "attachment:rendition:handoff";
+    private static final String WEBP = "webp";
+
+    private final S3Uploader s3Uploader;
+    private final S3Helper s3Helper;
+    private final StringRedisTemplate redisTemplate;
+    private final int[] sizes;
+    private final Duration statusTtl;
+    private final Duration pendingTtl;
+    private final long maxPixels;
+    private final boolean webpSupported;
+    private final ThreadPoolExecutor renditionExecutor;
+    private final Timer renditionTimer;
+    private final Counter failedCounter;
+
+    public AttachmentRenditionService(S3Uploader s3Uploader,
+                                      S3Helper s3Helper,
+                                      StringRedisTemplate redisTemplate,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${attachment.rendition.sizes:200,480,1080}") int[] sizes,
+                                      @Value("${attachment.rendition.threads:0}") int threads,
+                                      @Value("${attachment.rendition.queue-capacity:500}") int queueCapacity,
+                                      @Value("${attachment.rendition.status-ttl-hours:24}") long statusTtlHours,
+                                      @Value("${attachment.rendition.pending-ttl-minutes:30}") long pendingTtlMinutes,
+                                      @Value("${attachment.rendition.max-pixels:50000000}") long maxPixels) {
+        this.s3Uploader = s3Uploader;
+        this.s3Helper = s3Helper;
+        this.redisTemplate = redisTemplate;
+        this.sizes = Arrays.stream(sizes).sorted().distinct().toArray();
+        this.statusTtl = Duration.ofHours(statusTtlHours);
+        this.pendingTtl = Duration.ofMinutes(pendingTtlMinutes);
+        this.maxPixels = maxPixels;
+        this.webpSupported = ImageIO.getImageWritersByFormatName(WEBP).hasNext();
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.renditionExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "attachment-rendition-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.renditionExecutor.allowCoreThreadTimeOut(true);
+
+        this.renditionTimer = Timer.builder("attachment.rendition")
+                .description("이미지 한 건의 전체 렌디션 생성 및 업로드 시간").register(meterRegistry);
+        this.failedCounter = Counter.builder("attachment.rendition.failed")
+                .description("렌디션 생성 실패 또는 대기열 초과 건수").register(meterRegistry);
+        meterRegistry.gauge("attachment.rendition.queue", renditionExecutor, executor -> executor.getQueue().size());
+
+        log.info("렌디션 크기: {}, WebP 지원: {}", Arrays.toString(this.sizes), webpSupported);
+    }
+
+    /**
+     * 렌디션을 만들 이미지인지 확인
+     * Content-Type이 image/* 인 경우 (벡터 이미지인 SVG 제외), Content-Type이 없거나 일반 바이너리면 확장자로 판단합니다.
+     */
+    public boolean isImage(MultipartFile file) {
+        String contentType = file.getContentType();
+        if (contentType == null || contentType.startsWith("application/octet-stream")) {
+            return s3Helper.isImageFile(file.getOriginalFilename());
+        }
+        return contentType.startsWith("image/") && !contentType.startsWith("image/svg");
+    }
+
+    /**
+     * 렌디션 생성 요청 (비동기)
+     * 원본은 이미 S3에 저장되어 있어야 합니다. 작업 스레드가 실행 시점에 원본을 읽습니다.
+     *
+     * @param domain     파일이 속한 도메인 (S3 디렉토리, null 가능)
+     * @param uuid       파일 UUID
+     * @param storedName S3에 저장된 파일명
+     * @return 요청 직후 상태 (PENDING, 대기열이 가득 찬 경우 FAILED)
+     */
+    public RenditionStatus submit(String domain, String uuid, String storedName) {
+        updateStatus(uuid, RenditionStatus.PENDING);
+        if (enqueue(new RenditionJob(domain, uuid, storedName))) {
+            return RenditionStatus.PENDING;
+        }
+        log.warn("렌디션 대기열 초과 - 원본만 사용: {}", uuid);
+        failedCounter.increment();
+        updateStatus(uuid, RenditionStatus.FAILED);
+        return RenditionStatus.FAILED;
+    }
+
+    /**
+     * 이미 저장된 내용의 렌디션 상태 확인 (중복 제거로 업로드를 생략한 경우)
+     * 상태가 남아 있지 않으면 마지막으로 만들어지는 렌디션이 S3에 있는지 확인하고, 없으면 다시 생성을 요청합니다.
+     */
+    public RenditionStatus ensureRenditions(String domain, String uuid, String storedName) {
+        RenditionStatus status = getStatus(uuid);
+        if (status != RenditionStatus.NONE) {
+            return status;
+        }
+
+        List<String> fileNames = getRenditionFileNames(uuid, storedName);
+        String lastRenditionKey = s3Helper.createS3Key(domain, fileNames.get(fileNames.size() - 1));
+        try {
+            if (s3Uploader.exists(lastRenditionKey)) {
+                updateStatus(uuid, RenditionStatus.READY);
+                return RenditionStatus.READY;
+            }
+        } catch (Exception e) {
+            log.debug("렌디션 존재 확인 실패 - 다시 생성: {} - {}", uuid, e.getMessage());
+        }
+        return submit(domain, uuid, storedName);
+    }
+
+    /**
+     * 렌디션 생성 상태 조회
+     */
+    public RenditionStatus getStatus(String uuid) {
+        try {
+            String value = redisTemplate.opsForValue().get(STATUS_KEY_PREFIX + uuid);
+            return value != null ? RenditionStatus.valueOf(value) : RenditionStatus.NONE;
+        } catch (Exception e) {
+            log.debug("렌디션 상태 조회 실패: {} - {}", uuid, e.getMessage());
+            return RenditionStatus.NONE;
+        }
+    }
+
+    /**
+     * 원본 한 건에 대해 생성되는 렌디션 파일명 목록 (삭제용)
+     */
+    public List<String> getRenditionFileNames(String uuid, String originalName) {
+        List<String> fileNames = new ArrayList<>();
+        for (int size : sizes) {
+            String fileName = renditionFileName(size, uuid, originalName);
+            fileNames.add(fileName);
+            if (webpSupported) {
+                fileNames.add(fileName + "." + WEBP);
+            }
+        }
+        return fileNames;
+    }
+
+    private void render(RenditionJob job) {
+        long startedAt = System.nanoTime();
+        String originalKey = s3Helper.createS3Key(job.domain, s3Helper.createFullFileName(job.uuid, job.storedName));
+        try {
+            BufferedImage source;
+            try (InputStream inputStream = s3Uploader.openStream(originalKey)) {
+                source = decode(inputStream);
+            }
+
+            String format = outputFormat(job.storedName);
+            for (int size : sizes) {
+                String fileName = renditionFileName(size, job.uuid, job.storedName);
+                uploadRendition(source, size, format, s3Helper.createS3Key(job.domain, fileName));
+                if (webpSupported) {
+                    uploadRendition(source, size, WEBP, s3Helper.createS3Key(job.domain, fileName + "." + WEBP));
+                }
+            }
+
+            updateStatus(job.uuid, RenditionStatus.READY);
+            log.debug("렌디션 생성 완료 - {}: {}ms", job.uuid, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (Exception e) {
+            //종료 중 중단된 작업은 실패로 남기지 않고 다른 인스턴스로 넘김
+            if (renditionExecutor.isShutdown()) {
+                log.info("종료 중 중단된 렌디션 작업 인계: {}", job.uuid);
+                handOff(job);
+                return;
+            }
+            log.warn("렌디션 생성 실패 - {} ({}): {}", job.uuid, job.storedName, e.getMessage());
+            failedCounter.increment();
+            updateStatus(job.uuid, RenditionStatus.FAILED);
+        } finally {
+            renditionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 이미지 디코딩
+     * 헤더의 크기를 먼저 확인해 픽셀 수가 상한을 넘으면 디코딩하지 않습니다. (압축 폭탄 방지)
+     */
+    private BufferedImage decode(InputStream inputStream) throws IOException {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInput != null ? ImageIO.getImageReaders(imageInput) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("이미지를 읽을 수 없습니다");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IOException("이미지 픽셀 수 초과: " + pixels);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void uploadRendition(BufferedImage source, int size, String format, String s3Key) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        //원본보다 크게 늘리지 않음
+        Thumbnails.of(source)
+                .size(Math.min(size, source.getWidth()), Math.min(size, source.getHeight()))
+                .outputFormat(format)
+                .toOutputStream(outputStream);
+
+        byte[] bytes = outputStream.toByteArray();
+        s3Uploader.upload(new ByteArrayInputStream(bytes), bytes.length, contentType(format), s3Key);
+    }
+
+    private String renditionFileName(int size, String uuid, String originalName) {
+        return size == sizes[0]
+                ? s3Helper.createThumbnailFileName(uuid, originalName)
+                : "r" + size + "_" + s3Helper.createFullFileName(uuid, originalName);
+    }
+
+    /**
+     * 원본과 같은 형식으로 저장하되, 쓸 수 없는 형식이면 PNG로 저장
+     */
+    private String outputFormat(String originalName) {
+        String extension = originalName != null && originalName.contains(".")
+                ? originalName.substring(originalName.lastIndexOf('.') + 1).toLowerCase()
+                : "";
+        return !extension.isEmpty() && ImageIO.getImageWritersByFormatName(extension).hasNext() ? extension : "png";
+    }
+
+    private String contentType(String format) {
+        return "image/" + ("jpg".equals(format) ? "jpeg" : format);
+    }
+
+    private void updateStatus(String uuid, RenditionStatus status) {
+        try {
+            //PENDING은 작업이 사라져도 오래 남지 않도록 짧게 보관
+            Duration ttl = status == RenditionStatus.PENDING ? pendingTtl : statusTtl;
+            redisTemplate.opsForValue().set(STATUS_KEY_PREFIX + uuid, status.name(), ttl);
+        } catch (Exception e) {
+            log.debug("렌디션 상태 저장 실패: {} - {}", uuid, e.getMessage());
+        }
+    }
+
+    private boolean enqueue(RenditionJob job) {
+        try {
+            renditionExecutor.execute(job);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 종료하면서 넘긴 작업 가져오기
+     * 로컬 대기열에 남은 자리만큼만 가져옵니다.
+     */
+    @Scheduled(fixedDelayString = "${attachment.rendition.handoff-poll-ms:5000}")
+    public void pollHandoff() {
+        if (renditionExecutor.isShutdown()) {
+            return;
+        }
+        int capacity = renditionExecutor.getQueue().remainingCapacity();
+        for (int i = 0; i < capacity; i++) {
+            String value;
+            try {
+                value = redisTemplate.opsForList().leftPop(HANDOFF_KEY);
+            } catch (Exception e) {
+                log.debug("인계된 렌디션 작업 조회 실패: {}", e.getMessage());
+                return;
+            }
+            if (value == null) {
+                return;
+            }
+
+            RenditionJob job = decodeJob(value);
+            if (job == null) {
+                log.warn("잘못된 렌디션 인계 항목 무시: {}", value);
+                continue;
+            }
+            if (!enqueue(job)) {
+                handOff(job);
+                return;
+            }
+            log.debug("인계된 렌디션 작업 재개: {}", job.uuid);
+        }
+    }
+
+    private void handOff(RenditionJob job) {
+        try {
+            redisTemplate.opsForList().rightPush(HANDOFF_KEY, job.encode());
+        } catch (Exception e) {
+            log.warn("렌디션 작업 인계 실패 - PENDING 만료 후 재생성 대상: {} - {}", job.uuid, e.getMessage());
+        }
+    }
+
+    private RenditionJob decodeJob(String value) {
+        String[] parts = value.split("\n", 3);
+        if (parts.length != 3 || parts[1].isEmpty() || parts[2].isEmpty()) {
+            return null;
+        }
+        return new RenditionJob(parts[0].isEmpty() ? null : parts[0], parts[1], parts[2]);
+    }
+
+    /**
+     * 종료 처리
+     * 잠시 기다린 뒤에도 남은 작업은 대기열에서 꺼내 인계하고, 실행 중인 작업은 중단되면서 스스로 인계합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        renditionExecutor.shutdown();
+        try {
+            if (renditionExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                return;
+            }
+            List<Runnable> queued = renditionExecutor.shutdownNow();
+            for (Runnable runnable : queued) {
+                if (runnable instanceof RenditionJob) {
+                    handOff((RenditionJob) runnable);
+                }
+            }
+            log.warn("종료 시 처리되지 않은 렌디션 작업 인계: {}건", queued.size());
+            renditionExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 렌디션 작업 (원본 위치만 보관)
+     */
+    private class RenditionJob implements Runnable {
+
+        private final String domain;
+        private final String uuid;
+        private final String storedName;
+
+        private RenditionJob(String domain, String uuid, String storedName) {
+            this.domain = domain;
+            this.uuid = uuid;
+            this.storedName = storedName;
+        }
+
+        @Override
+        public void run() {
+            render(this);
+        }
+
+        //도메인\nUUID\n파일명 (도메인이 없으면 빈 문자열)
+        private String encode() {
+            return (domain != null ? domain : "") + "\n" + uuid + "\n" + storedName;
+        }
+    }
+}
@@ -1,16 +1,17 @@
 package io.github.beom.practiceboard.attachment.application;
 
+import io.github.beom.practiceboard.attachment.application.AttachmentUploadPipeline.UploadedFile;
 import io.github.beom.practiceboard.attachment.domain.Attachment;
+import io.github.beom.practiceboard.attachment.domain.RenditionStatus;
 import io.github.beom.practiceboard.attachment.presentation.AttachmentService;
 import io.github.beom.practiceboard.attachment.presentation.dto.response.AttachmentResponseDTO;
 import io.github.beom.practiceboard.s3.helper.S3Helper;
-import io.github.beom.practiceboard.s3.util.LocalUploader;
-import io.github.beom.practiceboard.s3.util.S3Uploader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.github.beom.practiceboard.attachment.exception.FileAccessDeniedException;
 import io.github.beom.practiceboard.attachment.exception.FileUploadException;
 import io.github.beom.practiceboard.attachment.exception.FileNotFoundException;
 import io.github.beom.practiceboard.attachment.exception.FileDeleteException;
@@ -26,62 +27,63 @@ import java.util.*;
 @RequiredArgsConstructor
 @Log4j2
 public class AttachmentServiceImpl implements AttachmentService {
-    private final LocalUploader localUploader;
-    private final S3Uploader s3Uploader;
+    private final AttachmentUploadPipeline uploadPipeline;
+    private final AttachmentRenditionService renditionService;
     private final S3Helper s3Helper;
 
     @Override
-    public List<AttachmentResponseDTO> uploadFiles(List<MultipartFile> files, String domain, Long referenceId) {
+    public List<AttachmentResponseDTO> uploadFiles(List<MultipartFile> files, String domain, Long referenceId, String ownerId) {
         List<AttachmentResponseDTO> uploadedFiles = new ArrayList<>();
         int order = 0;
 
-        for(MultipartFile multipartFile : files){
-            List<String> localPaths = localUploader.uploadLocal(multipartFile);
-            if(localPaths != null && !localPaths.isEmpty()){
-                String originalName = multipartFile.getOriginalFilename();
-                String uuid = s3Helper.extractUuidFromUrl(localPaths.get(0));
-                //S3 업로드
-                List<String> s3Urls = localPaths.stream()
-                        .map(path -> domain != null ? s3Uploader.upload(path,domain) : s3Uploader.upload(path))
-                        .toList();
-
-                boolean isImage =s3Urls.size()> 1;
-
-                log.debug("파일 업로드 처리 - 파일명: {}, 로컬경로수: {}, S3URL수: {}, 이미지여부: {}", originalName, localPaths.size(), s3Urls.size(), isImage);
-
-                //S3Url 제외 빌드
-                AttachmentResponseDTO attachmentResponseDTO = AttachmentResponseDTO.builder()
-                        .uuid(uuid)
-                        .fileName(originalName)
-                        .img(isImage)
-                        .ord(order++)
-                        .fileSize(multipartFile.getSize())
-                        .contentType(multipartFile.getContentType())
-                        .domain(domain)
-                        .referenceId(referenceId)
-                        .updatedAt(LocalDateTime.now())
-                        .build();
-                //S3Url 정보 추가
-                String originalUrl = domain != null ?
-                        s3Helper.getDomainOriginalUrl(domain,uuid,originalName)
-                        : s3Helper.getOriginalUrl(uuid,originalName);
-                String thumbnailUrl = isImage ?
-                        (domain != null ?
-                                s3Helper.getDomainThumbnailUrl(domain, uuid, originalName) :
-                                s3Helper.getThumbnailUrl(uuid, originalName)) : null;
-
-                attachmentResponseDTO.setOriginalS3Url(originalUrl);
-                attachmentResponseDTO.setThumbnailS3Url(thumbnailUrl);
-
-                log.info("파일 업로드 완료 - UUID: {}, 이미지: {}, 원본URL: {}, 썸네일URL: {}",
-                        uuid, isImage, originalUrl, thumbnailUrl);
-
-                uploadedFiles.add(attachmentResponseDTO);
-            }
+        //원본을 병렬로 S3에 업로드 (로컬 임시 파일 없음), 이미지 렌디션은 비동기로 생성
+        for(UploadedFile uploadedFile : uploadPipeline.upload(files, domain, ownerId)){
+            String originalName = uploadedFile.getFileName();
+            String storedName = uploadedFile.getStoredFileName();
+            String uuid = uploadedFile.getUuid();
+            boolean isImage = uploadedFile.isImage();
+
+            log.debug("파일 업로드 처리 - 파일명: {}, 이미지여부: {}", originalName, isImage);
+
+            //S3Url 제외 빌드
+            AttachmentResponseDTO attachmentResponseDTO = AttachmentResponseDTO.builder()
+                    .attachmentId(uploadedFile.getAttachmentId())
+                    .uuid(uuid)
+                    .fileName(originalName)
+                    .img(isImage)
+                    .ord(order++)
+                    .fileSize(uploadedFile.getFileSize())
+                    .contentType(uploadedFile.getContentType())
+                    .domain(domain)
+                    .referenceId(referenceId)
+                    .renditionStatus(uploadedFile.getRenditionStatus())
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+            //S3Url 정보 추가
+            String originalUrl = domain != null ?
+                    s3Helper.getDomainOriginalUrl(domain,uuid,storedName)
+                    : s3Helper.getOriginalUrl(uuid,storedName);
+            String thumbnailUrl = isImage ?
+                    (domain != null ?
+                            s3Helper.getDomainThumbnailUrl(domain, uuid, storedName) :
+                            s3Helper.getThumbnailUrl(uuid, storedName)) : null;
+
+            attachmentResponseDTO.setOriginalS3Url(originalUrl);
+            attachmentResponseDTO.setThumbnailS3Url(thumbnailUrl);
+
+            log.debug("파일 업로드 완료 - UUID: {}, 이미지: {}, 원본URL: {}, 썸네일URL: {}",
+                    uuid, isImage, originalUrl, thumbnailUrl);
+
+            uploadedFiles.add(attachmentResponseDTO);
         }
         return uploadedFiles;
     }
 
+    @Override
+    public RenditionStatus getRenditionStatus(String uuid) {
+        return renditionService.getStatus(uuid);
+    }
+
     @Override
     public Map<String, Object> getFileInfo(String fileName) {
         try{
@@ -110,26 +112,13 @@ public class AttachmentServiceImpl implements AttachmentService {
     }
 
     @Override
-    public boolean removeFile(String fileName) {
+    public boolean removeFile(String attachmentId, String ownerId) {
         try {
-            // S3에서 파일 삭제
-            s3Uploader.removeS3File(fileName);
-            // 이미지인 경우 섬네일 삭제
-            if (s3Helper.isImageFile(fileName)) {
-                // UUID_파일명 형식에서 UUID와 원본 파일명 추출
-                if (fileName.contains("_")) {
-                    String uuid = fileName.substring(0, fileName.indexOf('_'));
-                    String originalFileName = fileName.substring(fileName.indexOf('_') + 1);
-                    String thumbnailFileName = s3Helper.createThumbnailFileName(uuid, originalFileName);
-                    s3Uploader.removeS3File(thumbnailFileName);
-                } else {
-                    // 기존 방식 유지 (하위 호환성)
-                    String thumbnailFileName = "s_" + fileName;
-                    s3Uploader.removeS3File(thumbnailFileName);
-                }
-            }
-
-            return true;
+            // 같은 내용을 참조하는 파일이 남아 있으면 참조 수만 줄이고, 마지막 참조일 때 원본과 렌디션을 S3에서 삭제
+            // 이미 해제된 참조면 아무것도 하지 않음 (재시도해도 참조 수가 두 번 줄지 않음)
+            return uploadPipeline.remove(attachmentId, ownerId);
+        } catch (FileAccessDeniedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("S3 파일 삭제 실패: {}", e.getMessage());
             throw new FileDeleteException("S3 파일 삭제 실패", e);
@@ -0,0 +1,398 @@
+package io.github.beom.practiceboard.attachment.application;
+
+import io.github.beom.practiceboard.attachment.domain.RenditionStatus;
+import io.github.beom.practiceboard.attachment.exception.FileUploadException;
+import io.github.beom.practiceboard.s3.helper.S3Helper;
+import io.github.beom.practiceboard.s3.util.S3Uploader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 첨부파일 병렬 업로드 파이프라인
+ * 한 요청의 파일들을 동시에 S3로 업로드합니다.
+ *
+ * - 원본: 멀티파트 입력 스트림을 로컬 임시 파일 없이 바로 S3로 전송합니다. (I/O 풀)
+ * - 이미지: 원본 저장이 끝나면 렌디션 생성을 {@link AttachmentRenditionService}에 넘기고 기다리지 않습니다.
+ *   (렌디션 작업은 S3에 저장된 원본을 다시 읽으므로 요청 쪽에서 이미지 바이트를 들고 있지 않음)
+ * - 중복 제거: 내용의 SHA-256 해시로 S3 키(도메인/해시_file.확장자)를 정하고, 이미 인덱스에 있는 내용이면
+ *   putObject 없이 참조 수만 늘립니다. 삭제는 마지막 참조가 사라질 때만 S3 객체를 지웁니다.
+ * - 참조: 파일마다 임의의 첨부파일 ID(attachmentId)와 소유자를 기록하고, 삭제는 이 ID와 소유자로만 합니다.
+ * - S3 삭제: 참조 해제 트랜잭션이 커밋된 뒤에 하고, 실패하면 주기 작업이 삭제 대기 키를 다시 지웁니다.
+ *
+ * I/O 풀은 크기와 대기열이 제한되어 있고, 가득 차면 호출 스레드가 직접 실행해 자연스럽게 속도를 늦춥니다.
+ * 하나라도 실패하면 이번 요청에서 올린 객체를 지우고 FileUploadException을 던집니다.
+ */
+@Component
+@Log4j2
+public class AttachmentUploadPipeline {
+
+    private final S3Uploader s3Uploader;
+    private final S3Helper s3Helper;
+    private final AttachmentRenditionService renditionService;
+    private final AttachmentContentRepository contentRepository;
+    private final boolean dedupEnabled;
+    private final long timeoutSeconds;
+    private final long purgeGraceMinutes;
+    private final ThreadPoolExecutor uploadExecutor;
+    private final Timer originalTimer;
+    private final Timer batchTimer;
+    private final Counter dedupHitCounter;
+    private final Counter dedupSavedBytes;
+
+    public AttachmentUploadPipeline(S3Uploader s3Uploader,
+                                    S3Helper s3Helper,
+                                    AttachmentRenditionService renditionService,
+                                    AttachmentContentRepository contentRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${attachment.dedup.enabled:true}") boolean dedupEnabled,
+                                    @Value("${attachment.upload.io-threads:16}") int ioThreads,
+                                    @Value("${attachment.upload.queue-capacity:200}") int queueCapacity,
+                                    @Value("${attachment.upload.timeout-seconds:60}") long timeoutSeconds,
+                                    @Value("${attachment.dedup.purge-grace-minutes:5}") long purgeGraceMinutes) {
+        this.s3Uploader = s3Uploader;
+        this.s3Helper = s3Helper;
+        this.renditionService = renditionService;
+        this.contentRepository = contentRepository;
+        this.dedupEnabled = dedupEnabled;
+        this.timeoutSeconds = timeoutSeconds;
+        this.purgeGraceMinutes = purgeGraceMinutes;
+        this.uploadExecutor = boundedExecutor("attachment-upload", ioThreads, queueCapacity);
+        this.originalTimer = Timer.builder("attachment.upload").tag("stage", "original")
+                .description("원본 파일 S3 업로드 시간").register(meterRegistry);
+        this.batchTimer = Timer.builder("attachment.upload.batch")
+                .description("요청 단위 전체 업로드 시간").register(meterRegistry);
+        this.dedupHitCounter = Counter.builder("attachment.dedup.hits")
+                .description("같은 내용이 이미 저장되어 업로드를 생략한 파일 수").register(meterRegistry);
+        this.dedupSavedBytes = Counter.builder("attachment.dedup.saved.bytes")
+                .description("중복 제거로 생략한 업로드 바이트 수").register(meterRegistry);
+    }
+
+    /**
+     * 파일 목록 병렬 업로드
+     *
+     * @param files  업로드할 파일 목록 (비어 있는 파일은 건너뜀)
+     * @param domain  파일이 속한 도메인 (S3 디렉토리, null 가능)
+     * @param ownerId 업로드한 사용자 ID (삭제 권한 확인용)
+     * @return 업로드 결과 (입력 순서 유지)
+     */
+    public List<UploadedFile> upload(List<MultipartFile> files, String domain, String ownerId) {
+        long startedAt = System.nanoTime();
+        UploadBatch batch = new UploadBatch(ownerId);
+
+        List<CompletableFuture<UploadedFile>> futures = files.stream()
+                .filter(file -> file != null && !file.isEmpty())
+                .map(file -> uploadAsync(file, domain, ownerId, batch))
+                .collect(Collectors.toList());
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batch.abort();
+            throw new FileUploadException("파일 업로드가 중단되었습니다", e);
+        } catch (ExecutionException | TimeoutException e) {
+            int removed = batch.abort();
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            log.error("파일 업로드 실패 - 업로드된 {}건 정리: {}", removed, cause.getMessage());
+            throw new FileUploadException("파일 업로드 실패", cause);
+        }
+
+        List<UploadedFile> uploadedFiles = futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+
+        //모든 원본이 저장된 뒤에만 렌디션 생성 요청
+        uploadedFiles.forEach(this::requestRenditions);
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        batchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("파일 {}건 업로드 완료 - 전체 {}ms", uploadedFiles.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        return uploadedFiles;
+    }
+
+    private CompletableFuture<UploadedFile> uploadAsync(MultipartFile file, String domain, String ownerId,
+                                                        UploadBatch batch) {
+        String originalName = file.getOriginalFilename();
+        boolean image = renditionService.isImage(file);
+
+        return CompletableFuture.supplyAsync(() -> {
+            String attachmentId = UUID.randomUUID().toString();
+            //중복 제거 시 파일명 대신 내용 해시를 UUID 자리에 사용 (다른 사용자의 파일명이 노출되지 않도록 저장명도 고정)
+            String hash = dedupEnabled ? contentHash(file) : null;
+            String uuid = dedupEnabled ? hash : UUID.randomUUID().toString();
+            String storedName = dedupEnabled ? storedFileName(originalName) : originalName;
+            String s3Key = s3Helper.createS3Key(domain, s3Helper.createFullFileName(uuid, storedName));
+
+            if (dedupEnabled && contentRepository.acquire(attachmentId, ownerId, s3Key)) {
+                batch.record(attachmentId);
+                dedupHitCounter.increment();
+                dedupSavedBytes.increment(file.getSize());
+                log.debug("중복 내용 - 업로드 생략: {}", s3Key);
+
+                //상태가 만료됐으면 렌디션이 실제로 있는지 확인하고, 없으면 다시 생성
+                RenditionStatus status = image
+                        ? renditionService.ensureRenditions(domain, uuid, storedName)
+                        : RenditionStatus.NONE;
+                return new UploadedFile(attachmentId, uuid, originalName, storedName, file.getSize(),
+                        file.getContentType(), s3Uploader.getUrl(s3Key), status, domain, false);
+            }
+
+            String originalUrl = uploadOriginal(file, s3Key);
+            if (!contentRepository.register(attachmentId, ownerId, s3Key,
+                    dedupEnabled ? hash : uuid, file.getSize(), file.getContentType())) {
+                //같은 내용이 삭제되는 중이면 이번 파일만 중복 제거 없이 임의 UUID 키로 저장
+                uuid = UUID.randomUUID().toString();
+                s3Key = s3Helper.createS3Key(domain, s3Helper.createFullFileName(uuid, storedName));
+                originalUrl = uploadOriginal(file, s3Key);
+                contentRepository.register(attachmentId, ownerId, s3Key, hash, file.getSize(),
+                        file.getContentType());
+            }
+            batch.record(attachmentId);
+
+            return new UploadedFile(attachmentId, uuid, originalName, storedName, file.getSize(),
+                    file.getContentType(), originalUrl, image ? RenditionStatus.PENDING : RenditionStatus.NONE,
+                    domain, image);
+        }, uploadExecutor);
+    }
+
+    private String uploadOriginal(MultipartFile file, String s3Key) {
+        long startedAt = System.nanoTime();
+        try (InputStream inputStream = file.getInputStream()) {
+            return s3Uploader.upload(inputStream, file.getSize(), file.getContentType(), s3Key);
+        } catch (IOException e) {
+            throw new FileUploadException("파일 읽기 실패: " + file.getOriginalFilename(), e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            originalTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            log.debug("원본 업로드 - {} ({} bytes): {}ms", s3Key, file.getSize(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    /**
+     * 내용의 SHA-256 해시 (16진수)
+     * 멀티파트 파일은 이미 로컬(메모리/임시 파일)에 있으므로 S3 전송 전에 한 번 읽어 계산합니다.
+     */
+    private String contentHash(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new FileUploadException("파일 읽기 실패: " + file.getOriginalFilename(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 내용 기준 저장명 (file.확장자)
+     */
+    private String storedFileName(String originalName) {
+        String extension = originalName != null && originalName.contains(".")
+                ? originalName.substring(originalName.lastIndexOf('.') + 1).toLowerCase().replaceAll("[^a-z0-9]", "")
+                : "";
+        return extension.isEmpty() ? "file" : "file." + extension;
+    }
+
+    /**
+     * 첨부파일 참조 해제 (멱등)
+     * 마지막 참조일 때만 커밋 후 원본과 렌디션을 S3에서 삭제합니다.
+     *
+     * @param attachmentId 업로드 시 받은 첨부파일 ID
+     * @param ownerId      요청한 사용자 ID (업로드한 사용자와 같아야 함)
+     * @return 참조를 해제했으면 true, 이미 해제됐거나 없는 참조면 false
+     */
+    public boolean remove(String attachmentId, String ownerId) {
+        AttachmentContentRepository.ReleasedReference released = contentRepository.release(attachmentId, ownerId);
+        if (released == null) {
+            return false;
+        }
+        if (released.isLastReference()) {
+            purge(released.getS3Key());
+        }
+        return true;
+    }
+
+    /**
+     * 삭제 대기 중인 내용 정리
+     * 커밋 후 S3 삭제가 실패했거나 삭제 전에 종료된 경우를 다시 지웁니다.
+     */
+    @Scheduled(fixedDelayString = "${attachment.dedup.purge-interval-ms:600000}")
+    public void purgeUnreferenced() {
+        List<String> s3Keys = contentRepository.findUnreferenced(LocalDateTime.now().minusMinutes(purgeGraceMinutes), 100);
+        if (!s3Keys.isEmpty()) {
+            log.info("삭제 대기 중인 첨부파일 내용 정리: {}건", s3Keys.size());
+        }
+        s3Keys.forEach(this::purge);
+    }
+
+    private void purge(String s3Key) {
+        try {
+            deleteObjects(s3Key);
+            contentRepository.removeUnreferenced(s3Key);
+        } catch (Exception e) {
+            //참조 해제는 이미 커밋됨 - 삭제 대기 행으로 남겨 두고 주기 작업에서 다시 시도
+            log.warn("S3 삭제 실패 - 정리 작업에서 다시 시도: {} - {}", s3Key, e.getMessage());
+        }
+    }
+
+    private void deleteObjects(String s3Key) {
+        s3Uploader.removeS3File(s3Key);
+
+        String directory = s3Key.contains("/") ? s3Key.substring(0, s3Key.lastIndexOf('/') + 1) : "";
+        String fileName = s3Key.substring(directory.length());
+        // 이미지인 경우 섬네일 삭제
+        if (s3Helper.isImageFile(fileName)) {
+            // UUID_파일명 형식에서 UUID와 원본 파일명 추출
+            if (fileName.contains("_")) {
+                String uuid = fileName.substring(0, fileName.indexOf('_'));
+                String originalFileName = fileName.substring(fileName.indexOf('_') + 1);
+                //썸네일(s_)을 포함한 크기별 렌디션 삭제
+                for (String renditionFileName : renditionService.getRenditionFileNames(uuid, originalFileName)) {
+                    s3Uploader.removeS3File(directory + renditionFileName);
+                }
+            } else {
+                // 기존 방식 유지 (하위 호환성)
+                s3Uploader.removeS3File(directory + "s_" + fileName);
+            }
+        }
+    }
+
+    private void requestRenditions(UploadedFile uploadedFile) {
+        if (!uploadedFile.renditionRequired) {
+            return;
+        }
+        uploadedFile.renditionStatus = renditionService.submit(uploadedFile.domain,
+                uploadedFile.getUuid(), uploadedFile.getStoredFileName());
+    }
+
+    private static ThreadPoolExecutor boundedExecutor(String name, int threads, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+        try {
+            uploadExecutor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 한 요청에서 추가한 첨부파일 참조 (실패 시 참조 해제용)
+     * 정리 이후에 끝난 업로드는 기록하는 즉시 해제합니다.
+     */
+    private class UploadBatch {
+
+        private final String ownerId;
+        private final List<String> attachmentIds = new ArrayList<>();
+        private boolean aborted;
+
+        UploadBatch(String ownerId) {
+            this.ownerId = ownerId;
+        }
+
+        void record(String attachmentId) {
+            synchronized (this) {
+                if (!aborted) {
+                    attachmentIds.add(attachmentId);
+                    return;
+                }
+            }
+            discard(attachmentId);
+        }
+
+        int abort() {
+            List<String> uploaded;
+            synchronized (this) {
+                aborted = true;
+                uploaded = new ArrayList<>(attachmentIds);
+                attachmentIds.clear();
+            }
+            uploaded.forEach(this::discard);
+            return uploaded.size();
+        }
+
+        private void discard(String attachmentId) {
+            try {
+                remove(attachmentId, ownerId);
+            } catch (Exception e) {
+                log.warn("업로드 실패 정리 중 참조 해제 실패: {} - {}", attachmentId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 업로드 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class UploadedFile {
+        //삭제 시 사용하는 첨부파일 참조 ID
+        private final String attachmentId;
+        private final String uuid;
+        private final String fileName;
+        //S3에 저장된 파일명 (URL 생성용, 중복 제거 시 file.확장자)
+        private final String storedFileName;
+        private final long fileSize;
+        private final String contentType;
+        private final String originalUrl;
+        private RenditionStatus renditionStatus;
+
+        //렌디션 요청용 (새로 저장한 이미지만 요청, 중복 내용은 업로드 중에 확인)
+        @Getter(AccessLevel.NONE)
+        private final String domain;
+        @Getter(AccessLevel.NONE)
+        private final boolean renditionRequired;
+
+        public boolean isImage() {
+            return renditionStatus != RenditionStatus.NONE;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.beom.practiceboard.attachment.domain;
+
+/**
+ * 이미지 렌디션(썸네일 등 크기별 사본) 생성 상태
+ */
+public enum RenditionStatus {
+
+    /**
+     * 이미지가 아니라서 렌디션이 없음
+     */
+    NONE("없음"),
+
+    /**
+     * 생성 대기 또는 생성 중
+     */
+    PENDING("생성 중"),
+
+    /**
+     * 모든 렌디션 생성 완료
+     */
+    READY("완료"),
+
+    /**
+     * 생성 실패 (원본만 사용 가능)
+     */
+    FAILED("실패");
+
+    private final String description;
+
+    RenditionStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
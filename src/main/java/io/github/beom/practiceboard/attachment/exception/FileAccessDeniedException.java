@@ -0,0 +1,14 @@
+package io.github.beom.practiceboard.attachment.exception;
+
+/**
+ * 첨부파일에 대한 권한이 없을 때 발생하는 예외 (다른 사용자의 첨부파일 삭제 등)
+ */
+public class FileAccessDeniedException extends RuntimeException {
+    public FileAccessDeniedException(String message) {
+        super(message);
+    }
+
+    public FileAccessDeniedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
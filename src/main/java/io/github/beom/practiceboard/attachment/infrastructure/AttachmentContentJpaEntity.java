@@ -0,0 +1,79 @@
+package io.github.beom.practiceboard.attachment.infrastructure;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 첨부파일 내용 인덱스 JPA 엔티티
+ * S3 키는 내용의 SHA-256 해시로 정해지므로 같은 내용은 하나의 행과 하나의 S3 객체를 공유하고 ref_count로 참조 수를 셉니다.
+ * 마지막 참조가 해제되면 unreferenced_at을 기록한 삭제 대기 행으로 남고, S3 객체를 지운 뒤에 행을 제거합니다.
+ */
+@Entity
+@Table(name = "attachment_contents",
+       uniqueConstraints = @UniqueConstraint(name = "uk_attachment_content_s3_key", columnNames = "s3_key"),
+       indexes = {
+               @Index(name = "idx_attachment_content_hash", columnList = "content_hash"),
+               @Index(name = "idx_attachment_content_unreferenced", columnList = "unreferenced_at")
+       }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AttachmentContentJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "s3_key", nullable = false, length = 255)
+    private String s3Key;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_referenced_at", nullable = false)
+    private LocalDateTime lastReferencedAt;
+
+    //삭제 대기 시작 시각 (null이면 사용 중)
+    @Column(name = "unreferenced_at")
+    private LocalDateTime unreferencedAt;
+
+    @Builder
+    public AttachmentContentJpaEntity(String s3Key, String contentHash, long fileSize, String contentType) {
+        this.s3Key = s3Key;
+        this.contentHash = contentHash;
+        this.fileSize = fileSize;
+        this.contentType = contentType;
+        this.refCount = 1;
+        this.createdAt = LocalDateTime.now();
+        this.lastReferencedAt = this.createdAt;
+    }
+
+    /**
+     * 참조 1 감소
+     * @return 감소 후 참조 수
+     */
+    public long release() {
+        this.refCount = Math.max(0, this.refCount - 1);
+        if (this.refCount == 0) {
+            this.unreferencedAt = LocalDateTime.now();
+        }
+        return this.refCount;
+    }
+}
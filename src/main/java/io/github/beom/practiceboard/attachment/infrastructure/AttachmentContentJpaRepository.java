@@ -0,0 +1,46 @@
+package io.github.beom.practiceboard.attachment.infrastructure;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentContentJpaRepository extends JpaRepository<AttachmentContentJpaEntity, Long> {
+
+    /**
+     * 참조 수 1 증가 (삭제 대기 중인 내용은 제외)
+     * @return 변경된 행 수 (0이면 인덱스에 없거나 삭제 중인 내용)
+     */
+    @Modifying
+    @Query("update AttachmentContentJpaEntity c set c.refCount = c.refCount + 1, c.lastReferencedAt = :now " +
+           "where c.s3Key = :s3Key and c.unreferencedAt is null")
+    int incrementRefCount(@Param("s3Key") String s3Key, @Param("now") LocalDateTime now);
+
+    /**
+     * 참조 해제를 위한 행 잠금 조회 (잠금 중에는 같은 키의 incrementRefCount가 대기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from AttachmentContentJpaEntity c where c.s3Key = :s3Key")
+    Optional<AttachmentContentJpaEntity> findByS3KeyForUpdate(@Param("s3Key") String s3Key);
+
+    /**
+     * S3 객체를 지운 삭제 대기 행 제거
+     */
+    @Modifying
+    @Query("delete from AttachmentContentJpaEntity c " +
+           "where c.s3Key = :s3Key and c.refCount = 0 and c.unreferencedAt is not null")
+    int deleteUnreferenced(@Param("s3Key") String s3Key);
+
+    /**
+     * 일정 시간이 지나도 남아 있는 삭제 대기 키 (S3 삭제 실패 또는 삭제 전 종료)
+     */
+    @Query("select c.s3Key from AttachmentContentJpaEntity c where c.unreferencedAt < :before order by c.unreferencedAt")
+    List<String> findUnreferencedKeys(@Param("before") LocalDateTime before, Pageable pageable);
+}
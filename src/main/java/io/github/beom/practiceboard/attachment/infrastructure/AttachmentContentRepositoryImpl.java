@@ -0,0 +1,113 @@
+package io.github.beom.practiceboard.attachment.infrastructure;
+
+import io.github.beom.practiceboard.attachment.application.AttachmentContentRepository;
+import io.github.beom.practiceboard.attachment.exception.FileAccessDeniedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 첨부파일 내용 인덱스 구현체
+ * 업로드는 요청 트랜잭션 밖의 병렬 작업에서 호출되므로 각 연산을 TransactionTemplate으로 짧게 커밋합니다.
+ * 트랜잭션 안에서는 S3를 호출하지 않습니다. (행 잠금을 네트워크 호출 동안 잡고 있지 않도록)
+ */
+@Repository
+@RequiredArgsConstructor
+@Log4j2
+public class AttachmentContentRepositoryImpl implements AttachmentContentRepository {
+
+    private final AttachmentContentJpaRepository attachmentContentJpaRepository;
+    private final AttachmentReferenceJpaRepository attachmentReferenceJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public boolean acquire(String attachmentId, String ownerId, String s3Key) {
+        Boolean acquired = transactionTemplate.execute(status -> {
+            if (attachmentContentJpaRepository.incrementRefCount(s3Key, LocalDateTime.now()) == 0) {
+                return false;
+            }
+            attachmentReferenceJpaRepository.save(reference(attachmentId, ownerId, s3Key));
+            return true;
+        });
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    @Override
+    public boolean register(String attachmentId, String ownerId, String s3Key,
+                            String contentHash, long fileSize, String contentType) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                attachmentContentJpaRepository.saveAndFlush(
+                        AttachmentContentJpaEntity.builder()
+                                .s3Key(s3Key)
+                                .contentHash(contentHash)
+                                .fileSize(fileSize)
+                                .contentType(contentType)
+                                .build());
+                attachmentReferenceJpaRepository.save(reference(attachmentId, ownerId, s3Key));
+            });
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            //같은 내용이 동시에 업로드되어 먼저 등록된 경우 (S3 객체는 내용이 같으므로 그대로 사용)
+            log.debug("동시 업로드된 내용 - 참조 수만 증가: {}", s3Key);
+            if (acquire(attachmentId, ownerId, s3Key)) {
+                return true;
+            }
+            //삭제 대기 중인 키 - 방금 올린 객체도 곧 지워지므로 사용할 수 없음
+            log.debug("삭제 대기 중인 내용 - 다른 키로 저장 필요: {}", s3Key);
+            return false;
+        }
+    }
+
+    @Override
+    public ReleasedReference release(String attachmentId, String ownerId) {
+        return transactionTemplate.execute(status -> {
+            Optional<AttachmentReferenceJpaEntity> found =
+                    attachmentReferenceJpaRepository.findByAttachmentIdForUpdate(attachmentId);
+            if (found.isEmpty()) {
+                //이미 해제된 참조 (재시도 등) - 참조 수를 다시 줄이지 않음
+                return null;
+            }
+
+            AttachmentReferenceJpaEntity reference = found.get();
+            if (!Objects.equals(reference.getOwnerId(), ownerId)) {
+                throw new FileAccessDeniedException("첨부파일 삭제 권한이 없습니다: " + attachmentId);
+            }
+            attachmentReferenceJpaRepository.delete(reference);
+
+            String s3Key = reference.getS3Key();
+            Optional<AttachmentContentJpaEntity> content = attachmentContentJpaRepository.findByS3KeyForUpdate(s3Key);
+            boolean lastReference = content.isPresent() && content.get().release() == 0;
+            if (lastReference) {
+                log.debug("마지막 참조 해제 - 삭제 대기: {}", s3Key);
+            }
+            return new ReleasedReference(s3Key, lastReference);
+        });
+    }
+
+    @Override
+    public void removeUnreferenced(String s3Key) {
+        transactionTemplate.executeWithoutResult(status -> attachmentContentJpaRepository.deleteUnreferenced(s3Key));
+    }
+
+    @Override
+    public List<String> findUnreferenced(LocalDateTime before, int limit) {
+        return attachmentContentJpaRepository.findUnreferencedKeys(before, PageRequest.of(0, limit));
+    }
+
+    private AttachmentReferenceJpaEntity reference(String attachmentId, String ownerId, String s3Key) {
+        return AttachmentReferenceJpaEntity.builder()
+                .attachmentId(attachmentId)
+                .ownerId(ownerId)
+                .s3Key(s3Key)
+                .build();
+    }
+}
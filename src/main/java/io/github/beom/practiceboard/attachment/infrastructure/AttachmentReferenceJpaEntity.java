@@ -0,0 +1,48 @@
+package io.github.beom.practiceboard.attachment.infrastructure;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 첨부파일 참조 JPA 엔티티
+ * 업로드된 첨부파일 한 건이 내용(attachment_contents)의 참조 하나를 가집니다.
+ * 삭제는 추측할 수 없는 attachment_id와 소유자로만 할 수 있고, 행이 지워지면 같은 참조를 다시 해제할 수 없습니다.
+ */
+@Entity
+@Table(name = "attachment_references",
+       uniqueConstraints = @UniqueConstraint(name = "uk_attachment_reference_attachment_id", columnNames = "attachment_id"),
+       indexes = @Index(name = "idx_attachment_reference_s3_key", columnList = "s3_key")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AttachmentReferenceJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "attachment_id", nullable = false, length = 36)
+    private String attachmentId;
+
+    @Column(name = "s3_key", nullable = false, length = 255)
+    private String s3Key;
+
+    @Column(name = "owner_id", length = 100)
+    private String ownerId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public AttachmentReferenceJpaEntity(String attachmentId, String s3Key, String ownerId) {
+        this.attachmentId = attachmentId;
+        this.s3Key = s3Key;
+        this.ownerId = ownerId;
+        this.createdAt = LocalDateTime.now();
+    }
+}
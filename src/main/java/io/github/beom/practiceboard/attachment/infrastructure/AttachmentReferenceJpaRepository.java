@@ -0,0 +1,19 @@
+package io.github.beom.practiceboard.attachment.infrastructure;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface AttachmentReferenceJpaRepository extends JpaRepository<AttachmentReferenceJpaEntity, Long> {
+
+    /**
+     * 참조 해제를 위한 행 잠금 조회 (같은 참조를 동시에 해제하면 한쪽은 대기 후 빈 결과)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from AttachmentReferenceJpaEntity r where r.attachmentId = :attachmentId")
+    Optional<AttachmentReferenceJpaEntity> findByAttachmentIdForUpdate(@Param("attachmentId") String attachmentId);
+}
@@ -8,6 +8,7 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,7 +22,8 @@ public class AttachmentController {
 
     //파일 업로드 post방식으로 등록.
     @PostMapping("/upload")
-    public ResponseEntity<List<AttachmentResponseDTO>> upload(@ModelAttribute AttachmentUploadDTO attachmentUploadDTO){
+    public ResponseEntity<List<AttachmentResponseDTO>> upload(@ModelAttribute AttachmentUploadDTO attachmentUploadDTO,
+                                                              Principal principal){
         log.info("파일 업로드 요청 - 도메인: {}, 참조ID: {}, 파일 수: {}",
                 attachmentUploadDTO.getDomain(), attachmentUploadDTO.getReferenceId(),
                 (attachmentUploadDTO.getFiles() != null) ? attachmentUploadDTO.getFiles().size() : 0);
@@ -33,7 +35,8 @@ public class AttachmentController {
         List<AttachmentResponseDTO> uploadedFiles = attachmentService.uploadFiles(
                 attachmentUploadDTO.getFiles(),
                 attachmentUploadDTO.getDomain(),
-                attachmentUploadDTO.getReferenceId());
+                attachmentUploadDTO.getReferenceId(),
+                principal != null ? principal.getName() : null);
 
         if (uploadedFiles.isEmpty()) {
             return ResponseEntity.badRequest().build();
@@ -51,12 +54,22 @@ public class AttachmentController {
         return ResponseEntity.ok(fileInfo);
     }
 
-    //파일 삭제
-    @DeleteMapping("/{fileName:.+}")
-    public ResponseEntity<Map<String, Boolean>> removeFile(@PathVariable String fileName){
-        log.info("파일 삭제 요청: {}", fileName);
+    //이미지 렌디션(썸네일 등) 생성 상태 조회
+    @GetMapping("/renditions/{uuid}")
+    public ResponseEntity<Map<String, Object>> getRenditionStatus(@PathVariable String uuid){
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("uuid", uuid);
+        resultMap.put("status", attachmentService.getRenditionStatus(uuid));
 
-        boolean removed = attachmentService.removeFile(fileName);
+        return ResponseEntity.ok(resultMap);
+    }
+
+    //파일 삭제 (업로드 결과의 attachmentId 사용, 업로드한 사용자만 가능)
+    @DeleteMapping("/{attachmentId}")
+    public ResponseEntity<Map<String, Boolean>> removeFile(@PathVariable String attachmentId, Principal principal){
+        log.info("파일 삭제 요청: {}", attachmentId);
+
+        boolean removed = attachmentService.removeFile(attachmentId, principal != null ? principal.getName() : null);
 
         Map<String, Boolean> resultMap = new HashMap<>();
         resultMap.put("result", removed);
@@ -1,6 +1,7 @@
 package io.github.beom.practiceboard.attachment.presentation;
 
 import io.github.beom.practiceboard.attachment.domain.Attachment;
+import io.github.beom.practiceboard.attachment.domain.RenditionStatus;
 import io.github.beom.practiceboard.attachment.presentation.dto.response.AttachmentResponseDTO;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -13,17 +14,24 @@ public interface AttachmentService {
     //files  <- 업로드한 파일 목록
     //domain <-파일이 속한 도메인(Board, profile 등)
     //referenceId- 참조ID 게시글 ID나 유저 ID등
+    //ownerId - 업로드한 사용자 ID (삭제 권한 확인용)
     //반환 :업로드된 파일 정보 모록
-    List<AttachmentResponseDTO> uploadFiles(List<MultipartFile> files, String domain, Long referenceId);
+    List<AttachmentResponseDTO> uploadFiles(List<MultipartFile> files, String domain, Long referenceId, String ownerId);
 
     //파일 정보 조회
     //fileName = 파일명(UUID_원본파일명)
     //반환 파일정보와 url 포함된 Map
     Map<String,Object> getFileInfo(String fileName);
 
-    //파일 삭제
-    //fileName- 삭제할 파일명
-    //반환 : 삭제 성공 여부
-    boolean removeFile(String fileName);
+    //이미지 렌디션(썸네일 등) 생성 상태 조회
+    //uuid - 파일 UUID
+    //반환 : PENDING/READY/FAILED, 알 수 없으면 NONE
+    RenditionStatus getRenditionStatus(String uuid);
+
+    //파일 삭제 (업로드한 사용자만 가능, 같은 요청을 반복해도 한 번만 반영)
+    //attachmentId - 업로드 결과로 받은 첨부파일 ID
+    //ownerId - 요청한 사용자 ID
+    //반환 : 이번 요청으로 삭제했으면 true, 이미 삭제된 첨부파일이면 false
+    boolean removeFile(String attachmentId, String ownerId);
 
 }
@@ -2,6 +2,7 @@ package io.github.beom.practiceboard.attachment.presentation.dto.response;
 
 //파일 업로드 결과
 
+import io.github.beom.practiceboard.attachment.domain.RenditionStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +16,8 @@ import java.util.Arrays;
 @AllArgsConstructor
 @NoArgsConstructor
 public class AttachmentResponseDTO {
+    //첨부파일 참조 ID (삭제 시 사용)
+    private String attachmentId;
     //파일 고유 ID 반환
     private String uuid;
     private String fileName;
@@ -28,6 +31,8 @@ public class AttachmentResponseDTO {
     private Long createdBy;
     private String originalS3Url;
     private String thumbnailS3Url;
+    //이미지 렌디션 생성 상태 (PENDING이면 썸네일 URL이 아직 준비되지 않았을 수 있음)
+    private RenditionStatus renditionStatus;
 
     //썸네일 파일으 S3 URL 반환(이미지일 때만) thumbnailUrl이 설정되어 있으면 그 값을 사용
     public String getThumbnailUrl() {
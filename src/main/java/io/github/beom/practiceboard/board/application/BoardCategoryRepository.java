@@ -18,4 +18,14 @@ public interface BoardCategoryRepository {
     List<BoardCategory> findRootCategories(Long boardId);
     //카테고리 삭제
     void deleteById(Long id);
+    //하위 카테고리가 있는지 확인 (DB 기준)
+    boolean existsByParentId(Long parentId);
+    //하위 카테고리가 채워진 게시판 카테고리 트리 조회
+    List<BoardCategory> findTreeByBoardId(Long boardId);
+    //조상 카테고리 목록 조회 (루트부터 부모까지)
+    List<BoardCategory> findAncestors(Long id);
+    //자손 카테고리 목록 조회 (자기 자신 제외)
+    List<BoardCategory> findDescendants(Long id);
+    //하위 트리 경로 일괄 변경 (카테고리 이동 시)
+    void replacePathPrefix(Long boardId, String oldPrefix, String newPrefix);
 }
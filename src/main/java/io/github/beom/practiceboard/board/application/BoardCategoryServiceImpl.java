@@ -13,8 +13,10 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -136,8 +138,7 @@ public class BoardCategoryServiceImpl implements BoardCategoryService {
             }
             
             // 하위 카테고리가 있는지 확인
-            List<BoardCategory> subCategories = boardCategoryRepository.findByParentId(id);
-            if (!subCategories.isEmpty()) {
+            if (boardCategoryRepository.existsByParentId(id)) {
                 throw new CategoryHasChildrenException(id);
             }
 
@@ -212,15 +213,13 @@ public class BoardCategoryServiceImpl implements BoardCategoryService {
                     new BoardCategoryNotFoundException(id));
 
             // 새 부모 카테고리가 존재하는지 확인 (null이면 루트 카테고리로 이동)
+            BoardCategory newParent = null;
             if (newParentId != null) {
-                Optional<BoardCategory> parentResult = boardCategoryRepository.findById(newParentId);
-                if (parentResult.isEmpty()) {
-                    throw new BoardCategoryNotFoundException(newParentId);
-                }
+                newParent = boardCategoryRepository.findById(newParentId)
+                        .orElseThrow(() -> new BoardCategoryNotFoundException(newParentId));
 
-                // 순환 참조 방지 (새 부모가 현재 카테고리의 하위 카테고리인 경우)
-                List<BoardCategory> descendants = boardCategoryRepository.findByParentId(id);
-                if (descendants.stream().anyMatch(desc -> desc.getId().equals(newParentId))) {
+                // 순환 참조 방지 (새 부모가 현재 카테고리의 자손인 경우, 깊이와 무관하게 검사)
+                if (isDescendantOf(newParent, category)) {
                     throw new CircularReferenceException(id, newParentId);
                 }
             }
@@ -228,6 +227,12 @@ public class BoardCategoryServiceImpl implements BoardCategoryService {
             // 카테고리 이동
             BoardCategory updatedCategory = category.moveTo(newParentId, getCurrentUserId());
             boardCategoryRepository.save(updatedCategory);
+
+            // 하위 트리 경로 일괄 변경
+            if (category.getPath() != null) {
+                String newPath = category.pathUnder(newParent != null ? newParent.getPath() : null);
+                boardCategoryRepository.replacePathPrefix(category.getBoardId(), category.getPath(), newPath);
+            }
             log.info("카테고리 이동 완료: ID={}, newParentId={}", id, newParentId);
         } catch (BoardCategoryNotFoundException | CircularReferenceException e) {
             log.error("카테고리 이동 실패: ID={}, newParentId={}, 오류={}", id, newParentId, e.getMessage());
@@ -343,6 +348,81 @@ public class BoardCategoryServiceImpl implements BoardCategoryService {
         }
     }
 
+    /**
+     * 게시판 전체 카테고리 트리 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<BoardCategoryResponseDTO> getCategoryTree(Long boardId) {
+        try {
+            log.debug("카테고리 트리 조회 시작: boardId={}", boardId);
+            List<BoardCategoryResponseDTO> response = boardCategoryRepository.findTreeByBoardId(boardId).stream()
+                    .map(boardCategoryMapper::domainToResponseDto)
+                    .collect(Collectors.toList());
+            log.debug("카테고리 트리 조회 완료: 루트 {} 개", response.size());
+            return response;
+        } catch (Exception e) {
+            log.error("카테고리 트리 조회 실패: boardId={}, 오류={}", boardId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 조상 카테고리 목록 조회 (루트부터 부모까지)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<BoardCategoryResponseDTO> getAncestors(Long id) {
+        try {
+            log.debug("조상 카테고리 조회 시작: ID={}", id);
+            return boardCategoryRepository.findAncestors(id).stream()
+                    .map(boardCategoryMapper::domainToResponseDto)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("조상 카테고리 조회 실패: ID={}, 오류={}", id, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 자손 카테고리 목록 조회 (자기 자신 제외)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<BoardCategoryResponseDTO> getDescendants(Long id) {
+        try {
+            log.debug("자손 카테고리 조회 시작: ID={}", id);
+            return boardCategoryRepository.findDescendants(id).stream()
+                    .map(boardCategoryMapper::domainToResponseDto)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("자손 카테고리 조회 실패: ID={}, 오류={}", id, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 후보 카테고리가 기준 카테고리의 자손인지 확인
+     * 경로가 있으면 경로 접두사로, 없으면 부모 체인을 따라 올라가며 확인합니다.
+     */
+    private boolean isDescendantOf(BoardCategory candidate, BoardCategory ancestor) {
+        if (ancestor.getPath() != null && candidate.getPath() != null) {
+            return ancestor.isAncestorOrSelfOf(candidate);
+        }
+
+        Set<Long> visited = new HashSet<>();
+        Long currentId = candidate.getParentId();
+        while (currentId != null && visited.add(currentId)) {
+            if (currentId.equals(ancestor.getId())) {
+                return true;
+            }
+            currentId = boardCategoryRepository.findById(currentId)
+                    .map(BoardCategory::getParentId)
+                    .orElse(null);
+        }
+        return false;
+    }
+
     /**
      * 현재 인증된 사용자 ID를 가져옵니다.
      * TODO: 실제 인증 시스템 구현 후 Security Context에서 가져오도록 수정
@@ -3,6 +3,8 @@ package io.github.beom.practiceboard.board.application;
 import io.github.beom.practiceboard.board.domain.Board;
 import io.github.beom.practiceboard.board.domain.BoardStatus;
 import io.github.beom.practiceboard.board.domain.BoardType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +35,14 @@ public interface BoardRepository {
      */
     List<Board> findAllActive();
 
+    /**
+     * 활성 게시판 페이징 조회
+     * 생성일 최신순 정렬은 메모리 스냅샷에서, 그 외 정렬은 DB 페이징 쿼리로 조회합니다.
+     * @param pageable 페이징 및 정렬 정보
+     * @return 활성 게시판 페이지
+     */
+    Page<Board> findAllActive(Pageable pageable);
+
     /**
      * 게시판 타입별 조회
      * @param boardType 게시판 타입
@@ -78,4 +88,22 @@ public interface BoardRepository {
      * @return 활성 게시판 수
      */
     long countActive();
+
+    /**
+     * 게시글 수 증감
+     * 게시판을 조회하지 않고 단일 UPDATE로 반영합니다.
+     * @param id 게시판 ID
+     * @param delta 증감량
+     * @return 반영(또는 병합 모드에서 반영 예약) 여부
+     */
+    boolean addPostCount(Long id, int delta);
+
+    /**
+     * 카테고리 수 증감
+     * 게시판을 조회하지 않고 단일 UPDATE로 반영합니다.
+     * @param id 게시판 ID
+     * @param delta 증감량
+     * @return 반영(또는 병합 모드에서 반영 예약) 여부
+     */
+    boolean addCategoryCount(Long id, int delta);
 }
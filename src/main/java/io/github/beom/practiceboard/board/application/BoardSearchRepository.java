@@ -5,6 +5,7 @@ import io.github.beom.practiceboard.board.domain.BoardStatus;
 import io.github.beom.practiceboard.board.domain.BoardType;
 import io.github.beom.practiceboard.board.presentation.dto.response.BoardPageResponseDTO;
 import io.github.beom.practiceboard.board.presentation.dto.response.BoardResponseDTO;
+import io.github.beom.practiceboard.global.pagination.PageCountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -55,6 +56,23 @@ public interface BoardSearchRepository {
                                                                BoardType boardType,
                                                                Pageable pageable);
 
+    /**
+     * 건수 계산 방식을 선택할 수 있는 게시판 검색
+     * SLICE는 COUNT 쿼리 없이 size + 1건으로 다음 페이지 여부만 판단하고,
+     * APPROXIMATE는 동일 조건의 캐시된 COUNT 결과를 재사용합니다.
+     * @param types 검색 타입 배열
+     * @param keyword 검색 키워드
+     * @param boardType 게시판 타입
+     * @param pageable 페이징 정보
+     * @param countMode 전체 건수 계산 방식
+     * @return 게시판 목록
+     */
+    BoardPageResponseDTO<BoardResponseDTO> searchWithStatistics(String[] types,
+                                                               String keyword,
+                                                               BoardType boardType,
+                                                               Pageable pageable,
+                                                               PageCountMode countMode);
+
     /**
      * 인기 게시판 검색 (게시글 수 기준)
      * @param limit 결과 개수 제한
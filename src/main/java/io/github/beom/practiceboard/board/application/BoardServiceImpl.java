@@ -11,6 +11,7 @@ import io.github.beom.practiceboard.board.presentation.dto.response.BoardPageRes
 import io.github.beom.practiceboard.board.presentation.dto.response.BoardResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -149,18 +150,19 @@ public class BoardServiceImpl implements BoardService {
                 pageRequestDTO.getKeyword(),
                 BoardType.valueOf(pageRequestDTO.getBoardType() != null ? 
                     pageRequestDTO.getBoardType() : "NORMAL"),
-                pageRequestDTO.getPageable("createdAt")
+                pageRequestDTO.getPageable("createdAt"),
+                pageRequestDTO.getCountMode()
             );
         }
 
-        // 일반 목록 조회
-        List<Board> boards = boardRepository.findAllActive();
-        List<BoardResponseDTO> dtos = boards.stream()
+        // 일반 목록 조회 (요청한 페이지만 조회/변환)
+        Page<Board> boards = boardRepository.findAllActive(pageRequestDTO.getPageable("createdAt"));
+        List<BoardResponseDTO> dtos = boards.getContent().stream()
                 .map(boardMapper::toResponseDTO)
                 .collect(Collectors.toList());
 
         return BoardPageResponseDTO.of(dtos, pageRequestDTO.getPage(), 
-                pageRequestDTO.getSize(), boards.size());
+                pageRequestDTO.getSize(), boards.getTotalElements());
     }
 
     @Override
@@ -232,38 +234,30 @@ public class BoardServiceImpl implements BoardService {
 
     @Override
     public void incrementPostCount(Long id) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다: " + id));
-
-        Board updatedBoard = board.increasePostCount();
-        boardRepository.save(updatedBoard);
+        if (!boardRepository.addPostCount(id, 1)) {
+            throw new IllegalArgumentException("게시판을 찾을 수 없습니다: " + id);
+        }
     }
 
     @Override
     public void decrementPostCount(Long id) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다: " + id));
-
-        Board updatedBoard = board.decreasePostCount();
-        boardRepository.save(updatedBoard);
+        if (!boardRepository.addPostCount(id, -1)) {
+            throw new IllegalArgumentException("게시판을 찾을 수 없습니다: " + id);
+        }
     }
 
     @Override
     public void incrementCategoryCount(Long id) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다: " + id));
-
-        Board updatedBoard = board.increaseCategoryCount();
-        boardRepository.save(updatedBoard);
+        if (!boardRepository.addCategoryCount(id, 1)) {
+            throw new IllegalArgumentException("게시판을 찾을 수 없습니다: " + id);
+        }
     }
 
     @Override
     public void decrementCategoryCount(Long id) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("게시판을 찾을 수 없습니다: " + id));
-
-        Board updatedBoard = board.decreaseCategoryCount();
-        boardRepository.save(updatedBoard);
+        if (!boardRepository.addCategoryCount(id, -1)) {
+            throw new IllegalArgumentException("게시판을 찾을 수 없습니다: " + id);
+        }
     }
 
 
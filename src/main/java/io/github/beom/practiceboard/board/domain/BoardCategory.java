@@ -27,6 +27,7 @@ public class BoardCategory {
     private Long createdBy;
     private Long updatedBy;
     private Long parentId; // 부모 카테고리 (계층 구조)
+    private String path; // 루트부터 자신까지의 ID 경로 (예: /1/5/9/)
     
     @Builder.Default
     private boolean isActive = true;
@@ -107,11 +108,31 @@ public class BoardCategory {
     }
     
     /**
-     * 특정 깊이 확인 (최대 3단계)
+     * 특정 깊이 확인 (루트 = 1)
+     * 경로가 있으면 경로의 구간 수로 계산합니다.
      */
     public int getDepth() {
+        if (path != null && path.length() > 1) {
+            return path.substring(1).split("/").length;
+        }
         if (parentId == null) return 1;
-        return 2; // 현재는 2단계만 지원
+        return 2;
+    }
+    
+    /**
+     * 부모 경로 아래의 자신의 경로 생성
+     * @param parentPath 부모 카테고리 경로 (루트로 이동하면 null)
+     */
+    public String pathUnder(String parentPath) {
+        return (parentPath != null ? parentPath : "/") + id + "/";
+    }
+    
+    /**
+     * 다른 카테고리의 조상(또는 자기 자신)인지 경로로 확인
+     * 두 카테고리 모두 경로가 있어야 판단할 수 있습니다.
+     */
+    public boolean isAncestorOrSelfOf(BoardCategory other) {
+        return path != null && other.getPath() != null && other.getPath().startsWith(path);
     }
     
     /**
@@ -0,0 +1,137 @@
+package io.github.beom.practiceboard.board.infrastructure;
+
+import io.github.beom.practiceboard.board.domain.Board;
+import io.github.beom.practiceboard.board.domain.BoardStatus;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 활성 게시판 메모리 스냅샷
+ * 게시판은 수가 적고 변경이 드물기 때문에 활성 게시판 목록을 정렬된 불변 리스트로 보관하고,
+ * 목록 조회는 요청한 페이지 구간만 잘라서 반환합니다.
+ * - 게시판 저장/삭제 시 트랜잭션 커밋 이후 무효화
+ * - 게시글 수 등 통계 값과 다른 인스턴스의 변경은 TTL 경과 후 다시 로드하여 반영
+ */
+@Component
+@Log4j2
+public class ActiveBoardSnapshot {
+
+    // 스냅샷 정렬 기준: 생성일 최신순, 같으면 ID 역순
+    static final Sort SNAPSHOT_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private final BoardJpaRepository boardJpaRepository;
+    private final boolean enabled;
+    private final long ttlMillis;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public ActiveBoardSnapshot(BoardJpaRepository boardJpaRepository,
+                               @Value("${board.snapshot.enabled:true}") boolean enabled,
+                               @Value("${board.snapshot.ttl-seconds:30}") long ttlSeconds) {
+        this.boardJpaRepository = boardJpaRepository;
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000L;
+    }
+
+    /**
+     * 스냅샷으로 처리할 수 있는 요청인지 확인
+     * 정렬이 없거나 생성일 내림차순인 경우만 처리합니다.
+     */
+    public boolean supports(Pageable pageable) {
+        if (!enabled) {
+            return false;
+        }
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        Sort.Order createdAt = sort.getOrderFor("createdAt");
+        return createdAt != null && createdAt.isDescending() && sort.stream().count() == 1;
+    }
+
+    /**
+     * 스냅샷에서 페이지 조회
+     */
+    public Page<Board> page(Pageable pageable) {
+        List<Board> boards = current().boards;
+        int total = boards.size();
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = Math.min(from + pageable.getPageSize(), total);
+        return new PageImpl<>(boards.subList(from, to), pageable, total);
+    }
+
+    /**
+     * 스냅샷 무효화 (트랜잭션 중이면 커밋 이후)
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict();
+                }
+            });
+        } else {
+            evict();
+        }
+    }
+
+    private void evict() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && !current.isExpired(ttlMillis)) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && !current.isExpired(ttlMillis)) {
+                return current;
+            }
+
+            long loadingGeneration = generation.get();
+            List<Board> boards = boardJpaRepository.findByStatusAndDeletedAtIsNull(BoardStatus.ACTIVE, SNAPSHOT_SORT)
+                    .stream()
+                    .map(BoardJpaEntity::toDomain)
+                    .collect(Collectors.toUnmodifiableList());
+            Snapshot loaded = new Snapshot(boards);
+
+            // 로드 중에 무효화되었다면 다음 요청에서 다시 로드하도록 설치하지 않음
+            if (generation.get() == loadingGeneration) {
+                snapshot = loaded;
+            }
+            log.debug("활성 게시판 스냅샷 로드 - 게시판 수: {}", boards.size());
+            return loaded;
+        }
+    }
+
+    private static class Snapshot {
+        private final List<Board> boards;
+        private final long loadedAt;
+
+        private Snapshot(List<Board> boards) {
+            this.boards = boards;
+            this.loadedAt = System.currentTimeMillis();
+        }
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+}
@@ -9,7 +9,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "board_category")
+@Table(name = "board_category",
+       indexes = @Index(name = "idx_board_category_path", columnList = "path"))
 @Getter
 @Builder
 @NoArgsConstructor
@@ -31,6 +32,10 @@ public class BoardCategoryJpaEntity extends BaseAllEntity {
 
     private Long parentId;
 
+    // 루트부터 자신까지의 ID 경로 (예: /1/5/9/), 하위 트리 조회를 LIKE 'path%' 한 번으로 처리
+    @Column(length = 500)
+    private String path;
+
     @Column(nullable = false)
     private boolean isActive;
 
@@ -46,4 +51,10 @@ public class BoardCategoryJpaEntity extends BaseAllEntity {
     @Builder.Default
     private List<BoardCategoryJpaEntity> children = new ArrayList<>();
 
-}
\ No newline at end of file
+    /**
+     * 경로 지정 (ID가 발급된 이후 설정)
+     */
+    public void assignPath(String path) {
+        this.path = path;
+    }
+}
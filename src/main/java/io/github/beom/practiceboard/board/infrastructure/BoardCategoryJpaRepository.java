@@ -1,6 +1,7 @@
 package io.github.beom.practiceboard.board.infrastructure;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -88,4 +89,39 @@ public interface BoardCategoryJpaRepository extends JpaRepository<BoardCategoryJ
      * @return 존재 여부
      */
     boolean existsByBoardIdAndCategoryName(Long boardId, String categoryName);
-}
\ No newline at end of file
+
+    /**
+     * 하위 카테고리 존재 여부 확인
+     * @param parentId 부모 카테고리 ID
+     * @return 존재 여부
+     */
+    boolean existsByParentId(Long parentId);
+
+    /**
+     * 경로 접두사로 하위 트리 조회 (자기 자신 포함)
+     * @param pathPrefix 기준 카테고리 경로
+     * @return 하위 트리의 카테고리 목록
+     */
+    List<BoardCategoryJpaEntity> findByPathStartingWithOrderByPathAsc(String pathPrefix);
+
+    /**
+     * 경로가 비어 있는 카테고리 조회 (경로 보정용)
+     * @return 경로가 없는 카테고리 목록
+     */
+    List<BoardCategoryJpaEntity> findByPathIsNull();
+
+    /**
+     * 하위 트리 경로 접두사 일괄 변경 (카테고리 이동 시)
+     * @param oldPrefix 이동 전 경로
+     * @param newPrefix 이동 후 경로
+     * @param oldPrefixLength 이동 전 경로 길이
+     * @return 변경된 행 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update BoardCategoryJpaEntity c " +
+           "set c.path = concat(:newPrefix, substring(c.path, :oldPrefixLength + 1)) " +
+           "where c.path like concat(:oldPrefix, '%')")
+    int replacePathPrefix(@Param("oldPrefix") String oldPrefix,
+                          @Param("newPrefix") String newPrefix,
+                          @Param("oldPrefixLength") int oldPrefixLength);
+}
@@ -0,0 +1,75 @@
+package io.github.beom.practiceboard.board.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 경로 보정
+ * 경로(path) 컬럼 도입 이전에 만들어진 카테고리의 경로를 애플리케이션 시작 시 부모 관계로부터 채웁니다.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class BoardCategoryPathBackfill {
+
+    private final BoardCategoryJpaRepository boardCategoryJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            Integer filled = transactionTemplate.execute(status -> {
+                List<BoardCategoryJpaEntity> missing = boardCategoryJpaRepository.findByPathIsNull();
+                if (missing.isEmpty()) {
+                    return 0;
+                }
+
+                Map<Long, BoardCategoryJpaEntity> byId = new HashMap<>();
+                boardCategoryJpaRepository.findAll().forEach(entity -> byId.put(entity.getId(), entity));
+
+                Map<Long, String> resolved = new HashMap<>();
+                for (BoardCategoryJpaEntity entity : missing) {
+                    byId.get(entity.getId()).assignPath(pathOf(entity.getId(), byId, resolved));
+                }
+                return missing.size();
+            });
+
+            if (filled != null && filled > 0) {
+                log.info("카테고리 경로 보정 완료 - 보정된 카테고리 수: {}", filled);
+            }
+        } catch (Exception e) {
+            log.error("카테고리 경로 보정 실패", e);
+        }
+    }
+
+    private String pathOf(Long id, Map<Long, BoardCategoryJpaEntity> byId, Map<Long, String> resolved) {
+        StringBuilder path = new StringBuilder("/");
+        Set<Long> visited = new HashSet<>();
+        Long currentId = id;
+        // 자신부터 루트까지 올라가며 경로 구성 (순환이 있으면 끊음)
+        while (currentId != null && byId.containsKey(currentId) && visited.add(currentId)) {
+            String known = resolved.get(currentId);
+            if (known == null && byId.get(currentId).getPath() != null) {
+                known = byId.get(currentId).getPath();
+            }
+            if (known != null) {
+                path = new StringBuilder(known).append(path.substring(1));
+                break;
+            }
+            path.insert(1, currentId + "/");
+            currentId = byId.get(currentId).getParentId();
+        }
+        resolved.put(id, path.toString());
+        return path.toString();
+    }
+}
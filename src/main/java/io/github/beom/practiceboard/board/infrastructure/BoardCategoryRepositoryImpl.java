@@ -5,9 +5,14 @@ import io.github.beom.practiceboard.board.domain.BoardCategory;
 import io.github.beom.practiceboard.board.mapper.BoardCategoryMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Repository
@@ -16,6 +21,7 @@ public class BoardCategoryRepositoryImpl implements BoardCategoryRepository {
 
     private final BoardCategoryJpaRepository boardCategoryJpaRepository;
     private final BoardCategoryMapper boardCategoryMapper;
+    private final BoardCategoryTreeCache boardCategoryTreeCache;
 
     /**
      * 카테고리 저장
@@ -23,9 +29,16 @@ public class BoardCategoryRepositoryImpl implements BoardCategoryRepository {
      * @return 저장된 카테고리의 ID
      */
     @Override
+    @Transactional
     public Long save(BoardCategory boardCategory) {
         BoardCategoryJpaEntity entity = boardCategoryMapper.domainToEntity(boardCategory);
         BoardCategoryJpaEntity savedEntity = boardCategoryJpaRepository.save(entity);
+
+        // 신규 카테고리는 ID가 발급된 이후 경로 지정
+        if (savedEntity.getPath() == null) {
+            savedEntity.assignPath(resolvePath(savedEntity.getParentId()) + savedEntity.getId() + "/");
+        }
+        boardCategoryTreeCache.invalidate(savedEntity.getBoardId());
         return savedEntity.getId();
     }
 
@@ -47,6 +60,10 @@ public class BoardCategoryRepositoryImpl implements BoardCategoryRepository {
      */
     @Override
     public List<BoardCategory> findByBoardId(Long boardId) {
+        Optional<BoardCategoryTreeCache.CategoryTree> tree = boardCategoryTreeCache.treeOf(boardId);
+        if (tree.isPresent()) {
+            return tree.get().all();
+        }
         return boardCategoryJpaRepository.findByBoardId(boardId).stream()
                 .map(boardCategoryMapper::entityToDomain)
                 .collect(Collectors.toList());
@@ -59,6 +76,10 @@ public class BoardCategoryRepositoryImpl implements BoardCategoryRepository {
      */
     @Override
     public List<BoardCategory> findByParentId(Long parentId) {
+        Optional<BoardCategoryTreeCache.CategoryTree> tree = boardCategoryTreeCache.treeContaining(parentId);
+        if (tree.isPresent()) {
+            return tree.get().children(parentId);
+        }
         return boardCategoryJpaRepository.findByParentId(parentId).stream()
                 .map(boardCategoryMapper::entityToDomain)
                 .collect(Collectors.toList());
@@ -71,6 +92,10 @@ public class BoardCategoryRepositoryImpl implements BoardCategoryRepository {
      */
     @Override
     public List<BoardCategory> findRootCategories(Long boardId) {
+        Optional<BoardCategoryTreeCache.CategoryTree> tree = boardCategoryTreeCache.treeOf(boardId);
+        if (tree.isPresent()) {
+            return tree.get().roots();
+        }
         return boardCategoryJpaRepository.findByBoardIdAndParentIdIsNull(boardId).stream()
                 .map(boardCategoryMapper::entityToDomain)
                 .collect(Collectors.toList());
@@ -81,7 +106,138 @@ public class BoardCategoryRepositoryImpl implements BoardCategoryRepository {
      * @param id 삭제할 카테고리 ID
      */
     @Override
+    @Transactional
     public void deleteById(Long id) {
+        boardCategoryJpaRepository.findById(id)
+                .ifPresent(entity -> boardCategoryTreeCache.invalidate(entity.getBoardId()));
         boardCategoryJpaRepository.deleteById(id);
     }
+
+    /**
+     * 하위 카테고리 존재 여부 확인
+     * 삭제 가능 여부 판단에 사용되므로 스냅샷이 아닌 DB에서 확인합니다.
+     * @param parentId 부모 카테고리 ID
+     * @return 존재 여부
+     */
+    @Override
+    public boolean existsByParentId(Long parentId) {
+        return boardCategoryJpaRepository.existsByParentId(parentId);
+    }
+
+    /**
+     * 하위 카테고리가 채워진 게시판 카테고리 트리 조회
+     * @param boardId 게시판 ID
+     * @return 루트 카테고리 목록 (각 카테고리의 children에 하위 카테고리 포함)
+     */
+    @Override
+    public List<BoardCategory> findTreeByBoardId(Long boardId) {
+        Optional<BoardCategoryTreeCache.CategoryTree> tree = boardCategoryTreeCache.treeOf(boardId);
+        if (tree.isPresent()) {
+            return tree.get().nested();
+        }
+
+        // 스냅샷을 사용하지 않는 경우 한 번의 조회 결과로 트리 구성
+        List<BoardCategory> roots = new ArrayList<>();
+        List<BoardCategory> categories = boardCategoryJpaRepository.findByBoardId(boardId).stream()
+                .map(boardCategoryMapper::entityToDomain)
+                .collect(Collectors.toList());
+        Set<Long> ids = categories.stream().map(BoardCategory::getId).collect(Collectors.toSet());
+        for (BoardCategory category : categories) {
+            if (category.getParentId() == null || !ids.contains(category.getParentId())) {
+                roots.add(attachChildren(category, categories, new HashSet<>()));
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * 조상 카테고리 목록 조회 (루트부터 부모까지)
+     * @param id 카테고리 ID
+     * @return 조상 카테고리 목록
+     */
+    @Override
+    public List<BoardCategory> findAncestors(Long id) {
+        Optional<BoardCategoryTreeCache.CategoryTree> tree = boardCategoryTreeCache.treeContaining(id);
+        if (tree.isPresent()) {
+            return tree.get().ancestors(id);
+        }
+
+        List<BoardCategory> ancestors = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        Optional<BoardCategory> current = findById(id);
+        while (current.isPresent() && current.get().getParentId() != null && visited.add(current.get().getId())) {
+            current = findById(current.get().getParentId());
+            current.ifPresent(ancestors::add);
+        }
+        Collections.reverse(ancestors);
+        return ancestors;
+    }
+
+    /**
+     * 자손 카테고리 목록 조회 (자기 자신 제외)
+     * 스냅샷이 없으면 경로 접두사 조회 한 번으로 하위 트리를 가져옵니다.
+     * @param id 카테고리 ID
+     * @return 자손 카테고리 목록
+     */
+    @Override
+    public List<BoardCategory> findDescendants(Long id) {
+        Optional<BoardCategoryTreeCache.CategoryTree> tree = boardCategoryTreeCache.treeContaining(id);
+        if (tree.isPresent()) {
+            return tree.get().descendants(id);
+        }
+
+        return boardCategoryJpaRepository.findById(id)
+                .filter(entity -> entity.getPath() != null)
+                .map(entity -> boardCategoryJpaRepository.findByPathStartingWithOrderByPathAsc(entity.getPath()).stream()
+                        .filter(descendant -> !descendant.getId().equals(id))
+                        .map(boardCategoryMapper::entityToDomain)
+                        .collect(Collectors.toList()))
+                .orElseGet(List::of);
+    }
+
+    /**
+     * 하위 트리 경로 일괄 변경 (단일 UPDATE)
+     * @param boardId 게시판 ID
+     * @param oldPrefix 이동 전 경로
+     * @param newPrefix 이동 후 경로
+     */
+    @Override
+    @Transactional
+    public void replacePathPrefix(Long boardId, String oldPrefix, String newPrefix) {
+        boardCategoryJpaRepository.replacePathPrefix(oldPrefix, newPrefix, oldPrefix.length());
+        boardCategoryTreeCache.invalidate(boardId);
+    }
+
+    /**
+     * 부모 카테고리의 경로 조회 (루트면 "/")
+     * 부모에 경로가 없으면(경로 도입 이전 데이터) 부모 체인을 따라 올라가며 만듭니다.
+     */
+    private String resolvePath(Long parentId) {
+        StringBuilder suffix = new StringBuilder();
+        Set<Long> visited = new HashSet<>();
+        Long currentId = parentId;
+        while (currentId != null && visited.add(currentId)) {
+            Optional<BoardCategoryJpaEntity> current = boardCategoryJpaRepository.findById(currentId);
+            if (current.isEmpty()) {
+                break;
+            }
+            if (current.get().getPath() != null) {
+                return current.get().getPath() + suffix;
+            }
+            suffix.insert(0, currentId + "/");
+            currentId = current.get().getParentId();
+        }
+        return "/" + suffix;
+    }
+
+    private BoardCategory attachChildren(BoardCategory category, List<BoardCategory> categories, Set<Long> visited) {
+        if (!visited.add(category.getId())) {
+            return category;
+        }
+        List<BoardCategory> children = categories.stream()
+                .filter(child -> category.getId().equals(child.getParentId()))
+                .map(child -> attachChildren(child, categories, visited))
+                .collect(Collectors.toList());
+        return category.toBuilder().children(children).build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,252 @@
+package io.github.beom.practiceboard.board.infrastructure;
+
+import io.github.beom.practiceboard.board.domain.BoardCategory;
+import io.github.beom.practiceboard.board.mapper.BoardCategoryMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 게시판별 카테고리 트리 메모리 스냅샷
+ * 카테고리는 거의 변경되지 않으므로 게시판 단위로 불변 트리를 만들어 두고
+ * 루트/하위/조상/자손 조회를 DB 조회 없이 처리합니다.
+ * - 변경(등록/수정/이동/삭제) 시 트랜잭션 커밋 이후 해당 게시판 스냅샷을 버리고 다음 조회에서 새로 구성 (copy-on-write)
+ * - 다른 인스턴스의 변경은 TTL 경과 후 다시 로드하여 반영
+ */
+@Component
+@Log4j2
+public class BoardCategoryTreeCache {
+
+    private static final Comparator<BoardCategory> SIBLING_ORDER =
+            Comparator.comparingInt(BoardCategory::getSortOrder)
+                    .thenComparing(BoardCategory::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final BoardCategoryJpaRepository boardCategoryJpaRepository;
+    private final BoardCategoryMapper boardCategoryMapper;
+    private final boolean enabled;
+    private final long ttlMillis;
+
+    private final Map<Long, CategoryTree> trees = new ConcurrentHashMap<>();
+    private final Map<Long, Long> boardIdByCategoryId = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public BoardCategoryTreeCache(BoardCategoryJpaRepository boardCategoryJpaRepository,
+                                  BoardCategoryMapper boardCategoryMapper,
+                                  @Value("${board.category.tree-cache.enabled:true}") boolean enabled,
+                                  @Value("${board.category.tree-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.boardCategoryJpaRepository = boardCategoryJpaRepository;
+        this.boardCategoryMapper = boardCategoryMapper;
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000L;
+    }
+
+    /**
+     * 게시판의 카테고리 트리 조회 (없거나 만료되었으면 로드)
+     */
+    public Optional<CategoryTree> treeOf(Long boardId) {
+        if (!enabled || boardId == null) {
+            return Optional.empty();
+        }
+
+        CategoryTree tree = trees.get(boardId);
+        if (tree != null && !tree.isExpired(ttlMillis)) {
+            return Optional.of(tree);
+        }
+        return Optional.of(load(boardId));
+    }
+
+    /**
+     * 카테고리가 속한 게시판의 트리 조회
+     * 아직 어떤 스냅샷에도 없는 카테고리면 빈 값을 반환합니다.
+     */
+    public Optional<CategoryTree> treeContaining(Long categoryId) {
+        if (!enabled || categoryId == null) {
+            return Optional.empty();
+        }
+        Long boardId = boardIdByCategoryId.get(categoryId);
+        if (boardId == null) {
+            return Optional.empty();
+        }
+        return treeOf(boardId).filter(tree -> tree.contains(categoryId));
+    }
+
+    /**
+     * 게시판 스냅샷 무효화 (트랜잭션 중이면 커밋 이후)
+     */
+    public void invalidate(Long boardId) {
+        if (boardId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(boardId);
+                }
+            });
+        } else {
+            evict(boardId);
+        }
+    }
+
+    private void evict(Long boardId) {
+        generation.incrementAndGet();
+        CategoryTree removed = trees.remove(boardId);
+        if (removed != null) {
+            removed.byId.keySet().forEach(id -> boardIdByCategoryId.remove(id, boardId));
+        }
+    }
+
+    private CategoryTree load(Long boardId) {
+        long loadingGeneration = generation.get();
+        List<BoardCategory> categories = boardCategoryJpaRepository.findByBoardId(boardId).stream()
+                .map(boardCategoryMapper::entityToDomain)
+                .collect(Collectors.toList());
+        CategoryTree tree = new CategoryTree(categories);
+
+        // 로드 중에 무효화되었다면 설치하지 않고 이번 요청에만 사용
+        if (generation.get() == loadingGeneration) {
+            trees.put(boardId, tree);
+            tree.byId.keySet().forEach(id -> boardIdByCategoryId.put(id, boardId));
+        }
+        log.debug("카테고리 트리 스냅샷 로드 - boardId: {}, 카테고리 수: {}", boardId, categories.size());
+        return tree;
+    }
+
+    /**
+     * 게시판 하나의 불변 카테고리 트리
+     */
+    public static class CategoryTree {
+
+        private final Map<Long, BoardCategory> byId;
+        private final Map<Long, List<BoardCategory>> childrenByParentId;
+        private final List<BoardCategory> roots;
+        private final List<BoardCategory> all;
+        private final long loadedAt;
+
+        private CategoryTree(List<BoardCategory> categories) {
+            Map<Long, BoardCategory> byId = new HashMap<>();
+            categories.forEach(category -> byId.put(category.getId(), category));
+
+            Map<Long, List<BoardCategory>> children = new HashMap<>();
+            List<BoardCategory> roots = new ArrayList<>();
+            for (BoardCategory category : categories) {
+                // 부모가 없거나 다른 게시판으로 사라진 경우 루트로 취급
+                if (category.getParentId() == null || !byId.containsKey(category.getParentId())) {
+                    roots.add(category);
+                } else {
+                    children.computeIfAbsent(category.getParentId(), key -> new ArrayList<>()).add(category);
+                }
+            }
+            children.replaceAll((parentId, list) -> sorted(list));
+
+            List<BoardCategory> all = new ArrayList<>(categories);
+            all.sort(SIBLING_ORDER);
+
+            this.byId = Collections.unmodifiableMap(byId);
+            this.childrenByParentId = Collections.unmodifiableMap(children);
+            this.roots = sorted(roots);
+            this.all = Collections.unmodifiableList(all);
+            this.loadedAt = System.currentTimeMillis();
+        }
+
+        public boolean contains(Long categoryId) {
+            return byId.containsKey(categoryId);
+        }
+
+        public List<BoardCategory> all() {
+            return all;
+        }
+
+        public List<BoardCategory> roots() {
+            return roots;
+        }
+
+        public List<BoardCategory> children(Long parentId) {
+            return childrenByParentId.getOrDefault(parentId, List.of());
+        }
+
+        /**
+         * 조상 목록 (루트부터 부모까지, O(depth))
+         */
+        public List<BoardCategory> ancestors(Long categoryId) {
+            List<BoardCategory> ancestors = new ArrayList<>();
+            Set<Long> visited = new HashSet<>();
+            BoardCategory current = byId.get(categoryId);
+            while (current != null && current.getParentId() != null && visited.add(current.getId())) {
+                current = byId.get(current.getParentId());
+                if (current != null) {
+                    ancestors.add(current);
+                }
+            }
+            Collections.reverse(ancestors);
+            return ancestors;
+        }
+
+        /**
+         * 자손 목록 (자기 자신 제외, 너비 우선)
+         */
+        public List<BoardCategory> descendants(Long categoryId) {
+            List<BoardCategory> descendants = new ArrayList<>();
+            Set<Long> visited = new HashSet<>();
+            visited.add(categoryId);
+            Deque<Long> queue = new ArrayDeque<>();
+            queue.add(categoryId);
+            while (!queue.isEmpty()) {
+                for (BoardCategory child : children(queue.poll())) {
+                    if (visited.add(child.getId())) {
+                        descendants.add(child);
+                        queue.add(child.getId());
+                    }
+                }
+            }
+            return descendants;
+        }
+
+        /**
+         * 하위 카테고리가 채워진 루트 카테고리 목록
+         */
+        public List<BoardCategory> nested() {
+            return roots.stream()
+                    .map(root -> withChildren(root, new HashSet<>()))
+                    .collect(Collectors.toList());
+        }
+
+        private BoardCategory withChildren(BoardCategory category, Set<Long> visited) {
+            if (!visited.add(category.getId())) {
+                return category.toBuilder().children(new ArrayList<>()).build();
+            }
+            List<BoardCategory> children = children(category.getId()).stream()
+                    .map(child -> withChildren(child, visited))
+                    .collect(Collectors.toList());
+            return category.toBuilder().children(children).build();
+        }
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+
+        private static List<BoardCategory> sorted(List<BoardCategory> categories) {
+            List<BoardCategory> copy = new ArrayList<>(categories);
+            copy.sort(SIBLING_ORDER);
+            return Collections.unmodifiableList(copy);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.beom.practiceboard.board.infrastructure;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시판 통계 카운터 병합 버퍼
+ * board.counter.coalesce.enabled=true 인 경우 게시글 수/카테고리 수 증감을 게시판별로 메모리에 합산한 뒤
+ * 주기적으로 게시판당 UPDATE 한 번으로 반영합니다.
+ * 증감분은 getAndSet(0)으로 원자적으로 가져가므로 동시에 들어온 증감이 유실되지 않으며,
+ * DB 반영에 실패한 증감분은 버퍼에 되돌려 다음 주기에 재시도합니다.
+ */
+@Component
+@Log4j2
+public class BoardCounterBuffer {
+
+    private final BoardJpaRepository boardJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private final Map<Long, Deltas> pending = new ConcurrentHashMap<>();
+
+    public BoardCounterBuffer(BoardJpaRepository boardJpaRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${board.counter.coalesce.enabled:false}") boolean enabled) {
+        this.boardJpaRepository = boardJpaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 병합 모드 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 증감분 누적
+     */
+    public void add(Long boardId, long postDelta, long categoryDelta) {
+        Deltas deltas = pending.computeIfAbsent(boardId, key -> new Deltas());
+        deltas.post.addAndGet(postDelta);
+        deltas.category.addAndGet(categoryDelta);
+    }
+
+    /**
+     * 누적된 증감분을 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${board.counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        int applied = 0;
+        for (Map.Entry<Long, Deltas> entry : pending.entrySet()) {
+            Long boardId = entry.getKey();
+            Deltas deltas = entry.getValue();
+            long postDelta = deltas.post.getAndSet(0);
+            long categoryDelta = deltas.category.getAndSet(0);
+            if (postDelta == 0 && categoryDelta == 0) {
+                continue;
+            }
+
+            try {
+                Integer updated = transactionTemplate.execute(status ->
+                        boardJpaRepository.addCounts(boardId, (int) postDelta, (int) categoryDelta));
+                if (updated == null || updated == 0) {
+                    log.warn("게시판 통계 반영 대상 없음 - boardId: {}, 게시글 수 증감: {}, 카테고리 수 증감: {}",
+                            boardId, postDelta, categoryDelta);
+                }
+                applied++;
+            } catch (Exception e) {
+                log.error("게시판 통계 반영 실패 - 다음 주기에 재시도: boardId={}", boardId, e);
+                add(boardId, postDelta, categoryDelta);
+            }
+        }
+
+        if (applied > 0) {
+            log.debug("게시판 통계 증감 반영 - 게시판 수: {}", applied);
+        }
+    }
+
+    /**
+     * 종료 시 남은 증감분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!pending.isEmpty()) {
+            log.info("종료 전 게시판 통계 버퍼 반영 - 대기 중인 게시판 수: {}", pending.size());
+            flush();
+        }
+    }
+
+    private static class Deltas {
+        private final AtomicLong post = new AtomicLong();
+        private final AtomicLong category = new AtomicLong();
+    }
+}
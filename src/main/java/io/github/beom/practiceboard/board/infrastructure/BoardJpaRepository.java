@@ -2,7 +2,11 @@ package io.github.beom.practiceboard.board.infrastructure;
 
 import io.github.beom.practiceboard.board.domain.BoardStatus;
 import io.github.beom.practiceboard.board.domain.BoardType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -26,6 +30,16 @@ public interface BoardJpaRepository extends JpaRepository<BoardJpaEntity, Long>
      */
     List<BoardJpaEntity> findByStatusAndDeletedAtIsNull(BoardStatus status);
 
+    /**
+     * 게시판 상태별 정렬 조회 (삭제되지 않은 것만)
+     */
+    List<BoardJpaEntity> findByStatusAndDeletedAtIsNull(BoardStatus status, Sort sort);
+
+    /**
+     * 게시판 상태별 페이징 조회 (삭제되지 않은 것만)
+     */
+    Page<BoardJpaEntity> findByStatusAndDeletedAtIsNull(BoardStatus status, Pageable pageable);
+
     /**
      * 게시판 타입별 조회 (삭제되지 않은 것만)
      */
@@ -45,4 +59,18 @@ public interface BoardJpaRepository extends JpaRepository<BoardJpaEntity, Long>
      * 특정 상태의 삭제되지 않은 게시판 수 조회
      */
     long countByStatusAndDeletedAtIsNull(BoardStatus status);
-}
\ No newline at end of file
+
+    /**
+     * 게시글 수/카테고리 수 증감 (단일 UPDATE, 0 미만으로 내려가지 않음)
+     * 실행 전에 영속성 컨텍스트를 flush하여, 같은 트랜잭션에서 아직 반영되지 않은 변경이 clear로 사라지지 않게 합니다.
+     * @return 수정된 행 수 (게시판이 없으면 0)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update BoardJpaEntity b set " +
+           "b.postCount = case when b.postCount + :postDelta < 0 then 0 else b.postCount + :postDelta end, " +
+           "b.categoryCount = case when b.categoryCount + :categoryDelta < 0 then 0 else b.categoryCount + :categoryDelta end " +
+           "where b.id = :id and b.deletedAt is null")
+    int addCounts(@Param("id") Long id,
+                  @Param("postDelta") int postDelta,
+                  @Param("categoryDelta") int categoryDelta);
+}
@@ -5,8 +5,11 @@ import io.github.beom.practiceboard.board.domain.Board;
 import io.github.beom.practiceboard.board.domain.BoardStatus;
 import io.github.beom.practiceboard.board.domain.BoardType;
 import io.github.beom.practiceboard.board.mapper.BoardMapper;
+import io.github.beom.practiceboard.global.pagination.ApproximateCountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +29,9 @@ public class BoardRepositoryImpl implements BoardRepository {
 
     private final BoardJpaRepository boardJpaRepository;
     private final BoardMapper boardMapper;
+    private final ActiveBoardSnapshot activeBoardSnapshot;
+    private final BoardCounterBuffer boardCounterBuffer;
+    private final ApproximateCountCache approximateCountCache;
 
     @Override
     public Long save(Board board) {
@@ -49,6 +55,8 @@ public class BoardRepositoryImpl implements BoardRepository {
         }
 
         BoardJpaEntity savedEntity = boardJpaRepository.save(entity);
+        activeBoardSnapshot.invalidate();
+        approximateCountCache.evictByPrefixAfterCommit(BoardSearchRepositoryImpl.COUNT_CACHE_PREFIX);
         return savedEntity.getId();
     }
 
@@ -72,6 +80,18 @@ public class BoardRepositoryImpl implements BoardRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Board> findAllActive(Pageable pageable) {
+        if (activeBoardSnapshot.supports(pageable)) {
+            return activeBoardSnapshot.page(pageable);
+        }
+
+        log.debug("활성 게시판 페이징 조회: {}", pageable);
+        return boardJpaRepository.findByStatusAndDeletedAtIsNull(BoardStatus.ACTIVE, pageable)
+                .map(BoardJpaEntity::toDomain);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Board> findByType(BoardType boardType) {
@@ -115,6 +135,8 @@ public class BoardRepositoryImpl implements BoardRepository {
             // BaseAllEntity의 소프트 삭제 기능 사용
             entity.markDeleted(); // deletedAt 설정
             boardJpaRepository.save(entity);
+            activeBoardSnapshot.invalidate();
+            approximateCountCache.evictByPrefixAfterCommit(BoardSearchRepositoryImpl.COUNT_CACHE_PREFIX);
         } else {
             throw new IllegalArgumentException("삭제할 게시판이 존재하지 않습니다: " + id);
         }
@@ -137,4 +159,23 @@ public class BoardRepositoryImpl implements BoardRepository {
     public long countActive() {
         return boardJpaRepository.countByStatusAndDeletedAtIsNull(BoardStatus.ACTIVE);
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean addPostCount(Long id, int delta) {
+        return addCounts(id, delta, 0);
+    }
+
+    @Override
+    public boolean addCategoryCount(Long id, int delta) {
+        return addCounts(id, 0, delta);
+    }
+
+    private boolean addCounts(Long id, int postDelta, int categoryDelta) {
+        // 병합 모드에서는 게시판 존재 여부를 확인하지 않고 주기적으로 일괄 반영
+        if (boardCounterBuffer.isEnabled()) {
+            boardCounterBuffer.add(id, postDelta, categoryDelta);
+            return true;
+        }
+        return boardJpaRepository.addCounts(id, postDelta, categoryDelta) > 0;
+    }
+}
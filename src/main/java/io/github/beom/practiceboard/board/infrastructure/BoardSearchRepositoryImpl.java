@@ -10,6 +10,8 @@ import io.github.beom.practiceboard.board.domain.BoardType;
 import io.github.beom.practiceboard.board.mapper.BoardMapper;
 import io.github.beom.practiceboard.board.presentation.dto.response.BoardPageResponseDTO;
 import io.github.beom.practiceboard.board.presentation.dto.response.BoardResponseDTO;
+import io.github.beom.practiceboard.global.pagination.ApproximateCountCache;
+import io.github.beom.practiceboard.global.pagination.PageCountMode;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -28,11 +30,16 @@ import java.util.stream.Collectors;
 @Log4j2
 public class BoardSearchRepositoryImpl extends QuerydslRepositorySupport implements BoardSearchRepository {
 
+    //근사 건수 캐시 키 접두사 (게시판 저장/삭제 시 BoardRepositoryImpl에서 무효화)
+    static final String COUNT_CACHE_PREFIX = "board:";
+
     private final BoardMapper boardMapper;
+    private final ApproximateCountCache approximateCountCache;
 
-    public BoardSearchRepositoryImpl(BoardMapper boardMapper) {
+    public BoardSearchRepositoryImpl(BoardMapper boardMapper, ApproximateCountCache approximateCountCache) {
         super(BoardJpaEntity.class);
         this.boardMapper = boardMapper;
+        this.approximateCountCache = approximateCountCache;
     }
 
     @Override
@@ -45,38 +52,7 @@ public class BoardSearchRepositoryImpl extends QuerydslRepositorySupport impleme
         QBoardJpaEntity board = QBoardJpaEntity.boardJpaEntity;
         JPQLQuery<BoardJpaEntity> query = from(board);
 
-        // 기본 조건: 삭제되지 않은 게시판
-        BooleanBuilder builder = new BooleanBuilder();
-        builder.and(board.deletedAt.isNull());
-
-        // 검색 조건 추가
-        if (types != null && keyword != null && !keyword.trim().isEmpty()) {
-            BooleanBuilder searchBuilder = new BooleanBuilder();
-            
-            for (String type : types) {
-                switch (type) {
-                    case "n": // name
-                        searchBuilder.or(board.name.containsIgnoreCase(keyword));
-                        break;
-                    case "d": // description
-                        searchBuilder.or(board.description.containsIgnoreCase(keyword));
-                        break;
-                    // slug 필드가 제거되어 주석 처리
-                    // case "s": // slug
-                    //     searchBuilder.or(board.slug.containsIgnoreCase(keyword));
-                    //     break;
-                }
-            }
-            builder.and(searchBuilder);
-        }
-
-        // 필터 조건들 추가
-        if (boardType != null) {
-            builder.and(board.boardType.eq(boardType));
-        }
-        if (status != null) {
-            builder.and(board.status.eq(status));
-        }
+        BooleanBuilder builder = buildSearchCondition(board, types, keyword, boardType, status);
 
         query.where(builder);
         query.orderBy(getOrderSpecifier(board, pageable));
@@ -117,6 +93,49 @@ public class BoardSearchRepositoryImpl extends QuerydslRepositorySupport impleme
         );
     }
 
+    @Override
+    public BoardPageResponseDTO<BoardResponseDTO> searchWithStatistics(String[] types, String keyword,
+                                                                      BoardType boardType, Pageable pageable,
+                                                                      PageCountMode countMode) {
+
+        PageCountMode mode = PageCountMode.orDefault(countMode);
+        if (mode == PageCountMode.EXACT) {
+            return searchWithStatistics(types, keyword, boardType, pageable);
+        }
+
+        log.debug("게시판 검색({}) - types: {}, keyword: {}, boardType: {}", mode, types, keyword, boardType);
+
+        int page = pageable.getPageNumber() + 1;
+        int size = pageable.getPageSize();
+
+        QBoardJpaEntity board = QBoardJpaEntity.boardJpaEntity;
+        JPQLQuery<BoardJpaEntity> query = from(board);
+
+        BooleanBuilder builder = buildSearchCondition(board, types, keyword, boardType, null);
+
+        query.where(builder);
+        query.orderBy(getOrderSpecifier(board, pageable));
+
+        this.getQuerydsl().applyPagination(pageable, query);
+
+        if (mode == PageCountMode.APPROXIMATE) {
+            List<BoardResponseDTO> dtos = toResponseDTOs(query.fetch());
+            long count = approximateCountCache.getOrCompute(countKey(types, keyword, boardType), query::fetchCount);
+            return BoardPageResponseDTO.ofApproximate(dtos, page, size, count);
+        }
+
+        // SLICE: size + 1건 조회로 다음 페이지 존재 여부만 판단
+        query.limit(size + 1L);
+        List<BoardJpaEntity> entities = query.fetch();
+
+        boolean hasNext = entities.size() > size;
+        if (hasNext) {
+            entities = entities.subList(0, size);
+        }
+
+        return BoardPageResponseDTO.ofSlice(toResponseDTOs(entities), page, size, hasNext);
+    }
+
     @Override
     public Page<BoardResponseDTO> searchPopularBoards(int limit, Pageable pageable) {
         
@@ -173,6 +192,67 @@ public class BoardSearchRepositoryImpl extends QuerydslRepositorySupport impleme
         return new PageImpl<>(dtos, pageable, count);
     }
 
+    /**
+     * 엔티티 목록을 응답 DTO 목록으로 변환
+     */
+    private List<BoardResponseDTO> toResponseDTOs(List<BoardJpaEntity> entities) {
+        return entities.stream()
+                .map(entity -> {
+                    Board domain = entity.toDomain();
+                    return boardMapper.toResponseDTO(domain);
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 근사 건수 캐시 키 (검색/필터 값만 사용)
+     */
+    private String countKey(String[] types, String keyword, BoardType boardType) {
+        return COUNT_CACHE_PREFIX + boardType + ":" + (types != null ? String.join("", types) : "") + ":" + keyword;
+    }
+
+    /**
+     * 공통 검색/필터 조건 생성
+     */
+    private BooleanBuilder buildSearchCondition(QBoardJpaEntity board, String[] types, String keyword,
+                                                BoardType boardType, BoardStatus status) {
+
+        // 기본 조건: 삭제되지 않은 게시판
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(board.deletedAt.isNull());
+
+        // 검색 조건 추가
+        if (types != null && keyword != null && !keyword.trim().isEmpty()) {
+            BooleanBuilder searchBuilder = new BooleanBuilder();
+            
+            for (String type : types) {
+                switch (type) {
+                    case "n": // name
+                        searchBuilder.or(board.name.containsIgnoreCase(keyword));
+                        break;
+                    case "d": // description
+                        searchBuilder.or(board.description.containsIgnoreCase(keyword));
+                        break;
+                    // slug 필드가 제거되어 주석 처리
+                    // case "s": // slug
+                    //     searchBuilder.or(board.slug.containsIgnoreCase(keyword));
+                    //     break;
+                }
+            }
+            builder.and(searchBuilder);
+        }
+
+        // 필터 조건들 추가
+        if (boardType != null) {
+            builder.and(board.boardType.eq(boardType));
+        }
+        if (status != null) {
+            builder.and(board.status.eq(status));
+        }
+
+        return builder;
+    }
+
     /**
      * 정렬 조건에 따른 OrderSpecifier 생성
      */
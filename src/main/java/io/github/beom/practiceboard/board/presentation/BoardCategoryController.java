@@ -102,6 +102,72 @@ public class BoardCategoryController {
         return ResponseEntity.ok(subCategories);
     }
 
+    /**
+     * 카테고리 트리 조회
+     * @param boardId 클래스 ID
+     * @return 하위 카테고리가 포함된 루트 카테고리 목록
+     */
+    @Operation(summary = "카테고리 트리 조회", description = "클래스의 전체 카테고리를 계층 구조로 조회합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/tree")
+    public ResponseEntity<List<BoardCategoryResponseDTO>> getCategoryTree(
+            @Parameter(description = "클래스 ID", required = true)
+            @PathVariable("boardId") Long boardId) {
+
+        log.debug("카테고리 트리 조회 -> 클래스 ID: {}", boardId);
+
+        return ResponseEntity.ok(boardCategoryService.getCategoryTree(boardId));
+    }
+
+    /**
+     * 조상 카테고리 목록 조회
+     * @param boardId 클래스 ID
+     * @param id 카테고리 ID
+     * @return 루트부터 부모까지의 카테고리 목록
+     */
+    @Operation(summary = "조상 카테고리 목록 조회", description = "특정 카테고리의 루트부터 부모까지의 카테고리 목록을 조회합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/{id}/ancestors")
+    public ResponseEntity<List<BoardCategoryResponseDTO>> getAncestors(
+            @Parameter(description = "클래스 ID", required = true)
+            @PathVariable("boardId") Long boardId,
+            @Parameter(description = "카테고리 ID", required = true)
+            @PathVariable("id") Long id) {
+
+        log.debug("조상 카테고리 목록 조회 -> 클래스 ID: {}, 카테고리 ID: {}", boardId, id);
+
+        return ResponseEntity.ok(boardCategoryService.getAncestors(id));
+    }
+
+    /**
+     * 자손 카테고리 목록 조회
+     * @param boardId 클래스 ID
+     * @param id 카테고리 ID
+     * @return 자손 카테고리 목록
+     */
+    @Operation(summary = "자손 카테고리 목록 조회", description = "특정 카테고리 아래의 모든 하위 카테고리를 조회합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/{id}/descendants")
+    public ResponseEntity<List<BoardCategoryResponseDTO>> getDescendants(
+            @Parameter(description = "클래스 ID", required = true)
+            @PathVariable("boardId") Long boardId,
+            @Parameter(description = "카테고리 ID", required = true)
+            @PathVariable("id") Long id) {
+
+        log.debug("자손 카테고리 목록 조회 -> 클래스 ID: {}, 카테고리 ID: {}", boardId, id);
+
+        return ResponseEntity.ok(boardCategoryService.getDescendants(id));
+    }
+
     /**
      * 카테고리 상세 조회
      * @param boardId 클래스 ID
@@ -41,6 +41,21 @@ public interface BoardCategoryService {
      */
     List<BoardCategoryResponseDTO> getSubCategories(Long parentId);
     
+    /**
+     * 게시판 전체 카테고리 트리 조회 (children에 하위 카테고리 포함)
+     */
+    List<BoardCategoryResponseDTO> getCategoryTree(Long boardId);
+    
+    /**
+     * 조상 카테고리 목록 조회 (루트부터 부모까지)
+     */
+    List<BoardCategoryResponseDTO> getAncestors(Long id);
+    
+    /**
+     * 자손 카테고리 목록 조회 (자기 자신 제외)
+     */
+    List<BoardCategoryResponseDTO> getDescendants(Long id);
+    
     /**
      * 카테고리 이동 -> 부모 카테고리 변경
      */
@@ -1,5 +1,6 @@
 package io.github.beom.practiceboard.board.presentation.dto.request;
 
+import io.github.beom.practiceboard.global.pagination.PageCountMode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -40,6 +41,10 @@ public class BoardPageRequestDTO {
     @Schema(description = "게시판 상태 (ACTIVE: 활성, INACTIVE: 비활성)", example = "ACTIVE")
     private String status;
 
+    @Schema(description = "전체 건수 계산 방식 (EXACT: 정확한 건수, SLICE: 다음 페이지 여부만, APPROXIMATE: 캐시된 근사 건수)", example = "EXACT")
+    @Builder.Default
+    private PageCountMode countMode = PageCountMode.EXACT;
+
     /**
      * 검색 유형을 배열로 변환
      * @return 검색 유형 배열 (null이면 검색하지 않음)
@@ -18,6 +18,7 @@ public class BoardCategoryResponseDTO {
     private String description;
     private Long boardId;
     private Long parentId;
+    private String path;
     private boolean isActive;
     private int sortOrder;
     private int recommendThreshold;
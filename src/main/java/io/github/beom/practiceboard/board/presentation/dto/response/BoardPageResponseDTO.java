@@ -40,6 +40,12 @@ public class BoardPageResponseDTO<E> {
     @Schema(description = "다음 페이지 존재 여부", example = "true")
     private boolean next; // 다음 페이지의 존재 여부
 
+    @Schema(description = "현재 페이지 다음에 페이지가 더 있는지 여부", example = "true")
+    private boolean hasNextPage;
+
+    @Schema(description = "전체 항목 수가 근사치인지 여부 (SLICE/APPROXIMATE 모드)", example = "false")
+    private boolean approximate;
+
     @Schema(description = "데이터 목록")
     private List<E> dtoList;
 
@@ -62,6 +68,7 @@ public class BoardPageResponseDTO<E> {
             this.end = 1;
             this.prev = false;
             this.next = false;
+            this.hasNextPage = false;
             return;
 
         }
@@ -77,6 +84,7 @@ public class BoardPageResponseDTO<E> {
         // 이전/다음 페이지 존재 여부 계산
         this.prev = this.start > 1;
         this.next = total > this.end * this.size;
+        this.hasNextPage = total > this.page * this.size;
     }
 
     /**
@@ -106,6 +114,47 @@ public class BoardPageResponseDTO<E> {
                 .build();
     }
 
+    /**
+     * 건수 계산 없는(Slice) 응답 생성
+     * 전체 건수를 모르므로 지금까지 확인된 건수(다음 페이지가 있으면 +1)를 total로 사용하여
+     * 페이지 네비게이션이 현재 페이지 또는 다음 페이지까지만 표시되도록 합니다.
+     * @param content 데이터 목록
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param hasNext size + 1건 조회로 판단한 다음 페이지 존재 여부
+     * @param <T> 데이터 타입
+     * @return BoardPageResponseDTO 인스턴스
+     */
+    public static <T> BoardPageResponseDTO<T> ofSlice(List<T> content, int page, int size, boolean hasNext) {
+        long knownTotal = (long) (Math.max(1, page) - 1) * size + content.size() + (hasNext ? 1 : 0);
+        return BoardPageResponseDTO.<T>of()
+                .dtoList(content)
+                .page(page)
+                .size(size)
+                .total((int) knownTotal)
+                .approximate(true)
+                .build();
+    }
+
+    /**
+     * 근사 전체 건수 응답 생성
+     * @param content 데이터 목록
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param approximateTotal 캐시된 전체 항목 수
+     * @param <T> 데이터 타입
+     * @return BoardPageResponseDTO 인스턴스
+     */
+    public static <T> BoardPageResponseDTO<T> ofApproximate(List<T> content, int page, int size, long approximateTotal) {
+        return BoardPageResponseDTO.<T>of()
+                .dtoList(content)
+                .page(page)
+                .size(size)
+                .total((int) approximateTotal)
+                .approximate(true)
+                .build();
+    }
+
     /**
      * 페이지 응답 DTO 빌더 클래스
      * @param <E> 페이징 대상 DTO 타입
@@ -115,6 +164,7 @@ public class BoardPageResponseDTO<E> {
         private int size;
         private List<E> dtoList;
         private int total;
+        private boolean approximate;
 
         public BoardPageResponseDTOBuilder<E> page(int page) {
             this.page = page;
@@ -136,12 +186,19 @@ public class BoardPageResponseDTO<E> {
             return this;
         }
 
+        public BoardPageResponseDTOBuilder<E> approximate(boolean approximate) {
+            this.approximate = approximate;
+            return this;
+        }
+
         public BoardPageResponseDTO<E> build() {
             BoardPageRequestDTO pageRequestDTO = BoardPageRequestDTO.builder()
                     .page(Math.max(1, this.page))  // 유효한 페이지 번호 보장
                     .size(Math.max(1, Math.min(100, this.size)))  // 유효한 사이즈 보장
                     .build();
-            return new BoardPageResponseDTO<>(pageRequestDTO, this.dtoList, this.total);
+            BoardPageResponseDTO<E> responseDTO = new BoardPageResponseDTO<>(pageRequestDTO, this.dtoList, this.total);
+            responseDTO.approximate = this.approximate;
+            return responseDTO;
         }
     }
 }
\ No newline at end of file
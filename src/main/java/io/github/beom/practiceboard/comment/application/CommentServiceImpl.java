@@ -6,6 +6,7 @@ import io.github.beom.practiceboard.comment.event.CommentDeletedEvent;
 import io.github.beom.practiceboard.comment.event.CommentUpdatedEvent;
 import io.github.beom.practiceboard.comment.presentation.CommentService;
 import io.github.beom.practiceboard.global.event.EventPublisher;
+import io.github.beom.practiceboard.post.application.PostCommentCounter;
 import io.github.beom.practiceboard.comment.presentation.dto.request.CommentPageRequestDTO;
 import io.github.beom.practiceboard.comment.presentation.dto.request.CommentRequestDTO;
 import io.github.beom.practiceboard.comment.presentation.dto.response.CommentResponseDTO;
@@ -29,6 +30,7 @@ public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
     private final EventPublisher eventPublisher;
+    private final PostCommentCounter postCommentCounter;
 
     /**
      * 댓글 등록
@@ -176,13 +178,22 @@ public class CommentServiceImpl implements CommentService {
     }
 
     /**
-     * 특정 게시글의 댓글 개수 조회
+     * 게시판의 댓글 개수 조회 (posts.comment_count 합계 기준, comment 테이블 COUNT 없음)
      */
     @Override
     @Transactional(readOnly = true)
     public long countByBoardId(Long boardId) {
-        log.info("게시글 {}의 댓글 개수 조회", boardId);
-        return commentRepository.countByBoardId(boardId);
+        log.info("게시판 {}의 댓글 개수 조회", boardId);
+        return postCommentCounter.getBoardCount(boardId);
+    }
+
+    /**
+     * 게시글의 댓글 개수 조회 (posts.comment_count 기준)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long countByPostId(Long postId) {
+        return postCommentCounter.getCount(postId);
     }
 
     /**
@@ -271,67 +282,55 @@ public class CommentServiceImpl implements CommentService {
 
     /**
      * 댓글 생성 이벤트 발행
+     * 이벤트는 댓글과 같은 트랜잭션에서 아웃박스에 기록되므로, 기록에 실패하면 댓글 등록도 함께 롤백됩니다.
      */
     private void publishCommentCreatedEvent(Comment comment) {
-        try {
-            CommentCreatedEvent event = CommentCreatedEvent.of(
-                comment.getId(),
-                comment.getBoardId(),
-                comment.getContent(),
-                comment.getAuthorId().toString(),
-                comment.getParentReplyId(),
-                comment.getDepth()
-            );
-            
-            eventPublisher.publishCommentEvent(event);
-            log.debug("댓글 생성 이벤트 발행: commentId={}", comment.getId());
-            
-        } catch (Exception e) {
-            log.error("댓글 생성 이벤트 발행 실패: commentId={}, error={}", comment.getId(), e.getMessage());
-            // 이벤트 발행 실패가 주요 로직에 영향을 주지 않도록 예외를 다시 던지지 않음
-        }
+        CommentCreatedEvent event = CommentCreatedEvent.of(
+            comment.getId(),
+            comment.getPostId(),
+            comment.getBoardId(),
+            comment.getContent(),
+            comment.getAuthorId().toString(),
+            comment.getParentReplyId(),
+            comment.getDepth()
+        );
+
+        eventPublisher.publishCommentEvent(event);
+        log.debug("댓글 생성 이벤트 발행: commentId={}", comment.getId());
     }
 
     /**
      * 댓글 수정 이벤트 발행
      */
     private void publishCommentUpdatedEvent(Comment comment) {
-        try {
-            CommentUpdatedEvent event = CommentUpdatedEvent.of(
-                comment.getId(),
-                comment.getBoardId(),
-                comment.getContent(), // oldContent
-                comment.getContent(), // newContent (수정된 내용)
-                comment.getAuthorId().toString()
-            );
-            
-            eventPublisher.publishCommentEvent(event);
-            log.debug("댓글 수정 이벤트 발행: commentId={}", comment.getId());
-            
-        } catch (Exception e) {
-            log.error("댓글 수정 이벤트 발행 실패: commentId={}, error={}", comment.getId(), e.getMessage());
-        }
+        CommentUpdatedEvent event = CommentUpdatedEvent.of(
+            comment.getId(),
+            comment.getPostId(),
+            comment.getBoardId(),
+            comment.getContent(), // oldContent
+            comment.getContent(), // newContent (수정된 내용)
+            comment.getAuthorId().toString()
+        );
+
+        eventPublisher.publishCommentEvent(event);
+        log.debug("댓글 수정 이벤트 발행: commentId={}", comment.getId());
     }
 
     /**
      * 댓글 삭제 이벤트 발행
      */
     private void publishCommentDeletedEvent(Comment comment) {
-        try {
-            CommentDeletedEvent event = CommentDeletedEvent.of(
-                comment.getId(),
-                comment.getBoardId(),
-                comment.getContent(),
-                comment.getAuthorId().toString(),
-                comment.getParentReplyId(),
-                hasChildComments(comment.getId())
-            );
-            
-            eventPublisher.publishCommentEvent(event);
-            log.debug("댓글 삭제 이벤트 발행: commentId={}", comment.getId());
-            
-        } catch (Exception e) {
-            log.error("댓글 삭제 이벤트 발행 실패: commentId={}, error={}", comment.getId(), e.getMessage());
-        }
+        CommentDeletedEvent event = CommentDeletedEvent.of(
+            comment.getId(),
+            comment.getPostId(),
+            comment.getBoardId(),
+            comment.getContent(),
+            comment.getAuthorId().toString(),
+            comment.getParentReplyId(),
+            hasChildComments(comment.getId())
+        );
+
+        eventPublisher.publishCommentEvent(event);
+        log.debug("댓글 삭제 이벤트 발행: commentId={}", comment.getId());
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package io.github.beom.practiceboard.comment.event;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,6 +14,7 @@ import java.util.UUID;
  */
 @Getter
 @Builder
+@Jacksonized
 @ToString
 public class CommentCreatedEvent implements DomainEvent {
 
@@ -36,9 +38,10 @@ public class CommentCreatedEvent implements DomainEvent {
     /**
      * 댓글 생성 이벤트 팩토리 메서드
      */
-    public static CommentCreatedEvent of(Long commentId, Long boardId, String content, String author, Long parentCommentId, int depth) {
+    public static CommentCreatedEvent of(Long commentId, Long postId, Long boardId, String content, String author, Long parentCommentId, int depth) {
         CommentEventData eventData = CommentEventData.builder()
                 .commentId(commentId)
+                .postId(postId)
                 .boardId(boardId)
                 .content(content)
                 .author(author)
@@ -57,11 +60,22 @@ public class CommentCreatedEvent implements DomainEvent {
         return this.eventData;
     }
 
+    /**
+     * 게시글 단위로 순서를 보장하기 위해 게시글 ID를 파티션 키로 사용
+     */
+    @Override
+    public String getPartitionKey() {
+        return eventData != null && eventData.getPostId() != null
+                ? eventData.getPostId().toString()
+                : aggregateId;
+    }
+
     /**
      * 댓글 이벤트 데이터
      */
     @Getter
     @Builder
+    @Jacksonized
     @ToString
     public static class CommentEventData {
         private final Long commentId;
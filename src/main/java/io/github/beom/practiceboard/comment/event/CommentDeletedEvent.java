@@ -3,6 +3,7 @@ package io.github.beom.practiceboard.comment.event;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,6 +14,7 @@ import java.util.UUID;
  */
 @Getter
 @Builder
+@Jacksonized
 @ToString
 public class CommentDeletedEvent implements DomainEvent {
 
@@ -30,10 +32,11 @@ public class CommentDeletedEvent implements DomainEvent {
         this.eventData = eventData;
     }
 
-    public static CommentDeletedEvent of(Long commentId, Long boardId, String content, String author, 
+    public static CommentDeletedEvent of(Long commentId, Long postId, Long boardId, String content, String author, 
                                        Long parentCommentId, boolean hasChildren) {
         CommentDeleteData eventData = CommentDeleteData.builder()
                 .commentId(commentId)
+                .postId(postId)
                 .boardId(boardId)
                 .content(content)
                 .author(author)
@@ -52,11 +55,23 @@ public class CommentDeletedEvent implements DomainEvent {
         return this.eventData;
     }
 
+    /**
+     * 게시글 단위로 순서를 보장하기 위해 게시글 ID를 파티션 키로 사용
+     */
+    @Override
+    public String getPartitionKey() {
+        return eventData != null && eventData.getPostId() != null
+                ? eventData.getPostId().toString()
+                : aggregateId;
+    }
+
     @Getter
     @Builder
+    @Jacksonized
     @ToString
     public static class CommentDeleteData {
         private final Long commentId;
+        private final Long postId;
         private final Long boardId;
         private final String content;
         private final String author;
@@ -64,9 +79,10 @@ public class CommentDeletedEvent implements DomainEvent {
         private final boolean hasChildren;
         private final LocalDateTime deletedAt;
 
-        private CommentDeleteData(Long commentId, Long boardId, String content, String author, 
+        private CommentDeleteData(Long commentId, Long postId, Long boardId, String content, String author, 
                                 Long parentCommentId, boolean hasChildren, LocalDateTime deletedAt) {
             this.commentId = commentId;
+            this.postId = postId;
             this.boardId = boardId;
             this.content = content;
             this.author = author;
@@ -3,6 +3,7 @@ package io.github.beom.practiceboard.comment.event;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,6 +14,7 @@ import java.util.UUID;
  */
 @Getter
 @Builder
+@Jacksonized
 @ToString
 public class CommentUpdatedEvent implements DomainEvent {
 
@@ -30,9 +32,10 @@ public class CommentUpdatedEvent implements DomainEvent {
         this.eventData = eventData;
     }
 
-    public static CommentUpdatedEvent of(Long commentId, Long boardId, String oldContent, String newContent, String author) {
+    public static CommentUpdatedEvent of(Long commentId, Long postId, Long boardId, String oldContent, String newContent, String author) {
         CommentUpdateData eventData = CommentUpdateData.builder()
                 .commentId(commentId)
+                .postId(postId)
                 .boardId(boardId)
                 .oldContent(oldContent)
                 .newContent(newContent)
@@ -50,19 +53,32 @@ public class CommentUpdatedEvent implements DomainEvent {
         return this.eventData;
     }
 
+    /**
+     * 게시글 단위로 순서를 보장하기 위해 게시글 ID를 파티션 키로 사용
+     */
+    @Override
+    public String getPartitionKey() {
+        return eventData != null && eventData.getPostId() != null
+                ? eventData.getPostId().toString()
+                : aggregateId;
+    }
+
     @Getter
     @Builder
+    @Jacksonized
     @ToString
     public static class CommentUpdateData {
         private final Long commentId;
+        private final Long postId;
         private final Long boardId;
         private final String oldContent;
         private final String newContent;
         private final String author;
         private final LocalDateTime updatedAt;
 
-        private CommentUpdateData(Long commentId, Long boardId, String oldContent, String newContent, String author, LocalDateTime updatedAt) {
+        private CommentUpdateData(Long commentId, Long postId, Long boardId, String oldContent, String newContent, String author, LocalDateTime updatedAt) {
             this.commentId = commentId;
+            this.postId = postId;
             this.boardId = boardId;
             this.oldContent = oldContent;
             this.newContent = newContent;
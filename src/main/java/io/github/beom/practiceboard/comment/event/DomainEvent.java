@@ -1,5 +1,7 @@
 package io.github.beom.practiceboard.comment.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.LocalDateTime;
 
 /**
@@ -37,4 +39,14 @@ public interface DomainEvent {
      * @return 이벤트 관련 데이터
      */
     Object getEventData();
-}
\ No newline at end of file
+
+    /**
+     * 파티션 키 조회
+     * 같은 키를 가진 이벤트는 같은 파티션 큐로 라우팅되어 순서대로 처리됩니다.
+     * @return 파티션 키 (기본값은 애그리게이트 ID)
+     */
+    @JsonIgnore
+    default String getPartitionKey() {
+        return getAggregateId();
+    }
+}
@@ -11,6 +11,7 @@ import lombok.*;
 @Entity
 @Table(name = "comment", indexes = {
         @Index(name = "idx_comment_board_id", columnList = "board_id"),
+        @Index(name = "idx_comment_post_id", columnList = "post_id"),
         @Index(name = "idx_comment_parent_id", columnList = "parent_id"),
         @Index(name = "idx_comment_depth", columnList = "depth"),
         @Index(name = "idx_comment_created_at", columnList = "created_at")
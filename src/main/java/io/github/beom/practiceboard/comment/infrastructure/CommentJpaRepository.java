@@ -2,6 +2,7 @@ package io.github.beom.practiceboard.comment.infrastructure;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -36,6 +37,31 @@ public interface CommentJpaRepository extends JpaRepository<CommentJpaEntity, Lo
     @Query("SELECT c FROM CommentJpaEntity c WHERE c.parentComment.id = :parentId ORDER BY c.createdAt ASC")
     List<CommentJpaEntity> findByParentCommentId(@Param("parentId") Long parentId);
 
+    /**
+     * 여러 부모 댓글의 대댓글 목록을 한 번에 조회
+     * 부모 ID, 시간순 정렬
+     */
+    @Query("SELECT c FROM CommentJpaEntity c WHERE c.parentComment.id IN :parentIds ORDER BY c.parentComment.id ASC, c.createdAt ASC, c.id ASC")
+    List<CommentJpaEntity> findByParentCommentIdIn(@Param("parentIds") List<Long> parentIds);
+
+    /**
+     * 여러 부모 댓글의 대댓글을 부모별 최대 limit건까지만 한 번에 조회
+     * 부모별로 시간순 앞의 대댓글만 남기기 위해 ROW_NUMBER 윈도우 함수를 사용합니다.
+     */
+    @Query(value = "SELECT ranked.* FROM (" +
+            "SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at ASC, c.id ASC) AS child_rank " +
+            "FROM comment c WHERE c.parent_id IN (:parentIds)" +
+            ") ranked WHERE ranked.child_rank <= :limit ORDER BY ranked.parent_id ASC, ranked.created_at ASC, ranked.id ASC",
+            nativeQuery = true)
+    List<CommentJpaEntity> findTopChildrenByParentCommentIdIn(@Param("parentIds") List<Long> parentIds, @Param("limit") int limit);
+
+    /**
+     * 여러 부모 댓글의 대댓글 개수를 한 번에 조회
+     * @return [부모 댓글 ID, 대댓글 수] 배열 목록
+     */
+    @Query("SELECT c.parentComment.id, COUNT(c) FROM CommentJpaEntity c WHERE c.parentComment.id IN :parentIds GROUP BY c.parentComment.id")
+    List<Object[]> countByParentCommentIdIn(@Param("parentIds") List<Long> parentIds);
+
     /**
      * 특정 게시글의 모든 댓글 조회
      */
@@ -97,4 +123,38 @@ public interface CommentJpaRepository extends JpaRepository<CommentJpaEntity, Lo
      */
     @Query("SELECT c FROM CommentJpaEntity c WHERE c.boardId = :boardId AND c.depth = :depth ORDER BY c.createdAt ASC")
     Page<CommentJpaEntity> findByBoardIdAndDepth(@Param("boardId") Long boardId, @Param("depth") int depth, Pageable pageable);
-}
\ No newline at end of file
+
+    /*
+     * 아래 Slice 조회 메서드들은 COUNT 쿼리 없이 size + 1건을 조회하여 다음 페이지 존재 여부만 판단합니다.
+     */
+
+    /**
+     * 특정 게시글의 댓글 목록 조회 (Slice)
+     */
+    @Query("SELECT c FROM CommentJpaEntity c WHERE c.boardId = :boardId ORDER BY c.createdAt ASC")
+    Slice<CommentJpaEntity> findSliceByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+
+    /**
+     * 게시글별 댓글 검색 (내용 기준, Slice)
+     */
+    @Query("SELECT c FROM CommentJpaEntity c WHERE c.boardId = :boardId AND c.replyText LIKE %:keyword% ORDER BY c.createdAt ASC")
+    Slice<CommentJpaEntity> findSliceByBoardIdAndReplyTextContaining(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 게시글별 댓글 검색 (작성자 기준, Slice)
+     */
+    @Query("SELECT c FROM CommentJpaEntity c WHERE c.boardId = :boardId AND CAST(c.authorId AS string) LIKE %:keyword% ORDER BY c.createdAt ASC")
+    Slice<CommentJpaEntity> findSliceByBoardIdAndReplayerContaining(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 게시글별 댓글 검색 (내용 + 작성자 기준, Slice)
+     */
+    @Query("SELECT c FROM CommentJpaEntity c WHERE c.boardId = :boardId AND (c.replyText LIKE %:keyword% OR CAST(c.authorId AS string) LIKE %:keyword%) ORDER BY c.createdAt ASC")
+    Slice<CommentJpaEntity> findSliceByBoardIdAndContentOrReplayer(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 특정 깊이의 댓글만 조회 (Slice)
+     */
+    @Query("SELECT c FROM CommentJpaEntity c WHERE c.boardId = :boardId AND c.depth = :depth ORDER BY c.createdAt ASC")
+    Slice<CommentJpaEntity> findSliceByBoardIdAndDepth(@Param("boardId") Long boardId, @Param("depth") int depth, Pageable pageable);
+}
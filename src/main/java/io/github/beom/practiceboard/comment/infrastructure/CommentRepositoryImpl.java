@@ -6,15 +6,23 @@ import io.github.beom.practiceboard.comment.mapper.CommentMapper;
 import io.github.beom.practiceboard.comment.presentation.dto.request.CommentPageRequestDTO;
 import io.github.beom.practiceboard.comment.presentation.dto.response.CommentResponseDTO;
 import io.github.beom.practiceboard.board.presentation.dto.response.BoardPageResponseDTO;
+import io.github.beom.practiceboard.global.pagination.ApproximateCountCache;
+import io.github.beom.practiceboard.global.pagination.PageCountMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.stream.Collectors;
 
 /**
@@ -27,8 +35,15 @@ import java.util.stream.Collectors;
 @Transactional
 public class CommentRepositoryImpl implements CommentRepository {
 
+    private static final String COUNT_CACHE_PREFIX = "comment:";
+
     private final CommentJpaRepository commentJpaRepository;
     private final CommentMapper commentMapper;
+    private final ApproximateCountCache approximateCountCache;
+
+    // 계층형 조회 시 최상위 댓글별 기본 대댓글 수 제한 (0이면 제한 없음)
+    @Value("${comment.hierarchy.child-limit:0}")
+    private int defaultChildLimit;
 
     /**
      * 댓글 등록
@@ -39,6 +54,7 @@ public class CommentRepositoryImpl implements CommentRepository {
         
         CommentJpaEntity entity = commentMapper.fromDomain(comment);
         CommentJpaEntity savedEntity = commentJpaRepository.save(entity);
+        evictCountCache(savedEntity.getBoardId());
         
         log.debug("댓글 등록 완료: ID = {}", savedEntity.getId());
         return savedEntity.getId();
@@ -78,6 +94,7 @@ public class CommentRepositoryImpl implements CommentRepository {
         CommentJpaEntity entity = entityOpt.get();
         commentMapper.updateFromDomain(comment, entity);
         commentJpaRepository.save(entity);
+        evictCountCache(entity.getBoardId()); // 검색어 일치 여부가 바뀔 수 있음
         
         log.debug("댓글 수정 완료: ID = {}", comment.getId());
     }
@@ -89,6 +106,9 @@ public class CommentRepositoryImpl implements CommentRepository {
     public void remove(Long commentId) {
         log.debug("댓글 삭제: ID = {}", commentId);
         
+        commentJpaRepository.findById(commentId)
+                .ifPresent(entity -> evictCountCache(entity.getBoardId()));
+
         // 먼저 대댓글들을 모두 삭제
         commentJpaRepository.deleteByParentCommentId(commentId);
         
@@ -107,6 +127,30 @@ public class CommentRepositoryImpl implements CommentRepository {
         log.debug("게시글 {}의 댓글 목록 조회: {}", boardId, pageRequestDTO);
         
         Pageable pageable = pageRequestDTO.getPageable("createdAt");
+        PageCountMode countMode = PageCountMode.orDefault(pageRequestDTO.getCountMode());
+        String countKey = COUNT_CACHE_PREFIX + boardId + ":" + pageRequestDTO.getDepth() + ":"
+                + pageRequestDTO.getType() + ":" + pageRequestDTO.getKeyword();
+
+        // 근사 건수 캐시가 있으면 COUNT 없이 Slice로 조회
+        OptionalLong cachedTotal = countMode == PageCountMode.APPROXIMATE
+                ? approximateCountCache.get(countKey)
+                : OptionalLong.empty();
+
+        if (countMode == PageCountMode.SLICE || cachedTotal.isPresent()) {
+            Slice<CommentJpaEntity> entitySlice = executeSliceQuery(boardId, pageRequestDTO, pageable);
+
+            List<CommentResponseDTO> dtoList = entitySlice.getContent().stream()
+                    .map(commentMapper::entityToResponseDTO)
+                    .collect(Collectors.toList());
+
+            if (countMode == PageCountMode.SLICE) {
+                return BoardPageResponseDTO.ofSlice(dtoList, pageRequestDTO.getPage(),
+                        pageRequestDTO.getSize(), entitySlice.hasNext());
+            }
+            return BoardPageResponseDTO.ofApproximate(dtoList, pageRequestDTO.getPage(),
+                    pageRequestDTO.getSize(), cachedTotal.getAsLong());
+        }
+
         Page<CommentJpaEntity> entityPage;
         
         // 검색 조건에 따른 쿼리 실행
@@ -121,12 +165,17 @@ public class CommentRepositoryImpl implements CommentRepository {
         List<CommentResponseDTO> dtoList = entityPage.getContent().stream()
                 .map(commentMapper::entityToResponseDTO)
                 .collect(Collectors.toList());
+
+        if (countMode == PageCountMode.APPROXIMATE) {
+            approximateCountCache.put(countKey, entityPage.getTotalElements());
+        }
         
         return BoardPageResponseDTO.<CommentResponseDTO>of()
                 .page(pageRequestDTO.getPage())
                 .size(pageRequestDTO.getSize())
                 .dtoList(dtoList)
                 .total((int) entityPage.getTotalElements())
+                .approximate(countMode == PageCountMode.APPROXIMATE)
                 .build();
     }
     
@@ -142,21 +191,12 @@ public class CommentRepositoryImpl implements CommentRepository {
         Pageable pageable = pageRequestDTO.getPageable("createdAt");
         Page<CommentJpaEntity> rootCommentPage = commentJpaRepository.findRootCommentsByBoardId(boardId, pageable);
         
-        // 각 최상위 댓글의 대댓글들을 조회하여 계층구조 구성
         List<CommentResponseDTO> hierarchicalList = rootCommentPage.getContent().stream()
-                .map(rootEntity -> {
-                    CommentResponseDTO rootDto = commentMapper.entityToResponseDTO(rootEntity);
-                    
-                    // 해당 댓글의 대댓글들 조회
-                    List<CommentJpaEntity> childEntities = commentJpaRepository.findByParentCommentId(rootEntity.getId());
-                    List<CommentResponseDTO> childDtos = childEntities.stream()
-                            .map(commentMapper::entityToResponseDTO)
-                            .collect(Collectors.toList());
-                    
-                    rootDto.setChildren(childDtos);
-                    return rootDto;
-                })
+                .map(commentMapper::entityToResponseDTO)
                 .collect(Collectors.toList());
+
+        // 대댓글은 페이지 단위로 한 번에 조회하여 계층구조 구성
+        attachChildren(hierarchicalList, resolveChildLimit(pageRequestDTO));
         
         return BoardPageResponseDTO.<CommentResponseDTO>of()
                 .page(pageRequestDTO.getPage())
@@ -200,6 +240,7 @@ public class CommentRepositoryImpl implements CommentRepository {
         log.debug("게시글 {}의 모든 댓글 삭제", boardId);
         
         commentJpaRepository.deleteByBoardId(boardId);
+        evictCountCache(boardId);
         
         log.debug("게시글 {}의 모든 댓글 삭제 완료", boardId);
     }
@@ -226,6 +267,52 @@ public class CommentRepositoryImpl implements CommentRepository {
         return commentJpaRepository.countByParentCommentId(parentId);
     }
 
+    /**
+     * 최상위 댓글 목록에 대댓글을 붙임
+     * 페이지 크기와 무관하게 대댓글 개수 조회 1회 + 대댓글 조회 1회로 처리합니다. (N+1 방지)
+     * @param roots 최상위 댓글 목록
+     * @param childLimit 최상위 댓글별 최대 대댓글 수 (0이면 제한 없음)
+     */
+    private void attachChildren(List<CommentResponseDTO> roots, int childLimit) {
+        if (roots.isEmpty()) {
+            return;
+        }
+
+        List<Long> rootIds = roots.stream()
+                .map(CommentResponseDTO::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, Long> childCounts = new HashMap<>();
+        for (Object[] row : commentJpaRepository.countByParentCommentIdIn(rootIds)) {
+            childCounts.put((Long) row[0], (Long) row[1]);
+        }
+
+        if (childCounts.isEmpty()) {
+            return;
+        }
+
+        // 제한을 넘는 부모가 있을 때만 부모별 상위 N건 쿼리 사용
+        List<Long> parentIds = new ArrayList<>(childCounts.keySet());
+        boolean exceedsLimit = childLimit > 0 && childCounts.values().stream().anyMatch(count -> count > childLimit);
+        List<CommentJpaEntity> childEntities = exceedsLimit
+                ? commentJpaRepository.findTopChildrenByParentCommentIdIn(parentIds, childLimit)
+                : commentJpaRepository.findByParentCommentIdIn(parentIds);
+
+        Map<Long, List<CommentResponseDTO>> childrenByParent = childEntities.stream()
+                .map(commentMapper::entityToResponseDTO)
+                .collect(Collectors.groupingBy(CommentResponseDTO::getParentReplyId));
+
+        for (CommentResponseDTO root : roots) {
+            root.setChildren(childrenByParent.getOrDefault(root.getId(), new ArrayList<>()));
+            root.setTotalChildrenCount(childCounts.getOrDefault(root.getId(), 0L));
+        }
+    }
+
+    private int resolveChildLimit(CommentPageRequestDTO pageRequestDTO) {
+        Integer childLimit = pageRequestDTO.getChildLimit();
+        return Math.max(0, childLimit != null ? childLimit : defaultChildLimit);
+    }
+
     /**
      * 검색 조건에 따른 쿼리 실행
      */
@@ -262,4 +349,49 @@ public class CommentRepositoryImpl implements CommentRepository {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * 검색 조건에 따른 Slice 쿼리 실행 (COUNT 쿼리 없음)
+     */
+    private Slice<CommentJpaEntity> executeSliceQuery(Long boardId, CommentPageRequestDTO pageRequestDTO, Pageable pageable) {
+        String[] types = pageRequestDTO.getTypes();
+        String keyword = pageRequestDTO.getKeyword();
+
+        if (keyword == null || keyword.trim().isEmpty() || types == null || types.length == 0) {
+            if (pageRequestDTO.getDepth() != null) {
+                return commentJpaRepository.findSliceByBoardIdAndDepth(boardId, pageRequestDTO.getDepth(), pageable);
+            }
+            return commentJpaRepository.findSliceByBoardId(boardId, pageable);
+        }
+
+        boolean hasContent = false;
+        boolean hasWriter = false;
+
+        for (String type : types) {
+            switch (type) {
+                case "c":
+                    hasContent = true;
+                    break;
+                case "w":
+                    hasWriter = true;
+                    break;
+            }
+        }
+
+        if (hasContent && hasWriter) {
+            return commentJpaRepository.findSliceByBoardIdAndContentOrReplayer(boardId, keyword, pageable);
+        } else if (hasContent) {
+            return commentJpaRepository.findSliceByBoardIdAndReplyTextContaining(boardId, keyword, pageable);
+        } else if (hasWriter) {
+            return commentJpaRepository.findSliceByBoardIdAndReplayerContaining(boardId, keyword, pageable);
+        } else {
+            return commentJpaRepository.findSliceByBoardId(boardId, pageable);
+        }
+    }
+
+    /**
+     * 게시글의 근사 댓글 건수 캐시 무효화
+     */
+    private void evictCountCache(Long boardId) {
+        approximateCountCache.evictByPrefixAfterCommit(COUNT_CACHE_PREFIX + boardId + ":");
+    }
+}
@@ -312,7 +312,7 @@ public class CommentController {
     /**
      * 댓글 개수 조회
      */
-    @Operation(summary = "댓글 개수 조회", description = "특정 게시글의 댓글 개수를 조회합니다")
+    @Operation(summary = "댓글 개수 조회", description = "특정 게시글의 댓글 개수를 조회합니다. postId를 지정하면 게시글에 저장된 댓글 수를 사용합니다")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
@@ -320,12 +320,16 @@ public class CommentController {
     @GetMapping("/count")
     public ResponseEntity<Map<String, Long>> getCommentCount(
             @Parameter(description = "게시글 ID", required = true)
-            @PathVariable("boardId") Long boardId) {
+            @PathVariable("boardId") Long boardId,
+            @Parameter(description = "게시글 ID (지정 시 COUNT 쿼리 없이 게시글의 댓글 수 컬럼 사용)")
+            @RequestParam(value = "postId", required = false) Long postId) {
         
-        log.info("댓글 개수 조회 요청 - 게시글: {}", boardId);
+        log.info("댓글 개수 조회 요청 - 게시글: {}, postId: {}", boardId, postId);
         
         try {
-            long count = commentService.countByBoardId(boardId);
+            long count = postId != null
+                    ? commentService.countByPostId(postId)
+                    : commentService.countByBoardId(boardId);
             
             Map<String, Long> resultMap = new HashMap<>();
             resultMap.put("count", count);
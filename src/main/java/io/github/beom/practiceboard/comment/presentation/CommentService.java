@@ -72,12 +72,20 @@ public interface CommentService {
     boolean hasChildComments(Long commentId);
 
     /**
-     * 특정 게시글의 댓글 개수 조회
-     * @param boardId 게시글 ID
+     * 게시판의 댓글 개수 조회 (게시글별 댓글 수 합계)
+     * @param boardId 게시판 ID
      * @return 댓글 개수
      */
     long countByBoardId(Long boardId);
 
+    /**
+     * 게시글의 댓글 개수 조회
+     * 댓글 테이블을 COUNT하지 않고 posts.comment_count 컬럼 값을 사용합니다.
+     * @param postId 게시글 ID
+     * @return 댓글 개수
+     */
+    long countByPostId(Long postId);
+
     /**
      * 특정 부모 댓글의 대댓글 개수 조회
      * @param parentId 부모 댓글 ID
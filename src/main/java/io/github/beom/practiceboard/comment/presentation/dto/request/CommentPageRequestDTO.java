@@ -1,5 +1,6 @@
 package io.github.beom.practiceboard.comment.presentation.dto.request;
 
+import io.github.beom.practiceboard.global.pagination.PageCountMode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -43,6 +44,13 @@ public class CommentPageRequestDTO {
     @Schema(description = "댓글 깊이 (0: 최상위 댓글만, 1: 대댓글만)", example = "0")
     private Integer depth;
 
+    @Schema(description = "계층형 조회 시 최상위 댓글별 최대 대댓글 수 (미지정 시 서버 기본값, 0이면 제한 없음)", example = "3")
+    private Integer childLimit;
+
+    @Schema(description = "전체 건수 계산 방식 (EXACT: 정확한 건수, SLICE: 다음 페이지 여부만, APPROXIMATE: 캐시된 근사 건수)", example = "EXACT")
+    @Builder.Default
+    private PageCountMode countMode = PageCountMode.EXACT;
+
     /**
      * 검색 유형을 배열로 변환
      * @return 검색 유형 배열 (null이면 검색하지 않음)
@@ -1,6 +1,7 @@
 package io.github.beom.practiceboard.comment.presentation.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -45,6 +46,9 @@ public class CommentResponseDTO {
     @Builder.Default
     private List<CommentResponseDTO> children = new ArrayList<>();
     
+    // 전체 대댓글 수 (대댓글 개수 제한으로 일부만 포함된 경우 "답글 더보기"에 사용)
+    private long totalChildrenCount;
+    
     /**
      * 대댓글인지 확인
      * @return 대댓글 여부
@@ -80,6 +84,16 @@ public class CommentResponseDTO {
         children.add(child);
     }
     
+    /**
+     * 포함되지 않은 대댓글이 더 있는지 확인
+     * has 접두사 메서드는 Jackson이 프로퍼티로 인식하지 않으므로 응답 필드명을 명시합니다.
+     * @return 더보기 필요 여부
+     */
+    @JsonProperty("hasMoreChildren")
+    public boolean hasMoreChildren() {
+        return totalChildrenCount > getChildrenCount();
+    }
+    
     /**
      * 대댓글 개수 조회
      * @return 대댓글 개수
@@ -0,0 +1,33 @@
+package io.github.beom.practiceboard.favorite.application;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 수 카운터
+ * 좋아요 수를 매번 COUNT(*)로 세지 않고 캐시된 카운터에서 조회하기 위한 인터페이스입니다.
+ */
+public interface FavoriteCounter {
+
+    /**
+     * 대상의 좋아요 수 조회
+     */
+    long getCount(String targetType, Long targetId);
+
+    /**
+     * 여러 대상의 좋아요 수 일괄 조회
+     * @return 대상 ID별 좋아요 수 (좋아요가 없으면 0)
+     */
+    Map<Long, Long> getCounts(String targetType, List<Long> targetIds);
+
+    /**
+     * 좋아요 수 증감 (트랜잭션 커밋 이후 반영)
+     */
+    void increment(String targetType, Long targetId, long delta);
+
+    /**
+     * 좋아요 수를 즉시 증감하고 반영된 좋아요 수 반환
+     * 변경이 이미 커밋된 이후에 호출해야 합니다.
+     */
+    long incrementAndGet(String targetType, Long targetId, long delta);
+}
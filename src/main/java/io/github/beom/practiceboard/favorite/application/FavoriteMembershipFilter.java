@@ -0,0 +1,20 @@
+package io.github.beom.practiceboard.favorite.application;
+
+/**
+ * 좋아요 존재 여부 사전 필터
+ * "좋아요하지 않음"을 DB 조회 없이 확정하기 위한 인터페이스입니다.
+ * 거짓 양성(false positive)은 허용하지만 거짓 음성(false negative)은 허용하지 않습니다.
+ */
+public interface FavoriteMembershipFilter {
+
+    /**
+     * 좋아요했을 가능성이 있는지 확인
+     * @return false면 좋아요하지 않은 것이 확실함, true면 DB 확인 필요
+     */
+    boolean mightContain(Long userId, String targetType, Long targetId);
+
+    /**
+     * 좋아요 추가 반영
+     */
+    void add(Long userId, String targetType, Long targetId);
+}
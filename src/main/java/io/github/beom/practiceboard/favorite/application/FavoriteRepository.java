@@ -3,6 +3,7 @@ package io.github.beom.practiceboard.favorite.application;
 import io.github.beom.practiceboard.favorite.domain.Favorite;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface FavoriteRepository {
@@ -15,8 +16,20 @@ public interface FavoriteRepository {
     
     boolean existsByUserIdAndTargetTypeAndTargetId(Long userId, String targetType, Long targetId);
     
+    List<Long> findFavoritedTargetIds(Long userId, String targetType, List<Long> targetIds);
+    
     long countByTargetTypeAndTargetId(String targetType, Long targetId);
     
+    Map<Long, Long> countByTargetTypeAndTargetIdIn(String targetType, List<Long> targetIds);
+    
+    /**
+     * 좋아요 토글 (있으면 삭제, 없으면 추가)
+     * 존재 여부를 먼저 조회하지 않고 DELETE 결과로 분기합니다.
+     * 
+     * @return 좋아요 수 변화량 (추가 1, 제거 -1, 동시 요청으로 이미 추가된 경우 0)
+     */
+    int toggle(Long userId, String targetType, Long targetId);
+    
     List<Favorite> findByUserIdAndTargetType(Long userId, String targetType);
     
     List<Favorite> findByTargetTypeAndTargetId(String targetType, Long targetId);
@@ -2,15 +2,21 @@ package io.github.beom.practiceboard.favorite.application;
 
 import io.github.beom.practiceboard.favorite.domain.Favorite;
 import io.github.beom.practiceboard.favorite.domain.FavoriteTargetType;
+import io.github.beom.practiceboard.favorite.domain.FavoriteToggleResult;
 import io.github.beom.practiceboard.favorite.exception.FavoriteAlreadyExistsException;
 import io.github.beom.practiceboard.favorite.exception.FavoriteNotFoundException;
 import io.github.beom.practiceboard.favorite.presentation.FavoriteService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 좋아요 서비스 구현체
@@ -23,6 +29,8 @@ import java.util.List;
 public class FavoriteServiceImpl implements FavoriteService {
     
     private final FavoriteRepository favoriteRepository;
+    private final FavoriteCounter favoriteCounter;
+    private final FavoriteMembershipFilter favoriteMembershipFilter;
     
     /**
      * 좋아요 추가
@@ -46,6 +54,8 @@ public class FavoriteServiceImpl implements FavoriteService {
             
             Favorite favorite = Favorite.create(userId, targetType, targetId);
             favoriteRepository.save(favorite);
+            favoriteMembershipFilter.add(userId, targetType, targetId);
+            favoriteCounter.increment(targetType, targetId, 1);
             log.info("좋아요 추가 완료: userId={}, targetType={}, targetId={}", userId, targetType, targetId);
         } catch (FavoriteAlreadyExistsException e) {
             log.error("좋아요 중복 추가 시도: userId={}, targetType={}, targetId={}", userId, targetType, targetId);
@@ -79,6 +89,7 @@ public class FavoriteServiceImpl implements FavoriteService {
                     .orElseThrow(() -> new FavoriteNotFoundException(userId, targetType, targetId));
             
             favoriteRepository.delete(favorite);
+            favoriteCounter.increment(targetType, targetId, -1);
             log.info("좋아요 제거 완료: userId={}, targetType={}, targetId={}", userId, targetType, targetId);
         } catch (FavoriteNotFoundException e) {
             log.error("좋아요를 찾을 수 없음: userId={}, targetType={}, targetId={}", userId, targetType, targetId);
@@ -95,32 +106,31 @@ public class FavoriteServiceImpl implements FavoriteService {
     /**
      * 좋아요 토글 (좋아요/취소)
      * 좋아요가 되어있으면 취소하고, 안되어있으면 추가합니다.
+     * 존재 여부 조회 없이 DELETE 또는 INSERT 한 문장으로 처리하며,
+     * 각 문장이 즉시 커밋되도록 서비스 트랜잭션 없이 실행합니다.
      * 
      * @param userId 사용자 ID
      * @param targetType 대상 타입
      * @param targetId 대상 ID
-     * @return 좋아요 추가되었으면 true, 취소되었으면 false
+     * @return 토글 이후 좋아요 상태와 좋아요 수
      * @throws IllegalArgumentException 유효하지 않은 대상 타입인 경우
      */
-    @Transactional
-    public boolean toggleFavorite(Long userId, String targetType, Long targetId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FavoriteToggleResult toggleFavorite(Long userId, String targetType, Long targetId) {
         try {
-            log.info("좋아요 토글 시작: userId={}, targetType={}, targetId={}", userId, targetType, targetId);
+            log.debug("좋아요 토글 시작: userId={}, targetType={}, targetId={}", userId, targetType, targetId);
             validateTargetType(targetType);
             
-            boolean exists = favoriteRepository.existsByUserIdAndTargetTypeAndTargetId(userId, targetType, targetId);
-            
-            if (exists) {
-                // 좋아요 제거 (내부 메서드 호출로 try-catch 자동 처리)
-                removeFavorite(userId, targetType, targetId);
-                log.info("좋아요 토글 결과: 제거, userId={}, targetType={}, targetId={}", userId, targetType, targetId);
-                return false;
-            } else {
-                // 좋아요 추가 (내부 메서드 호출로 try-catch 자동 처리)
-                addFavorite(userId, targetType, targetId);
-                log.info("좋아요 토글 결과: 추가, userId={}, targetType={}, targetId={}", userId, targetType, targetId);
-                return true;
+            int delta = favoriteRepository.toggle(userId, targetType, targetId);
+            boolean favorited = delta >= 0;
+            if (favorited) {
+                favoriteMembershipFilter.add(userId, targetType, targetId);
             }
+            long count = favoriteCounter.incrementAndGet(targetType, targetId, delta);
+            
+            log.info("좋아요 토글 결과: {}, userId={}, targetType={}, targetId={}, count={}",
+                    favorited ? "추가" : "제거", userId, targetType, targetId, count);
+            return new FavoriteToggleResult(favorited, count);
         } catch (IllegalArgumentException e) {
             log.error("잘못된 인수: userId={}, targetType={}, targetId={}, 오류={}", userId, targetType, targetId, e.getMessage());
             throw e;
@@ -133,6 +143,7 @@ public class FavoriteServiceImpl implements FavoriteService {
     /**
      * 좋아요 여부 확인
      * 특정 사용자가 특정 대상을 좋아요했는지 확인합니다.
+     * 블룸 필터에서 좋아요하지 않은 것이 확실하면 DB를 조회하지 않습니다.
      * 
      * @param userId 사용자 ID
      * @param targetType 대상 타입
@@ -144,7 +155,8 @@ public class FavoriteServiceImpl implements FavoriteService {
         try {
             log.debug("좋아요 여부 확인: userId={}, targetType={}, targetId={}", userId, targetType, targetId);
             validateTargetType(targetType);
-            boolean result = favoriteRepository.existsByUserIdAndTargetTypeAndTargetId(userId, targetType, targetId);
+            boolean result = favoriteMembershipFilter.mightContain(userId, targetType, targetId)
+                    && favoriteRepository.existsByUserIdAndTargetTypeAndTargetId(userId, targetType, targetId);
             log.debug("좋아요 여부 결과: {}, userId={}, targetType={}, targetId={}", result, userId, targetType, targetId);
             return result;
         } catch (IllegalArgumentException e) {
@@ -156,9 +168,52 @@ public class FavoriteServiceImpl implements FavoriteService {
         }
     }
     
+    /**
+     * 여러 대상의 좋아요 여부 일괄 확인
+     * 블룸 필터를 통과한(좋아요했을 가능성이 있는) 대상만 한 번의 IN 쿼리로 확인합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param targetType 대상 타입
+     * @param targetIds 대상 ID 목록
+     * @return 대상 ID별 좋아요 여부
+     * @throws IllegalArgumentException 유효하지 않은 대상 타입인 경우
+     */
+    public Map<Long, Boolean> isFavorite(Long userId, String targetType, List<Long> targetIds) {
+        try {
+            log.debug("좋아요 여부 일괄 확인: userId={}, targetType={}, 대상 수={}", userId, targetType, targetIds != null ? targetIds.size() : 0);
+            validateTargetType(targetType);
+            Map<Long, Boolean> result = new LinkedHashMap<>();
+            if (targetIds == null || targetIds.isEmpty()) {
+                return result;
+            }
+            
+            List<Long> candidates = new ArrayList<>();
+            for (Long targetId : targetIds) {
+                result.put(targetId, false);
+                if (favoriteMembershipFilter.mightContain(userId, targetType, targetId)) {
+                    candidates.add(targetId);
+                }
+            }
+            
+            if (!candidates.isEmpty()) {
+                favoriteRepository.findFavoritedTargetIds(userId, targetType, candidates)
+                        .forEach(targetId -> result.put(targetId, true));
+            }
+            log.debug("좋아요 여부 일괄 확인 결과: 전체={}, DB 확인 대상={}", result.size(), candidates.size());
+            return result;
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 인수: userId={}, targetType={}, 오류={}", userId, targetType, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("좋아요 여부 일괄 확인 중 오류 발생: userId={}, targetType={}, 오류={}", userId, targetType, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
     /**
      * 좋아요 수 조회
      * 특정 대상의 총 좋아요 수를 조회합니다.
+     * 매번 COUNT 쿼리를 실행하지 않고 좋아요 수 카운터에서 조회합니다.
      * 
      * @param targetType 대상 타입
      * @param targetId 대상 ID
@@ -169,7 +224,7 @@ public class FavoriteServiceImpl implements FavoriteService {
         try {
             log.debug("좋아요 수 조회: targetType={}, targetId={}", targetType, targetId);
             validateTargetType(targetType);
-            long count = favoriteRepository.countByTargetTypeAndTargetId(targetType, targetId);
+            long count = favoriteCounter.getCount(targetType, targetId);
             log.debug("좋아요 수 결과: {}, targetType={}, targetId={}", count, targetType, targetId);
             return count;
         } catch (IllegalArgumentException e) {
@@ -181,6 +236,33 @@ public class FavoriteServiceImpl implements FavoriteService {
         }
     }
     
+    /**
+     * 여러 대상의 좋아요 수 일괄 조회
+     * 목록 화면처럼 여러 대상의 좋아요 수가 필요한 경우 대상별 COUNT 쿼리 대신 한 번에 조회합니다.
+     * 
+     * @param targetType 대상 타입
+     * @param targetIds 대상 ID 목록
+     * @return 대상 ID별 좋아요 수 (좋아요가 없으면 0)
+     * @throws IllegalArgumentException 유효하지 않은 대상 타입인 경우
+     */
+    public Map<Long, Long> getFavoriteCounts(String targetType, List<Long> targetIds) {
+        try {
+            log.debug("좋아요 수 일괄 조회: targetType={}, 대상 수={}", targetType, targetIds != null ? targetIds.size() : 0);
+            validateTargetType(targetType);
+            if (targetIds == null || targetIds.isEmpty()) {
+                return Map.of();
+            }
+            List<Long> distinctIds = targetIds.stream().distinct().collect(Collectors.toList());
+            return favoriteCounter.getCounts(targetType, distinctIds);
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 인수: targetType={}, 오류={}", targetType, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("좋아요 수 일괄 조회 중 오류 발생: targetType={}, 오류={}", targetType, e.getMessage(), e);
+            throw e;
+        }
+    }
+    
     /**
      * 사용자의 좋아요 목록 조회
      * 특정 사용자가 특정 타입에 대해 좋아요한 목록을 조회합니다.
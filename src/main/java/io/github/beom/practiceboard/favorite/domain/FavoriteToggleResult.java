@@ -0,0 +1,25 @@
+package io.github.beom.practiceboard.favorite.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 좋아요 토글 결과
+ * 토글 이후의 좋아요 상태와 대상의 좋아요 수를 함께 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class FavoriteToggleResult {
+
+    /**
+     * 토글 이후 좋아요 상태 (true: 좋아요, false: 취소)
+     */
+    private final boolean favorited;
+
+    /**
+     * 토글 이후 대상의 좋아요 수
+     */
+    private final long count;
+}
@@ -0,0 +1,316 @@
+package io.github.beom.practiceboard.favorite.infrastructure;
+
+import io.github.beom.practiceboard.favorite.application.FavoriteMembershipFilter;
+import io.github.beom.practiceboard.favorite.domain.FavoriteTargetType;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블룸 필터 기반 좋아요 존재 여부 필터
+ * - 대상 타입별로 (userId, targetId) 쌍을 메모리 블룸 필터에 보관
+ * - 좋아요 추가는 로컬 필터에 즉시 반영하고 Redis Pub/Sub으로 모든 인스턴스에 전파
+ * - 블룸 필터는 삭제를 지원하지 않으므로 취소된 좋아요는 주기적인 재구성으로 정리
+ *
+ * 거짓 음성이 없도록 아래 경우에는 항상 true를 반환하여 DB 조회로 처리됩니다.
+ * - 필터가 아직 구성되지 않은 경우
+ * - 자기 자신이 보낸 하트비트가 제한 시간 내에 돌아오지 않은 경우 (전파 메시지 유실 가능)
+ * - 전파 채널이 끊겼다가 복구된 뒤 재구성이 끝나지 않은 경우
+ * ID 기준 따라잡기는 전파 채널을 보완하는 안전망으로만 사용합니다.
+ */
+@Component
+@Log4j2
+public class BloomFavoriteMembershipFilter implements FavoriteMembershipFilter, MessageListener {
+
+    private static final String CHANNEL = "favorite:bloom:add";
+    private static final String ADD_PREFIX = "add:";
+    private static final String PING_PREFIX = "ping:";
+
+    // 커밋 순서가 ID 순서와 다를 수 있으므로 따라잡기 시 다시 읽는 구간
+    private static final long SYNC_OVERLAP = 100L;
+
+    private final FavoriteJpaRepository favoriteJpaRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final int batchSize;
+    private final long heartbeatTimeoutMillis;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile Map<String, BloomFilter> filters;
+    private volatile Map<String, BloomFilter> building;
+    private volatile long lastSyncedId;
+
+    // 마지막으로 자기 하트비트를 수신한 시각
+    private volatile long lastHeartbeatAt;
+    // 전파 채널이 (다시) 연결된 것을 감지한 시각 - 이 시각 이전의 메시지는 유실되었을 수 있음
+    private volatile long channelRecoveredAt;
+    // 마지막으로 완료된 재구성의 시작 시각
+    private volatile long rebuiltFrom;
+
+    public BloomFavoriteMembershipFilter(FavoriteJpaRepository favoriteJpaRepository,
+                                         StringRedisTemplate redisTemplate,
+                                         RedisMessageListenerContainer listenerContainer,
+                                         @Value("${favorite.bloom.enabled:true}") boolean enabled,
+                                         @Value("${favorite.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                         @Value("${favorite.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                                         @Value("${favorite.bloom.batch-size:1000}") int batchSize,
+                                         @Value("${favorite.bloom.heartbeat-timeout-ms:3000}") long heartbeatTimeoutMillis) {
+        this.favoriteJpaRepository = favoriteJpaRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.enabled = enabled;
+        this.expectedInsertions = Math.max(1L, expectedInsertions);
+        this.falsePositiveRate = falsePositiveRate;
+        this.batchSize = batchSize;
+        this.heartbeatTimeoutMillis = heartbeatTimeoutMillis;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    @Override
+    public boolean mightContain(Long userId, String targetType, Long targetId) {
+        Map<String, BloomFilter> current = filters;
+        if (current == null || !isTrusted()) {
+            return true;
+        }
+        BloomFilter filter = current.get(targetType);
+        return filter == null || filter.mightContain(userId, targetId);
+    }
+
+    @Override
+    public void add(Long userId, String targetType, Long targetId) {
+        addLocal(userId, targetType, targetId);
+        if (!enabled) {
+            return;
+        }
+        // 커밋 전에 전파하여 다른 인스턴스가 커밋된 행을 필터보다 먼저 보지 않도록 함 (먼저 반영되는 것은 거짓 양성일 뿐)
+        try {
+            redisTemplate.convertAndSend(CHANNEL, ADD_PREFIX + targetType + ":" + userId + ":" + targetId);
+        } catch (Exception e) {
+            log.warn("좋아요 블룸 필터 전파 실패 - 다른 인스턴스는 하트비트 유실로 DB 조회로 전환됩니다: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(PING_PREFIX)) {
+            if (body.equals(PING_PREFIX + instanceId)) {
+                onHeartbeat();
+            }
+            return;
+        }
+        if (!body.startsWith(ADD_PREFIX)) {
+            return;
+        }
+        String[] parts = body.substring(ADD_PREFIX.length()).split(":");
+        if (parts.length != 3) {
+            return;
+        }
+        try {
+            addLocal(Long.parseLong(parts[1]), parts[0], Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 좋아요 블룸 필터 전파 메시지: {}", body);
+        }
+    }
+
+    /**
+     * 전체 재구성
+     * 취소된 좋아요가 남긴 비트를 정리합니다.
+     * 최초 구성과 채널 복구 후 재구성은 syncChanges에서 수행합니다.
+     */
+    @Scheduled(initialDelayString = "${favorite.bloom.rebuild-interval-ms:21600000}",
+               fixedDelayString = "${favorite.bloom.rebuild-interval-ms:21600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        log.info("좋아요 블룸 필터 재구성 시작");
+        long startedAt = System.currentTimeMillis();
+
+        try {
+            Map<String, BloomFilter> next = new HashMap<>();
+            for (String targetType : FavoriteTargetType.getAllTypes()) {
+                next.put(targetType, new BloomFilter(expectedInsertions, falsePositiveRate));
+            }
+            this.building = next;
+
+            long lastId = loadAfter(0L, next);
+
+            this.filters = next;
+            this.building = null;
+            this.lastSyncedId = lastId;
+            this.rebuiltFrom = startedAt;
+
+            log.info("좋아요 블룸 필터 재구성 완료 - 마지막 ID: {}, 소요: {}ms",
+                    lastId, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            this.building = null;
+            log.error("좋아요 블룸 필터 재구성 실패 - 기존 필터(또는 DB 조회)로 동작합니다", e);
+        }
+    }
+
+    /**
+     * 하트비트 전송 및 필터 따라잡기
+     * 필터가 없거나 채널 복구 이후 재구성되지 않았다면 전체 재구성합니다.
+     */
+    @Scheduled(fixedDelayString = "${favorite.bloom.sync-interval-ms:1000}")
+    public synchronized void syncChanges() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, PING_PREFIX + instanceId);
+        } catch (Exception e) {
+            log.debug("좋아요 블룸 필터 하트비트 전송 실패: {}", e.getMessage());
+        }
+
+        Map<String, BloomFilter> current = filters;
+        if (current == null || rebuiltFrom <= channelRecoveredAt) {
+            if (isChannelAlive()) {
+                rebuild();
+            }
+            return;
+        }
+
+        try {
+            long lastId = loadAfter(Math.max(0L, lastSyncedId - SYNC_OVERLAP), current);
+            this.lastSyncedId = Math.max(lastSyncedId, lastId);
+        } catch (Exception e) {
+            log.warn("좋아요 블룸 필터 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private void onHeartbeat() {
+        long now = System.currentTimeMillis();
+        if (now - lastHeartbeatAt > heartbeatTimeoutMillis) {
+            // 최초 연결 또는 끊김 후 복구 - 그 사이의 전파 메시지는 유실되었을 수 있음
+            this.channelRecoveredAt = now;
+            log.info("좋아요 블룸 필터 전파 채널 연결 확인 - 재구성 전까지 DB 조회로 동작합니다");
+        }
+        this.lastHeartbeatAt = now;
+    }
+
+    private boolean isChannelAlive() {
+        return System.currentTimeMillis() - lastHeartbeatAt <= heartbeatTimeoutMillis;
+    }
+
+    private boolean isTrusted() {
+        return isChannelAlive() && rebuiltFrom > channelRecoveredAt;
+    }
+
+    private void addLocal(Long userId, String targetType, Long targetId) {
+        addTo(filters, userId, targetType, targetId);
+        // 재구성 중이면 새 필터에도 반영하여 교체 시 누락 방지
+        addTo(building, userId, targetType, targetId);
+    }
+
+    private long loadAfter(long fromId, Map<String, BloomFilter> target) {
+        long lastId = fromId;
+        List<Object[]> batch;
+        do {
+            batch = favoriteJpaRepository.findKeysAfterId(lastId, PageRequest.of(0, batchSize));
+            for (Object[] row : batch) {
+                lastId = ((Number) row[0]).longValue();
+                addTo(target, ((Number) row[1]).longValue(), (String) row[2], ((Number) row[3]).longValue());
+            }
+        } while (batch.size() == batchSize);
+        return lastId;
+    }
+
+    private void addTo(Map<String, BloomFilter> target, Long userId, String targetType, Long targetId) {
+        if (target == null) {
+            return;
+        }
+        BloomFilter filter = target.get(targetType);
+        if (filter != null) {
+            filter.put(userId, targetId);
+        }
+    }
+
+    /**
+     * (userId, targetId) 쌍을 위한 스레드 안전 블룸 필터
+     * 64비트 해시 하나를 두 개로 나누어 k개의 인덱스를 만드는 이중 해싱을 사용합니다.
+     */
+    static class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitSize = Math.max(64L, size);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+        }
+
+        void put(long userId, long targetId) {
+            long hash = hash(userId, targetId);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                setBit(index);
+            }
+        }
+
+        boolean mightContain(long userId, long targetId) {
+            long hash = hash(userId, targetId);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void setBit(long index) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    return;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+
+        private static long hash(long userId, long targetId) {
+            // splitmix64 혼합 함수
+            long z = userId * 0x9E3779B97F4A7C15L + targetId;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
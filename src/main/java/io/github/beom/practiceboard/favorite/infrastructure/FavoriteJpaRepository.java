@@ -1,9 +1,13 @@
 package io.github.beom.practiceboard.favorite.infrastructure;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -91,4 +95,70 @@ public interface FavoriteJpaRepository extends JpaRepository<FavoriteJpaEntity,
     List<Object[]> countByTargetTypeAndTargetIdIn(
         @Param("targetType") String targetType, 
         @Param("targetIds") List<Long> targetIds);
+    
+    /**
+     * 사용자 ID, 대상 타입, 대상 ID로 좋아요 삭제 (조회 없이 단일 DELETE)
+     * 
+     * @param userId 사용자 ID
+     * @param targetType 대상 타입
+     * @param targetId 대상 ID
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM FavoriteJpaEntity f " +
+           "WHERE f.userId = :userId AND f.targetType = :targetType AND f.targetId = :targetId")
+    int deleteByUserIdAndTargetTypeAndTargetId(
+        @Param("userId") Long userId,
+        @Param("targetType") String targetType,
+        @Param("targetId") Long targetId);
+    
+    /**
+     * 좋아요 추가 (단일 INSERT)
+     * 중복 여부는 uk_favorite_user_target 유니크 제약조건에 맡깁니다.
+     * INSERT ... SELECT ... WHERE NOT EXISTS는 존재 확인 구간에 갭 락을 잡아 동시 요청끼리 데드락이 나므로 쓰지 않습니다.
+     * 이미 같은 좋아요가 있으면 DataIntegrityViolationException이 발생합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param targetType 대상 타입
+     * @param targetId 대상 ID
+     * @param now 생성/수정 시각
+     * @return 추가된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO favorites (user_id, target_type, target_id, created_at, updated_at) " +
+                   "VALUES (:userId, :targetType, :targetId, :now, :now)",
+           nativeQuery = true)
+    int insertFavorite(
+        @Param("userId") Long userId,
+        @Param("targetType") String targetType,
+        @Param("targetId") Long targetId,
+        @Param("now") LocalDateTime now);
+    
+    /**
+     * 여러 대상 중 사용자가 좋아요한 대상 ID 조회
+     * 
+     * @param userId 사용자 ID
+     * @param targetType 대상 타입
+     * @param targetIds 대상 ID 목록
+     * @return 좋아요한 대상 ID 목록
+     */
+    @Query("SELECT f.targetId FROM FavoriteJpaEntity f " +
+           "WHERE f.userId = :userId AND f.targetType = :targetType AND f.targetId IN :targetIds")
+    List<Long> findTargetIdsByUserIdAndTargetTypeAndTargetIdIn(
+        @Param("userId") Long userId,
+        @Param("targetType") String targetType,
+        @Param("targetIds") List<Long> targetIds);
+    
+    /**
+     * ID 이후의 좋아요 키 조회 (블룸 필터 구성용)
+     * 
+     * @param lastId 마지막으로 읽은 좋아요 ID
+     * @param pageable 조회 크기
+     * @return (ID, 사용자 ID, 대상 타입, 대상 ID) 목록
+     */
+    @Query("SELECT f.id, f.userId, f.targetType, f.targetId FROM FavoriteJpaEntity f " +
+           "WHERE f.id > :lastId ORDER BY f.id ASC")
+    List<Object[]> findKeysAfterId(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -4,9 +4,14 @@ import io.github.beom.practiceboard.favorite.application.FavoriteRepository;
 import io.github.beom.practiceboard.favorite.domain.Favorite;
 import io.github.beom.practiceboard.favorite.mapper.FavoriteMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -77,6 +82,22 @@ public class FavoriteRepositoryImpl implements FavoriteRepository {
                 .existsByUserIdAndTargetTypeAndTargetId(userId, targetType, targetId);
     }
     
+    /**
+     * 여러 대상 중 사용자가 좋아요한 대상 ID 조회
+     * 
+     * @param userId 사용자 ID
+     * @param targetType 대상 타입
+     * @param targetIds 대상 ID 목록
+     * @return 좋아요한 대상 ID 목록
+     */
+    @Override
+    public List<Long> findFavoritedTargetIds(Long userId, String targetType, List<Long> targetIds) {
+        if (targetIds == null || targetIds.isEmpty()) {
+            return List.of();
+        }
+        return favoriteJpaRepository.findTargetIdsByUserIdAndTargetTypeAndTargetIdIn(userId, targetType, targetIds);
+    }
+    
     /**
      * 특정 대상의 좋아요 수 조회
      * 
@@ -89,6 +110,61 @@ public class FavoriteRepositoryImpl implements FavoriteRepository {
         return favoriteJpaRepository.countByTargetTypeAndTargetId(targetType, targetId);
     }
     
+    /**
+     * 여러 대상의 좋아요 수 일괄 조회
+     * GROUP BY 한 번으로 조회하며, 좋아요가 없는 대상은 결과에 포함되지 않으므로 0으로 채웁니다.
+     * 
+     * @param targetType 대상 타입
+     * @param targetIds 대상 ID 목록
+     * @return 대상 ID별 좋아요 수
+     */
+    @Override
+    public Map<Long, Long> countByTargetTypeAndTargetIdIn(String targetType, List<Long> targetIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (targetIds == null || targetIds.isEmpty()) {
+            return counts;
+        }
+        
+        targetIds.forEach(targetId -> counts.put(targetId, 0L));
+        for (Object[] row : favoriteJpaRepository.countByTargetTypeAndTargetIdIn(targetType, targetIds)) {
+            counts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+    
+    /**
+     * 좋아요 토글
+     * DELETE로 삭제된 행이 있으면 취소, 없으면 INSERT로 추가합니다.
+     * 각 문장은 단일 문장 트랜잭션으로 실행되며, 더블클릭 등 동시 요청으로
+     * 유니크 제약조건 위반이 발생하면 이미 추가된 것으로 간주합니다.
+     * 동시 DELETE와 락 순서가 엇갈려 INSERT가 데드락 희생자가 되면 한 번 더 시도합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param targetType 대상 타입
+     * @param targetId 대상 ID
+     * @return 좋아요 수 변화량 (추가 1, 제거 -1, 동시 요청으로 이미 추가된 경우 0)
+     */
+    @Override
+    public int toggle(Long userId, String targetType, Long targetId) {
+        if (favoriteJpaRepository.deleteByUserIdAndTargetTypeAndTargetId(userId, targetType, targetId) > 0) {
+            return -1;
+        }
+        
+        try {
+            return insert(userId, targetType, targetId);
+        } catch (PessimisticLockingFailureException e) {
+            return insert(userId, targetType, targetId);
+        }
+    }
+    
+    private int insert(Long userId, String targetType, Long targetId) {
+        try {
+            return favoriteJpaRepository.insertFavorite(userId, targetType, targetId, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            return 0; // 유니크 제약조건 위반 - 이미 추가됨
+        }
+    }
+    
     /**
      * 사용자의 특정 타입 좋아요 목록 조회
      * 
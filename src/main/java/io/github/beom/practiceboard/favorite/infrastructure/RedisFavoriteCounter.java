@@ -0,0 +1,296 @@
+package io.github.beom.practiceboard.favorite.infrastructure;
+
+import io.github.beom.practiceboard.favorite.application.FavoriteCounter;
+import io.github.beom.practiceboard.favorite.application.FavoriteRepository;
+import io.github.beom.practiceboard.favorite.domain.FavoriteTargetType;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 기반 좋아요 수 카운터
+ * 대상별 좋아요 수를 targetId % shards 로 나눈 해시(favorite:count:{type}:{shard})의 필드로 저장합니다.
+ * - 조회: 샤드별 HMGET을 파이프라인으로 묶어 한 번의 왕복으로 처리, 캐시에 없는 대상만 DB에서 GROUP BY로 로드
+ * - 증감: 캐시에 이미 있는 필드만 원자적으로 HINCRBY (없는 필드는 다음 조회 시 DB에서 로드)
+ * - 적재: DB 조회 전에 적재 중 표시(favorite:count:loading:{type}:{id})를 만들고, 그 사이의 증감은 표시 키에 HINCRBY로 모은 뒤
+ *         Lua 스크립트로 "DB 값 + 모인 증감분"을 필드에 한 번에 기록 (DB 조회와 적재 사이의 증감이 유실되지 않음)
+ * - 보정: 주기적으로 DB 값과 비교하여 어긋난 필드는 제거
+ *         (DB 조회 직전에 커밋되고 Redis 반영만 표시 이후로 늦어진 증감은 두 번 더해질 수 있으며, 이 보정으로 정리됨)
+ */
+@Component
+@Log4j2
+public class RedisFavoriteCounter implements FavoriteCounter {
+
+    private static final String KEY_PREFIX = "favorite:count:";
+    private static final String LOADING_KEY_PREFIX = "favorite:count:loading:";
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    // 필드가 있을 때만 증감 (콜드 상태에서 0부터 세는 것을 방지), 적재 중이면 적재 중 표시 키에 증감분을 모음
+    private static final DefaultRedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) end " +
+            "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('INCRBY', KEYS[2], ARGV[2]) end " +
+            "return nil", Long.class);
+
+    // 필드가 아직 없으면 DB 값에 적재 중 모인 증감분을 더해 기록하고 적재 중 표시 제거, 반영된 값 반환
+    private static final DefaultRedisScript<Long> FINISH_WARM_UP = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not current then " +
+            "  current = tonumber(ARGV[2]) + tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], current) " +
+            "end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "return tonumber(current)", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FavoriteRepository favoriteRepository;
+    private final int shards;
+    private final Duration loadingTtl;
+
+    public RedisFavoriteCounter(StringRedisTemplate redisTemplate,
+                                FavoriteRepository favoriteRepository,
+                                @Value("${favorite.count.shards:64}") int shards,
+                                @Value("${favorite.count.loading-ttl-ms:30000}") long loadingTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.favoriteRepository = favoriteRepository;
+        this.shards = Math.max(1, shards);
+        this.loadingTtl = Duration.ofMillis(loadingTtlMillis);
+    }
+
+    @Override
+    public long getCount(String targetType, Long targetId) {
+        return getCounts(targetType, List.of(targetId)).getOrDefault(targetId, 0L);
+    }
+
+    @Override
+    public Map<Long, Long> getCounts(String targetType, List<Long> targetIds) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        if (targetIds == null || targetIds.isEmpty()) {
+            return counts;
+        }
+
+        List<Long> missingIds = new ArrayList<>();
+        try {
+            Map<String, List<Long>> idsByKey = groupByShardKey(targetType, targetIds);
+            List<String> keys = new ArrayList<>(idsByKey.keySet());
+            RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : keys) {
+                    byte[][] fields = idsByKey.get(key).stream()
+                            .map(id -> serializer.serialize(String.valueOf(id)))
+                            .toArray(byte[][]::new);
+                    connection.hashCommands().hMGet(serializer.serialize(key), fields);
+                }
+                return null;
+            });
+
+            for (int i = 0; i < keys.size(); i++) {
+                List<Long> ids = idsByKey.get(keys.get(i));
+                List<?> values = (List<?>) results.get(i);
+                for (int j = 0; j < ids.size(); j++) {
+                    Object value = values != null ? values.get(j) : null;
+                    if (value != null) {
+                        counts.put(ids.get(j), Long.parseLong(value.toString()));
+                    } else {
+                        missingIds.add(ids.get(j));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 수 캐시 조회 실패 - DB 조회로 대체: {}", e.getMessage());
+            return favoriteRepository.countByTargetTypeAndTargetIdIn(targetType, targetIds);
+        }
+
+        if (!missingIds.isEmpty()) {
+            boolean loading = beginWarmUp(targetType, missingIds);
+            Map<Long, Long> loaded = favoriteRepository.countByTargetTypeAndTargetIdIn(targetType, missingIds);
+            for (Long targetId : missingIds) {
+                counts.put(targetId, loaded.getOrDefault(targetId, 0L));
+            }
+            if (loading) {
+                finishWarmUp(targetType, counts, missingIds);
+            }
+        }
+
+        return counts;
+    }
+
+    @Override
+    public void increment(String targetType, Long targetId, long delta) {
+        Runnable task = () -> {
+            try {
+                redisTemplate.execute(INCREMENT_IF_EXISTS,
+                        List.of(shardKey(targetType, targetId), loadingKey(targetType, targetId)),
+                        String.valueOf(targetId), String.valueOf(delta));
+            } catch (Exception e) {
+                log.warn("좋아요 수 캐시 증감 실패 - 캐시 제거: targetType={}, targetId={}, 오류={}",
+                        targetType, targetId, e.getMessage());
+                evictQuietly(targetType, targetId);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    @Override
+    public long incrementAndGet(String targetType, Long targetId, long delta) {
+        if (delta != 0) {
+            try {
+                Long count = redisTemplate.execute(INCREMENT_IF_EXISTS,
+                        List.of(shardKey(targetType, targetId), loadingKey(targetType, targetId)),
+                        String.valueOf(targetId), String.valueOf(delta));
+                if (count != null) {
+                    return Math.max(0L, count);
+                }
+            } catch (Exception e) {
+                log.warn("좋아요 수 캐시 증감 실패 - 캐시 제거: targetType={}, targetId={}, 오류={}",
+                        targetType, targetId, e.getMessage());
+                evictQuietly(targetType, targetId);
+            }
+            // 캐시에 없으면 이미 커밋된 DB 값 반환
+            // (이 증감분은 DB 값과 적재 중 표시 키에 모두 들어갔을 수 있으므로 여기서 적재하지 않음)
+            return favoriteRepository.countByTargetTypeAndTargetIdIn(targetType, List.of(targetId))
+                    .getOrDefault(targetId, 0L);
+        }
+        return getCount(targetType, targetId);
+    }
+
+    /**
+     * 캐시된 좋아요 수를 DB와 비교하여 어긋난 필드 제거
+     */
+    @Scheduled(fixedDelayString = "${favorite.count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        int evicted = 0;
+        try {
+            for (String targetType : FavoriteTargetType.getAllTypes()) {
+                for (int shard = 0; shard < shards; shard++) {
+                    evicted += reconcileShard(targetType, KEY_PREFIX + targetType + ":" + shard);
+                }
+            }
+            if (evicted > 0) {
+                log.info("좋아요 수 캐시 보정 완료 - 제거된 필드 수: {}", evicted);
+            }
+        } catch (Exception e) {
+            log.error("좋아요 수 캐시 보정 중 오류 발생", e);
+        }
+    }
+
+    private int reconcileShard(String targetType, String key) {
+        Map<Object, Object> cached = redisTemplate.opsForHash().entries(key);
+        if (cached.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = new ArrayList<>();
+        cached.keySet().forEach(field -> ids.add(Long.valueOf(field.toString())));
+
+        int evicted = 0;
+        for (int from = 0; from < ids.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, ids.size()));
+            Map<Long, Long> actual = favoriteRepository.countByTargetTypeAndTargetIdIn(targetType, chunk);
+
+            List<Object> drifted = new ArrayList<>();
+            for (Long id : chunk) {
+                long cachedCount = Long.parseLong(cached.get(String.valueOf(id)).toString());
+                if (cachedCount != actual.getOrDefault(id, 0L)) {
+                    drifted.add(String.valueOf(id));
+                }
+            }
+            if (!drifted.isEmpty()) {
+                redisTemplate.opsForHash().delete(key, drifted.toArray());
+                evicted += drifted.size();
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * DB 조회 전 적재 중 표시 (이미 다른 요청이 적재 중이면 그 표시와 모인 증감분을 그대로 사용)
+     * @return 표시에 성공하면 true, Redis 오류면 false (적재하지 않음)
+     */
+    private boolean beginWarmUp(String targetType, List<Long> targetIds) {
+        try {
+            RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long targetId : targetIds) {
+                    connection.stringCommands().set(serializer.serialize(loadingKey(targetType, targetId)),
+                            serializer.serialize("0"), Expiration.from(loadingTtl),
+                            RedisStringCommands.SetOption.SET_IF_ABSENT);
+                }
+                return null;
+            });
+            return true;
+        } catch (Exception e) {
+            log.warn("좋아요 수 캐시 적재 준비 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * DB 값과 적재 중 모인 증감분을 합쳐 캐시에 기록하고, 반영된 값으로 counts 갱신
+     */
+    private void finishWarmUp(String targetType, Map<Long, Long> counts, List<Long> targetIds) {
+        try {
+            for (Long targetId : targetIds) {
+                Long count = redisTemplate.execute(FINISH_WARM_UP,
+                        List.of(shardKey(targetType, targetId), loadingKey(targetType, targetId)),
+                        String.valueOf(targetId), String.valueOf(counts.get(targetId)));
+                if (count != null) {
+                    counts.put(targetId, Math.max(0L, count));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 수 캐시 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    private void evictQuietly(String targetType, Long targetId) {
+        try {
+            redisTemplate.opsForHash().delete(shardKey(targetType, targetId), String.valueOf(targetId));
+        } catch (Exception e) {
+            log.warn("좋아요 수 캐시 제거 실패: targetType={}, targetId={}", targetType, targetId);
+        }
+    }
+
+    private Map<String, List<Long>> groupByShardKey(String targetType, List<Long> targetIds) {
+        Map<String, List<Long>> idsByKey = new HashMap<>();
+        for (Long targetId : targetIds) {
+            idsByKey.computeIfAbsent(shardKey(targetType, targetId), key -> new ArrayList<>()).add(targetId);
+        }
+        return idsByKey;
+    }
+
+    private String loadingKey(String targetType, Long targetId) {
+        return LOADING_KEY_PREFIX + targetType + ":" + targetId;
+    }
+
+    private String shardKey(String targetType, Long targetId) {
+        return KEY_PREFIX + targetType + ":" + Math.floorMod(targetId, (long) shards);
+    }
+}
@@ -2,11 +2,13 @@ package io.github.beom.practiceboard.favorite.presentation;
 
 import io.github.beom.practiceboard.favorite.domain.Favorite;
 import io.github.beom.practiceboard.favorite.domain.FavoriteTargetType;
+import io.github.beom.practiceboard.favorite.domain.FavoriteToggleResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 좋아요 컨트롤러
@@ -61,16 +63,16 @@ public class FavoriteController {
      * @param userId 사용자 ID
      * @param targetType 대상 타입
      * @param targetId 대상 ID
-     * @return 좋아요 상태 (true: 추가됨, false: 제거됨)
+     * @return 토글 이후 좋아요 상태와 좋아요 수
      */
     @PostMapping("/toggle")
-    public ResponseEntity<Boolean> toggleFavorite(
+    public ResponseEntity<FavoriteToggleResult> toggleFavorite(
             @RequestParam Long userId,
             @RequestParam String targetType,
             @RequestParam Long targetId) {
         
-        boolean isAdded = favoriteService.toggleFavorite(userId, targetType, targetId);
-        return ResponseEntity.ok(isAdded);
+        FavoriteToggleResult result = favoriteService.toggleFavorite(userId, targetType, targetId);
+        return ResponseEntity.ok(result);
     }
     
     /**
@@ -91,6 +93,24 @@ public class FavoriteController {
         return ResponseEntity.ok(isFavorite);
     }
     
+    /**
+     * 여러 대상의 좋아요 여부 일괄 확인
+     * 
+     * @param userId 사용자 ID
+     * @param targetType 대상 타입
+     * @param targetIds 대상 ID 목록
+     * @return 대상 ID별 좋아요 여부
+     */
+    @GetMapping("/check/batch")
+    public ResponseEntity<Map<Long, Boolean>> isFavorites(
+            @RequestParam Long userId,
+            @RequestParam String targetType,
+            @RequestParam List<Long> targetIds) {
+        
+        Map<Long, Boolean> favorites = favoriteService.isFavorite(userId, targetType, targetIds);
+        return ResponseEntity.ok(favorites);
+    }
+    
     /**
      * 좋아요 수 조회
      * 
@@ -107,6 +127,22 @@ public class FavoriteController {
         return ResponseEntity.ok(count);
     }
     
+    /**
+     * 여러 대상의 좋아요 수 일괄 조회
+     * 
+     * @param targetType 대상 타입
+     * @param targetIds 대상 ID 목록
+     * @return 대상 ID별 좋아요 수
+     */
+    @GetMapping("/counts")
+    public ResponseEntity<Map<Long, Long>> getFavoriteCounts(
+            @RequestParam String targetType,
+            @RequestParam List<Long> targetIds) {
+        
+        Map<Long, Long> counts = favoriteService.getFavoriteCounts(targetType, targetIds);
+        return ResponseEntity.ok(counts);
+    }
+    
     /**
      * 사용자의 좋아요 목록 조회
      * 
@@ -1,8 +1,10 @@
 package io.github.beom.practiceboard.favorite.presentation;
 
 import io.github.beom.practiceboard.favorite.domain.Favorite;
+import io.github.beom.practiceboard.favorite.domain.FavoriteToggleResult;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 좋아요 서비스 인터페이스
@@ -34,9 +36,9 @@ public interface FavoriteService {
      * @param userId 사용자 ID
      * @param targetType 대상 타입
      * @param targetId 대상 ID
-     * @return 좋아요 추가되었으면 true, 취소되었으면 false
+     * @return 토글 이후 좋아요 상태와 좋아요 수
      */
-    boolean toggleFavorite(Long userId, String targetType, Long targetId);
+    FavoriteToggleResult toggleFavorite(Long userId, String targetType, Long targetId);
     
     /**
      * 좋아요 여부 확인
@@ -48,6 +50,16 @@ public interface FavoriteService {
      */
     boolean isFavorite(Long userId, String targetType, Long targetId);
     
+    /**
+     * 여러 대상의 좋아요 여부 일괄 확인
+     * 
+     * @param userId 사용자 ID
+     * @param targetType 대상 타입
+     * @param targetIds 대상 ID 목록
+     * @return 대상 ID별 좋아요 여부
+     */
+    Map<Long, Boolean> isFavorite(Long userId, String targetType, List<Long> targetIds);
+    
     /**
      * 좋아요 수 조회
      * 
@@ -57,6 +69,15 @@ public interface FavoriteService {
      */
     long getFavoriteCount(String targetType, Long targetId);
     
+    /**
+     * 여러 대상의 좋아요 수 일괄 조회
+     * 
+     * @param targetType 대상 타입
+     * @param targetIds 대상 ID 목록
+     * @return 대상 ID별 좋아요 수
+     */
+    Map<Long, Long> getFavoriteCounts(String targetType, List<Long> targetIds);
+    
     /**
      * 사용자의 좋아요 목록 조회
      * 
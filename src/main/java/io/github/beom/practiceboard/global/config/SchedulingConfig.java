@@ -0,0 +1,10 @@
+package io.github.beom.practiceboard.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // @Scheduled 기반 백그라운드 작업 활성화 (검색 색인 동기화 등)
+}
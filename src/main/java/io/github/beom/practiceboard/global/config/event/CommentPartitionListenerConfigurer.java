@@ -0,0 +1,54 @@
+package io.github.beom.practiceboard.global.config.event;
+
+import io.github.beom.practiceboard.global.event.CommentEventListener;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.amqp.core.BatchMessageListener;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글 파티션 큐 리스너 등록
+ * event.listener.mode=partitioned 인 경우 파티션 큐마다 배치 리스너 엔드포인트를 하나씩 등록합니다.
+ * 파티션 수만큼 병렬로 처리되며, 같은 파티션(같은 게시글)의 이벤트는 한 소비자가 순서대로 처리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "event.listener.mode", havingValue = RabbitMQConfig.LISTENER_MODE_PARTITIONED)
+@Log4j2
+public class CommentPartitionListenerConfigurer implements RabbitListenerConfigurer {
+
+    public static final String LISTENER_ID_PREFIX = "commentPartitionListener-";
+
+    private final RabbitMQConfig rabbitMQConfig;
+    private final CommentEventListener commentEventListener;
+    private final SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory;
+
+    public CommentPartitionListenerConfigurer(RabbitMQConfig rabbitMQConfig,
+                                              CommentEventListener commentEventListener,
+                                              @Qualifier("batchRabbitListenerContainerFactory")
+                                              SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory) {
+        this.rabbitMQConfig = rabbitMQConfig;
+        this.commentEventListener = commentEventListener;
+        this.batchRabbitListenerContainerFactory = batchRabbitListenerContainerFactory;
+    }
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        BatchMessageListener listener = commentEventListener::handleCommentEventBatch;
+
+        for (int partition = 0; partition < rabbitMQConfig.getPartitions(); partition++) {
+            SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+            endpoint.setId(LISTENER_ID_PREFIX + partition);
+            endpoint.setQueueNames(RabbitMQConfig.commentPartitionQueue(partition));
+            endpoint.setMessageListener(listener);
+            endpoint.setBatchListener(true);
+            registrar.registerEndpoint(endpoint, batchRabbitListenerContainerFactory);
+        }
+
+        log.info("댓글 파티션 리스너 등록: {}개 파티션", rabbitMQConfig.getPartitions());
+    }
+}
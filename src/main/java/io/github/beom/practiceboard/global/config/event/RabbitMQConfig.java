@@ -1,17 +1,34 @@
 package io.github.beom.practiceboard.global.config.event;
 
+import io.github.beom.practiceboard.global.event.serialization.DomainEventMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * RabbitMQ 설정
  * 이벤트 기반 아키텍처를 위한 메시지 큐 설정
+ *
+ * 댓글 이벤트 소비 방식은 event.listener.mode로 선택합니다.
+ * - queue (기본값): 이벤트 타입별 큐를 소비합니다. concurrency를 1보다 크게 하면 처리량은 늘지만 순서는 보장되지 않습니다.
+ * - partitioned: 댓글 이벤트를 consistent-hash 교환기(rabbitmq_consistent_hash_exchange 플러그인 필요)로 게시글 ID 기준 분배하고,
+ *   파티션 큐마다 단일 활성 소비자가 배치로 처리합니다. 같은 게시글의 이벤트는 항상 같은 큐에서 순서대로 처리됩니다.
+ *   기존 브로커에서 전환하는 경우 타입별 큐의 comment.exchange 바인딩을 직접 해제해야 합니다.
  */
 @Configuration
 public class RabbitMQConfig {
@@ -34,12 +51,102 @@ public class RabbitMQConfig {
     public static final String COMMENT_DELETED_ROUTING_KEY = "comment.deleted";
     public static final String NOTIFICATION_ROUTING_KEY = "notification";
 
+    // 파티션 소비 관련
+    public static final String COMMENT_PARTITION_EXCHANGE = "comment.partition.exchange";
+    public static final String COMMENT_PARTITION_QUEUE_PREFIX = "comment.partition.";
+    public static final String PARTITION_KEY_HEADER = "partition-key";
+    public static final String LISTENER_MODE_PARTITIONED = "partitioned";
+
+    // 재시도 / 데드레터 관련
+    public static final String COMMENT_RETRY_RETURN_EXCHANGE = "comment.retry.return.exchange";
+    public static final String COMMENT_RETRY_QUEUE_PREFIX = "comment.retry.";
+    public static final String COMMENT_DEAD_LETTER_EXCHANGE = "comment.dead-letter.exchange";
+    public static final String COMMENT_DEAD_LETTER_QUEUE = "comment.dead-letter.queue";
+    // headers 교환기는 x-로 시작하는 헤더를 매칭에 사용하지 않으므로 접두사 없이 사용
+    public static final String RETRY_QUEUE_HEADER = "retry-queue";
+    public static final String RETRY_COUNT_HEADER = "retry-count";
+    public static final String RETRY_ERROR_HEADER = "retry-error";
+    // 파티션 키별 재시도 순서를 맞추기 위해 지연 큐로 보낸 메시지에 붙이는 순번
+    public static final String PARTITION_SEQ_HEADER = "partition-seq";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Value("${event.serialization.format:json}")
+    private String serializationFormat;
+
+    @Value("${event.listener.concurrency:1}")
+    private int listenerConcurrency;
+
+    @Value("${event.listener.max-concurrency:1}")
+    private int listenerMaxConcurrency;
+
+    @Value("${event.listener.prefetch:250}")
+    private int listenerPrefetch;
+
+    @Value("${event.listener.batch-size:50}")
+    private int listenerBatchSize;
+
+    @Value("${event.listener.batch-receive-timeout-ms:100}")
+    private long listenerBatchReceiveTimeoutMs;
+
+    @Value("${event.listener.partitions:4}")
+    private int partitions;
+
+    @Value("${event.retry.max-attempts:5}")
+    private int retryMaxAttempts;
+
+    @Value("${event.retry.initial-interval-ms:1000}")
+    private long retryInitialIntervalMs;
+
+    @Value("${event.retry.multiplier:2.0}")
+    private double retryMultiplier;
+
+    @Value("${event.retry.max-interval-ms:60000}")
+    private long retryMaxIntervalMs;
+
+    public RabbitMQConfig(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
     /**
-     * JSON 메시지 컨버터
+     * 파티션 큐 이름
+     */
+    public static String commentPartitionQueue(int partition) {
+        return COMMENT_PARTITION_QUEUE_PREFIX + partition + ".queue";
+    }
+
+    /**
+     * 재시도 지연 큐 이름
+     */
+    public static String commentRetryQueue(int attempt) {
+        return COMMENT_RETRY_QUEUE_PREFIX + attempt + ".queue";
+    }
+
+    /**
+     * 재시도 차수별 지연 시간 (지수 백오프, max-interval-ms 상한)
+     */
+    public long getRetryDelayMillis(int attempt) {
+        double delay = retryInitialIntervalMs * Math.pow(retryMultiplier, Math.max(0, attempt - 1));
+        return (long) Math.min(delay, retryMaxIntervalMs);
+    }
+
+    /**
+     * 최대 재시도 횟수
+     */
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts;
+    }
+
+    /**
+     * 메시지 컨버터
+     * 도메인 이벤트는 event.serialization.format(json/binary)에 따라 발행하고, 수신 시에는 두 형식을 모두 처리합니다.
      */
     @Bean
     public MessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+        return new DomainEventMessageConverter(
+                new Jackson2JsonMessageConverter(),
+                serializationFormat,
+                meterRegistryProvider.getIfAvailable());
     }
 
     /**
@@ -56,17 +163,49 @@ public class RabbitMQConfig {
      * 리스너 컨테이너 팩토리 설정
      */
     @Bean
-    public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
+    public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory,
+                                                                               MessageRecoverer commentEventRetryRecoverer) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(messageConverter());
+
+        // 처리 실패 시 소비자 스레드에서 재시도하지 않고 지연 큐 또는 데드레터 큐로 넘긴 뒤 ack
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(1)
+                .recoverer(commentEventRetryRecoverer)
+                .build());
         
         // 연결 실패 시 안전한 처리
         factory.setAutoStartup(false);
         factory.setMissingQueuesFatal(false);
+        factory.setConcurrentConsumers(Math.max(1, listenerConcurrency));
+        factory.setMaxConcurrentConsumers(Math.max(listenerConcurrency, listenerMaxConcurrency));
+        factory.setPrefetchCount(listenerPrefetch);
+        
+        return factory;
+    }
+
+    /**
+     * 배치 리스너 컨테이너 팩토리 설정
+     * 파티션 큐 소비용으로, 큐마다 소비자 하나가 최대 batch-size건을 모아 한 번에 처리하고 일괄 ack 합니다.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter());
+
+        factory.setAutoStartup(false);
+        factory.setMissingQueuesFatal(false);
+        // 순서 보장을 위해 큐당 소비자는 하나로 고정
         factory.setConcurrentConsumers(1);
         factory.setMaxConcurrentConsumers(1);
-        
+        factory.setPrefetchCount(Math.max(listenerPrefetch, listenerBatchSize));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(Math.max(1, listenerBatchSize));
+        factory.setReceiveTimeout(listenerBatchReceiveTimeoutMs);
+
         return factory;
     }
 
@@ -108,6 +247,7 @@ public class RabbitMQConfig {
      * 댓글 생성 바인딩
      */
     @Bean
+    @ConditionalOnProperty(name = "event.listener.mode", havingValue = "queue", matchIfMissing = true)
     public Binding commentCreatedBinding() {
         return BindingBuilder
                 .bind(commentCreatedQueue())
@@ -119,6 +259,7 @@ public class RabbitMQConfig {
      * 댓글 수정 바인딩
      */
     @Bean
+    @ConditionalOnProperty(name = "event.listener.mode", havingValue = "queue", matchIfMissing = true)
     public Binding commentUpdatedBinding() {
         return BindingBuilder
                 .bind(commentUpdatedQueue())
@@ -130,6 +271,7 @@ public class RabbitMQConfig {
      * 댓글 삭제 바인딩
      */
     @Bean
+    @ConditionalOnProperty(name = "event.listener.mode", havingValue = "queue", matchIfMissing = true)
     public Binding commentDeletedBinding() {
         return BindingBuilder
                 .bind(commentDeletedQueue())
@@ -165,4 +307,89 @@ public class RabbitMQConfig {
                 .to(commentExchange())
                 .with("comment.*"); // 모든 댓글 이벤트를 알림으로
     }
-}
\ No newline at end of file
+
+    // === 댓글 파티션 소비 관련 Exchange, Queue, Binding ===
+
+    /**
+     * 댓글 파티션 토폴로지
+     * comment.exchange의 댓글 이벤트를 consistent-hash 교환기로 넘기고, partition-key 헤더 해시로 파티션 큐를 선택합니다.
+     * 파티션 큐는 단일 활성 소비자(x-single-active-consumer)로 선언되어 여러 인스턴스가 떠 있어도 큐당 한 소비자만 처리합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "event.listener.mode", havingValue = LISTENER_MODE_PARTITIONED)
+    public Declarables commentPartitionDeclarables() {
+        List<Declarable> declarables = new ArrayList<>();
+
+        CustomExchange partitionExchange = new CustomExchange(
+                COMMENT_PARTITION_EXCHANGE, "x-consistent-hash", true, false,
+                Map.of("hash-header", PARTITION_KEY_HEADER));
+        declarables.add(partitionExchange);
+        declarables.add(BindingBuilder
+                .bind(partitionExchange)
+                .to(commentExchange())
+                .with("comment.*"));
+
+        for (int partition = 0; partition < partitions; partition++) {
+            Queue queue = QueueBuilder.durable(commentPartitionQueue(partition))
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            // consistent-hash 교환기에서 라우팅 키는 파티션 가중치를 의미
+            declarables.add(new Binding(queue.getName(), Binding.DestinationType.QUEUE,
+                    COMMENT_PARTITION_EXCHANGE, "1", null));
+            declarables.add(retryReturnBinding(queue.getName()));
+        }
+
+        return new Declarables(declarables);
+    }
+
+    /**
+     * 파티션 수
+     */
+    public int getPartitions() {
+        return partitions;
+    }
+
+    // === 재시도 / 데드레터 관련 Exchange, Queue, Binding ===
+
+    /**
+     * 재시도 / 데드레터 토폴로지
+     * 처리에 실패한 메시지는 재시도 차수별 지연 큐(x-message-ttl)에 들어갔다가 만료되면
+     * retry-queue 헤더로 원래 큐를 찾아 되돌아갑니다. 대기는 브로커에서 이뤄지므로 소비자 스레드가 잠들지 않습니다.
+     * 최대 재시도 횟수를 넘기거나 변환할 수 없는 메시지는 데드레터 큐로 보냅니다.
+     */
+    @Bean
+    public Declarables commentRetryDeclarables() {
+        List<Declarable> declarables = new ArrayList<>();
+
+        HeadersExchange returnExchange = new HeadersExchange(COMMENT_RETRY_RETURN_EXCHANGE);
+        declarables.add(returnExchange);
+
+        for (int attempt = 1; attempt <= retryMaxAttempts; attempt++) {
+            declarables.add(QueueBuilder.durable(commentRetryQueue(attempt))
+                    .ttl((int) getRetryDelayMillis(attempt))
+                    .deadLetterExchange(COMMENT_RETRY_RETURN_EXCHANGE)
+                    .build());
+        }
+
+        for (String queue : List.of(COMMENT_CREATED_QUEUE, COMMENT_UPDATED_QUEUE, COMMENT_DELETED_QUEUE, NOTIFICATION_QUEUE)) {
+            declarables.add(retryReturnBinding(queue));
+        }
+
+        FanoutExchange deadLetterExchange = new FanoutExchange(COMMENT_DEAD_LETTER_EXCHANGE);
+        Queue deadLetterQueue = QueueBuilder.durable(COMMENT_DEAD_LETTER_QUEUE).build();
+        declarables.add(deadLetterExchange);
+        declarables.add(deadLetterQueue);
+        declarables.add(BindingBuilder.bind(deadLetterQueue).to(deadLetterExchange));
+
+        return new Declarables(declarables);
+    }
+
+    /**
+     * 지연이 끝난 메시지를 retry-queue 헤더가 가리키는 원래 큐로 되돌리는 바인딩
+     */
+    private Binding retryReturnBinding(String queue) {
+        return new Binding(queue, Binding.DestinationType.QUEUE, COMMENT_RETRY_RETURN_EXCHANGE, "",
+                Map.of("x-match", "all", RETRY_QUEUE_HEADER, queue));
+    }
+}
@@ -1,26 +1,45 @@
 package io.github.beom.practiceboard.global.config.event;
 
-import lombok.RequiredArgsConstructor;
+import io.github.beom.practiceboard.global.event.CommentEventListener;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
 import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+
 /**
  * RabbitMQ 연결 초기화 컴포넌트
  * 애플리케이션 시작 후 RabbitMQ 연결이 안정화되면 리스너를 시작합니다.
  * RabbitMQ 4.x 버전 지원
+ * 파티션 모드에서는 타입별 댓글 큐 리스너를 시작하지 않아 같은 이벤트가 두 번 처리되지 않도록 합니다.
  */
 @Component
-@RequiredArgsConstructor
 @Log4j2
 public class RabbitMQInitializer {
 
+    private static final Set<String> COMMENT_TYPE_LISTENER_IDS = Set.of(
+            CommentEventListener.COMMENT_CREATED_LISTENER_ID,
+            CommentEventListener.COMMENT_UPDATED_LISTENER_ID,
+            CommentEventListener.COMMENT_DELETED_LISTENER_ID
+    );
+
     private final RabbitListenerEndpointRegistry rabbitListenerEndpointRegistry;
     private final ConnectionFactory connectionFactory;
+    private final boolean partitioned;
+
+    public RabbitMQInitializer(RabbitListenerEndpointRegistry rabbitListenerEndpointRegistry,
+                               ConnectionFactory connectionFactory,
+                               @Value("${event.listener.mode:queue}") String listenerMode) {
+        this.rabbitListenerEndpointRegistry = rabbitListenerEndpointRegistry;
+        this.connectionFactory = connectionFactory;
+        this.partitioned = RabbitMQConfig.LISTENER_MODE_PARTITIONED.equals(listenerMode);
+    }
 
     @EventListener(ApplicationReadyEvent.class)
     @Async
@@ -33,12 +52,17 @@ public class RabbitMQInitializer {
             
             // 리스너 컨테이너들을 시작
             log.info("RabbitMQ 리스너 컨테이너 시작 중");
-            rabbitListenerEndpointRegistry.getListenerContainers().forEach(listenerContainer -> {
+            for (String listenerId : rabbitListenerEndpointRegistry.getListenerContainerIds()) {
+                if (partitioned && COMMENT_TYPE_LISTENER_IDS.contains(listenerId)) {
+                    log.info("파티션 모드 - 타입별 댓글 리스너 시작 생략: {}", listenerId);
+                    continue;
+                }
+                MessageListenerContainer listenerContainer = rabbitListenerEndpointRegistry.getListenerContainer(listenerId);
                 if (!listenerContainer.isRunning()) {
-                    log.info("RabbitMQ 리스너 컨테이너 시작: {}", listenerContainer);
+                    log.info("RabbitMQ 리스너 컨테이너 시작: {}", listenerId);
                     listenerContainer.start();
                 }
-            });
+            }
             
             log.info("모든 RabbitMQ 리스너가 성공적으로 시작되었습니다.");
             
@@ -4,11 +4,16 @@ import io.github.beom.practiceboard.comment.event.CommentCreatedEvent;
 import io.github.beom.practiceboard.comment.event.CommentDeletedEvent;
 import io.github.beom.practiceboard.comment.event.CommentUpdatedEvent;
 import io.github.beom.practiceboard.global.config.event.RabbitMQConfig;
+import io.github.beom.practiceboard.post.application.PostCommentCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 댓글 이벤트 리스너
  * RabbitMQ를 통해 댓글 이벤트를 수신하고 처리합니다.
@@ -18,13 +23,28 @@ import org.springframework.stereotype.Component;
 @Log4j2
 public class CommentEventListener {
 
+    public static final String COMMENT_CREATED_LISTENER_ID = "commentCreatedListener";
+    public static final String COMMENT_UPDATED_LISTENER_ID = "commentUpdatedListener";
+    public static final String COMMENT_DELETED_LISTENER_ID = "commentDeletedListener";
+
+    private final MessageConverter messageConverter;
+    private final PostCommentCounter postCommentCounter;
+    private final EventDeduplicator eventDeduplicator;
+    private final CommentEventRetryRecoverer commentEventRetryRecoverer;
+    private final PartitionRetryOrder partitionRetryOrder;
+
     /**
      * 댓글 생성 이벤트 처리
      * 
      * @param event 댓글 생성 이벤트
      */
-    @RabbitListener(queues = RabbitMQConfig.COMMENT_CREATED_QUEUE)
+    @RabbitListener(id = COMMENT_CREATED_LISTENER_ID, queues = RabbitMQConfig.COMMENT_CREATED_QUEUE)
     public void handleCommentCreated(CommentCreatedEvent event) {
+        if (!eventDeduplicator.tryAcquire(event.getEventId())) {
+            log.debug("중복 댓글 생성 이벤트 건너뜀: eventId={}", event.getEventId());
+            return;
+        }
+
         try {
             log.info("댓글 생성 이벤트 처리 시작: eventId={}, commentId={}, boardId={}", 
                     event.getEventId(), 
@@ -41,7 +61,9 @@ public class CommentEventListener {
         } catch (Exception e) {
             log.error("댓글 생성 이벤트 처리 실패: eventId={}, error={}", 
                     event.getEventId(), e.getMessage(), e);
-            // 실패한 이벤트 처리 로직 (DLQ, 재시도 등)
+            eventDeduplicator.release(event.getEventId());
+            // 예외를 다시 던지면 컨테이너의 복구기가 지연 큐(재시도) 또는 데드레터 큐로 보냄
+            throw e;
         }
     }
 
@@ -50,8 +72,13 @@ public class CommentEventListener {
      * 
      * @param event 댓글 수정 이벤트
      */
-    @RabbitListener(queues = RabbitMQConfig.COMMENT_UPDATED_QUEUE)
+    @RabbitListener(id = COMMENT_UPDATED_LISTENER_ID, queues = RabbitMQConfig.COMMENT_UPDATED_QUEUE)
     public void handleCommentUpdated(CommentUpdatedEvent event) {
+        if (!eventDeduplicator.tryAcquire(event.getEventId())) {
+            log.debug("중복 댓글 수정 이벤트 건너뜀: eventId={}", event.getEventId());
+            return;
+        }
+
         try {
             log.info("댓글 수정 이벤트 처리 시작: eventId={}, commentId={}", 
                     event.getEventId(), 
@@ -64,6 +91,8 @@ public class CommentEventListener {
         } catch (Exception e) {
             log.error("댓글 수정 이벤트 처리 실패: eventId={}, error={}", 
                     event.getEventId(), e.getMessage(), e);
+            eventDeduplicator.release(event.getEventId());
+            throw e;
         }
     }
 
@@ -72,8 +101,13 @@ public class CommentEventListener {
      * 
      * @param event 댓글 삭제 이벤트
      */
-    @RabbitListener(queues = RabbitMQConfig.COMMENT_DELETED_QUEUE)
+    @RabbitListener(id = COMMENT_DELETED_LISTENER_ID, queues = RabbitMQConfig.COMMENT_DELETED_QUEUE)
     public void handleCommentDeleted(CommentDeletedEvent event) {
+        if (!eventDeduplicator.tryAcquire(event.getEventId())) {
+            log.debug("중복 댓글 삭제 이벤트 건너뜀: eventId={}", event.getEventId());
+            return;
+        }
+
         try {
             log.info("댓글 삭제 이벤트 처리 시작: eventId={}, commentId={}", 
                     event.getEventId(), 
@@ -86,6 +120,56 @@ public class CommentEventListener {
         } catch (Exception e) {
             log.error("댓글 삭제 이벤트 처리 실패: eventId={}, error={}", 
                     event.getEventId(), e.getMessage(), e);
+            eventDeduplicator.release(event.getEventId());
+            throw e;
+        }
+    }
+
+    /**
+     * 파티션 큐의 댓글 이벤트 배치 처리
+     * 한 파티션의 메시지는 한 소비자에게 저장 순서대로 전달되므로, 배치 안에서도 순서대로 처리해 게시글 단위 순서를 유지합니다.
+     * 개별 이벤트 처리에 실패하면 해당 메시지를 재시도 지연 큐(또는 데드레터 큐)로 보내고,
+     * 재시도가 예약된 경우 재시도 메시지가 돌아와 처리될 때까지 (다음 배치를 포함해) 같은 게시글의 뒤따르는 이벤트는
+     * 처리하지 않고 같은 지연 큐에 이어서 보내 순서를 유지합니다. (PartitionRetryOrder 참고)
+     *
+     * @param messages 수신한 메시지 목록
+     */
+    public void handleCommentEventBatch(List<Message> messages) {
+        log.debug("댓글 이벤트 배치 처리 시작: {}건", messages.size());
+
+        for (Message message : messages) {
+            Object partitionKey = message.getMessageProperties().getHeader(RabbitMQConfig.PARTITION_KEY_HEADER);
+            String key = partitionKey != null ? partitionKey.toString() : null;
+            Integer deferredAttempt = key != null ? partitionRetryOrder.deferAttempt(key, message) : null;
+            if (deferredAttempt != null) {
+                commentEventRetryRecoverer.deferAfter(message, deferredAttempt);
+                continue;
+            }
+
+            try {
+                Object event = messageConverter.fromMessage(message);
+
+                if (event instanceof CommentCreatedEvent created) {
+                    handleCommentCreated(created);
+                } else if (event instanceof CommentUpdatedEvent updated) {
+                    handleCommentUpdated(updated);
+                } else if (event instanceof CommentDeletedEvent deleted) {
+                    handleCommentDeleted(deleted);
+                } else {
+                    log.warn("지원하지 않는 댓글 이벤트: {}", event.getClass().getSimpleName());
+                }
+                if (key != null) {
+                    partitionRetryOrder.completed(key, message);
+                }
+            } catch (Exception e) {
+                if (key != null) {
+                    partitionRetryOrder.beforeRecover(message);
+                }
+                int attempt = commentEventRetryRecoverer.recoverWithAttempt(message, e);
+                if (key != null) {
+                    partitionRetryOrder.recovered(key, message, attempt);
+                }
+            }
         }
     }
 
@@ -103,6 +187,7 @@ public class CommentEventListener {
             
         } catch (Exception e) {
             log.error("댓글 알림 처리 실패: error={}", e.getMessage(), e);
+            throw e;
         }
     }
 
@@ -112,13 +197,15 @@ public class CommentEventListener {
     private void processCommentCreated(CommentCreatedEvent event) {
         CommentCreatedEvent.CommentEventData data = (CommentCreatedEvent.CommentEventData) event.getEventData();
         
-        // 1. 게시글 댓글 수 증가
+        // 1. 게시글 댓글 수 증가 (짧은 주기로 모아서 일괄 반영)
+        postCommentCounter.add(data.getPostId(), 1);
+
         // 2. 게시글 작성자에게 알림 발송
         // 3. 대댓글인 경우 부모 댓글 작성자에게 알림 발송
         // 4. 통계 업데이트
         
-        log.debug("댓글 생성 처리: boardId={}, isReply={}", 
-                data.getBoardId(), data.isReply());
+        log.debug("댓글 생성 처리: postId={}, boardId={}, isReply={}", 
+                data.getPostId(), data.getBoardId(), data.isReply());
     }
 
     /**
@@ -134,11 +221,14 @@ public class CommentEventListener {
      * 댓글 삭제 비즈니스 로직 처리
      */
     private void processCommentDeleted(CommentDeletedEvent event) {
-        // 1. 게시글 댓글 수 감소
+        CommentDeletedEvent.CommentDeleteData data = (CommentDeletedEvent.CommentDeleteData) event.getEventData();
+
+        // 1. 게시글 댓글 수 감소 (짧은 주기로 모아서 일괄 반영)
+        postCommentCounter.add(data.getPostId(), -1);
+
         // 2. 관련 통계 업데이트
         
-        log.debug("댓글 삭제 처리: commentId={}", 
-                ((CommentDeletedEvent.CommentDeleteData) event.getEventData()).getCommentId());
+        log.debug("댓글 삭제 처리: commentId={}, postId={}", data.getCommentId(), data.getPostId());
     }
 
     /**
@@ -0,0 +1,127 @@
+package io.github.beom.practiceboard.global.event;
+
+import io.github.beom.practiceboard.global.config.event.RabbitMQConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 이벤트 재시도 복구기
+ * 리스너 처리에 실패한 메시지를 다음 재시도 차수의 지연 큐로 보내고,
+ * 최대 재시도 횟수를 넘기거나 변환할 수 없는(poison) 메시지는 데드레터 큐로 보냅니다.
+ * 어느 쪽이든 원본 메시지는 ack 되므로 실패한 메시지가 소비자 스레드를 점유하지 않습니다.
+ */
+@Component
+@Log4j2
+public class CommentEventRetryRecoverer implements MessageRecoverer {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitMQConfig rabbitMQConfig;
+    private final MeterRegistry meterRegistry;
+
+    public CommentEventRetryRecoverer(RabbitTemplate rabbitTemplate,
+                                      RabbitMQConfig rabbitMQConfig,
+                                      MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.rabbitMQConfig = rabbitMQConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        recoverWithAttempt(message, cause);
+    }
+
+    /**
+     * 실패한 메시지를 복구하고 예약된 재시도 차수를 반환
+     *
+     * @return 재시도 지연 큐로 보냈으면 재시도 차수, 데드레터 큐로 보냈으면 0
+     */
+    public int recoverWithAttempt(Message message, Throwable cause) {
+        MessageProperties properties = message.getMessageProperties();
+        String queue = resolveQueue(properties);
+        int attempt = getRetryCount(properties) + 1;
+        String error = rootMessage(cause);
+
+        properties.setHeader(RabbitMQConfig.RETRY_QUEUE_HEADER, queue);
+        properties.setHeader(RabbitMQConfig.RETRY_ERROR_HEADER, error);
+
+        if (isPoison(cause) || attempt > rabbitMQConfig.getRetryMaxAttempts() || queue == null) {
+            properties.setHeader("failed-at", LocalDateTime.now().toString());
+            rabbitTemplate.send(RabbitMQConfig.COMMENT_DEAD_LETTER_EXCHANGE, "", message);
+            meterRegistry.counter("event.dead-lettered", "queue", String.valueOf(queue)).increment();
+            log.error("이벤트 데드레터 이동: queue={}, messageId={}, 시도 횟수={}, error={}",
+                    queue, properties.getMessageId(), attempt - 1, error);
+            return 0;
+        }
+
+        properties.setHeader(RabbitMQConfig.RETRY_COUNT_HEADER, attempt);
+        rabbitTemplate.send("", RabbitMQConfig.commentRetryQueue(attempt), message);
+        meterRegistry.counter("event.retried", "queue", queue).increment();
+        log.warn("이벤트 재시도 예약: queue={}, messageId={}, 재시도 차수={}, 지연={}ms, error={}",
+                queue, properties.getMessageId(), attempt, rabbitMQConfig.getRetryDelayMillis(attempt), error);
+        return attempt;
+    }
+
+    /**
+     * 앞선 메시지의 재시도 뒤로 미루기
+     * 같은 게시글의 앞선 이벤트가 재시도 지연 큐로 간 경우 뒤따르는 이벤트를 같은 지연 큐에 이어서 보내,
+     * TTL 만료 후 원래 큐로 돌아올 때도 저장 순서를 유지하도록 합니다.
+     * 이 메시지 자체는 실패하지 않았으므로 재시도 횟수는 늘리지 않습니다.
+     *
+     * @param attempt 앞선 메시지가 예약된 재시도 차수
+     */
+    public void deferAfter(Message message, int attempt) {
+        MessageProperties properties = message.getMessageProperties();
+        properties.setHeader(RabbitMQConfig.RETRY_QUEUE_HEADER, resolveQueue(properties));
+        rabbitTemplate.send("", RabbitMQConfig.commentRetryQueue(attempt), message);
+        meterRegistry.counter("event.deferred", "queue", String.valueOf(resolveQueue(properties))).increment();
+        log.debug("앞선 이벤트 재시도 뒤로 이벤트 이동: messageId={}, 재시도 차수={}", properties.getMessageId(), attempt);
+    }
+
+    /**
+     * 원래 소비하던 큐 (재시도 중인 메시지는 헤더에 기록된 큐)
+     */
+    private String resolveQueue(MessageProperties properties) {
+        Object queue = properties.getHeader(RabbitMQConfig.RETRY_QUEUE_HEADER);
+        return queue != null ? queue.toString() : properties.getConsumerQueue();
+    }
+
+    private int getRetryCount(MessageProperties properties) {
+        Object count = properties.getHeader(RabbitMQConfig.RETRY_COUNT_HEADER);
+        if (count instanceof Number number) {
+            return number.intValue();
+        }
+        return count != null ? Integer.parseInt(count.toString()) : 0;
+    }
+
+    /**
+     * 재시도해도 성공할 수 없는 메시지인지 확인 (메시지 변환 실패)
+     */
+    private boolean isPoison(Throwable cause) {
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            if (current instanceof MessageConversionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String rootMessage(Throwable cause) {
+        Throwable root = cause;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String message = root.getClass().getSimpleName() + ": " + root.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
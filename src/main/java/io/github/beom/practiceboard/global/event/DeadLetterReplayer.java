@@ -0,0 +1,113 @@
+package io.github.beom.practiceboard.global.event;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import io.github.beom.practiceboard.global.config.event.RabbitMQConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 데드레터 재처리기
+ * 데드레터 큐의 메시지를 retry-queue 헤더에 기록된 원래 큐로 일괄 재발행합니다.
+ * 채널을 publisher confirm 모드로 전환하고, 브로커가 재발행 메시지를 확인(confirm)한 뒤에만 원본을 ack 하므로
+ * 재처리 도중 실패해도 유실되지 않습니다 (확인 전에 실패하면 원본은 데드레터 큐로 돌아가고 중복은 소비자 쪽에서 걸러짐).
+ * CONFIRM_BATCH_SIZE 건마다 확인을 기다려 ack 하므로 한 번에 많은 메시지를 재처리해도 미확인(unacked) 메시지가 쌓이지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class DeadLetterReplayer {
+
+    private static final int CONFIRM_BATCH_SIZE = 100;
+    private static final long CONFIRM_TIMEOUT_MS = 5000;
+
+    private final RabbitTemplate rabbitTemplate;
+
+    /**
+     * 데드레터 큐에 쌓인 메시지 수
+     */
+    public long count() {
+        Long count = rabbitTemplate.execute(channel -> channel.messageCount(RabbitMQConfig.COMMENT_DEAD_LETTER_QUEUE));
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 데드레터 메시지 일괄 재처리
+     *
+     * 시작 시점에 쌓여 있던 메시지까지만 읽으므로, 큐 뒤로 돌려보낸 메시지를 같은 요청에서 다시 읽지 않습니다.
+     *
+     * @param limit 최대 재처리 건수
+     * @return 재처리 결과 (replayed: 재발행 건수, skipped: 원래 큐를 알 수 없어 데드레터 큐 뒤로 돌려보낸 건수)
+     */
+    public Map<String, Integer> replay(int limit) {
+        Map<String, Integer> result = rabbitTemplate.execute(channel -> {
+            int replayed = 0;
+            int skipped = 0;
+            int unconfirmed = 0;
+            long lastDeliveryTag = -1;
+            long total = Math.min(limit, channel.messageCount(RabbitMQConfig.COMMENT_DEAD_LETTER_QUEUE));
+
+            channel.confirmSelect();
+
+            for (long i = 0; i < total; i++) {
+                GetResponse response = channel.basicGet(RabbitMQConfig.COMMENT_DEAD_LETTER_QUEUE, false);
+                if (response == null) {
+                    break;
+                }
+
+                AMQP.BasicProperties props = response.getProps();
+                Map<String, Object> headers = props.getHeaders() != null
+                        ? new HashMap<>(props.getHeaders())
+                        : new HashMap<>();
+                Object queue = headers.get(RabbitMQConfig.RETRY_QUEUE_HEADER);
+                if (queue == null) {
+                    channel.basicPublish("", RabbitMQConfig.COMMENT_DEAD_LETTER_QUEUE, props, response.getBody());
+                    skipped++;
+                } else {
+                    // 재시도 차수를 초기화해 원래 큐에서 다시 재시도 정책을 적용받도록 함
+                    headers.remove(RabbitMQConfig.RETRY_COUNT_HEADER);
+                    headers.remove(RabbitMQConfig.RETRY_ERROR_HEADER);
+                    headers.remove("x-death");
+                    channel.basicPublish("", queue.toString(), props.builder().headers(headers).build(), response.getBody());
+                    replayed++;
+                }
+
+                lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+                if (++unconfirmed >= CONFIRM_BATCH_SIZE) {
+                    confirmAndAck(channel, lastDeliveryTag);
+                    unconfirmed = 0;
+                }
+            }
+
+            if (unconfirmed > 0) {
+                confirmAndAck(channel, lastDeliveryTag);
+            }
+
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            counts.put("replayed", replayed);
+            counts.put("skipped", skipped);
+            return counts;
+        });
+
+        log.info("데드레터 재처리 완료: {}", result);
+        return result;
+    }
+
+    /**
+     * 지금까지 재발행한 메시지의 broker 확인을 기다린 뒤 원본 메시지를 한 번에 ack
+     * 확인이 거부(nack)되거나 시간 안에 오지 않으면 채널이 닫히고, ack 되지 않은 원본은 데드레터 큐로 돌아갑니다.
+     */
+    private void confirmAndAck(Channel channel, long lastDeliveryTag) throws IOException, InterruptedException, TimeoutException {
+        channel.waitForConfirmsOrDie(CONFIRM_TIMEOUT_MS);
+        channel.basicAck(lastDeliveryTag, true);
+    }
+}
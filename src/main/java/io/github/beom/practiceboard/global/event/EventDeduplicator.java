@@ -0,0 +1,107 @@
+package io.github.beom.practiceboard.global.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 이벤트 중복 처리 방지기
+ * 처리한 이벤트 ID를 일정 시간(ttl-seconds) 동안 기억해 재전달된 이벤트를 건너뜁니다.
+ *
+ * 1) 로컬 LRU: 최근 처리한 이벤트 ID를 최대 local-capacity 건까지 보관해 같은 인스턴스의 재전달을 Redis 조회 없이 걸러냅니다.
+ * 2) Redis: 이벤트 ID별 키를 SET NX EX로 선점해 여러 인스턴스 사이의 중복을 걸러냅니다.
+ *
+ * 모든 판정은 O(1)이며 DB를 조회하지 않습니다. Redis 장애 시에는 로컬 LRU만으로 판정합니다.
+ * 처리에 실패한 이벤트는 {@link #release(String)}로 선점을 해제해야 재시도 시 다시 처리됩니다.
+ */
+@Component
+@Log4j2
+public class EventDeduplicator {
+
+    private static final String KEY_PREFIX = "event:dedup:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Map<String, Long> recent;
+    private final Counter duplicateCounter;
+
+    public EventDeduplicator(StringRedisTemplate redisTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${event.dedup.enabled:true}") boolean enabled,
+                             @Value("${event.dedup.ttl-seconds:86400}") long ttlSeconds,
+                             @Value("${event.dedup.local-capacity:100000}") int localCapacity) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > localCapacity;
+            }
+        };
+        this.duplicateCounter = Counter.builder("event.dedup.duplicates")
+                .description("중복으로 판정되어 건너뛴 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 처리 선점
+     *
+     * @param eventId 이벤트 ID
+     * @return 처음 처리하는 이벤트면 true, 이미 처리했거나 처리 중인 이벤트면 false
+     */
+    public boolean tryAcquire(String eventId) {
+        if (!enabled || eventId == null) {
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        synchronized (recent) {
+            Long seenAt = recent.get(eventId);
+            if (seenAt != null && now - seenAt < ttl.toMillis()) {
+                duplicateCounter.increment();
+                return false;
+            }
+            recent.put(eventId, now);
+        }
+
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + eventId, "1", ttl);
+            if (Boolean.FALSE.equals(acquired)) {
+                duplicateCounter.increment();
+                return false;
+            }
+        } catch (Exception e) {
+            log.debug("이벤트 중복 확인 Redis 실패 - 로컬 판정 사용: eventId={}, error={}", eventId, e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * 이벤트 처리 선점 해제 (처리 실패 시 재시도를 허용)
+     *
+     * @param eventId 이벤트 ID
+     */
+    public void release(String eventId) {
+        if (!enabled || eventId == null) {
+            return;
+        }
+
+        synchronized (recent) {
+            recent.remove(eventId);
+        }
+        try {
+            redisTemplate.delete(KEY_PREFIX + eventId);
+        } catch (Exception e) {
+            log.warn("이벤트 중복 확인 키 해제 실패: eventId={}, error={}", eventId, e.getMessage());
+        }
+    }
+}
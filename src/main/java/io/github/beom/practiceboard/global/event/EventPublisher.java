@@ -2,38 +2,60 @@ package io.github.beom.practiceboard.global.event;
 
 import io.github.beom.practiceboard.comment.event.DomainEvent;
 import io.github.beom.practiceboard.global.config.event.RabbitMQConfig;
-import lombok.RequiredArgsConstructor;
+import io.github.beom.practiceboard.global.event.outbox.OutboxEventRecorder;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
  * 이벤트 발행자
  * 도메인 이벤트를 RabbitMQ를 통해 발행합니다.
+ * event.outbox.enabled=true(기본값)인 경우 댓글 이벤트는 트랜잭션 아웃박스에 기록되고,
+ * 실제 발행은 OutboxRelay가 커밋 이후에 수행합니다.
  */
 @Component
-@RequiredArgsConstructor
 @Log4j2
 public class EventPublisher {
 
     private final RabbitTemplate rabbitTemplate;
+    private final OutboxEventRecorder outboxEventRecorder;
+    private final boolean outboxEnabled;
+
+    public EventPublisher(RabbitTemplate rabbitTemplate,
+                          OutboxEventRecorder outboxEventRecorder,
+                          @Value("${event.outbox.enabled:true}") boolean outboxEnabled) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.outboxEventRecorder = outboxEventRecorder;
+        this.outboxEnabled = outboxEnabled;
+    }
 
     /**
      * 댓글 이벤트 발행
+     * 아웃박스 사용 시 호출한 트랜잭션 안에서 기록되므로 트랜잭션 없이 호출하면 예외가 발생합니다.
      * 
      * @param event 발행할 이벤트
      */
     public void publishCommentEvent(DomainEvent event) {
+        String routingKey = getCommentRoutingKey(event.getEventType());
+
+        if (outboxEnabled) {
+            outboxEventRecorder.append(RabbitMQConfig.COMMENT_EXCHANGE, routingKey, event);
+            return;
+        }
+
         try {
-            String routingKey = getCommentRoutingKey(event.getEventType());
-            
             log.info("댓글 이벤트 발행 시작: eventType={}, eventId={}, aggregateId={}", 
                     event.getEventType(), event.getEventId(), event.getAggregateId());
             
             rabbitTemplate.convertAndSend(
                 RabbitMQConfig.COMMENT_EXCHANGE, 
                 routingKey, 
-                event
+                event,
+                message -> {
+                    message.getMessageProperties().setHeader(RabbitMQConfig.PARTITION_KEY_HEADER, event.getPartitionKey());
+                    return message;
+                }
             );
             
             log.info("댓글 이벤트 발행 완료: eventType={}, eventId={}", 
@@ -0,0 +1,160 @@
+package io.github.beom.practiceboard.global.event;
+
+import io.github.beom.practiceboard.global.config.event.RabbitMQConfig;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파티션 키별 재시도 순서 추적
+ * 같은 게시글(파티션 키)의 이벤트가 재시도 지연 큐로 가면, 그 메시지가 원래 큐로 돌아와 처리될 때까지
+ * 배치가 바뀌어도 같은 키의 뒤따르는 이벤트를 앞선 메시지의 지연 큐 뒤로 보내 저장 순서를 유지합니다.
+ *
+ * 지연 큐로 보내는 메시지에는 순번 헤더를 붙이고, 돌아온 메시지 중 가장 앞선 순번의 메시지만 처리합니다.
+ * 상태는 인스턴스 로컬이며(파티션은 한 소비자가 처리), 메시지가 돌아오지 않는 경우를 대비해
+ * 마지막으로 지연 큐에 보낸 뒤 지연 시간 + grace-ms가 지나면 만료됩니다.
+ */
+@Component
+public class PartitionRetryOrder {
+
+    private final RabbitMQConfig rabbitMQConfig;
+    private final long graceMillis;
+
+    private final Map<String, DeferredPartition> partitions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public PartitionRetryOrder(RabbitMQConfig rabbitMQConfig,
+                               @Value("${event.partition.deferred-key-grace-ms:60000}") long graceMillis) {
+        this.rabbitMQConfig = rabbitMQConfig;
+        this.graceMillis = graceMillis;
+    }
+
+    /**
+     * 메시지를 처리하지 않고 앞선 메시지 뒤로 미뤄야 하는지 확인
+     * 미뤄야 하는 경우 메시지에 순번 헤더를 붙여 추적을 시작합니다.
+     *
+     * @return 미뤄야 하면 앞선 메시지가 예약된 재시도 차수, 바로 처리해도 되면 null
+     */
+    public Integer deferAttempt(String key, Message message) {
+        DeferredPartition partition = partitions.get(key);
+        if (partition == null) {
+            return null;
+        }
+
+        synchronized (partition) {
+            if (partition.outstanding.isEmpty() || partition.isExpired()) {
+                partitions.remove(key, partition);
+                return null;
+            }
+
+            Long seq = sequenceOf(message);
+            if (seq != null && seq.equals(partition.outstanding.first())) {
+                return null; // 가장 앞선 메시지가 돌아옴
+            }
+            if (seq == null || !partition.outstanding.contains(seq)) {
+                seq = assignSequence(message);
+                partition.outstanding.add(seq);
+            }
+            partition.touch(partition.attempt);
+            return partition.attempt;
+        }
+    }
+
+    /**
+     * 처리에 성공한 메시지를 추적에서 제거
+     */
+    public void completed(String key, Message message) {
+        Long seq = sequenceOf(message);
+        if (seq != null) {
+            release(key, seq);
+        }
+    }
+
+    /**
+     * 처리에 실패해 복구기로 보내기 전 순번 부여 (재시도 지연 큐로 가더라도 순서를 추적할 수 있도록)
+     */
+    public void beforeRecover(Message message) {
+        if (sequenceOf(message) == null) {
+            assignSequence(message);
+        }
+    }
+
+    /**
+     * 복구 결과 반영
+     *
+     * @param attempt 재시도 지연 큐로 보냈으면 재시도 차수, 데드레터 큐로 보냈으면 0
+     */
+    public void recovered(String key, Message message, int attempt) {
+        Long seq = sequenceOf(message);
+        if (seq == null) {
+            return;
+        }
+        if (attempt <= 0) {
+            release(key, seq); // 데드레터로 빠진 메시지는 뒤따르는 이벤트를 막지 않음
+            return;
+        }
+
+        DeferredPartition partition = partitions.computeIfAbsent(key, ignored -> new DeferredPartition());
+        synchronized (partition) {
+            partition.outstanding.add(seq);
+            if (seq.equals(partition.outstanding.first())) {
+                partition.attempt = attempt; // 뒤따르는 이벤트는 가장 앞선 메시지의 지연 큐 뒤로 보냄
+            }
+            partition.touch(attempt);
+            partitions.putIfAbsent(key, partition);
+        }
+    }
+
+    private void release(String key, Long seq) {
+        DeferredPartition partition = partitions.get(key);
+        if (partition == null) {
+            return;
+        }
+        synchronized (partition) {
+            partition.outstanding.remove(seq);
+            if (partition.outstanding.isEmpty()) {
+                partitions.remove(key, partition);
+            }
+        }
+    }
+
+    private Long assignSequence(Message message) {
+        long seq = sequence.incrementAndGet();
+        message.getMessageProperties().setHeader(RabbitMQConfig.PARTITION_SEQ_HEADER, seq);
+        return seq;
+    }
+
+    private Long sequenceOf(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        Object seq = properties.getHeader(RabbitMQConfig.PARTITION_SEQ_HEADER);
+        if (seq instanceof Number number) {
+            return number.longValue();
+        }
+        return seq != null ? Long.parseLong(seq.toString()) : null;
+    }
+
+    /**
+     * 재시도 중인 메시지가 있는 파티션 키의 상태
+     */
+    private class DeferredPartition {
+
+        private final TreeSet<Long> outstanding = new TreeSet<>();
+        private int attempt;
+        private long expiresAt;
+
+        private void touch(int delayedAttempt) {
+            expiresAt = Math.max(expiresAt,
+                    System.currentTimeMillis() + rabbitMQConfig.getRetryDelayMillis(delayedAttempt) + graceMillis);
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.beom.practiceboard.global.event.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 JPA 엔티티
+ * 도메인 변경과 같은 트랜잭션에서 저장되며, 릴레이가 메시지 브로커로 발행한 뒤 publishedAt을 기록합니다.
+ * 최대 시도 횟수를 넘긴 이벤트는 parkedAt이 기록되어 릴레이 대상에서 제외됩니다 (parkedAt을 비우면 다시 발행).
+ * payload/headers는 발행 시점의 MessageConverter로 변환된 결과이므로 릴레이는 변환 없이 그대로 전송합니다.
+ */
+@Entity
+@Table(name = "outbox_events",
+       uniqueConstraints = @UniqueConstraint(name = "uk_outbox_event_id", columnNames = "event_id"),
+       indexes = {
+           @Index(name = "idx_outbox_published_id", columnList = "published_at, parked_at, id"),
+           @Index(name = "idx_outbox_aggregate", columnList = "aggregate_id, id")
+       }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, length = 64)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 64)
+    private String aggregateId;
+
+    @Column(name = "exchange", nullable = false, length = 100)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false, length = 100)
+    private String routingKey;
+
+    @Column(name = "payload", nullable = false, length = 1048576)
+    private byte[] payload;
+
+    @Column(name = "headers", columnDefinition = "TEXT")
+    private String headers;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    public OutboxEventJpaEntity(String eventId, String eventType, String aggregateId, String exchange,
+                                String routingKey, byte[] payload, String headers) {
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.payload = payload;
+        this.headers = headers;
+        this.createdAt = LocalDateTime.now();
+        this.attempts = 0;
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.beom.practiceboard.global.event.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 아웃박스 이벤트 JPA 리포지토리
+ */
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * 발행되지 않은 이벤트를 저장 순서대로 조회 (격리된 이벤트 제외)
+     */
+    @Query("select o from OutboxEventJpaEntity o where o.publishedAt is null and o.parkedAt is null order by o.id asc")
+    List<OutboxEventJpaEntity> findUnpublished(Pageable pageable);
+
+    /**
+     * 가장 오래된 미발행 이벤트 조회 (지연 측정용)
+     */
+    Optional<OutboxEventJpaEntity> findFirstByPublishedAtIsNullAndParkedAtIsNullOrderByIdAsc();
+
+    /**
+     * 미발행 이벤트 수 (격리된 이벤트 제외)
+     */
+    long countByPublishedAtIsNullAndParkedAtIsNull();
+
+    /**
+     * 격리된 이벤트 수
+     */
+    long countByParkedAtIsNotNull();
+
+    /**
+     * 발행 완료 표시
+     */
+    @Modifying
+    @Query("update OutboxEventJpaEntity o set o.publishedAt = :publishedAt where o.id in :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * 발행 실패 기록
+     */
+    @Modifying
+    @Query("update OutboxEventJpaEntity o set o.attempts = o.attempts + 1, o.lastError = :error where o.id in :ids")
+    int markFailed(@Param("ids") List<Long> ids, @Param("error") String error);
+
+    /**
+     * 최대 시도 횟수에 도달한 이벤트 격리
+     */
+    @Modifying
+    @Query("update OutboxEventJpaEntity o set o.parkedAt = :parkedAt " +
+           "where o.id in :ids and o.attempts >= :maxAttempts and o.parkedAt is null")
+    int parkExhausted(@Param("ids") List<Long> ids,
+                      @Param("maxAttempts") int maxAttempts,
+                      @Param("parkedAt") LocalDateTime parkedAt);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Modifying
+    @Query("delete from OutboxEventJpaEntity o where o.publishedAt is not null and o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
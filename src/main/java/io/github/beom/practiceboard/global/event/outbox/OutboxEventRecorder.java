@@ -0,0 +1,82 @@
+package io.github.beom.practiceboard.global.event.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.beom.practiceboard.comment.event.DomainEvent;
+import io.github.beom.practiceboard.global.config.event.RabbitMQConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 아웃박스 이벤트 기록기
+ * 도메인 이벤트를 현재 트랜잭션 안에서 outbox_events 테이블에 저장합니다.
+ * 브로커로의 실제 발행은 {@link OutboxRelay}가 커밋 이후 비동기로 처리하므로
+ * 쓰기 요청의 지연 시간이 브로커 상태에 영향을 받지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class OutboxEventRecorder {
+
+    //headers 컬럼에 메시지 속성을 저장할 때 쓰는 키 (릴레이가 같은 키로 복원)
+    static final String CONTENT_TYPE_KEY = "contentType";
+    static final String CONTENT_ENCODING_KEY = "contentEncoding";
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final MessageConverter messageConverter;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트를 아웃박스에 기록 (호출한 트랜잭션과 함께 커밋/롤백)
+     *
+     * @param exchange 발행할 교환기
+     * @param routingKey 라우팅 키
+     * @param event 도메인 이벤트
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String exchange, String routingKey, DomainEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(RabbitMQConfig.PARTITION_KEY_HEADER, event.getPartitionKey());
+        Message message = messageConverter.toMessage(event, properties);
+
+        OutboxEventJpaEntity entity = OutboxEventJpaEntity.builder()
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .aggregateId(event.getAggregateId())
+                .exchange(exchange)
+                .routingKey(routingKey)
+                .payload(message.getBody())
+                .headers(writeHeaders(message.getMessageProperties()))
+                .build();
+
+        outboxEventJpaRepository.save(entity);
+        log.debug("아웃박스 이벤트 기록: eventType={}, eventId={}, aggregateId={}",
+                event.getEventType(), event.getEventId(), event.getAggregateId());
+    }
+
+    private String writeHeaders(MessageProperties properties) {
+        Map<String, Object> headers = new LinkedHashMap<>();
+        if (properties.getContentType() != null) {
+            headers.put(CONTENT_TYPE_KEY, properties.getContentType());
+        }
+        if (properties.getContentEncoding() != null) {
+            headers.put(CONTENT_ENCODING_KEY, properties.getContentEncoding());
+        }
+        properties.getHeaders().forEach((key, value) -> headers.put(key, value != null ? value.toString() : null));
+
+        try {
+            return objectMapper.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 헤더 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package io.github.beom.practiceboard.global.event.outbox;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이
+ * 미발행 아웃박스 이벤트를 id 순서대로 배치 조회해 RabbitMQ로 발행하고, 브로커 확인(publisher confirm)을 받은 행만 발행 완료로 표시합니다.
+ *
+ * - 여러 인스턴스가 동시에 릴레이하지 않도록 Redis 락을 사용합니다. 락을 얻을 수 없으면(Redis 장애 포함) 릴레이하지 않으며,
+ *   확인 대기 중에는 라운드마다 락을 연장하고 연장에 실패하면 즉시 중단합니다.
+ * - 같은 aggregate의 이벤트는 저장 순서대로 발행됩니다. aggregate마다 한 번에 하나만 전송하고 브로커 확인을 받은 뒤 다음 이벤트를 전송하므로,
+ *   앞선 이벤트가 실패했는데 뒤따르는 이벤트가 먼저 브로커에 도달하는 일이 없습니다. 실패한 aggregate의 남은 이벤트는 다음 주기에 순서대로 다시 발행합니다.
+ * - 최대 시도 횟수를 넘긴 이벤트는 격리(parked)되어 더 이상 발행을 막지 않습니다. 격리된 이벤트는 outbox.parked 지표로 확인하고,
+ *   원인을 해결한 뒤 parked_at을 비우면 다시 발행됩니다.
+ * - 전달 보장은 at-least-once 입니다.
+ */
+@Component
+@Log4j2
+public class OutboxRelay {
+
+    private static final String LOCK_KEY = "outbox:relay:lock";
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final DefaultRedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> EXTEND_LOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+    private final long lockTtlMs;
+    private final int maxAttempts;
+    private final int retentionDays;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong parkedCount = new AtomicLong();
+    private final Timer publishDelay;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+
+    private volatile boolean confirmWarningLogged;
+    private volatile boolean lockWarningLogged;
+
+    public OutboxRelay(OutboxEventJpaRepository outboxEventJpaRepository,
+                       RabbitTemplate rabbitTemplate,
+                       StringRedisTemplate redisTemplate,
+                       TransactionTemplate transactionTemplate,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${event.outbox.enabled:true}") boolean enabled,
+                       @Value("${event.outbox.batch-size:200}") int batchSize,
+                       @Value("${event.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                       @Value("${event.outbox.lock-ttl-ms:30000}") long lockTtlMs,
+                       @Value("${event.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${event.outbox.retention-days:3}") int retentionDays) {
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.lockTtlMs = lockTtlMs;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retentionDays = retentionDays;
+
+        Gauge.builder("outbox.lag.seconds", lagMillis, value -> value.get() / 1000.0)
+                .description("가장 오래된 미발행 아웃박스 이벤트의 대기 시간")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", pendingCount, AtomicLong::get)
+                .description("미발행 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.parked", parkedCount, AtomicLong::get)
+                .description("최대 시도 횟수를 넘겨 격리된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.publishDelay = Timer.builder("outbox.publish.delay")
+                .description("아웃박스 기록부터 브로커 확인까지 걸린 시간")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("outbox.published").register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.failed").register(meterRegistry);
+        this.parkedCounter = Counter.builder("outbox.parked.total").register(meterRegistry);
+    }
+
+    /**
+     * 미발행 이벤트 릴레이
+     * 한 주기에 배치가 가득 차면 이어서 다음 배치를 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${event.outbox.relay-interval-ms:200}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+
+        if (!tryLock()) {
+            return;
+        }
+
+        try {
+            int processed;
+            do {
+                processed = relayBatch();
+            } while (processed == batchSize);
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 실패: {}", e.getMessage(), e);
+        } finally {
+            unlock();
+            updateLag();
+        }
+    }
+
+    /**
+     * 배치 하나를 발행하고 결과를 반영
+     *
+     * @return 조회된 이벤트 수
+     */
+    private int relayBatch() {
+        List<OutboxEventJpaEntity> batch = outboxEventJpaRepository.findUnpublished(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        boolean confirms = isPublisherConfirms();
+
+        // aggregate별 대기열 (저장 순서 유지)
+        Map<String, Deque<OutboxEventJpaEntity>> queues = new LinkedHashMap<>();
+        for (OutboxEventJpaEntity event : batch) {
+            queues.computeIfAbsent(event.getAggregateId(), key -> new ArrayDeque<>()).add(event);
+        }
+
+        List<Long> publishedIds = new ArrayList<>();
+        Map<Long, String> errors = new LinkedHashMap<>();
+        boolean lockLost = false;
+
+        while (!queues.isEmpty()) {
+            if (!extendLock()) {
+                lockLost = true;
+                log.warn("아웃박스 릴레이 락을 잃어 배치를 중단합니다 - 확인된 {}건만 반영", publishedIds.size());
+                break;
+            }
+
+            // 라운드마다 aggregate별로 가장 앞선 이벤트 하나만 전송
+            List<OutboxEventJpaEntity> inFlight = new ArrayList<>();
+            Map<Long, CorrelationData> correlations = new HashMap<>();
+            Iterator<Deque<OutboxEventJpaEntity>> iterator = queues.values().iterator();
+            while (iterator.hasNext()) {
+                OutboxEventJpaEntity event = iterator.next().peekFirst();
+                try {
+                    CorrelationData correlation = new CorrelationData(event.getEventId());
+                    rabbitTemplate.send(event.getExchange(), event.getRoutingKey(), toMessage(event), correlation);
+                    inFlight.add(event);
+                    correlations.put(event.getId(), correlation);
+                } catch (Exception e) {
+                    errors.put(event.getId(), e.getMessage());
+                    // 남은 이벤트는 순서를 지키기 위해 다음 주기에 다시 발행
+                    iterator.remove();
+                }
+            }
+
+            long deadline = System.currentTimeMillis() + confirmTimeoutMs;
+            for (OutboxEventJpaEntity event : inFlight) {
+                String error = confirms ? awaitConfirm(correlations.get(event.getId()), deadline) : null;
+                Deque<OutboxEventJpaEntity> queue = queues.get(event.getAggregateId());
+                if (error == null) {
+                    publishedIds.add(event.getId());
+                    publishDelay.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+                    queue.pollFirst();
+                    if (queue.isEmpty()) {
+                        queues.remove(event.getAggregateId());
+                    }
+                } else {
+                    errors.put(event.getId(), error);
+                    queues.remove(event.getAggregateId());
+                }
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Integer parked = transactionTemplate.execute(status -> {
+            if (!publishedIds.isEmpty()) {
+                outboxEventJpaRepository.markPublished(publishedIds, now);
+            }
+            if (errors.isEmpty()) {
+                return 0;
+            }
+            errors.forEach((id, error) -> outboxEventJpaRepository.markFailed(List.of(id), truncate(error)));
+            return outboxEventJpaRepository.parkExhausted(new ArrayList<>(errors.keySet()), maxAttempts, now);
+        });
+
+        publishedCounter.increment(publishedIds.size());
+        if (parked != null && parked > 0) {
+            parkedCounter.increment(parked);
+            log.error("아웃박스 이벤트 {}건이 최대 시도 횟수({})를 넘어 격리되었습니다 - 첫 오류: {}",
+                    parked, maxAttempts, errors.values().iterator().next());
+        }
+        if (!errors.isEmpty()) {
+            failedCounter.increment(errors.size());
+            log.warn("아웃박스 이벤트 발행 실패 - 실패: {}건, 성공: {}건, 첫 오류: {}",
+                    errors.size(), publishedIds.size(), errors.values().iterator().next());
+            // 실패가 있으면 같은 주기에 재시도하지 않고 다음 주기로 미룸
+            return 0;
+        }
+        if (lockLost) {
+            return 0;
+        }
+        log.debug("아웃박스 이벤트 발행 완료: {}건", publishedIds.size());
+        return batch.size();
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 정리
+     */
+    @Scheduled(fixedDelayString = "${event.outbox.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+            Integer deleted = transactionTemplate.execute(status -> outboxEventJpaRepository.deletePublishedBefore(before));
+            if (deleted != null && deleted > 0) {
+                log.info("발행 완료 아웃박스 이벤트 정리: {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("아웃박스 이벤트 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private Message toMessage(OutboxEventJpaEntity event) throws Exception {
+        MessageProperties properties = new MessageProperties();
+        Map<String, Object> headers = event.getHeaders() != null
+                ? objectMapper.readValue(event.getHeaders(), new TypeReference<Map<String, Object>>() {})
+                : Map.of();
+
+        headers.forEach((key, value) -> {
+            if (OutboxEventRecorder.CONTENT_TYPE_KEY.equals(key)) {
+                properties.setContentType((String) value);
+            } else if (OutboxEventRecorder.CONTENT_ENCODING_KEY.equals(key)) {
+                properties.setContentEncoding((String) value);
+            } else {
+                properties.setHeader(key, value);
+            }
+        });
+        properties.setMessageId(event.getEventId());
+        properties.setType(event.getEventType());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setContentLength(event.getPayload().length);
+        return new Message(event.getPayload(), properties);
+    }
+
+    /**
+     * 브로커 확인 대기
+     * 한 라운드의 이벤트는 함께 전송되므로 대기 시간은 라운드 전체 기준(deadline)으로 제한합니다.
+     *
+     * @return 실패 사유, 확인되면 null
+     */
+    private String awaitConfirm(CorrelationData correlation, long deadline) {
+        try {
+            long remaining = Math.max(0L, deadline - System.currentTimeMillis());
+            CorrelationData.Confirm confirm = correlation.getFuture().get(remaining, TimeUnit.MILLISECONDS);
+            if (correlation.getReturned() != null) {
+                return "라우팅 실패: " + correlation.getReturned().getReplyText();
+            }
+            return confirm.isAck() ? null : "브로커 거부(nack): " + confirm.getReason();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "확인 대기 중 인터럽트";
+        } catch (Exception e) {
+            return "확인 대기 실패: " + e.getMessage();
+        }
+    }
+
+    private boolean isPublisherConfirms() {
+        boolean confirms = rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+        if (!confirms && !confirmWarningLogged) {
+            confirmWarningLogged = true;
+            log.warn("RabbitMQ publisher confirm이 비활성화되어 있어 전송 성공만으로 발행 완료 처리합니다 " +
+                    "(spring.rabbitmq.publisher-confirm-type=correlated 권장)");
+        }
+        return confirms;
+    }
+
+    /**
+     * 릴레이 락 획득
+     * Redis를 사용할 수 없으면 다른 인스턴스와 동시에 릴레이하지 않도록 이번 주기를 건너뜁니다.
+     *
+     * @return 획득 여부
+     */
+    private boolean tryLock() {
+        try {
+            boolean acquired = Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_KEY, instanceId, Duration.ofMillis(lockTtlMs)));
+            lockWarningLogged = false;
+            return acquired;
+        } catch (Exception e) {
+            if (!lockWarningLogged) {
+                lockWarningLogged = true;
+                log.warn("아웃박스 릴레이 락 획득 실패 - Redis가 복구될 때까지 릴레이를 중단합니다: {}", e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 릴레이 락 연장
+     *
+     * @return 아직 락을 보유하고 있으면 true
+     */
+    private boolean extendLock() {
+        try {
+            Long extended = redisTemplate.execute(EXTEND_LOCK, List.of(LOCK_KEY), instanceId, String.valueOf(lockTtlMs));
+            return extended != null && extended == 1L;
+        } catch (Exception e) {
+            log.debug("아웃박스 릴레이 락 연장 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void unlock() {
+        try {
+            redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), instanceId);
+        } catch (Exception e) {
+            log.debug("아웃박스 릴레이 락 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private void updateLag() {
+        try {
+            pendingCount.set(outboxEventJpaRepository.countByPublishedAtIsNullAndParkedAtIsNull());
+            parkedCount.set(outboxEventJpaRepository.countByParkedAtIsNotNull());
+            lagMillis.set(outboxEventJpaRepository.findFirstByPublishedAtIsNullAndParkedAtIsNullOrderByIdAsc()
+                    .map(event -> Math.max(0, Duration.between(event.getCreatedAt(), LocalDateTime.now()).toMillis()))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.debug("아웃박스 지연 측정 실패: {}", e.getMessage());
+        }
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.beom.practiceboard.global.event.presentation;
+
+import io.github.beom.practiceboard.global.event.DeadLetterReplayer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 이벤트 관리 컨트롤러
+ * 데드레터 큐 조회 및 재처리 API를 제공합니다. (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/events")
+@RequiredArgsConstructor
+@Log4j2
+@Tag(name = "이벤트 관리 API", description = "데드레터 조회 및 재처리 API")
+@PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+public class EventAdminController {
+
+    private static final int MAX_REPLAY_LIMIT = 10000;
+
+    private final DeadLetterReplayer deadLetterReplayer;
+
+    /**
+     * 데드레터 메시지 수 조회
+     */
+    @Operation(summary = "데드레터 메시지 수 조회", description = "처리에 최종 실패한 댓글 이벤트 수를 조회합니다")
+    @GetMapping("/dead-letters/count")
+    public ResponseEntity<Map<String, Long>> getDeadLetterCount() {
+        return ResponseEntity.ok(Map.of("count", deadLetterReplayer.count()));
+    }
+
+    /**
+     * 데드레터 메시지 일괄 재처리
+     */
+    @Operation(summary = "데드레터 재처리", description = "데드레터 큐의 메시지를 원래 큐로 일괄 재발행합니다")
+    @PostMapping("/dead-letters/replay")
+    public ResponseEntity<Map<String, Integer>> replayDeadLetters(
+            @Parameter(description = "최대 재처리 건수")
+            @RequestParam(value = "limit", defaultValue = "1000") int limit) {
+
+        log.info("데드레터 재처리 요청 - limit: {}", limit);
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_REPLAY_LIMIT));
+        return ResponseEntity.ok(deadLetterReplayer.replay(boundedLimit));
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.beom.practiceboard.global.event.serialization;
+
+import io.github.beom.practiceboard.comment.event.CommentCreatedEvent;
+import io.github.beom.practiceboard.comment.event.CommentDeletedEvent;
+import io.github.beom.practiceboard.comment.event.CommentUpdatedEvent;
+import io.github.beom.practiceboard.comment.event.DomainEvent;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 이벤트 바이너리 코덱 (스키마 버전 1)
+ * 필드 이름과 타입 정보 없이 스키마에 정해진 순서대로 값만 기록합니다.
+ * 필드를 추가/변경할 때는 기존 순서를 바꾸지 말고 SCHEMA_VERSION을 올린 뒤 버전별로 읽기를 분기해야 합니다.
+ *
+ * 공통: eventId, occurredAt, aggregateId
+ * COMMENT_CREATED: commentId, postId, boardId, content, author, parentCommentId, depth, createdAt
+ * COMMENT_UPDATED: commentId, postId, boardId, oldContent, newContent, author, updatedAt
+ * COMMENT_DELETED: commentId, postId, boardId, content, author, parentCommentId, hasChildren, deletedAt
+ */
+class CommentEventBinaryCodec {
+
+    static final int SCHEMA_VERSION = 1;
+
+    private static final int INITIAL_CAPACITY = 128;
+
+    boolean supports(Object event) {
+        return event instanceof CommentCreatedEvent
+                || event instanceof CommentUpdatedEvent
+                || event instanceof CommentDeletedEvent;
+    }
+
+    byte[] encode(DomainEvent event) {
+        EventBinaryWriter writer = new EventBinaryWriter(INITIAL_CAPACITY);
+        writer.writeEventId(event.getEventId());
+        writer.writeDateTime(event.getOccurredAt());
+        writer.writeString(event.getAggregateId());
+
+        if (event instanceof CommentCreatedEvent) {
+            CommentCreatedEvent.CommentEventData data = (CommentCreatedEvent.CommentEventData) event.getEventData();
+            writer.writeNullableLong(data.getCommentId());
+            writer.writeNullableLong(data.getPostId());
+            writer.writeNullableLong(data.getBoardId());
+            writer.writeString(data.getContent());
+            writer.writeString(data.getAuthor());
+            writer.writeNullableLong(data.getParentCommentId());
+            writer.writeVarLong(data.getDepth());
+            writer.writeDateTime(data.getCreatedAt());
+        } else if (event instanceof CommentUpdatedEvent) {
+            CommentUpdatedEvent.CommentUpdateData data = (CommentUpdatedEvent.CommentUpdateData) event.getEventData();
+            writer.writeNullableLong(data.getCommentId());
+            writer.writeNullableLong(data.getPostId());
+            writer.writeNullableLong(data.getBoardId());
+            writer.writeString(data.getOldContent());
+            writer.writeString(data.getNewContent());
+            writer.writeString(data.getAuthor());
+            writer.writeDateTime(data.getUpdatedAt());
+        } else if (event instanceof CommentDeletedEvent) {
+            CommentDeletedEvent.CommentDeleteData data = (CommentDeletedEvent.CommentDeleteData) event.getEventData();
+            writer.writeNullableLong(data.getCommentId());
+            writer.writeNullableLong(data.getPostId());
+            writer.writeNullableLong(data.getBoardId());
+            writer.writeString(data.getContent());
+            writer.writeString(data.getAuthor());
+            writer.writeNullableLong(data.getParentCommentId());
+            writer.writeBoolean(data.isHasChildren());
+            writer.writeDateTime(data.getDeletedAt());
+        } else {
+            throw new MessageConversionException("바이너리 인코딩을 지원하지 않는 이벤트: " + event.getClass().getName());
+        }
+
+        return writer.toByteArray();
+    }
+
+    DomainEvent decode(String eventType, int version, byte[] body) {
+        if (version != SCHEMA_VERSION) {
+            throw new MessageConversionException("지원하지 않는 이벤트 스키마 버전: " + version);
+        }
+
+        EventBinaryReader reader = new EventBinaryReader(body);
+        String eventId = reader.readEventId();
+        LocalDateTime occurredAt = reader.readDateTime();
+        String aggregateId = reader.readString();
+
+        return switch (eventType) {
+            case "COMMENT_CREATED" -> CommentCreatedEvent.builder()
+                    .eventId(eventId)
+                    .occurredAt(occurredAt)
+                    .aggregateId(aggregateId)
+                    .eventData(CommentCreatedEvent.CommentEventData.builder()
+                            .commentId(reader.readNullableLong())
+                            .postId(reader.readNullableLong())
+                            .boardId(reader.readNullableLong())
+                            .content(reader.readString())
+                            .author(reader.readString())
+                            .parentCommentId(reader.readNullableLong())
+                            .depth((int) reader.readVarLong())
+                            .createdAt(reader.readDateTime())
+                            .build())
+                    .build();
+            case "COMMENT_UPDATED" -> CommentUpdatedEvent.builder()
+                    .eventId(eventId)
+                    .occurredAt(occurredAt)
+                    .aggregateId(aggregateId)
+                    .eventData(CommentUpdatedEvent.CommentUpdateData.builder()
+                            .commentId(reader.readNullableLong())
+                            .postId(reader.readNullableLong())
+                            .boardId(reader.readNullableLong())
+                            .oldContent(reader.readString())
+                            .newContent(reader.readString())
+                            .author(reader.readString())
+                            .updatedAt(reader.readDateTime())
+                            .build())
+                    .build();
+            case "COMMENT_DELETED" -> CommentDeletedEvent.builder()
+                    .eventId(eventId)
+                    .occurredAt(occurredAt)
+                    .aggregateId(aggregateId)
+                    .eventData(CommentDeletedEvent.CommentDeleteData.builder()
+                            .commentId(reader.readNullableLong())
+                            .postId(reader.readNullableLong())
+                            .boardId(reader.readNullableLong())
+                            .content(reader.readString())
+                            .author(reader.readString())
+                            .parentCommentId(reader.readNullableLong())
+                            .hasChildren(reader.readBoolean())
+                            .deletedAt(reader.readDateTime())
+                            .build())
+                    .build();
+            default -> throw new MessageConversionException("바이너리 디코딩을 지원하지 않는 이벤트 타입: " + eventType);
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.beom.practiceboard.global.event.serialization;
+
+import io.github.beom.practiceboard.comment.event.DomainEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 이벤트 메시지 컨버터
+ * 발행 형식은 event.serialization.format으로 선택하고(json 또는 binary), 수신은 content-type을 보고 두 형식을 모두 처리합니다.
+ * 따라서 발행자와 소비자를 순서에 상관없이 배포해도 JSON과 바이너리 메시지가 공존할 수 있습니다.
+ *
+ * 바이너리 메시지는 event-type 헤더로 스키마를, event-schema-version 헤더로 스키마 버전을 식별하며
+ * 타입 정보 헤더(__TypeId__)를 싣지 않습니다.
+ * 형식별 페이로드 크기(event.payload.bytes)와 변환 시간(event.serialization)을 측정해 두 형식을 비교할 수 있습니다.
+ */
+public class DomainEventMessageConverter implements MessageConverter {
+
+    public static final String FORMAT_BINARY = "binary";
+    public static final String BINARY_CONTENT_TYPE = "application/x-domain-event";
+    public static final String EVENT_TYPE_HEADER = "event-type";
+    public static final String SCHEMA_VERSION_HEADER = "event-schema-version";
+
+    private static final String FORMAT_JSON = "json";
+
+    private final MessageConverter jsonConverter;
+    private final CommentEventBinaryCodec binaryCodec = new CommentEventBinaryCodec();
+    private final boolean binaryEnabled;
+
+    // 메시지마다 미터를 조회하지 않도록 생성 시점에 한 번만 등록 (MeterRegistry가 없으면 null)
+    private final Timer jsonSerializeTimer;
+    private final Timer jsonDeserializeTimer;
+    private final Timer binarySerializeTimer;
+    private final Timer binaryDeserializeTimer;
+    private final DistributionSummary jsonPayloadBytes;
+    private final DistributionSummary binaryPayloadBytes;
+
+    public DomainEventMessageConverter(MessageConverter jsonConverter, String format, MeterRegistry meterRegistry) {
+        this.jsonConverter = jsonConverter;
+        this.binaryEnabled = FORMAT_BINARY.equalsIgnoreCase(format);
+        this.jsonSerializeTimer = timer(meterRegistry, FORMAT_JSON, "serialize");
+        this.jsonDeserializeTimer = timer(meterRegistry, FORMAT_JSON, "deserialize");
+        this.binarySerializeTimer = timer(meterRegistry, FORMAT_BINARY, "serialize");
+        this.binaryDeserializeTimer = timer(meterRegistry, FORMAT_BINARY, "deserialize");
+        this.jsonPayloadBytes = payloadSummary(meterRegistry, FORMAT_JSON);
+        this.binaryPayloadBytes = payloadSummary(meterRegistry, FORMAT_BINARY);
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        long startedAt = System.nanoTime();
+
+        if (binaryEnabled && binaryCodec.supports(object)) {
+            DomainEvent event = (DomainEvent) object;
+            byte[] body = binaryCodec.encode(event);
+            messageProperties.setContentType(BINARY_CONTENT_TYPE);
+            messageProperties.setContentLength(body.length);
+            messageProperties.setHeader(EVENT_TYPE_HEADER, event.getEventType());
+            messageProperties.setHeader(SCHEMA_VERSION_HEADER, CommentEventBinaryCodec.SCHEMA_VERSION);
+            record(binarySerializeTimer, startedAt);
+            record(binaryPayloadBytes, body.length);
+            return new Message(body, messageProperties);
+        }
+
+        Message message = jsonConverter.toMessage(object, messageProperties);
+        if (object instanceof DomainEvent) {
+            record(jsonSerializeTimer, startedAt);
+            record(jsonPayloadBytes, message.getBody().length);
+        }
+        return message;
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        long startedAt = System.nanoTime();
+        MessageProperties properties = message.getMessageProperties();
+
+        if (!BINARY_CONTENT_TYPE.equals(properties.getContentType())) {
+            Object converted = jsonConverter.fromMessage(message);
+            if (converted instanceof DomainEvent) {
+                record(jsonDeserializeTimer, startedAt);
+            }
+            return converted;
+        }
+
+        Object eventType = properties.getHeader(EVENT_TYPE_HEADER);
+        Object version = properties.getHeader(SCHEMA_VERSION_HEADER);
+        if (eventType == null || version == null) {
+            throw new MessageConversionException("바이너리 이벤트에 타입 또는 스키마 버전 헤더가 없습니다");
+        }
+
+        DomainEvent event = binaryCodec.decode(eventType.toString(), parseVersion(version), message.getBody());
+        record(binaryDeserializeTimer, startedAt);
+        return event;
+    }
+
+    private int parseVersion(Object version) {
+        if (version instanceof Number number) {
+            return number.intValue();
+        }
+        try {
+            return Integer.parseInt(version.toString());
+        } catch (NumberFormatException e) {
+            throw new MessageConversionException("올바르지 않은 스키마 버전 헤더: " + version, e);
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String format, String operation) {
+        if (meterRegistry == null) {
+            return null;
+        }
+        return Timer.builder("event.serialization")
+                .tag("format", format)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static DistributionSummary payloadSummary(MeterRegistry meterRegistry, String format) {
+        if (meterRegistry == null) {
+            return null;
+        }
+        return DistributionSummary.builder("event.payload.bytes")
+                .baseUnit("bytes")
+                .tag("format", format)
+                .register(meterRegistry);
+    }
+
+    private void record(Timer timer, long startedAt) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void record(DistributionSummary summary, int payloadBytes) {
+        if (summary != null) {
+            summary.record(payloadBytes);
+        }
+    }
+}
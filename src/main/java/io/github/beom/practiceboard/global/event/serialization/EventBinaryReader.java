@@ -0,0 +1,87 @@
+package io.github.beom.practiceboard.global.event.serialization;
+
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * 이벤트 바이너리 디코더
+ * {@link EventBinaryWriter}가 기록한 형식을 같은 순서로 읽습니다.
+ */
+class EventBinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    EventBinaryReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    int readByte() {
+        if (position >= buffer.length) {
+            throw new MessageConversionException("바이너리 이벤트가 예상보다 짧습니다");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    long readVarLong() {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new MessageConversionException("올바르지 않은 가변 길이 정수입니다");
+    }
+
+    Long readNullableLong() {
+        return readBoolean() ? readVarLong() : null;
+    }
+
+    String readString() {
+        long length = readVarLong();
+        if (length == 0) {
+            return null;
+        }
+        int size = (int) (length - 1);
+        if (size < 0 || position + size > buffer.length) {
+            throw new MessageConversionException("올바르지 않은 문자열 길이입니다: " + size);
+        }
+        String value = new String(buffer, position, size, StandardCharsets.UTF_8);
+        position += size;
+        return value;
+    }
+
+    LocalDateTime readDateTime() {
+        if (!readBoolean()) {
+            return null;
+        }
+        long epochSecond = readVarLong();
+        int nano = (int) readVarLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    String readEventId() {
+        if (readByte() == 0) {
+            return readString();
+        }
+        return new UUID(readFixedLong(), readFixedLong()).toString();
+    }
+
+    private long readFixedLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.beom.practiceboard.global.event.serialization;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * 이벤트 바이너리 인코더
+ * 정수는 zigzag 가변 길이(varint), 문자열은 길이(varint) + UTF-8로 기록합니다.
+ * null 가능 값은 앞에 존재 여부 1바이트를 둡니다.
+ */
+class EventBinaryWriter {
+
+    private final ByteArrayOutputStream out;
+
+    EventBinaryWriter(int initialCapacity) {
+        this.out = new ByteArrayOutputStream(initialCapacity);
+    }
+
+    void writeByte(int value) {
+        out.write(value);
+    }
+
+    void writeBoolean(boolean value) {
+        out.write(value ? 1 : 0);
+    }
+
+    void writeVarLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    void writeNullableLong(Long value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(value);
+        }
+    }
+
+    /**
+     * 문자열 기록 (길이 + 1을 기록하고 0은 null을 의미)
+     */
+    void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    void writeDateTime(LocalDateTime value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(value.getNano());
+        }
+    }
+
+    /**
+     * 이벤트 ID 기록 (UUID 형식이면 16바이트, 아니면 문자열)
+     */
+    void writeEventId(String eventId) {
+        UUID uuid = parseUuid(eventId);
+        if (uuid == null) {
+            writeByte(0);
+            writeString(eventId);
+            return;
+        }
+        writeByte(1);
+        writeFixedLong(uuid.getMostSignificantBits());
+        writeFixedLong(uuid.getLeastSignificantBits());
+    }
+
+    byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    private void writeFixedLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift) & 0xFF);
+        }
+    }
+
+    private UUID parseUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            // 대소문자 등 표기가 달라 원문과 다르게 복원되는 경우는 문자열로 기록
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
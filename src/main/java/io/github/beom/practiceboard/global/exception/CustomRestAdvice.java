@@ -2,6 +2,7 @@ package io.github.beom.practiceboard.global.exception;
 
 import io.github.beom.practiceboard.global.exception.custom.AlreadyDeletedException;
 import io.github.beom.practiceboard.global.exception.custom.NotDeletedException;
+import io.github.beom.practiceboard.attachment.exception.FileAccessDeniedException;
 import io.github.beom.practiceboard.attachment.exception.FileUploadException;
 import io.github.beom.practiceboard.attachment.exception.FileNotFoundException;
 import io.github.beom.practiceboard.attachment.exception.FileDeleteException;
@@ -162,6 +163,21 @@ public class CustomRestAdvice {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorMap);
     }
 
+    //첨부파일 권한 없음
+    @ExceptionHandler(FileAccessDeniedException.class)
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    public ResponseEntity<Map<String,Object>> handleFileAccessDenied(FileAccessDeniedException e){
+        log.error("첨부파일 권한 없음 : {}", e.getMessage());
+
+        Map<String,Object> errorMap = new HashMap<>();
+        errorMap.put("error", "File Access Denied");
+        errorMap.put("message", "첨부파일에 대한 권한이 없습니다.");
+        errorMap.put("status", 403);
+        errorMap.put("timestamp", System.currentTimeMillis());
+
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorMap);
+    }
+
     //잘못된 파일명 형식
     @ExceptionHandler(InvalidFileNameException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
@@ -0,0 +1,131 @@
+package io.github.beom.practiceboard.global.pagination;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 근사 전체 건수 캐시
+ * 동일한 검색 조건의 COUNT 결과를 TTL 동안 재사용하여 목록 조회 시 COUNT(*) 쿼리를 줄입니다.
+ * 키는 도메인 접두사와 필터 값으로 만들고(조회된 ID 목록 등은 넣지 않음),
+ * 해당 도메인에 쓰기가 발생하면 evictByPrefix/evictByPrefixAfterCommit으로 바로 무효화합니다.
+ */
+@Component
+@Log4j2
+public class ApproximateCountCache {
+
+    private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public ApproximateCountCache(@Value("${pagination.approximate-count.ttl-seconds:60}") long ttlSeconds,
+                                 @Value("${pagination.approximate-count.max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시된 건수 조회
+     * @param key 검색 조건 키
+     * @return 만료되지 않은 건수, 없으면 empty
+     */
+    public OptionalLong get(String key) {
+        CachedCount cached = cache.get(key);
+        if (cached == null) {
+            return OptionalLong.empty();
+        }
+        if (cached.isExpired(System.currentTimeMillis())) {
+            cache.remove(key, cached);
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(cached.count());
+    }
+
+    /**
+     * 건수 저장
+     * @param key 검색 조건 키
+     * @param count 전체 건수
+     */
+    public void put(String key, long count) {
+        if (cache.size() >= maxEntries) {
+            evictExpired();
+        }
+        if (cache.size() >= maxEntries) {
+            log.debug("근사 건수 캐시 용량 초과로 초기화: {}", cache.size());
+            cache.clear();
+        }
+        cache.put(key, new CachedCount(count, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * 캐시된 건수를 반환하고, 없으면 계산 후 저장
+     * @param key 검색 조건 키
+     * @param counter 실제 COUNT 쿼리
+     * @return 근사 전체 건수
+     */
+    public long getOrCompute(String key, LongSupplier counter) {
+        OptionalLong cached = get(key);
+        if (cached.isPresent()) {
+            return cached.getAsLong();
+        }
+
+        long count = counter.getAsLong();
+        put(key, count);
+        return count;
+    }
+
+    /**
+     * 특정 접두사로 시작하는 캐시 무효화 (예: "post:")
+     */
+    public void evictByPrefix(String prefix) {
+        cache.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * 쓰기 트랜잭션에서 호출하는 무효화
+     * 즉시 무효화하고, 트랜잭션 중이면 커밋 후 한 번 더 무효화하여
+     * 커밋 전에 다른 요청이 옛 건수를 다시 캐시한 경우도 정리합니다.
+     */
+    public void evictByPrefixAfterCommit(String prefix) {
+        evictByPrefix(prefix);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictByPrefix(prefix);
+                }
+            });
+        }
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+    }
+
+    private static class CachedCount {
+        private final long count;
+        private final long expiresAt;
+
+        CachedCount(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+
+        long count() {
+            return count;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
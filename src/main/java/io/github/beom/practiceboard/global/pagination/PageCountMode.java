@@ -0,0 +1,29 @@
+package io.github.beom.practiceboard.global.pagination;
+
+/**
+ * 목록 조회 시 전체 건수 계산 방식
+ */
+public enum PageCountMode {
+
+    /**
+     * 정확한 전체 건수 - 목록 쿼리와 COUNT 쿼리를 모두 실행
+     */
+    EXACT,
+
+    /**
+     * 건수 계산 없음 - size + 1건을 조회해 다음 페이지 존재 여부만 판단
+     */
+    SLICE,
+
+    /**
+     * 근사 전체 건수 - 캐시된 COUNT 결과를 재사용 (TTL 동안 오차 허용)
+     */
+    APPROXIMATE;
+
+    /**
+     * null이면 기본값(EXACT) 반환
+     */
+    public static PageCountMode orDefault(PageCountMode mode) {
+        return mode != null ? mode : EXACT;
+    }
+}
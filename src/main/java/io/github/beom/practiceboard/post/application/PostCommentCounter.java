@@ -0,0 +1,33 @@
+package io.github.beom.practiceboard.post.application;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 댓글 수 카운터
+ * 댓글 수를 comments 테이블 COUNT 대신 posts.comment_count 컬럼에서 조회하고,
+ * 댓글 생성/삭제 이벤트의 증감분을 모아 일괄 반영하기 위한 인터페이스입니다.
+ */
+public interface PostCommentCounter {
+
+    /**
+     * 댓글 수 증감분 누적 (짧은 주기로 모아서 반영)
+     */
+    void add(Long postId, long delta);
+
+    /**
+     * 게시글의 댓글 수 조회
+     */
+    long getCount(Long postId);
+
+    /**
+     * 여러 게시글의 댓글 수 일괄 조회
+     * @return 게시글 ID별 댓글 수 (존재하지 않는 게시글은 0)
+     */
+    Map<Long, Long> getCounts(List<Long> postIds);
+
+    /**
+     * 게시판의 댓글 수 조회 (게시글 댓글 수 합계, 아직 반영되지 않은 증감분은 제외)
+     */
+    long getBoardCount(Long boardId);
+}
@@ -96,6 +96,8 @@ public interface PostRepository {
     
     /**
      * 게시글 조회수 증가
+     * 구현체는 행 단위 UPDATE 대신 PostViewCounter에 위임하여 주기적으로 일괄 반영해야 하며,
+     * posts.view_count에는 최대 수 초 지연되어 반영됩니다. (게시글 상세 조회는 PostServiceImpl에서 PostViewCounter를 직접 사용)
      */
     void increaseViewCount(Long postId);
     
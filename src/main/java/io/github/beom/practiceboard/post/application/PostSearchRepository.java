@@ -1,5 +1,6 @@
 package io.github.beom.practiceboard.post.application;
 
+import io.github.beom.practiceboard.global.pagination.PageCountMode;
 import io.github.beom.practiceboard.post.domain.Post;
 import io.github.beom.practiceboard.post.domain.PostType;
 import io.github.beom.practiceboard.post.presentation.dto.response.PostPageResponseDTO;
@@ -8,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Post 검색 Repository 인터페이스
@@ -38,6 +40,60 @@ public interface PostSearchRepository {
                                      Boolean featuredOnly,
                                      Pageable pageable);
 
+    /**
+     * 건수 계산 방식을 선택할 수 있는 게시글 검색
+     * SLICE는 COUNT 쿼리 없이 size + 1건으로 다음 페이지 여부만 판단하고,
+     * APPROXIMATE는 동일 조건의 캐시된 COUNT 결과를 재사용합니다.
+     * @param types 검색 타입 배열 (t: 제목, c: 내용, a: 작성자)
+     * @param keyword 검색 키워드
+     * @param boardId 게시판 ID (필터링용)
+     * @param categoryId 카테고리 ID (필터링용)
+     * @param authorId 작성자 ID (필터링용)
+     * @param postType 게시글 타입 (필터링용)
+     * @param pinnedOnly 고정글만 조회 여부
+     * @param featuredOnly 추천글만 조회 여부
+     * @param pageable 페이징 정보
+     * @param countMode 전체 건수 계산 방식
+     * @return 검색 결과
+     */
+    PostPageResponseDTO<PostResponseDTO> searchPosts(String[] types,
+                                                    String keyword,
+                                                    Long boardId,
+                                                    Long categoryId,
+                                                    Long authorId,
+                                                    PostType postType,
+                                                    Boolean pinnedOnly,
+                                                    Boolean featuredOnly,
+                                                    Pageable pageable,
+                                                    PageCountMode countMode);
+
+    /**
+     * 커서(Keyset) 기반 게시글 검색
+     * OFFSET 대신 (isPinned, createdAt, id) 커서 이후의 행만 조회하므로 페이지 깊이와 무관하게 비용이 일정합니다.
+     * 정렬은 고정글 우선, 최신순(isPinned desc, createdAt desc, id desc)으로 고정됩니다.
+     * @param types 검색 타입 배열 (t: 제목, c: 내용, a: 작성자)
+     * @param keyword 검색 키워드
+     * @param boardId 게시판 ID (필터링용)
+     * @param categoryId 카테고리 ID (필터링용)
+     * @param authorId 작성자 ID (필터링용)
+     * @param postType 게시글 타입 (필터링용)
+     * @param pinnedOnly 고정글만 조회 여부
+     * @param featuredOnly 추천글만 조회 여부
+     * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 검색 결과와 다음 커서 (마지막 페이지면 nextCursor가 null)
+     */
+    PostPageResponseDTO<PostResponseDTO> searchPostsByCursor(String[] types,
+                                                            String keyword,
+                                                            Long boardId,
+                                                            Long categoryId,
+                                                            Long authorId,
+                                                            PostType postType,
+                                                            Boolean pinnedOnly,
+                                                            Boolean featuredOnly,
+                                                            String cursor,
+                                                            int size);
+
     /**
      * 게시글과 댓글 수를 함께 조회하는 검색
      * @param types 검색 타입 배열
@@ -92,4 +148,11 @@ public interface PostSearchRepository {
                                                              Long boardId,
                                                              Long categoryId,
                                                              Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 삭제되지 않은 게시글 단건 조회
+     * @param postId 게시글 ID
+     * @return 게시글 정보 (없거나 삭제된 게시글이면 empty)
+     */
+    Optional<PostResponseDTO> findPostById(Long postId);
+}
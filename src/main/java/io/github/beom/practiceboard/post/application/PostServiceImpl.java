@@ -0,0 +1,91 @@
+package io.github.beom.practiceboard.post.application;
+
+import io.github.beom.practiceboard.post.domain.PostType;
+import io.github.beom.practiceboard.post.exception.PostNotFoundException;
+import io.github.beom.practiceboard.post.exception.PostValidationException;
+import io.github.beom.practiceboard.post.presentation.PostService;
+import io.github.beom.practiceboard.post.presentation.dto.request.PostPageRequestDTO;
+import io.github.beom.practiceboard.post.presentation.dto.response.PostPageResponseDTO;
+import io.github.beom.practiceboard.post.presentation.dto.response.PostResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+
+/**
+ * 게시글 서비스 구현체
+ * 게시글 비즈니스 로직을 구현합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+@Transactional(readOnly = true)
+public class PostServiceImpl implements PostService {
+
+    private final PostSearchRepository postSearchRepository;
+    private final PostViewCounter postViewCounter;
+
+    @Override
+    public PostPageResponseDTO<PostResponseDTO> getPostList(PostPageRequestDTO pageRequestDTO) {
+        log.info("게시글 목록 조회: {}", pageRequestDTO);
+
+        PostType postType = parsePostType(pageRequestDTO.getPostType());
+
+        // 커서 페이징 - 페이지 깊이와 무관하게 일정한 비용
+        if (pageRequestDTO.isCursorMode()) {
+            return postSearchRepository.searchPostsByCursor(
+                pageRequestDTO.getTypes(),
+                pageRequestDTO.getKeyword(),
+                pageRequestDTO.getBoardId(),
+                pageRequestDTO.getCategoryId(),
+                pageRequestDTO.getAuthorId(),
+                postType,
+                pageRequestDTO.getPinnedOnly(),
+                pageRequestDTO.getFeaturedOnly(),
+                pageRequestDTO.getCursor(),
+                pageRequestDTO.getSize()
+            );
+        }
+
+        return postSearchRepository.searchPosts(
+            pageRequestDTO.getTypes(),
+            pageRequestDTO.getKeyword(),
+            pageRequestDTO.getBoardId(),
+            pageRequestDTO.getCategoryId(),
+            pageRequestDTO.getAuthorId(),
+            postType,
+            pageRequestDTO.getPinnedOnly(),
+            pageRequestDTO.getFeaturedOnly(),
+            pageRequestDTO.getPageable(),
+            pageRequestDTO.getCountMode()
+        );
+    }
+
+    /**
+     * 게시글 타입 필터 변환 (대소문자 무시, 알 수 없는 값은 400)
+     */
+    private PostType parsePostType(String postType) {
+        if (postType == null || postType.isBlank()) {
+            return null;
+        }
+        try {
+            return PostType.valueOf(postType.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new PostValidationException("postType", "지원하지 않는 게시글 타입입니다: " + postType);
+        }
+    }
+
+    @Override
+    public PostResponseDTO getPost(Long postId) {
+        log.info("게시글 조회: {}", postId);
+
+        PostResponseDTO post = postSearchRepository.findPostById(postId)
+                .orElseThrow(() -> new PostNotFoundException(postId));
+
+        postViewCounter.increment(postId);
+        post.setViewCount(post.getViewCount() + postViewCounter.getPendingDelta(postId));
+        return post;
+    }
+}
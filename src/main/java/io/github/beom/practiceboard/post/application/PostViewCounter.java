@@ -0,0 +1,18 @@
+package io.github.beom.practiceboard.post.application;
+
+/**
+ * 게시글 조회수 카운터
+ * 조회마다 posts.view_count를 UPDATE하지 않고 증가분을 모아 주기적으로 일괄 반영하기 위한 인터페이스입니다.
+ */
+public interface PostViewCounter {
+
+    /**
+     * 조회수 1 증가 (모아서 반영)
+     */
+    void increment(Long postId);
+
+    /**
+     * 아직 반영되지 않은 이 인스턴스의 조회수 증가분
+     */
+    long getPendingDelta(Long postId);
+}
@@ -0,0 +1,64 @@
+package io.github.beom.practiceboard.post.domain;
+
+import io.github.beom.practiceboard.post.exception.PostValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 커서(Keyset) 페이징용 커서
+ * 목록 정렬 기준인 (isPinned desc, createdAt desc, id desc)의 마지막 값을 담습니다.
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 문자열로 전달됩니다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class PostCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final boolean pinned;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * 커서를 불투명 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = (pinned ? "1" : "0") + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 문자열을 커서로 디코딩
+     * @param cursor 인코딩된 커서 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 디코딩된 커서, 첫 페이지인 경우 null
+     */
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new PostValidationException("cursor", "형식이 올바르지 않습니다");
+            }
+            return new PostCursor(
+                    "1".equals(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (PostValidationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new PostValidationException("유효하지 않은 커서입니다: " + cursor, e);
+        }
+    }
+}
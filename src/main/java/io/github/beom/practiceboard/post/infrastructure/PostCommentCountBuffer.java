@@ -0,0 +1,144 @@
+package io.github.beom.practiceboard.post.infrastructure;
+
+import io.github.beom.practiceboard.post.application.PostCommentCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 댓글 수 병합 버퍼
+ * 댓글 생성/삭제 이벤트마다 posts.comment_count를 UPDATE하지 않고 게시글별 증감분을 합산한 뒤,
+ * flush-interval-ms 마다 같은 증감분을 가진 게시글끼리 묶어 UPDATE ... WHERE id IN (...)으로 반영합니다.
+ * 같은 게시글에 짧은 시간 동안 몰린 댓글은 한 번의 UPDATE로 합쳐지고, 생성 후 바로 삭제된 댓글은 상쇄됩니다.
+ *
+ * 증감분은 getAndSet(0)으로 원자적으로 가져가므로 동시에 들어온 증감이 유실되지 않으며,
+ * DB 반영에 실패한 증감분은 버퍼에 되돌려 다음 주기에 재시도합니다.
+ * 이벤트는 증감분을 누적한 시점에 ack 되므로, 비정상 종료 시 최대 한 주기 분량의 증감이 유실될 수 있습니다.
+ * 유실되거나 중복 반영된 증감은 PostCommentCountReconciler가 실제 댓글 수로 주기적으로 보정합니다.
+ */
+@Component
+@Log4j2
+public class PostCommentCountBuffer implements PostCommentCounter {
+
+    private final PostJpaRepository postJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, AtomicLong> pending = new ConcurrentHashMap<>();
+
+    public PostCommentCountBuffer(PostJpaRepository postJpaRepository,
+                                  TransactionTemplate transactionTemplate) {
+        this.postJpaRepository = postJpaRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void add(Long postId, long delta) {
+        if (postId == null || delta == 0) {
+            return;
+        }
+        // 제거와 누적이 엇갈리지 않도록 맵 단위 원자 연산 안에서 누적
+        pending.compute(postId, (key, counter) -> {
+            AtomicLong target = counter != null ? counter : new AtomicLong();
+            target.addAndGet(delta);
+            return target;
+        });
+    }
+
+    /**
+     * posts.comment_count 값에 아직 반영되지 않은 이 인스턴스의 증감분을 더해 반환
+     */
+    @Override
+    public long getCount(Long postId) {
+        return getCounts(List.of(postId)).getOrDefault(postId, 0L);
+    }
+
+    @Override
+    public Map<Long, Long> getCounts(List<Long> postIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (postIds == null || postIds.isEmpty()) {
+            return counts;
+        }
+
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(postIds));
+        distinctIds.forEach(postId -> counts.put(postId, 0L));
+        for (Object[] row : postJpaRepository.findCommentCounts(distinctIds)) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        counts.replaceAll((postId, count) -> {
+            AtomicLong delta = pending.get(postId);
+            return delta != null ? Math.max(0, count + delta.get()) : count;
+        });
+        return counts;
+    }
+
+    @Override
+    public long getBoardCount(Long boardId) {
+        return postJpaRepository.sumCommentCountByBoardId(boardId);
+    }
+
+    /**
+     * 누적된 증감분을 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${post.comment-count.flush-interval-ms:500}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> postIdsByDelta = new HashMap<>();
+        deltas.forEach((postId, delta) ->
+                postIdsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(postId));
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    postIdsByDelta.forEach(postJpaRepository::addCommentCount));
+            log.debug("댓글 수 증감분 반영 - 게시글 수: {}, UPDATE 수: {}", deltas.size(), postIdsByDelta.size());
+        } catch (Exception e) {
+            log.error("댓글 수 증감분 반영 실패 - 다음 주기에 재시도, 게시글 수: {}", deltas.size(), e);
+            deltas.forEach(this::add);
+        }
+    }
+
+    /**
+     * 종료 시 남은 증감분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 댓글 수 버퍼 반영 - 대기 중인 게시글 수: {}", pending.size());
+        flush();
+    }
+
+    /**
+     * 버퍼를 비우고 게시글별 증감분 반환
+     * 이전 주기 이후 증감이 없던 게시글은 맵에서 제거합니다.
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((postId, counter) -> {
+            long delta = counter.getAndSet(0);
+            if (delta != 0) {
+                deltas.put(postId, delta);
+            } else {
+                pending.computeIfPresent(postId, (key, current) -> current.get() == 0 ? null : current);
+            }
+        });
+        return deltas;
+    }
+}
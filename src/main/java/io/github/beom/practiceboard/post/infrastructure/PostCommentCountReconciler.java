@@ -0,0 +1,109 @@
+package io.github.beom.practiceboard.post.infrastructure;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글 댓글 수 보정
+ * posts.comment_count를 comment 테이블의 실제 댓글 수로 다시 계산합니다.
+ * - 애플리케이션 시작 시: comment_count 컬럼 도입 이전에 작성된 댓글을 채우는 일회성 보정
+ * - 주기적으로: 이벤트 ack 이후 버퍼 반영 전에 종료되어 유실된 증감분 등 누적 오차 보정
+ * 게시글 ID 구간 단위로 나누어 짧은 트랜잭션으로 실행하며, 다른 스케줄 작업을 막지 않도록 별도 스레드에서 동작합니다.
+ */
+@Component
+@Log4j2
+public class PostCommentCountReconciler {
+
+    private final PostJpaRepository postJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService reconcileExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-comment-count-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostCommentCountReconciler(PostJpaRepository postJpaRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${post.comment-count.reconcile-batch-size:1000}") int batchSize) {
+        this.postJpaRepository = postJpaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 시작 시 보정 (백그라운드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        submit();
+    }
+
+    /**
+     * 주기적 보정 (백그라운드)
+     */
+    @Scheduled(initialDelayString = "${post.comment-count.reconcile-interval-ms:3600000}",
+               fixedDelayString = "${post.comment-count.reconcile-interval-ms:3600000}")
+    public void scheduledReconcile() {
+        submit();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconcileExecutor.shutdownNow();
+    }
+
+    private void submit() {
+        // 이전 보정이 아직 진행 중이면 건너뜀
+        if (running.compareAndSet(false, true)) {
+            reconcileExecutor.execute(() -> {
+                try {
+                    reconcile();
+                } finally {
+                    running.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 전체 게시글을 ID 구간으로 나누어 보정
+     */
+    void reconcile() {
+        try {
+            Long maxId = postJpaRepository.findMaxId();
+            if (maxId == null) {
+                return;
+            }
+
+            long startedAt = System.currentTimeMillis();
+            int corrected = 0;
+            for (long fromId = 0; fromId < maxId && !Thread.currentThread().isInterrupted(); fromId += batchSize) {
+                long lowerBound = fromId;
+                long upperBound = Math.min(fromId + batchSize, maxId);
+                Integer updated = transactionTemplate.execute(status ->
+                        postJpaRepository.reconcileCommentCounts(lowerBound, upperBound));
+                corrected += updated != null ? updated : 0;
+            }
+
+            if (corrected > 0) {
+                log.info("게시글 댓글 수 보정 완료 - 보정된 게시글 수: {}, 소요: {}ms",
+                        corrected, System.currentTimeMillis() - startedAt);
+            }
+        } catch (Exception e) {
+            log.error("게시글 댓글 수 보정 실패", e);
+        }
+    }
+}
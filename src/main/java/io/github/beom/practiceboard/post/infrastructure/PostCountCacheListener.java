@@ -0,0 +1,37 @@
+package io.github.beom.practiceboard.post.infrastructure;
+
+import io.github.beom.practiceboard.global.pagination.ApproximateCountCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 변경 시 근사 건수 캐시를 무효화하는 JPA 엔티티 리스너
+ * 등록/삭제는 해당 게시판과 게시판 필터 없는 키만, 수정은 게시판 이동이나 소프트 삭제일 수 있으므로 게시글 키 전체를 무효화합니다.
+ */
+@Component
+public class PostCountCacheListener {
+
+    private final ObjectProvider<ApproximateCountCache> approximateCountCache;
+
+    public PostCountCacheListener(ObjectProvider<ApproximateCountCache> approximateCountCache) {
+        this.approximateCountCache = approximateCountCache;
+    }
+
+    @PostPersist
+    @PostRemove
+    public void onInsertOrRemove(PostJpaEntity entity) {
+        approximateCountCache.ifAvailable(cache -> {
+            cache.evictByPrefixAfterCommit(PostSearchRepositoryImpl.boardCountKeyPrefix(entity.getBoardId()));
+            cache.evictByPrefixAfterCommit(PostSearchRepositoryImpl.boardCountKeyPrefix(null));
+        });
+    }
+
+    @PostUpdate
+    public void onUpdate(PostJpaEntity entity) {
+        approximateCountCache.ifAvailable(cache ->
+                cache.evictByPrefixAfterCommit(PostSearchRepositoryImpl.COUNT_CACHE_PREFIX));
+    }
+}
@@ -2,6 +2,7 @@ package io.github.beom.practiceboard.post.infrastructure;
 
 import io.github.beom.practiceboard.global.base.BaseAllEntity;
 import io.github.beom.practiceboard.post.domain.PostType;
+import io.github.beom.practiceboard.post.infrastructure.search.PostSearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
@@ -14,7 +15,11 @@ import java.util.Set;
  * 데이터베이스의 posts 테이블과 매핑됩니다.
  */
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_pinned_created_id", columnList = "is_pinned, created_at, id"),
+        @Index(name = "idx_posts_board_pinned_created_id", columnList = "board_id, is_pinned, created_at, id")
+})
+@EntityListeners({PostSearchIndexListener.class, PostCountCacheListener.class})
 @Getter
 @Setter
 @Builder
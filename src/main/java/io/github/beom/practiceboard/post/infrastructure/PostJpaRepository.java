@@ -4,6 +4,7 @@ import io.github.beom.practiceboard.post.domain.PostType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -118,4 +119,62 @@ public interface PostJpaRepository extends JpaRepository<PostJpaEntity, Long> {
      */
     @Query("SELECT COUNT(p) FROM PostJpaEntity p WHERE p.authorId = :authorId AND p.deletedAt IS NULL")
     long countByAuthorId(@Param("authorId") Long authorId);
-}
\ No newline at end of file
+
+    /**
+     * ID 이후의 삭제되지 않은 게시글 조회 (검색 색인 구성용, ID 오름차순)
+     */
+    @Query("SELECT p FROM PostJpaEntity p WHERE p.id > :lastId AND p.deletedAt IS NULL ORDER BY p.id ASC")
+    List<PostJpaEntity> findActiveAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 특정 시각 이후 수정된 게시글 조회 (삭제된 게시글 포함, 검색 색인 동기화용)
+     */
+    @Query("SELECT p FROM PostJpaEntity p WHERE p.updatedAt > :since ORDER BY p.updatedAt ASC, p.id ASC")
+    List<PostJpaEntity> findUpdatedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 조회수 일괄 증가 (같은 증가분을 가진 게시글들을 한 번에 반영)
+     */
+    @Modifying
+    @Query("UPDATE PostJpaEntity p SET p.viewCount = p.viewCount + :delta WHERE p.id IN :postIds")
+    int increaseViewCount(@Param("delta") long delta, @Param("postIds") List<Long> postIds);
+
+    /**
+     * 댓글 수 일괄 증감 (같은 증감분을 가진 게시글들을 한 번에 반영, 0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE PostJpaEntity p SET p.commentCount = CASE WHEN p.commentCount + :delta < 0 THEN 0 ELSE p.commentCount + :delta END WHERE p.id IN :postIds")
+    int addCommentCount(@Param("delta") long delta, @Param("postIds") List<Long> postIds);
+
+    /**
+     * 게시글별 댓글 수 조회
+     * @return [게시글 ID, 댓글 수] 배열 목록
+     */
+    @Query("SELECT p.id, p.commentCount FROM PostJpaEntity p WHERE p.id IN :postIds")
+    List<Object[]> findCommentCounts(@Param("postIds") List<Long> postIds);
+
+    /**
+     * 게시판의 댓글 수 합계 (삭제되지 않은 게시글의 comment_count 합)
+     */
+    @Query("SELECT COALESCE(SUM(p.commentCount), 0) FROM PostJpaEntity p WHERE p.boardId = :boardId AND p.deletedAt IS NULL")
+    long sumCommentCountByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 가장 큰 게시글 ID 조회 (없으면 null)
+     */
+    @Query("SELECT MAX(p.id) FROM PostJpaEntity p")
+    Long findMaxId();
+
+    /**
+     * ID 구간 (fromId, toId]의 comment_count를 comment 테이블의 실제 댓글 수로 보정
+     * 값이 다른 게시글만 UPDATE 합니다.
+     * @return 보정된 게시글 수
+     */
+    @Modifying
+    @Query(value = "UPDATE posts p SET comment_count = " +
+                   "(SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id AND c.deleted_at IS NULL) " +
+                   "WHERE p.id > :fromId AND p.id <= :toId AND p.comment_count <> " +
+                   "(SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id AND c.deleted_at IS NULL)",
+           nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -5,21 +5,37 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
 // import static io.github.beom.practiceboard.post.infrastructure.QPostJpaEntity.postJpaEntity;
+import io.github.beom.practiceboard.global.pagination.ApproximateCountCache;
+import io.github.beom.practiceboard.global.pagination.PageCountMode;
 import io.github.beom.practiceboard.post.application.PostSearchRepository;
 import io.github.beom.practiceboard.post.domain.Post;
+import io.github.beom.practiceboard.post.domain.PostCursor;
 import io.github.beom.practiceboard.post.domain.PostType;
+import io.github.beom.practiceboard.post.infrastructure.search.NGramTokenizer;
+import io.github.beom.practiceboard.post.infrastructure.search.PostInvertedIndex;
 import io.github.beom.practiceboard.post.mapper.PostMapper;
 import io.github.beom.practiceboard.post.presentation.dto.response.PostPageResponseDTO;
 import io.github.beom.practiceboard.post.presentation.dto.response.PostResponseDTO;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -30,11 +46,37 @@ import java.util.stream.Collectors;
 @Log4j2
 public class PostSearchRepositoryImpl extends QuerydslRepositorySupport implements PostSearchRepository {
 
-    private final PostMapper postMapper;
+    //근사 건수 캐시 키 접두사 (post:{boardId}:..., 게시글 변경 시 PostCountCacheListener에서 무효화)
+    static final String COUNT_CACHE_PREFIX = "post:";
+
+    private static final String RELEVANCE_SORT = "relevance";
+
+    // 커서 페이징 최대 크기 (PostPageRequestDTO와 동일)
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    // 고정글 우선 (isPinned desc)
+    private static final Comparator<PostJpaEntity> PINNED_FIRST =
+            Comparator.comparing(PostJpaEntity::isPinned).reversed();
 
-    public PostSearchRepositoryImpl(PostMapper postMapper) {
+    // 커서 정렬 (isPinned desc, createdAt desc, id desc)
+    private static final Comparator<PostJpaEntity> CURSOR_ORDER = PINNED_FIRST
+            .thenComparing(PostJpaEntity::getCreatedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()).reversed())
+            .thenComparing(PostJpaEntity::getId, Comparator.reverseOrder());
+
+    private final PostMapper postMapper;
+    private final ApproximateCountCache approximateCountCache;
+    private final PostInvertedIndex postInvertedIndex;
+    private final int maxSearchCandidates;
+
+    public PostSearchRepositoryImpl(PostMapper postMapper,
+                                    ApproximateCountCache approximateCountCache,
+                                    PostInvertedIndex postInvertedIndex,
+                                    @Value("${post.search.index.max-candidates:1000}") int maxSearchCandidates) {
         super(PostJpaEntity.class);
         this.postMapper = postMapper;
+        this.approximateCountCache = approximateCountCache;
+        this.postInvertedIndex = postInvertedIndex;
+        this.maxSearchCandidates = maxSearchCandidates;
     }
 
     @Override
@@ -49,51 +91,26 @@ public class PostSearchRepositoryImpl extends QuerydslRepositorySupport implemen
 
         JPQLQuery<PostJpaEntity> query = from(post);
 
-        // 기본 조건: 삭제되지 않은 게시글
-        BooleanBuilder builder = new BooleanBuilder();
-        builder.and(post.deletedAt.isNull());
+        List<List<Long>> candidateChunks = findIndexedIdChunks(types, keyword);
+        BooleanBuilder builder = buildSearchCondition(post, types, keyword, boardId, categoryId,
+                authorId, postType, pinnedOnly, featuredOnly);
 
-        // 검색 조건 추가
-        if (types != null && keyword != null && !keyword.trim().isEmpty()) {
-            BooleanBuilder searchBuilder = new BooleanBuilder();
-            
-            for (String type : types) {
-                switch (type) {
-                    case "t": // title
-                        searchBuilder.or(post.title.containsIgnoreCase(keyword));
-                        break;
-                    case "c": // content
-                        searchBuilder.or(post.content.containsIgnoreCase(keyword));
-                        break;
-                    case "a": // author
-                        searchBuilder.or(post.writer.containsIgnoreCase(keyword));
-                        break;
-                }
+        // 정확도순 정렬 - 검색 색인의 BM25 순위 사용
+        if (isRelevanceSort(pageable)) {
+            if (candidateChunks != null) {
+                return searchByRelevance(post, builder, candidateChunks, pageable);
             }
-            builder.and(searchBuilder);
+            pageable = withoutSort(pageable); // 색인을 쓸 수 없으면 기본 정렬
         }
 
-        // 필터 조건들 추가
-        if (boardId != null) {
-            builder.and(post.boardId.eq(boardId));
-        }
-        if (categoryId != null) {
-            builder.and(post.categoryId.eq(categoryId));
-        }
-        if (authorId != null) {
-            builder.and(post.authorId.eq(authorId));
-        }
-        if (postType != null) {
-            builder.and(post.postType.eq(postType));
-        }
-        if (Boolean.TRUE.equals(pinnedOnly)) {
-            builder.and(post.isPinned.eq(true));
-        }
-        if (Boolean.TRUE.equals(featuredOnly)) {
-            builder.and(post.isFeatured.eq(true));
+        if (candidateChunks != null && candidateChunks.size() > 1) {
+            List<PostJpaEntity> merged = fetchAcrossChunks(post, builder, candidateChunks, getComparator(pageable),
+                    pageable.getOffset() + pageable.getPageSize(), post.isPinned.desc(), getOrderSpecifier(post, pageable));
+            return new PageImpl<>(toResponseDTOs(pageOf(merged, pageable)), pageable,
+                    countAcrossChunks(post, builder, candidateChunks));
         }
 
-        query.where(builder);
+        query.where(withSingleChunk(post, builder, candidateChunks));
 
         // 정렬 - 고정글이 먼저 오도록
         query.orderBy(post.isPinned.desc(), getOrderSpecifier(post, pageable));
@@ -113,6 +130,116 @@ public class PostSearchRepositoryImpl extends QuerydslRepositorySupport implemen
         return new PageImpl<>(dtos, pageable, count);
     }
 
+    @Override
+    public PostPageResponseDTO<PostResponseDTO> searchPosts(String[] types, String keyword, Long boardId,
+                                                           Long categoryId, Long authorId, PostType postType,
+                                                           Boolean pinnedOnly, Boolean featuredOnly,
+                                                           Pageable pageable, PageCountMode countMode) {
+
+        PageCountMode mode = PageCountMode.orDefault(countMode);
+        int page = pageable.getPageNumber() + 1;
+        int size = pageable.getPageSize();
+
+        if (mode == PageCountMode.EXACT) {
+            Page<PostResponseDTO> result = searchPosts(types, keyword, boardId, categoryId, authorId,
+                    postType, pinnedOnly, featuredOnly, pageable);
+            return PostPageResponseDTO.of(result.getContent(), page, size, result.getTotalElements());
+        }
+
+        log.debug("Post 검색({}) - types: {}, keyword: {}, boardId: {}, categoryId: {}, authorId: {}, postType: {}",
+                 mode, types, keyword, boardId, categoryId, authorId, postType);
+
+        QPostJpaEntity post = QPostJpaEntity.postJpaEntity;
+
+        JPQLQuery<PostJpaEntity> query = from(post);
+
+        List<List<Long>> candidateChunks = findIndexedIdChunks(types, keyword);
+        BooleanBuilder builder = buildSearchCondition(post, types, keyword,
+                boardId, categoryId, authorId, postType, pinnedOnly, featuredOnly);
+
+        if (isRelevanceSort(pageable)) {
+            pageable = withoutSort(pageable); // 정확도순은 EXACT 모드에서만 지원
+        }
+
+        if (candidateChunks != null && candidateChunks.size() > 1) {
+            return searchAcrossChunks(post, builder, candidateChunks, pageable, mode,
+                    countKey(types, keyword, boardId, categoryId, authorId, postType, pinnedOnly, featuredOnly));
+        }
+
+        query.where(withSingleChunk(post, builder, candidateChunks));
+        query.orderBy(post.isPinned.desc(), getOrderSpecifier(post, pageable));
+
+        this.getQuerydsl().applyPagination(pageable, query);
+
+        if (mode == PageCountMode.APPROXIMATE) {
+            List<PostResponseDTO> dtos = toResponseDTOs(query.fetch());
+            long count = approximateCountCache.getOrCompute(
+                    countKey(types, keyword, boardId, categoryId, authorId, postType, pinnedOnly, featuredOnly),
+                    query::fetchCount);
+            return PostPageResponseDTO.ofApproximate(dtos, page, size, count);
+        }
+
+        // SLICE: size + 1건 조회로 다음 페이지 존재 여부만 판단
+        query.limit(size + 1L);
+        List<PostJpaEntity> entities = query.fetch();
+
+        boolean hasNext = entities.size() > size;
+        if (hasNext) {
+            entities = entities.subList(0, size);
+        }
+
+        return PostPageResponseDTO.ofSlice(toResponseDTOs(entities), page, size, hasNext);
+    }
+
+    @Override
+    public PostPageResponseDTO<PostResponseDTO> searchPostsByCursor(String[] types, String keyword, Long boardId,
+                                                                   Long categoryId, Long authorId, PostType postType,
+                                                                   Boolean pinnedOnly, Boolean featuredOnly,
+                                                                   String cursor, int size) {
+
+        int pageSize = Math.max(1, Math.min(MAX_CURSOR_PAGE_SIZE, size));
+
+        log.debug("Post 커서 검색 - types: {}, keyword: {}, boardId: {}, cursor: {}, size: {}",
+                 types, keyword, boardId, cursor, pageSize);
+
+        QPostJpaEntity post = QPostJpaEntity.postJpaEntity;
+        PostCursor after = PostCursor.decode(cursor);
+
+        List<List<Long>> candidateChunks = findIndexedIdChunks(types, keyword);
+        BooleanBuilder builder = buildSearchCondition(post, types, keyword,
+                boardId, categoryId, authorId, postType, pinnedOnly, featuredOnly);
+
+        if (after != null) {
+            builder.and(afterCursor(post, after));
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1건 조회 (COUNT 쿼리 없음)
+        List<PostJpaEntity> entities;
+        if (candidateChunks != null && candidateChunks.size() > 1) {
+            entities = fetchAcrossChunks(post, builder, candidateChunks, CURSOR_ORDER, pageSize + 1L,
+                    post.isPinned.desc(), post.createdAt.desc(), post.id.desc());
+        } else {
+            entities = from(post)
+                    .where(withSingleChunk(post, builder, candidateChunks))
+                    .orderBy(post.isPinned.desc(), post.createdAt.desc(), post.id.desc())
+                    .limit(pageSize + 1L)
+                    .fetch();
+        }
+
+        boolean hasNext = entities.size() > pageSize;
+        if (hasNext) {
+            entities = entities.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostJpaEntity last = entities.get(entities.size() - 1);
+            nextCursor = new PostCursor(last.isPinned(), last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return PostPageResponseDTO.ofCursor(toResponseDTOs(entities), pageSize, cursor, nextCursor);
+    }
+
     @Override
     public PostPageResponseDTO<PostResponseDTO> searchWithCommentCount(String[] types, String keyword, 
                                                                       Long boardId, Long categoryId, 
@@ -230,6 +357,308 @@ public class PostSearchRepositoryImpl extends QuerydslRepositorySupport implemen
         );
     }
 
+    @Override
+    public Optional<PostResponseDTO> findPostById(Long postId) {
+        QPostJpaEntity post = QPostJpaEntity.postJpaEntity;
+
+        PostJpaEntity entity = from(post)
+                .where(post.id.eq(postId).and(post.deletedAt.isNull()))
+                .fetchOne();
+
+        return Optional.ofNullable(entity)
+                .map(postMapper::toDomain)
+                .map(postMapper::toResponseDTO);
+    }
+
+    /**
+     * 검색 색인에서 키워드와 일치하는 후보 게시글 ID를 max-candidates 크기의 묶음으로 조회
+     * 일치 수가 많아도 LIKE 전체 스캔으로 돌아가지 않고, 포스팅 전체를 BM25 점수순으로 나누어 묶음마다 ID 조건으로 조회합니다.
+     * @return BM25 점수순 후보 ID 묶음 목록 (일치가 없으면 빈 묶음 하나), 색인을 사용할 수 없으면 null (LIKE 검색으로 대체)
+     */
+    private List<List<Long>> findIndexedIdChunks(String[] types, String keyword) {
+        if (types == null || keyword == null || keyword.trim().isEmpty()) {
+            return null;
+        }
+        if (!postInvertedIndex.isReady() || !NGramTokenizer.isSearchable(keyword)) {
+            return null;
+        }
+
+        List<Long> rankedIds = postInvertedIndex.search(keyword.trim(), types, Integer.MAX_VALUE).getIds();
+        if (rankedIds.size() <= maxSearchCandidates) {
+            return List.of(rankedIds);
+        }
+
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < rankedIds.size(); from += maxSearchCandidates) {
+            chunks.add(rankedIds.subList(from, Math.min(from + maxSearchCandidates, rankedIds.size())));
+        }
+        log.debug("색인 후보 {}건을 {}개 묶음으로 나누어 조회 - keyword: {}", rankedIds.size(), chunks.size(), keyword);
+        return chunks;
+    }
+
+    /**
+     * 후보 ID 묶음이 하나뿐이면 해당 ID로 범위를 좁힌 조건 반환
+     * 역색인 후보 ID로 범위를 좁혀 LIKE 전체 스캔을 피함
+     * (n-gram 일치는 구문 일치를 보장하지 않으므로 검색 조건의 LIKE로 원문을 다시 확인)
+     */
+    private BooleanBuilder withSingleChunk(QPostJpaEntity post, BooleanBuilder builder, List<List<Long>> candidateChunks) {
+        if (candidateChunks == null) {
+            return builder;
+        }
+        return withCandidates(post, builder, candidateChunks.get(0));
+    }
+
+    private BooleanBuilder withCandidates(QPostJpaEntity post, BooleanBuilder builder, List<Long> candidateIds) {
+        return new BooleanBuilder(builder).and(post.id.in(candidateIds));
+    }
+
+    /**
+     * 후보 ID 묶음별로 정렬된 상위 limit건을 조회한 뒤 같은 정렬 기준으로 병합
+     * @param comparator orders와 같은 순서의 메모리 정렬 기준
+     */
+    private List<PostJpaEntity> fetchAcrossChunks(QPostJpaEntity post, BooleanBuilder builder,
+                                                  List<List<Long>> candidateChunks,
+                                                  Comparator<PostJpaEntity> comparator, long limit,
+                                                  OrderSpecifier<?>... orders) {
+        List<PostJpaEntity> merged = new ArrayList<>();
+        for (List<Long> chunk : candidateChunks) {
+            merged.addAll(from(post)
+                    .where(withCandidates(post, builder, chunk))
+                    .orderBy(orders)
+                    .limit(limit)
+                    .fetch());
+        }
+
+        merged.sort(comparator);
+        return merged.size() > limit ? merged.subList(0, (int) limit) : merged;
+    }
+
+    private long countAcrossChunks(QPostJpaEntity post, BooleanBuilder builder, List<List<Long>> candidateChunks) {
+        long count = 0;
+        for (List<Long> chunk : candidateChunks) {
+            count += from(post).where(withCandidates(post, builder, chunk)).fetchCount();
+        }
+        return count;
+    }
+
+    /**
+     * 후보가 여러 묶음일 때의 APPROXIMATE/SLICE 검색
+     */
+    private PostPageResponseDTO<PostResponseDTO> searchAcrossChunks(QPostJpaEntity post, BooleanBuilder builder,
+                                                                   List<List<Long>> candidateChunks,
+                                                                   Pageable pageable, PageCountMode mode,
+                                                                   String countKey) {
+        int page = pageable.getPageNumber() + 1;
+        int size = pageable.getPageSize();
+        long limit = pageable.getOffset() + size + (mode == PageCountMode.SLICE ? 1 : 0);
+
+        List<PostJpaEntity> merged = fetchAcrossChunks(post, builder, candidateChunks, getComparator(pageable),
+                limit, post.isPinned.desc(), getOrderSpecifier(post, pageable));
+        List<PostJpaEntity> entities = pageOf(merged, pageable);
+
+        if (mode == PageCountMode.APPROXIMATE) {
+            long count = approximateCountCache.getOrCompute(countKey,
+                    () -> countAcrossChunks(post, builder, candidateChunks));
+            return PostPageResponseDTO.ofApproximate(toResponseDTOs(entities), page, size, count);
+        }
+
+        boolean hasNext = merged.size() > pageable.getOffset() + size;
+        return PostPageResponseDTO.ofSlice(toResponseDTOs(entities), page, size, hasNext);
+    }
+
+    private List<PostJpaEntity> pageOf(List<PostJpaEntity> merged, Pageable pageable) {
+        int fromIndex = (int) Math.min(pageable.getOffset(), merged.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), merged.size());
+        return merged.subList(fromIndex, toIndex);
+    }
+
+    /**
+     * 정확도순 검색
+     * 후보 ID 묶음마다 필터 조건을 만족하는 ID만 DB에서 걸러낸 뒤 색인 순위대로 페이징하고, 해당 페이지만 조회합니다.
+     */
+    private Page<PostResponseDTO> searchByRelevance(QPostJpaEntity post, BooleanBuilder builder,
+                                                    List<List<Long>> candidateChunks, Pageable pageable) {
+        List<Long> orderedIds = new ArrayList<>();
+        for (List<Long> chunk : candidateChunks) {
+            Set<Long> matchedIds = new HashSet<>(from(post).select(post.id)
+                    .where(withCandidates(post, builder, chunk))
+                    .fetch());
+            chunk.stream()
+                    .filter(matchedIds::contains)
+                    .forEach(orderedIds::add);
+        }
+
+        List<Long> pageIds = orderedIds.subList(
+                (int) Math.min(pageable.getOffset(), orderedIds.size()),
+                (int) Math.min(pageable.getOffset() + pageable.getPageSize(), orderedIds.size()));
+
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, orderedIds.size());
+        }
+
+        Map<Long, PostJpaEntity> entities = from(post).where(post.id.in(pageIds)).fetch().stream()
+                .collect(Collectors.toMap(PostJpaEntity::getId, Function.identity()));
+
+        List<PostResponseDTO> dtos = toResponseDTOs(pageIds.stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+
+        return new PageImpl<>(dtos, pageable, orderedIds.size());
+    }
+
+    /**
+     * 근사 건수 캐시 키
+     * 검색/필터 값만 사용하고(색인 후보 ID 목록은 넣지 않음), 게시판별로 무효화할 수 있도록 boardId를 앞에 둡니다.
+     */
+    static String countKey(String[] types, String keyword, Long boardId, Long categoryId, Long authorId,
+                           PostType postType, Boolean pinnedOnly, Boolean featuredOnly) {
+        return boardCountKeyPrefix(boardId) + categoryId + ":" + authorId + ":" + postType + ":"
+                + Boolean.TRUE.equals(pinnedOnly) + ":" + Boolean.TRUE.equals(featuredOnly) + ":"
+                + (types != null ? String.join("", types) : "") + ":" + keyword;
+    }
+
+    /**
+     * 특정 게시판(null이면 게시판 필터 없음)의 근사 건수 캐시 키 접두사
+     */
+    static String boardCountKeyPrefix(Long boardId) {
+        return COUNT_CACHE_PREFIX + boardId + ":";
+    }
+
+    private Pageable withoutSort(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
+
+    private boolean isRelevanceSort(Pageable pageable) {
+        return pageable.getSort().stream()
+                .findFirst()
+                .map(order -> RELEVANCE_SORT.equals(order.getProperty()))
+                .orElse(false);
+    }
+
+    /**
+     * 엔티티 목록을 응답 DTO 목록으로 변환
+     */
+    private List<PostResponseDTO> toResponseDTOs(List<PostJpaEntity> entities) {
+        return entities.stream()
+                .map(entity -> {
+                    Post domain = postMapper.toDomain(entity);
+                    return postMapper.toResponseDTO(domain);
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 공통 검색/필터 조건 생성
+     */
+    private BooleanBuilder buildSearchCondition(QPostJpaEntity post, String[] types, String keyword,
+                                                Long boardId, Long categoryId,
+                                                Long authorId, PostType postType, Boolean pinnedOnly,
+                                                Boolean featuredOnly) {
+
+        // 기본 조건: 삭제되지 않은 게시글
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(post.deletedAt.isNull());
+
+        // 검색 조건 추가
+        if (types != null && keyword != null && !keyword.trim().isEmpty()) {
+            BooleanBuilder searchBuilder = new BooleanBuilder();
+            
+            for (String type : types) {
+                switch (type) {
+                    case "t": // title
+                        searchBuilder.or(post.title.containsIgnoreCase(keyword));
+                        break;
+                    case "c": // content
+                        searchBuilder.or(post.content.containsIgnoreCase(keyword));
+                        break;
+                    case "a": // author
+                        searchBuilder.or(post.writer.containsIgnoreCase(keyword));
+                        break;
+                }
+            }
+            builder.and(searchBuilder);
+        }
+
+        // 필터 조건들 추가
+        if (boardId != null) {
+            builder.and(post.boardId.eq(boardId));
+        }
+        if (categoryId != null) {
+            builder.and(post.categoryId.eq(categoryId));
+        }
+        if (authorId != null) {
+            builder.and(post.authorId.eq(authorId));
+        }
+        if (postType != null) {
+            builder.and(post.postType.eq(postType));
+        }
+        if (Boolean.TRUE.equals(pinnedOnly)) {
+            builder.and(post.isPinned.eq(true));
+        }
+        if (Boolean.TRUE.equals(featuredOnly)) {
+            builder.and(post.isFeatured.eq(true));
+        }
+
+        return builder;
+    }
+
+    /**
+     * 커서 이후 행 조건 (isPinned desc, createdAt desc, id desc 기준)
+     * (isPinned, createdAt, id) < (cursor.pinned, cursor.createdAt, cursor.id) 를 풀어쓴 형태
+     */
+    private BooleanExpression afterCursor(QPostJpaEntity post, PostCursor cursor) {
+        BooleanExpression samePinned = post.isPinned.eq(cursor.isPinned());
+
+        BooleanExpression after = samePinned.and(
+                post.createdAt.lt(cursor.getCreatedAt())
+                        .or(post.createdAt.eq(cursor.getCreatedAt()).and(post.id.lt(cursor.getId())))
+        );
+
+        // 고정글 다음에는 일반글이 이어짐
+        if (cursor.isPinned()) {
+            after = after.or(post.isPinned.isFalse());
+        }
+        return after;
+    }
+
+    /**
+     * getOrderSpecifier와 같은 순서의 메모리 정렬 기준 (고정글 우선)
+     * 후보 ID 묶음별 조회 결과를 병합할 때 사용합니다.
+     */
+    private Comparator<PostJpaEntity> getComparator(Pageable pageable) {
+        Comparator<PostJpaEntity> byCreatedAt = Comparator.comparing(PostJpaEntity::getCreatedAt,
+                Comparator.nullsFirst(Comparator.naturalOrder()));
+        Comparator<PostJpaEntity> order = byCreatedAt.reversed(); // 기본 정렬
+
+        Sort.Order first = pageable.getSort().stream().findFirst().orElse(null);
+        if (first != null) {
+            Comparator<PostJpaEntity> property;
+            switch (first.getProperty()) {
+                case "createdAt":
+                    property = byCreatedAt;
+                    break;
+                case "viewCount":
+                    property = Comparator.comparingLong(PostJpaEntity::getViewCount);
+                    break;
+                case "likeCount":
+                    property = Comparator.comparingLong(PostJpaEntity::getLikeCount);
+                    break;
+                case "title":
+                    property = Comparator.comparing(PostJpaEntity::getTitle,
+                            Comparator.nullsFirst(Comparator.naturalOrder()));
+                    break;
+                default:
+                    property = null;
+            }
+            if (property != null) {
+                order = first.getDirection().isAscending() ? property : property.reversed();
+            }
+        }
+
+        return PINNED_FIRST.thenComparing(order);
+    }
+
     /**
      * 정렬 조건에 따른 OrderSpecifier 생성
      */
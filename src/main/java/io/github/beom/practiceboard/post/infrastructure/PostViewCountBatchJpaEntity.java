@@ -0,0 +1,33 @@
+package io.github.beom.practiceboard.post.infrastructure;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반영 완료된 조회수 배치 JPA 엔티티
+ * Redis 처리 중 해시(배치)를 DB에 반영하는 트랜잭션에서 함께 저장하여,
+ * 해시 삭제 실패나 다른 인스턴스의 동시 처리로 같은 배치를 다시 만나도 중복 반영하지 않도록 합니다.
+ */
+@Entity
+@Table(name = "post_view_count_batches",
+       indexes = @Index(name = "idx_post_view_count_batch_applied", columnList = "applied_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostViewCountBatchJpaEntity {
+
+    @Id
+    @Column(name = "batch_id", length = 64)
+    private String batchId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    public PostViewCountBatchJpaEntity(String batchId) {
+        this.batchId = batchId;
+        this.appliedAt = LocalDateTime.now();
+    }
+}
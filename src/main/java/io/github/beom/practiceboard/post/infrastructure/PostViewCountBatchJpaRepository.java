@@ -0,0 +1,19 @@
+package io.github.beom.practiceboard.post.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface PostViewCountBatchJpaRepository extends JpaRepository<PostViewCountBatchJpaEntity, String> {
+
+    /**
+     * 보관 기간이 지난 반영 기록 삭제
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from PostViewCountBatchJpaEntity b where b.appliedAt < :before")
+    int deleteAppliedBefore(@Param("before") LocalDateTime before);
+}
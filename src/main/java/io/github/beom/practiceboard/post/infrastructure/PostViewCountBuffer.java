@@ -0,0 +1,296 @@
+package io.github.beom.practiceboard.post.infrastructure;
+
+import io.github.beom.practiceboard.post.application.PostViewCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 버퍼
+ * 조회마다 posts.view_count를 UPDATE하지 않고 게시글별 카운터에 누적한 뒤 주기적으로 반영합니다.
+ *
+ * 1) 로컬 버퍼 -> Redis 해시(HINCRBY): flush-interval-ms 마다 또는 flush-threshold 건 누적 시
+ * 2) Redis 해시 -> DB: db-flush-interval-ms 마다 해시를 배치 키로 RENAME하고 처리 중 배치 목록(SET)에 등록한 뒤 반영
+ *    (app1/app2 어느 쪽에서 발생한 조회수든 Redis에서 합산된 뒤 한 번만 DB에 더해짐)
+ *
+ * 배치 반영은 같은 트랜잭션에 배치 ID를 기록하므로, 해시 삭제가 실패하거나 두 인스턴스가 같은 배치를 처리해도 한 번만 반영됩니다.
+ * 반영 전에 인스턴스가 죽어 남은 배치는 처리 중 배치 목록에 남아 있으므로 어느 인스턴스든 다음 주기에 이어서 반영합니다.
+ *
+ * Redis 장애 시에는 로컬 버퍼를 DB에 직접 반영하고, 종료 시에는 남은 증가분을 모두 반영합니다.
+ */
+@Component
+@Log4j2
+public class PostViewCountBuffer implements PostViewCounter {
+
+    private static final String DELTA_KEY = "post:view-count:deltas";
+    private static final String PROCESSING_KEY_PREFIX = "post:view-count:processing:";
+    private static final String PROCESSING_SET_KEY = "post:view-count:processing";
+
+    // 증가분 해시를 배치 키로 옮기고 처리 중 배치 목록에 등록 (중간에 죽어도 배치가 목록에서 빠지지 않도록 원자적으로 실행)
+    private static final DefaultRedisScript<Long> CLAIM = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "redis.call('SADD', KEYS[3], KEYS[2]) " +
+            "return 1",
+            Long.class);
+
+    private final PostJpaRepository postJpaRepository;
+    private final PostViewCountBatchJpaRepository batchJpaRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long flushThreshold;
+    private final long batchRetentionDays;
+
+    private final Map<Long, AtomicLong> pending = new ConcurrentHashMap<>();
+    private final AtomicLong pendingIncrements = new AtomicLong();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-view-count-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostViewCountBuffer(PostJpaRepository postJpaRepository,
+                               PostViewCountBatchJpaRepository batchJpaRepository,
+                               StringRedisTemplate redisTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${post.view-count.flush-threshold:10000}") long flushThreshold,
+                               @Value("${post.view-count.batch-retention-days:7}") long batchRetentionDays) {
+        this.postJpaRepository = postJpaRepository;
+        this.batchJpaRepository = batchJpaRepository;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.flushThreshold = flushThreshold;
+        this.batchRetentionDays = batchRetentionDays;
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     * drain의 빈 카운터 제거와 같은 맵 연산(compute) 안에서 증가시키므로, 제거된 카운터에 증가분이 쌓여 유실되지 않습니다.
+     */
+    @Override
+    public void increment(Long postId) {
+        pending.compute(postId, (key, counter) -> {
+            AtomicLong target = counter != null ? counter : new AtomicLong();
+            target.incrementAndGet();
+            return target;
+        });
+
+        if (pendingIncrements.incrementAndGet() >= flushThreshold && flushScheduled.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                try {
+                    flushLocal();
+                } finally {
+                    flushScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 이 인스턴스의 조회수 증가분
+     */
+    @Override
+    public long getPendingDelta(Long postId) {
+        AtomicLong counter = pending.get(postId);
+        return counter != null ? counter.get() : 0L;
+    }
+
+    /**
+     * 로컬 버퍼를 Redis로 반영
+     */
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:1000}")
+    public synchronized void flushLocal() {
+        Map<Long, Long> deltas = drainLocal();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] key = redisTemplate.getStringSerializer().serialize(DELTA_KEY);
+                deltas.forEach((postId, delta) -> connection.hashCommands().hIncrBy(
+                        key, redisTemplate.getStringSerializer().serialize(String.valueOf(postId)), delta));
+                return null;
+            });
+            log.debug("조회수 증가분 Redis 반영 - 게시글 수: {}", deltas.size());
+        } catch (Exception e) {
+            log.warn("조회수 증가분 Redis 반영 실패 - DB에 직접 반영: {}", e.getMessage());
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyToDatabase(deltas));
+            } catch (Exception dbException) {
+                log.error("조회수 증가분 DB 직접 반영 실패 - 유실된 게시글 수: {}", deltas.size(), dbException);
+            }
+        }
+    }
+
+    /**
+     * Redis에 합산된 증가분을 DB에 일괄 반영
+     * 현재 증가분 해시를 새 배치로 가져간 뒤, 이전 주기나 다른 인스턴스에서 남은 배치까지 모두 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.view-count.db-flush-interval-ms:5000}")
+    public synchronized void flushToDatabase() {
+        Set<String> batchKeys;
+        try {
+            redisTemplate.execute(CLAIM,
+                    List.of(DELTA_KEY, PROCESSING_KEY_PREFIX + UUID.randomUUID(), PROCESSING_SET_KEY));
+            batchKeys = redisTemplate.opsForSet().members(PROCESSING_SET_KEY);
+        } catch (Exception e) {
+            log.debug("조회수 증가분 배치 획득 실패: {}", e.getMessage());
+            return;
+        }
+
+        if (batchKeys != null) {
+            batchKeys.forEach(this::flushBatch);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 배치 반영 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${post.view-count.batch-cleanup-interval-ms:3600000}")
+    public void cleanUpAppliedBatches() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    batchJpaRepository.deleteAppliedBefore(LocalDateTime.now().minusDays(batchRetentionDays)));
+            if (deleted != null && deleted > 0) {
+                log.debug("조회수 배치 반영 기록 정리 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("조회수 배치 반영 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 조회수 버퍼 반영 - 대기 중인 게시글 수: {}", pending.size());
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        flushLocal();
+        try {
+            flushToDatabase();
+        } catch (Exception e) {
+            // Redis에 남은 증가분은 다른 인스턴스 또는 다음 기동 시 반영됨
+            log.warn("종료 시 조회수 DB 반영 실패 - Redis에 보존됨: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 배치 하나를 DB에 반영하고 Redis에서 제거
+     * DB 반영이 실패하면 배치를 그대로 두고 다음 주기에 재시도합니다.
+     */
+    private void flushBatch(String batchKey) {
+        String batchId = batchKey.substring(PROCESSING_KEY_PREFIX.length());
+
+        Map<Long, Long> deltas = new HashMap<>();
+        try {
+            redisTemplate.opsForHash().entries(batchKey).forEach((postId, delta) ->
+                    deltas.put(Long.valueOf(postId.toString()), Long.valueOf(delta.toString())));
+        } catch (Exception e) {
+            log.debug("조회수 배치 조회 실패: {} - {}", batchKey, e.getMessage());
+            return;
+        }
+
+        try {
+            Boolean applied = transactionTemplate.execute(status -> applyBatch(batchId, deltas));
+            if (Boolean.TRUE.equals(applied)) {
+                log.debug("조회수 증가분 DB 반영 완료 - 배치: {}, 게시글 수: {}", batchId, deltas.size());
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 배치를 동시에 반영함 - 다음 주기에 반영 기록을 확인하고 정리
+            log.debug("조회수 배치 동시 반영 감지 - 다음 주기에 정리: {}", batchId);
+            return;
+        } catch (Exception e) {
+            // 배치는 그대로 두고 다음 실행에서 재시도
+            log.error("조회수 증가분 DB 반영 실패 - 다음 주기에 재시도, 배치: {}", batchId, e);
+            return;
+        }
+
+        try {
+            redisTemplate.delete(batchKey);
+            redisTemplate.opsForSet().remove(PROCESSING_SET_KEY, batchKey);
+        } catch (Exception e) {
+            // 반영 기록이 있으므로 다음 주기에는 DB 반영 없이 정리만 함
+            log.warn("반영된 조회수 배치 정리 실패 - 다음 주기에 재시도: {} - {}", batchId, e.getMessage());
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 배치 반영 기록과 증가분을 함께 저장
+     * @return 이번에 반영했으면 true, 이미 반영된 배치(또는 빈 배치)면 false
+     */
+    private boolean applyBatch(String batchId, Map<Long, Long> deltas) {
+        if (deltas.isEmpty() || batchJpaRepository.existsById(batchId)) {
+            return false;
+        }
+        batchJpaRepository.saveAndFlush(new PostViewCountBatchJpaEntity(batchId));
+        applyToDatabase(deltas);
+        return true;
+    }
+
+    /**
+     * 로컬 버퍼를 비우고 게시글별 증가분 반환
+     * 증가분이 없는 카운터는 computeIfPresent 안에서 0인지 다시 확인한 뒤 제거하여,
+     * 그 사이 increment가 들어온 카운터는 남겨 둡니다. (PostCommentCountBuffer와 같은 방식)
+     */
+    private Map<Long, Long> drainLocal() {
+        pendingIncrements.set(0);
+        Map<Long, Long> deltas = new HashMap<>();
+
+        pending.forEach((postId, counter) -> {
+            long delta = counter.getAndSet(0);
+            if (delta != 0) {
+                deltas.put(postId, delta);
+            } else {
+                pending.computeIfPresent(postId, (key, current) -> current.get() == 0 ? null : current);
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * 증가분 반영 (호출하는 쪽의 트랜잭션 안에서 실행)
+     * 같은 증가분을 가진 게시글끼리 묶어 UPDATE ... WHERE id IN (...) 한 번으로 처리합니다.
+     */
+    private void applyToDatabase(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> postIdsByDelta = new HashMap<>();
+        deltas.forEach((postId, delta) ->
+                postIdsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(postId));
+
+        postIdsByDelta.forEach(postJpaRepository::increaseViewCount);
+    }
+}
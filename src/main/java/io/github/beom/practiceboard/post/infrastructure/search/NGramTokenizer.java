@@ -0,0 +1,93 @@
+package io.github.beom.practiceboard.post.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 n-gram 토크나이저
+ * 공백/문장부호로 나눈 문자(한글, 영문, 숫자) 구간을 2-gram으로 분해합니다.
+ * 한글은 형태소 분석 없이도 부분 일치 검색이 가능하도록 음절 단위 bigram을 사용합니다.
+ * 예) "게시판 테스트" -> [게시, 시판, 테스, 스트]
+ */
+public final class NGramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 n-gram 토큰 목록으로 분해
+     * 한 글자짜리 구간은 그대로 토큰으로 사용합니다.
+     * @param text 원문
+     * @return 토큰 목록 (중복 포함, 빈도 계산용)
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        List<String> tokens = new ArrayList<>();
+        int runStart = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean isTokenChar = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (isTokenChar) {
+                if (runStart < 0) {
+                    runStart = i;
+                }
+                continue;
+            }
+            if (runStart >= 0) {
+                addGrams(codePoints, runStart, i, tokens);
+                runStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 색인으로 검색 가능한 키워드인지 확인
+     * 색인은 2-gram 기준이므로 한 글자짜리 구간만 있는 키워드는 부분 일치를 보장할 수 없습니다.
+     * @param keyword 검색 키워드
+     * @return 모든 문자 구간이 2글자 이상이면 true
+     */
+    public static boolean isSearchable(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return false;
+        }
+
+        int[] codePoints = Normalizer.normalize(keyword, Normalizer.Form.NFC).codePoints().toArray();
+        int runLength = 0;
+        boolean hasRun = false;
+        for (int i = 0; i <= codePoints.length; i++) {
+            if (i < codePoints.length && Character.isLetterOrDigit(codePoints[i])) {
+                runLength++;
+                continue;
+            }
+            if (runLength > 0) {
+                if (runLength < GRAM_SIZE) {
+                    return false;
+                }
+                hasRun = true;
+            }
+            runLength = 0;
+        }
+        return hasRun;
+    }
+
+    private static void addGrams(int[] codePoints, int start, int end, List<String> tokens) {
+        if (end - start < GRAM_SIZE) {
+            tokens.add(new String(codePoints, start, end - start));
+            return;
+        }
+        for (int i = start; i + GRAM_SIZE <= end; i++) {
+            tokens.add(new String(codePoints, i, GRAM_SIZE));
+        }
+    }
+}
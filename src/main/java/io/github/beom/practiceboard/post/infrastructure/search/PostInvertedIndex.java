@@ -0,0 +1,325 @@
+package io.github.beom.practiceboard.post.infrastructure.search;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 역색인 (in-memory)
+ * 제목/내용/작성자 필드별로 n-gram 역색인을 유지하고 BM25로 순위를 매깁니다.
+ * LIKE '%keyword%' 전체 스캔 대신 색인에서 후보 게시글 ID를 바로 찾기 위해 사용합니다.
+ */
+@Component
+@Log4j2
+public class PostInvertedIndex {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /**
+     * 색인 필드 (검색 타입 코드와 동일: t, c, a)
+     */
+    public enum Field {
+        TITLE("t", 2.0),
+        CONTENT("c", 1.0),
+        WRITER("a", 1.0);
+
+        private final String code;
+        private final double boost;
+
+        Field(String code, double boost) {
+            this.code = code;
+            this.boost = boost;
+        }
+
+        public static Field fromCode(String code) {
+            for (Field field : values()) {
+                if (field.code.equals(code)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Map<Field, FieldIndex> fieldIndexes = new EnumMap<>(Field.class);
+    private final Set<Long> documents = new HashSet<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready = false;
+
+    public PostInvertedIndex() {
+        for (Field field : Field.values()) {
+            fieldIndexes.put(field, new FieldIndex());
+        }
+    }
+
+    /**
+     * 게시글 색인 (이미 색인된 게시글이면 교체)
+     */
+    public void index(Long postId, String title, String content, String writer) {
+        List<String> titleTokens = NGramTokenizer.tokenize(title);
+        List<String> contentTokens = NGramTokenizer.tokenize(content);
+        List<String> writerTokens = NGramTokenizer.tokenize(writer);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            fieldIndexes.get(Field.TITLE).add(postId, titleTokens);
+            fieldIndexes.get(Field.CONTENT).add(postId, contentTokens);
+            fieldIndexes.get(Field.WRITER).add(postId, writerTokens);
+            documents.add(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 색인 제거 (삭제/소프트 삭제 시)
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 색인 초기화 (재색인 전)
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            fieldIndexes.values().forEach(FieldIndex::clear);
+            documents.clear();
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색
+     * 선택한 필드 중 하나라도 키워드의 모든 n-gram을 포함하면 일치로 보고, 필드별 BM25 점수를 합산합니다.
+     * n-gram 일치는 후보일 뿐이므로(구문 순서는 보지 않음) 호출하는 쪽에서 원문으로 다시 확인해야 합니다.
+     * @param keyword 검색 키워드
+     * @param types 검색 타입 배열 (t: 제목, c: 내용, a: 작성자)
+     * @param limit 최대 결과 수
+     * @return 점수 내림차순 상위 limit개 게시글 ID와 전체 일치 수
+     */
+    public SearchResult search(String keyword, String[] types, int limit) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(NGramTokenizer.tokenize(keyword)));
+        if (queryTerms.isEmpty() || types == null || limit <= 0) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            for (String type : types) {
+                Field field = Field.fromCode(type);
+                if (field != null) {
+                    fieldIndexes.get(field).score(queryTerms, field.boost, scores);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new SearchResult(topK(scores, limit), scores.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+        log.info("게시글 검색 색인 준비 완료 - 문서 수: {}", size());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long postId) {
+        if (documents.remove(postId)) {
+            fieldIndexes.values().forEach(fieldIndex -> fieldIndex.remove(postId));
+        }
+    }
+
+    private List<Long> topK(Map<Long, Double> scores, int limit) {
+        Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(byScore);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(heap);
+        ranked.sort(byScore.reversed());
+
+        List<Long> ids = new ArrayList<>(ranked.size());
+        for (Map.Entry<Long, Double> entry : ranked) {
+            ids.add(entry.getKey());
+        }
+        return ids;
+    }
+
+    /**
+     * 검색 결과
+     * ids는 점수 내림차순 상위 limit개이고, totalMatches는 limit과 관계없는 전체 일치 게시글 수입니다.
+     */
+    public static class SearchResult {
+
+        private final List<Long> ids;
+        private final int totalMatches;
+
+        public SearchResult(List<Long> ids, int totalMatches) {
+            this.ids = ids;
+            this.totalMatches = totalMatches;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public int getTotalMatches() {
+            return totalMatches;
+        }
+
+        /**
+         * limit 때문에 잘린 결과인지 확인
+         */
+        public boolean isTruncated() {
+            return totalMatches > ids.size();
+        }
+    }
+
+    /**
+     * 필드 단위 역색인
+     * term -> (postId -> 출현 빈도) 포스팅 리스트와 문서 길이 통계를 유지합니다.
+     */
+    private static class FieldIndex {
+
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, String[]> documentTerms = new HashMap<>();
+        private final Map<Long, Integer> documentLengths = new HashMap<>();
+        private long totalLength;
+
+        void add(Long postId, List<String> tokens) {
+            if (tokens.isEmpty()) {
+                return;
+            }
+
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            for (String token : tokens) {
+                termFrequencies.merge(token, 1, Integer::sum);
+            }
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(postId, frequency));
+
+            documentTerms.put(postId, termFrequencies.keySet().toArray(new String[0]));
+            documentLengths.put(postId, tokens.size());
+            totalLength += tokens.size();
+        }
+
+        void remove(Long postId) {
+            String[] terms = documentTerms.remove(postId);
+            if (terms == null) {
+                return;
+            }
+
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(postId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+
+            Integer length = documentLengths.remove(postId);
+            if (length != null) {
+                totalLength -= length;
+            }
+        }
+
+        void clear() {
+            postings.clear();
+            documentTerms.clear();
+            documentLengths.clear();
+            totalLength = 0;
+        }
+
+        void score(List<String> queryTerms, double boost, Map<Long, Double> scores) {
+            int documentCount = documentLengths.size();
+            if (documentCount == 0) {
+                return;
+            }
+
+            List<Map<Long, Integer>> postingLists = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return; // 하나라도 없는 n-gram이 있으면 이 필드에서는 일치 없음
+                }
+                postingLists.add(posting);
+            }
+
+            // 가장 짧은 포스팅 리스트부터 교집합 계산
+            postingLists.sort(Comparator.comparingInt(Map::size));
+            double averageLength = (double) totalLength / documentCount;
+
+            for (Map.Entry<Long, Integer> candidate : postingLists.get(0).entrySet()) {
+                Long postId = candidate.getKey();
+                int length = documentLengths.get(postId);
+                double score = 0;
+                boolean matchesAll = true;
+
+                for (int i = 0; i < postingLists.size(); i++) {
+                    Map<Long, Integer> posting = postingLists.get(i);
+                    Integer frequency = i == 0 ? candidate.getValue() : posting.get(postId);
+                    if (frequency == null) {
+                        matchesAll = false;
+                        break;
+                    }
+
+                    int documentFrequency = posting.size();
+                    double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                    double normalization = K1 * (1 - B + B * length / averageLength);
+                    score += idf * (frequency * (K1 + 1)) / (frequency + normalization);
+                }
+
+                if (matchesAll) {
+                    scores.merge(postId, score * boost, Double::sum);
+                }
+            }
+        }
+    }
+}
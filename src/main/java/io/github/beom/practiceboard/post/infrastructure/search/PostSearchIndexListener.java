@@ -0,0 +1,33 @@
+package io.github.beom.practiceboard.post.infrastructure.search;
+
+import io.github.beom.practiceboard.post.infrastructure.PostJpaEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 엔티티 변경을 검색 색인에 전달하는 JPA 엔티티 리스너
+ * 등록/수정/소프트 삭제(deletedAt 변경)/물리 삭제 모두 이 리스너를 거칩니다.
+ */
+@Component
+public class PostSearchIndexListener {
+
+    private final ObjectProvider<PostSearchIndexer> postSearchIndexer;
+
+    public PostSearchIndexListener(ObjectProvider<PostSearchIndexer> postSearchIndexer) {
+        this.postSearchIndexer = postSearchIndexer;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(PostJpaEntity entity) {
+        postSearchIndexer.ifAvailable(indexer -> indexer.applyAfterCommit(entity));
+    }
+
+    @PostRemove
+    public void onRemove(PostJpaEntity entity) {
+        postSearchIndexer.ifAvailable(indexer -> indexer.removeAfterCommit(entity.getId()));
+    }
+}
@@ -0,0 +1,217 @@
+package io.github.beom.practiceboard.post.infrastructure.search;
+
+import io.github.beom.practiceboard.post.infrastructure.PostJpaEntity;
+import io.github.beom.practiceboard.post.infrastructure.PostJpaRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 게시글 검색 색인 관리자
+ * - 애플리케이션 시작 시 posts 테이블 전체를 ID 순으로 나누어 백그라운드에서 색인 (시작을 막지 않음)
+ * - 게시글 등록/수정/소프트 삭제는 트랜잭션 커밋 이후 즉시 반영
+ * - 다른 인스턴스(app1/app2)에서 발생한 변경은 주기적으로 updatedAt/ID 기준으로 따라잡음
+ *   (늦게 커밋된 행을 놓치지 않도록 실제로 읽은 행의 updatedAt을 기준점으로 삼고 겹침 구간을 다시 조회)
+ */
+@Component
+@Log4j2
+public class PostSearchIndexer {
+
+    private final PostInvertedIndex postInvertedIndex;
+    private final PostJpaRepository postJpaRepository;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration syncOverlap;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-search-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile LocalDateTime lastSyncedAt;
+    private volatile long lastIndexedId;
+
+    public PostSearchIndexer(PostInvertedIndex postInvertedIndex,
+                             PostJpaRepository postJpaRepository,
+                             @Value("${post.search.index.enabled:true}") boolean enabled,
+                             @Value("${post.search.index.batch-size:500}") int batchSize,
+                             @Value("${post.search.index.sync-overlap-seconds:60}") long syncOverlapSeconds) {
+        this.postInvertedIndex = postInvertedIndex;
+        this.postJpaRepository = postJpaRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.syncOverlap = Duration.ofSeconds(syncOverlapSeconds);
+    }
+
+    /**
+     * 애플리케이션 시작 후 전체 재색인을 백그라운드로 시작
+     * 색인이 준비되기 전까지 검색은 기존 LIKE 쿼리로 처리됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            log.info("게시글 검색 색인 비활성화 - 재색인 생략");
+            return;
+        }
+        rebuildExecutor.execute(this::rebuild);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 전체 재색인
+     */
+    public void rebuild() {
+        log.info("게시글 검색 색인 재구성 시작");
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime syncPoint = LocalDateTime.now();
+
+        try {
+            postInvertedIndex.clear();
+
+            long lastId = 0L;
+            List<PostJpaEntity> batch;
+            do {
+                batch = postJpaRepository.findActiveAfterId(lastId, PageRequest.of(0, batchSize));
+                for (PostJpaEntity entity : batch) {
+                    postInvertedIndex.index(entity.getId(), entity.getTitle(), entity.getContent(), entity.getWriter());
+                    lastId = entity.getId();
+                }
+            } while (batch.size() == batchSize);
+
+            this.lastIndexedId = lastId;
+            this.lastSyncedAt = syncPoint;
+            postInvertedIndex.markReady();
+
+            log.info("게시글 검색 색인 재구성 완료 - 문서 수: {}, 소요: {}ms",
+                    postInvertedIndex.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 재구성 실패 - LIKE 검색으로 동작합니다", e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 게시글 따라잡기
+     */
+    @Scheduled(fixedDelayString = "${post.search.index.sync-interval-ms:30000}")
+    public void syncChanges() {
+        if (!enabled || !postInvertedIndex.isReady()) {
+            return;
+        }
+
+        try {
+            LocalDateTime highWaterMark = lastSyncedAt;
+            int applied = 0;
+
+            // 수정/소프트 삭제된 게시글
+            // 기준점 직전에 시작해 늦게 커밋된 행도 잡히도록 겹침 구간부터 다시 조회 (재색인은 멱등)
+            LocalDateTime since = lastSyncedAt.minus(syncOverlap);
+            int page = 0;
+            List<PostJpaEntity> batch;
+            do {
+                batch = postJpaRepository.findUpdatedSince(since, PageRequest.of(page++, batchSize));
+                for (PostJpaEntity entity : batch) {
+                    apply(entity);
+                    if (entity.getUpdatedAt() != null && entity.getUpdatedAt().isAfter(highWaterMark)) {
+                        highWaterMark = entity.getUpdatedAt();
+                    }
+                }
+                applied += batch.size();
+            } while (batch.size() == batchSize);
+
+            // 새로 등록된 게시글 (updatedAt이 비어 있는 경우 대비)
+            long lastId = lastIndexedId;
+            do {
+                batch = postJpaRepository.findActiveAfterId(lastId, PageRequest.of(0, batchSize));
+                for (PostJpaEntity entity : batch) {
+                    apply(entity);
+                    lastId = entity.getId();
+                }
+                applied += batch.size();
+            } while (batch.size() == batchSize);
+
+            this.lastIndexedId = Math.max(lastIndexedId, lastId);
+            this.lastSyncedAt = highWaterMark; // 실제로 읽은 행 기준으로만 전진
+
+            if (applied > 0) {
+                log.debug("게시글 검색 색인 동기화 - 반영 건수: {}", applied);
+            }
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 게시글 등록/수정/소프트 삭제를 커밋 이후 색인에 반영
+     * 트랜잭션이 롤백되면 색인도 변경되지 않습니다.
+     */
+    public void applyAfterCommit(PostJpaEntity entity) {
+        if (!enabled) {
+            return;
+        }
+
+        // 엔티티는 이후 변경될 수 있으므로 현재 값을 캡처
+        Long postId = entity.getId();
+        boolean deleted = entity.isDeleted();
+        String title = entity.getTitle();
+        String content = entity.getContent();
+        String writer = entity.getWriter();
+
+        runAfterCommit(() -> {
+            if (deleted) {
+                postInvertedIndex.remove(postId);
+            } else {
+                postInvertedIndex.index(postId, title, content, writer);
+                lastIndexedId = Math.max(lastIndexedId, postId);
+            }
+        });
+    }
+
+    /**
+     * 게시글 물리 삭제를 커밋 이후 색인에 반영
+     */
+    public void removeAfterCommit(Long postId) {
+        if (!enabled) {
+            return;
+        }
+        runAfterCommit(() -> postInvertedIndex.remove(postId));
+    }
+
+    private void apply(PostJpaEntity entity) {
+        if (entity.isDeleted()) {
+            postInvertedIndex.remove(entity.getId());
+        } else {
+            postInvertedIndex.index(entity.getId(), entity.getTitle(), entity.getContent(), entity.getWriter());
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
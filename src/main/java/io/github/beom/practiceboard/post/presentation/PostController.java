@@ -0,0 +1,76 @@
+package io.github.beom.practiceboard.post.presentation;
+
+import io.github.beom.practiceboard.post.presentation.dto.request.PostPageRequestDTO;
+import io.github.beom.practiceboard.post.presentation.dto.response.PostPageResponseDTO;
+import io.github.beom.practiceboard.post.presentation.dto.response.PostResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 게시글 컨트롤러
+ * RESTful API 방식으로 게시글 관련 요청을 처리
+ */
+@RestController
+@RequestMapping("/api/v1/posts")
+@Log4j2
+@RequiredArgsConstructor
+@Tag(name = "게시글 API", description = "게시글 관련 API")
+public class PostController {
+
+    private final PostService postService;
+
+    /**
+     * 게시글 목록 조회
+     */
+    @Operation(summary = "게시글 목록 조회",
+            description = "페이징 및 검색 조건으로 게시글 목록을 조회합니다. cursor를 보내면(첫 페이지는 빈 문자열) 커서 페이징으로 조회하고 응답의 nextCursor로 다음 페이지를 요청합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = PostPageResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (유효하지 않은 커서 등)"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping
+    public ResponseEntity<PostPageResponseDTO<PostResponseDTO>> list(
+            @Parameter(description = "페이지 요청 정보")
+            PostPageRequestDTO pageRequestDTO) {
+
+        log.info("게시글 목록 조회 -> 페이지 정보: {}", pageRequestDTO);
+
+        PostPageResponseDTO<PostResponseDTO> responseDTO = postService.getPostList(pageRequestDTO);
+
+        log.info("조회 결과 -> {} 건, 다음 커서: {}", responseDTO.getContent().size(), responseDTO.getNextCursor());
+        return ResponseEntity.ok(responseDTO);
+    }
+
+    /**
+     * 게시글 조회
+     */
+    @Operation(summary = "게시글 조회", description = "특정 게시글을 ID로 조회합니다. 조회수는 모아서 주기적으로 반영됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = PostResponseDTO.class))),
+            @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<PostResponseDTO> getPost(
+            @Parameter(description = "조회할 게시글 ID", required = true)
+            @PathVariable("id") Long id) {
+        log.info("게시글 조회 -> 게시글 ID: {}", id);
+
+        return ResponseEntity.ok(postService.getPost(id));
+    }
+}
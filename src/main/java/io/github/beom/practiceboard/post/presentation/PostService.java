@@ -0,0 +1,28 @@
+package io.github.beom.practiceboard.post.presentation;
+
+import io.github.beom.practiceboard.post.presentation.dto.request.PostPageRequestDTO;
+import io.github.beom.practiceboard.post.presentation.dto.response.PostPageResponseDTO;
+import io.github.beom.practiceboard.post.presentation.dto.response.PostResponseDTO;
+
+/**
+ * 게시글 서비스 인터페이스
+ * 게시글(Post) 관련 비즈니스 로직을 처리합니다.
+ */
+public interface PostService {
+
+    /**
+     * 게시글 목록 조회
+     * cursor가 있으면(빈 문자열 포함) 커서 페이징, 없으면 countMode에 따른 OFFSET 페이징으로 조회합니다.
+     * @param pageRequestDTO 페이징 및 검색 조건
+     * @return 게시글 목록 (커서 페이징이면 nextCursor 포함)
+     */
+    PostPageResponseDTO<PostResponseDTO> getPostList(PostPageRequestDTO pageRequestDTO);
+
+    /**
+     * 게시글 상세 조회
+     * 조회수는 PostViewCounter에 누적되어 주기적으로 반영되며, 응답에는 이 인스턴스에서 아직 반영되지 않은 증가분을 더해 줍니다.
+     * @param postId 게시글 ID
+     * @return 게시글 정보
+     */
+    PostResponseDTO getPost(Long postId);
+}
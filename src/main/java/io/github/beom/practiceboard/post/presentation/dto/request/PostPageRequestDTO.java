@@ -1,5 +1,6 @@
 package io.github.beom.practiceboard.post.presentation.dto.request;
 
+import io.github.beom.practiceboard.global.pagination.PageCountMode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -38,7 +39,7 @@ public class PostPageRequestDTO {
     private String link; // 페이징 링크 생성용
     
     // 정렬 옵션
-    @Schema(description = "정렬 기준 (id, createdAt, viewCount, likeCount 등)", example = "createdAt")
+    @Schema(description = "정렬 기준 (id, createdAt, viewCount, likeCount, relevance(검색 정확도순) 등)", example = "createdAt")
     @Builder.Default
     private String sort = "createdAt"; // 기본 정렬: 생성일시
     
@@ -65,6 +66,15 @@ public class PostPageRequestDTO {
     @Schema(description = "추천글만 조회 여부", example = "false")
     private Boolean featuredOnly; // 추천글만 조회
     
+    // 전체 건수 계산 방식
+    @Schema(description = "전체 건수 계산 방식 (EXACT: 정확한 건수, SLICE: 다음 페이지 여부만, APPROXIMATE: 캐시된 근사 건수)", example = "EXACT")
+    @Builder.Default
+    private PageCountMode countMode = PageCountMode.EXACT;
+    
+    // 커서 페이징
+    @Schema(description = "커서 페이징용 커서 (이전 응답의 nextCursor, 첫 페이지는 빈 문자열)", example = "")
+    private String cursor; // null이면 OFFSET 페이징, 값이 있으면(빈 문자열 포함) 커서 페이징
+    
     /**
      * 검색 유형을 배열로 변환
      * @return 검색 유형 배열 (null이면 검색하지 않음)
@@ -114,6 +124,15 @@ public class PostPageRequestDTO {
                type != null && !type.trim().isEmpty();
     }
     
+    /**
+     * 커서 페이징 요청인지 확인
+     * 커서 페이징은 정렬이 (isPinned, createdAt, id) 내림차순으로 고정되므로 sort/direction은 무시됩니다.
+     */
+    @Schema(hidden = true)
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+    
     /**
      * 필터 조건이 있는지 확인
      */
@@ -162,6 +181,14 @@ public class PostPageRequestDTO {
                 builder.append("&featuredOnly=true");
             }
             
+            if (countMode != null && countMode != PageCountMode.EXACT) {
+                builder.append("&countMode=").append(this.countMode);
+            }
+            
+            if (isCursorMode()) {
+                builder.append("&cursor=").append(this.cursor);
+            }
+            
             builder.append("&sort=").append(this.sort);
             builder.append("&direction=").append(this.direction);
             
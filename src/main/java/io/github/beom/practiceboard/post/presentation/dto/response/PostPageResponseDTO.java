@@ -41,6 +41,13 @@ public class PostPageResponseDTO<E> {
     private int prevPage;
     private int nextPage;
     
+    // 전체 건수가 근사치인지 여부 (SLICE/APPROXIMATE 모드)
+    private boolean approximate;
+    
+    // 커서 페이징 (커서 모드에서만 사용)
+    private String cursor;
+    private String nextCursor;
+    
     public static <T> PostPageResponseDTO<T> of(List<T> content, int page, int size, long totalCount) {
         int totalPages = (int) Math.ceil((double) totalCount / size);
         
@@ -59,6 +66,65 @@ public class PostPageResponseDTO<E> {
                 .build();
     }
     
+    /**
+     * 건수 계산 없는(Slice) 응답 생성
+     * 전체 건수를 모르므로 지금까지 확인된 건수(다음 페이지가 있으면 +1)를 totalCount로,
+     * 다음 페이지가 있으면 page + 1을 totalPages로 사용합니다. (BoardPageResponseDTO.ofSlice와 같은 규칙)
+     * @param hasNext size + 1건 조회로 판단한 다음 페이지 존재 여부
+     */
+    public static <T> PostPageResponseDTO<T> ofSlice(List<T> content, int page, int size, boolean hasNext) {
+        int totalPages = hasNext ? page + 1 : page;
+        long knownCount = (long) (Math.max(1, page) - 1) * size + content.size() + (hasNext ? 1 : 0);
+        
+        return PostPageResponseDTO.<T>builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalPages(totalPages)
+                .totalCount(knownCount)
+                .first(page == 1)
+                .last(!hasNext)
+                .hasNext(hasNext)
+                .hasPrevious(page > 1)
+                .prevPage(Math.max(1, page - 1))
+                .nextPage(hasNext ? page + 1 : page)
+                .approximate(true)
+                .build();
+    }
+    
+    /**
+     * 근사 전체 건수 응답 생성
+     * @param approximateCount 캐시된 전체 건수
+     */
+    public static <T> PostPageResponseDTO<T> ofApproximate(List<T> content, int page, int size, long approximateCount) {
+        PostPageResponseDTO<T> response = of(content, page, size, approximateCount);
+        response.setApproximate(true);
+        return response;
+    }
+    
+    /**
+     * 커서 페이징 응답 생성
+     * 전체 건수를 세지 않으므로 totalCount/totalPages는 채우지 않습니다.
+     * @param cursor 요청에 사용된 커서
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public static <T> PostPageResponseDTO<T> ofCursor(List<T> content, int size, String cursor, String nextCursor) {
+        boolean first = cursor == null || cursor.isBlank();
+        
+        return PostPageResponseDTO.<T>builder()
+                .content(content)
+                .size(size)
+                .first(first)
+                .last(nextCursor == null)
+                .hasNext(nextCursor != null)
+                .hasPrevious(!first)
+                .cursor(cursor)
+                .nextCursor(nextCursor)
+                .approximate(true)
+                .pageList(java.util.Collections.emptyList())
+                .build();
+    }
+    
     /**
      * 페이징 버튼용 페이지 번호 목록 생성
      */
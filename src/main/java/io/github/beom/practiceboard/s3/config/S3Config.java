@@ -7,8 +7,12 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+
 @Configuration
 public class S3Config {
 
@@ -21,28 +25,49 @@ public class S3Config {
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    //MinIO, LocalStack 같은 S3 호환 저장소 주소 (비어 있으면 AWS S3)
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${spring.cloud.aws.s3.path-style-access-enabled:false}")
+    private boolean pathStyleAccessEnabled;
+
     @Bean
     public S3Client s3Client(){
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
                 .region(Region.of(region))
                 .credentialsProvider(
                         StaticCredentialsProvider.create(
                                 AwsBasicCredentials.create(accessKey, secretKey)
                         )
                 )
-                .build();
+                .serviceConfiguration(s3Configuration());
+        if(!endpoint.isBlank()){
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
     }
 
 
     @Bean
     public S3Presigner s3Presigner(){
-        return S3Presigner.builder()
+        S3Presigner.Builder builder = S3Presigner.builder()
                 .region(Region.of(region))
                 .credentialsProvider(
                         StaticCredentialsProvider.create(
                                 AwsBasicCredentials.create(accessKey,secretKey)
                         )
                 )
+                .serviceConfiguration(s3Configuration());
+        if(!endpoint.isBlank()){
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    private S3Configuration s3Configuration(){
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccessEnabled)
                 .build();
     }
 }
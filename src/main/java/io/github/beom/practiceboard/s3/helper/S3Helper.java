@@ -26,6 +26,8 @@ public class S3Helper {
     public String createFullFileName(String uuid , String fileName){ return uuid + "_" + fileName;}
     //썸네일 파일명 생성 ( s_UUID_원본파일명)
     public String createThumbnailFileName(String uuid, String fileName){ return "s_" + uuid + "_" + fileName;}
+    //S3 키 생성 (도메인이 있으면 도메인 디렉토리 아래)
+    public String createS3Key(String domain, String fileName){ return domain != null ? domain + "/" + fileName : fileName;}
     //파일 이미지 인지 확인
     public boolean isImageFile(String fileName) {
         if (fileName == null || !fileName.contains(".")) return false;
@@ -59,7 +59,8 @@ public class LocalUploader {
         try{
             multipartFile.transferTo(savePath);
             savePathList.add(savePath.toFile().getAbsolutePath()); //객체의 절대 경로 추가
-            if(Files.probeContentType(savePath).equals("image")){ //만약 이미지면 섬네일 생성
+            String contentType = Files.probeContentType(savePath);
+            if(contentType != null && contentType.startsWith("image/")){ //만약 이미지면 섬네일 생성 (image/png 등)
                 File thumbFile = new File(uploadPath, "s_" + saveFileName);
                 savePathList.add(thumbFile.getAbsolutePath());
                 Thumbnailator.createThumbnail(savePath.toFile(), thumbFile,200,200);
@@ -0,0 +1,410 @@
+package io.github.beom.practiceboard.s3.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * S3 멀티파트 업로더
+ * threshold-bytes 이상인 파일을 part-size-bytes 단위 파트로 나눠 여러 연결로 동시에 업로드합니다.
+ *
+ * - 입력 스트림은 순서대로 읽고, 읽은 파트는 파트 업로드 풀에서 병렬로 전송합니다.
+ * - 메모리에 올라가는 파트 수는 업로드당 concurrency, 전체 max-buffered-parts로 제한됩니다.
+ * - 업로드 ID는 Redis(s3:multipart:{키})에 보관하고, 실패해도 중단(abort)하지 않습니다.
+ *   같은 키를 다시 업로드하면 S3 ListParts로 이미 올라간 파트를 확인해 건너뛰고 이어서 올립니다.
+ *   (내용 해시 기반 키를 사용하므로 같은 파일을 다시 올리면 자동으로 이어 올리기가 됩니다.)
+ * - 같은 키를 동시에 올리는 경우 키별 임대(SETNX, s3:multipart:lease:{키})를 잡은 업로드만 저장된 업로드 ID를 이어 쓰고,
+ *   나머지는 상태를 남기지 않는 별도 업로드 ID로 올립니다. (한 업로드 ID를 두 요청이 완료하지 않도록)
+ *   임대가 만료되어 겹치더라도 완료 시 NoSuchUpload가 나면 같은 크기의 객체가 있는지 확인해 성공으로 처리합니다.
+ *
+ * 이어 올리지 않은 업로드는 버킷의 미완료 멀티파트 정리(lifecycle) 규칙으로 정리하는 것을 전제로 합니다.
+ * (AbortIncompleteMultipartUpload, state-ttl-hours와 같은 1일 권장 - README 참고)
+ */
+@Component
+@Log4j2
+public class S3MultipartUploader {
+
+    private static final String STATE_KEY_PREFIX = "s3:multipart:";
+    private static final String LEASE_KEY_PREFIX = "s3:multipart:lease:";
+    //내가 잡은 임대일 때만 해제
+    private static final DefaultRedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    //S3 멀티파트의 최소 파트 크기 (마지막 파트 제외)
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final StringRedisTemplate redisTemplate;
+    private final long thresholdBytes;
+    private final long partSize;
+    private final int concurrency;
+    private final Duration stateTtl;
+    private final Duration leaseTtl;
+    private final Semaphore bufferPermits;
+    private final ExecutorService partExecutor;
+    private final Timer uploadTimer;
+    private final Counter uploadedParts;
+    private final Counter resumedParts;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucket;
+
+    public S3MultipartUploader(S3Client s3Client,
+                               StringRedisTemplate redisTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${s3.multipart.threshold-bytes:16777216}") long thresholdBytes,
+                               @Value("${s3.multipart.part-size-bytes:8388608}") long partSize,
+                               @Value("${s3.multipart.concurrency:4}") int concurrency,
+                               @Value("${s3.multipart.threads:16}") int threads,
+                               @Value("${s3.multipart.max-buffered-parts:16}") int maxBufferedParts,
+                               @Value("${s3.multipart.state-ttl-hours:24}") long stateTtlHours,
+                               @Value("${s3.multipart.lease-seconds:900}") long leaseSeconds) {
+        this.s3Client = s3Client;
+        this.redisTemplate = redisTemplate;
+        this.partSize = Math.max(MIN_PART_SIZE, partSize);
+        this.thresholdBytes = Math.max(this.partSize, thresholdBytes);
+        this.concurrency = Math.max(1, concurrency);
+        this.stateTtl = Duration.ofHours(stateTtlHours);
+        this.leaseTtl = Duration.ofSeconds(leaseSeconds);
+        this.bufferPermits = new Semaphore(Math.max(this.concurrency, maxBufferedParts));
+
+        AtomicInteger sequence = new AtomicInteger();
+        //제출 수는 bufferPermits로 제한되므로 대기열은 제한하지 않음
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "s3-multipart-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        this.partExecutor = executor;
+
+        this.uploadTimer = Timer.builder("s3.multipart.upload")
+                .description("멀티파트 업로드 전체 시간").register(meterRegistry);
+        this.uploadedParts = Counter.builder("s3.multipart.parts").tag("result", "uploaded")
+                .description("업로드한 파트 수").register(meterRegistry);
+        this.resumedParts = Counter.builder("s3.multipart.parts").tag("result", "resumed")
+                .description("이전 시도에서 이미 올라가 건너뛴 파트 수").register(meterRegistry);
+    }
+
+    /**
+     * 멀티파트 업로드 대상인지 확인
+     */
+    public boolean shouldUseMultipart(long contentLength) {
+        return contentLength >= thresholdBytes;
+    }
+
+    /**
+     * 멀티파트 업로드
+     *
+     * @param inputStream   업로드할 내용 (순서대로 한 번만 읽음)
+     * @param contentLength 전체 크기
+     * @param contentType   Content-Type (null 가능)
+     * @param s3Key         S3 키
+     */
+    public void upload(InputStream inputStream, long contentLength, String contentType, String s3Key) {
+        long startedAt = System.nanoTime();
+
+        //임대를 못 잡으면 같은 키를 다른 요청이 올리는 중 - 저장된 업로드 ID를 건드리지 않고 따로 올림
+        String leaseToken = UUID.randomUUID().toString();
+        boolean leased = acquireLease(s3Key, leaseToken);
+
+        Map<Integer, Part> uploaded = new HashMap<>();
+        List<CompletedPart> parts;
+        try {
+            String uploadId = leased ? resumeUploadId(s3Key, contentLength, uploaded) : null;
+            if (uploadId == null) {
+                uploadId = createUpload(s3Key, contentLength, contentType, leased);
+            }
+
+            parts = uploadParts(inputStream, contentLength, s3Key, uploadId, uploaded);
+
+            completeUpload(s3Key, uploadId, parts, contentLength);
+            if (leased) {
+                deleteState(s3Key);
+            }
+        } finally {
+            if (leased) {
+                releaseLease(s3Key, leaseToken);
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        uploadTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("멀티파트 업로드 완료 - {} ({} bytes, {}개 파트, 이어 올린 파트 {}개): {}ms", s3Key, contentLength,
+                parts.size(), uploaded.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private List<CompletedPart> uploadParts(InputStream inputStream, long contentLength, String s3Key,
+                                            String uploadId, Map<Integer, Part> uploaded) {
+        int partCount = (int) ((contentLength + partSize - 1) / partSize);
+        Semaphore uploadPermits = new Semaphore(concurrency);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletedPart> resumed = new ArrayList<>();
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+
+        try {
+            for (int partNumber = 1; partNumber <= partCount && failure.get() == null; partNumber++) {
+                long size = Math.min(partSize, contentLength - (partNumber - 1) * partSize);
+
+                Part existing = uploaded.get(partNumber);
+                if (existing != null && existing.size() != null && existing.size() == size) {
+                    inputStream.skipNBytes(size);
+                    resumed.add(CompletedPart.builder().partNumber(partNumber).eTag(existing.eTag()).build());
+                    resumedParts.increment();
+                    continue;
+                }
+
+                uploadPermits.acquire();
+                bufferPermits.acquire();
+                byte[] buffer;
+                try {
+                    buffer = inputStream.readNBytes((int) size);
+                    if (buffer.length != size) {
+                        throw new IOException("스트림 길이가 contentLength보다 짧습니다: " + s3Key);
+                    }
+                } catch (IOException e) {
+                    uploadPermits.release();
+                    bufferPermits.release();
+                    throw e;
+                }
+
+                int number = partNumber;
+                futures.add(CompletableFuture
+                        .supplyAsync(() -> uploadPart(s3Key, uploadId, number, buffer), partExecutor)
+                        .whenComplete((part, e) -> {
+                            uploadPermits.release();
+                            bufferPermits.release();
+                            if (e != null) {
+                                failure.compareAndSet(null, e);
+                            }
+                        }));
+            }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("멀티파트 업로드 중단: " + s3Key, e);
+        } catch (Exception e) {
+            failure.compareAndSet(null, e);
+        }
+
+        if (failure.get() != null) {
+            //업로드 ID는 남겨 두고 같은 키로 다시 올리면 이어서 진행
+            log.error("멀티파트 업로드 실패 - 다음 시도에서 이어 올림: {} - {}", s3Key, failure.get().getMessage());
+            throw new RuntimeException("멀티파트 업로드 실패: " + s3Key, failure.get());
+        }
+
+        List<CompletedPart> parts = new ArrayList<>(resumed);
+        futures.forEach(future -> parts.add(future.join()));
+        parts.sort(Comparator.comparing(CompletedPart::partNumber));
+        return parts;
+    }
+
+    private CompletedPart uploadPart(String s3Key, String uploadId, int partNumber, byte[] buffer) {
+        UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) buffer.length)
+                .build();
+        UploadPartResponse response = s3Client.uploadPart(uploadPartRequest, RequestBody.fromBytes(buffer));
+        uploadedParts.increment();
+        return CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build();
+    }
+
+    private String createUpload(String s3Key, long contentLength, String contentType, boolean resumable) {
+        CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .contentType(contentType)
+                .acl(ObjectCannedACL.PUBLIC_READ)
+                .build();
+        String uploadId = s3Client.createMultipartUpload(createRequest).uploadId();
+        if (resumable) {
+            saveState(s3Key, uploadId, contentLength);
+        }
+        return uploadId;
+    }
+
+    private void completeUpload(String s3Key, String uploadId, List<CompletedPart> parts, long contentLength) {
+        CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build();
+        try {
+            s3Client.completeMultipartUpload(completeRequest);
+        } catch (NoSuchUploadException e) {
+            //같은 업로드 ID를 다른 요청이 먼저 완료한 경우 (키가 내용 해시이므로 같은 크기의 객체가 있으면 같은 내용)
+            if (objectLength(s3Key) == contentLength) {
+                log.info("다른 요청이 먼저 완료한 멀티파트 업로드 - 기존 객체 사용: {}", s3Key);
+                return;
+            }
+            throw e;
+        }
+    }
+
+    private long objectLength(String s3Key) {
+        try {
+            Long length = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .build()).contentLength();
+            return length != null ? length : -1;
+        } catch (NoSuchKeyException e) {
+            return -1;
+        }
+    }
+
+    private boolean acquireLease(String s3Key, String leaseToken) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_KEY_PREFIX + s3Key, leaseToken, leaseTtl));
+        } catch (Exception e) {
+            log.debug("멀티파트 임대 실패 - 이어 올리기 없이 업로드: {} - {}", s3Key, e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLease(String s3Key, String leaseToken) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE, List.of(LEASE_KEY_PREFIX + s3Key), leaseToken);
+        } catch (Exception e) {
+            log.debug("멀티파트 임대 해제 실패 - TTL로 만료: {} - {}", s3Key, e.getMessage());
+        }
+    }
+
+    /**
+     * 이전 시도의 업로드 ID 조회
+     * 크기나 파트 크기가 달라졌으면 이전 업로드를 중단하고 새로 시작합니다.
+     *
+     * @param uploaded 이미 올라간 파트를 채워 넣을 맵
+     * @return 이어 올릴 업로드 ID, 없으면 null
+     */
+    private String resumeUploadId(String s3Key, long contentLength, Map<Integer, Part> uploaded) {
+        Map<String, String> state = loadState(s3Key);
+        String uploadId = state.get("uploadId");
+        if (uploadId == null) {
+            return null;
+        }
+
+        if (!String.valueOf(contentLength).equals(state.get("contentLength"))
+                || !String.valueOf(partSize).equals(state.get("partSize"))) {
+            abortQuietly(s3Key, uploadId);
+            return null;
+        }
+
+        try {
+            ListPartsRequest listPartsRequest = ListPartsRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .build();
+            s3Client.listPartsPaginator(listPartsRequest).parts()
+                    .forEach(part -> uploaded.put(part.partNumber(), part));
+            log.info("멀티파트 업로드 이어 올리기 - {}: 이미 올라간 파트 {}개", s3Key, uploaded.size());
+            return uploadId;
+        } catch (NoSuchUploadException e) {
+            //이미 완료되었거나 정리된 업로드
+            uploaded.clear();
+            return null;
+        }
+    }
+
+    private void abortQuietly(String s3Key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            log.debug("이전 멀티파트 업로드 중단 실패: {} - {}", s3Key, e.getMessage());
+        }
+    }
+
+    private Map<String, String> loadState(String s3Key) {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(STATE_KEY_PREFIX + s3Key);
+            return entries.entrySet().stream()
+                    .collect(Collectors.toMap(entry -> entry.getKey().toString(), entry -> entry.getValue().toString()));
+        } catch (Exception e) {
+            log.debug("멀티파트 상태 조회 실패 - 새로 업로드: {} - {}", s3Key, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void saveState(String s3Key, String uploadId, long contentLength) {
+        try {
+            String key = STATE_KEY_PREFIX + s3Key;
+            redisTemplate.opsForHash().putAll(key, Map.of(
+                    "uploadId", uploadId,
+                    "contentLength", String.valueOf(contentLength),
+                    "partSize", String.valueOf(partSize)));
+            redisTemplate.expire(key, stateTtl);
+        } catch (Exception e) {
+            log.debug("멀티파트 상태 저장 실패 - 이어 올리기 불가: {} - {}", s3Key, e.getMessage());
+        }
+    }
+
+    private void deleteState(String s3Key) {
+        try {
+            redisTemplate.delete(STATE_KEY_PREFIX + s3Key);
+        } catch (Exception e) {
+            log.debug("멀티파트 상태 삭제 실패: {} - {}", s3Key, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partExecutor.shutdown();
+        try {
+            partExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
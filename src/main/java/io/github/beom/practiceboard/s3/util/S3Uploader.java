@@ -5,15 +5,23 @@ import org.springframework.beans.factory.annotation.Value;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 import io.github.beom.practiceboard.s3.helper.S3Helper;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Paths;
 import java.time.Duration;
 
@@ -25,13 +33,17 @@ public class S3Uploader {
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final S3MultipartUploader multipartUploader;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
 
-    @Value("${spring.cloud.aws.region.static")
+    @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     //로컬 파일을 S3로 업로드
     //filePath는 /Users/admin/Desktop/abc123_profile.png 이런느낌
     public String upload(String filePath) throws RuntimeException{
@@ -40,16 +52,11 @@ public class S3Uploader {
         try{
             String s3Key = targetFile.getName();
             //S3 업로드
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(s3Key)
-                    .acl(ObjectCannedACL.PUBLIC_READ)
-                    .build();
-            s3Client.putObject(putObjectRequest, Paths.get(targetFile.getPath()));
+            putFile(targetFile, s3Key);
             //업로드 후 로컬 파일 삭제
             removeOriginalFile(targetFile);
             // URL 반환
-            return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, s3Key);
+            return getUrl(s3Key);
 
         } catch (Exception e){
             log.error("S3 업로드 실패 : {}" , e.getMessage());
@@ -62,21 +69,94 @@ public class S3Uploader {
         try{ //s3로 업로드
         String s3Key = s3Directory + "/" + targetFile.getName();
 
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucket)
-                .key(s3Key)
-                .acl(ObjectCannedACL.PUBLIC_READ)
-                .build();
-        s3Client.putObject(putObjectRequest, Paths.get(targetFile.getPath()));
+        putFile(targetFile, s3Key);
         //업로드 후 로컬 파일 삭제
             removeOriginalFile(targetFile);
             //url 반환
-            return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, s3Key);
+            return getUrl(s3Key);
         } catch (Exception e){
             log.error("S3 업로드 실패 : {}" , e.getMessage());
             throw new RuntimeException(e);
         }
     }
+    //스트림을 로컬 임시 파일 없이 S3로 바로 업로드
+    //s3Key는 디렉토리를 포함한 전체 키 (예: board/abc123_profile.png)
+    //임계 크기 이상이면 멀티파트로 나눠 병렬 업로드
+    public String upload(InputStream inputStream, long contentLength, String contentType, String s3Key) throws RuntimeException{
+        try{
+            if(multipartUploader.shouldUseMultipart(contentLength)){
+                multipartUploader.upload(inputStream, contentLength, contentType, s3Key);
+                return getUrl(s3Key);
+            }
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .contentType(contentType)
+                    .contentLength(contentLength)
+                    .acl(ObjectCannedACL.PUBLIC_READ)
+                    .build();
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, contentLength));
+            //url 반환
+            return getUrl(s3Key);
+        } catch (Exception e){
+            log.error("S3 업로드 실패 : {}" , e.getMessage());
+            throw new RuntimeException(e);
+        }
+    }
+    //S3 객체를 스트림으로 읽기 (호출한 쪽에서 닫아야 함)
+    public InputStream openStream(String s3Key) throws RuntimeException{
+        try{
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .build();
+            return s3Client.getObject(getObjectRequest);
+        } catch (Exception e){
+            log.error("S3 읽기 실패 : {} - {}", s3Key, e.getMessage());
+            throw new RuntimeException(e);
+        }
+    }
+    //S3 객체 존재 여부 (HEAD 요청)
+    public boolean exists(String s3Key) throws RuntimeException{
+        try{
+            HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .build();
+            s3Client.headObject(headObjectRequest);
+            return true;
+        } catch (NoSuchKeyException e){
+            return false;
+        } catch (S3Exception e){
+            if(e.statusCode() == 404){
+                return false;
+            }
+            log.error("S3 존재 확인 실패 : {} - {}", s3Key, e.getMessage());
+            throw new RuntimeException(e);
+        }
+    }
+    //S3 키의 URL 반환 (엔드포인트를 지정한 S3 호환 저장소는 경로 방식 URL)
+    public String getUrl(String s3Key){
+        if(!endpoint.isBlank()){
+            return String.format("%s/%s/%s", endpoint.replaceAll("/+$", ""), bucket, s3Key);
+        }
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, s3Key);
+    }
+    //로컬 파일 업로드, 임계 크기 이상이면 멀티파트로 나눠 병렬 업로드
+    private void putFile(File targetFile, String s3Key) throws IOException{
+        if(multipartUploader.shouldUseMultipart(targetFile.length())){
+            try(InputStream inputStream = new FileInputStream(targetFile)){
+                multipartUploader.upload(inputStream, targetFile.length(), null, s3Key);
+            }
+            return;
+        }
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .acl(ObjectCannedACL.PUBLIC_READ)
+                .build();
+        s3Client.putObject(putObjectRequest, Paths.get(targetFile.getPath()));
+    }
     //Presigned URL 생성 (UUID와 파일명 분리)
     public String generatePresignedUrl(String s3Directory, String uuid, String fileName, Duration duration){
         try{
@@ -78,7 +78,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
      */
     private UserSecurityDTO generateDTO(String email, Map<String,Object> params, String provider){
 
-        Optional<User> result = userRepository.findByEmail(email);
+        Optional<User> result = userRepository.findByEmailWithPassword(email);
 
         // 신규 사용자인 경우 자동 회원가입
         if(result.isEmpty()){
@@ -2,9 +2,12 @@ package io.github.beom.practiceboard.security.config;
 
 import com.google.gson.Gson;
 import io.github.beom.practiceboard.security.util.JWTUtil;
+import io.github.beom.practiceboard.security.util.RateLimiter;
+import io.github.beom.practiceboard.security.util.RefreshTokenStore;
 import io.github.beom.practiceboard.user.application.CustomUserDetailsService;
 import io.github.beom.practiceboard.security.handler.Custom403Handler;
 import io.github.beom.practiceboard.security.filter.LoginFilter;
+import io.github.beom.practiceboard.security.filter.RateLimitFilter;
 import io.github.beom.practiceboard.security.filter.RefreshTokenFilter;
 import io.github.beom.practiceboard.security.filter.TokenCheckFilter;
 import io.github.beom.practiceboard.security.handler.LoginSuccessHandler;
@@ -12,6 +15,7 @@ import io.github.beom.practiceboard.security.handler.CustomSocialLoginSuccessHan
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -37,6 +41,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Configuration
 @Log4j2
@@ -48,6 +53,12 @@ public class CustomSecurityConfig {
     //주입 필요
     private final CustomUserDetailsService userDetailsService;
     private final JWTUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RateLimiter rateLimiter;
+
+    //X-Real-IP를 믿을 프록시 주소/대역 (기본값 없음 - 설정한 경우에만 헤더 사용)
+    @Value("${rate-limit.trusted-proxies:}")
+    private String[] trustedProxies;
 
     public AccessDeniedHandler accessDeniedHandler(){
         return new Custom403Handler();
@@ -84,7 +95,7 @@ public class CustomSecurityConfig {
         LoginFilter loginFilter = new LoginFilter("/generateToken", jwtUtil);
         loginFilter.setAuthenticationManager(authenticationManager);
         //LoginSuccessHandler
-        LoginSuccessHandler successHandler = new LoginSuccessHandler(jwtUtil);
+        LoginSuccessHandler successHandler = new LoginSuccessHandler(jwtUtil, refreshTokenStore);
         //SuccessHandler 세팅
         loginFilter.setAuthenticationSuccessHandler(successHandler);
 
@@ -97,9 +108,13 @@ public class CustomSecurityConfig {
                 tokenCheckFilter(jwtUtil),
                 UsernamePasswordAuthenticationFilter.class
         );
-        //refreshToken 호출처리
-        http.addFilterBefore(new RefreshTokenFilter("/refreshToken",jwtUtil),
+        //refreshToken 호출처리 (/revokeToken은 토큰 패밀리 폐기)
+        http.addFilterBefore(new RefreshTokenFilter("/refreshToken", "/revokeToken", jwtUtil, refreshTokenStore),
                 TokenCheckFilter.class);
+        //요청 속도 제한 (인증 필터들보다 먼저 동작해 비인증 요청과 로그인/토큰 갱신 요청도 제한)
+        http.addFilterBefore(new RateLimitFilter(rateLimiter, jwtUtil,
+                        Set.of("/generateToken", "/refreshToken", "/revokeToken"), trustedProxies),
+                RefreshTokenFilter.class);
 
 
         // REST API 보안 설정
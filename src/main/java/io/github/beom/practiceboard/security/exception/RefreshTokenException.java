@@ -12,10 +12,23 @@ import java.util.Map;
 
 public class RefreshTokenException extends RuntimeException{
 
+    private static final Gson GSON = new Gson();
+
     private ErrorCase errorCase;
 
     public enum ErrorCase {
-        NO_ACCESS, NO_REFRESH, OLD_REFRESH
+        NO_ACCESS(HttpStatus.UNAUTHORIZED),
+        NO_REFRESH(HttpStatus.UNAUTHORIZED),
+        OLD_REFRESH(HttpStatus.UNAUTHORIZED),
+        REVOKED_REFRESH(HttpStatus.UNAUTHORIZED),
+        //토큰 저장소(Redis)를 사용할 수 없어 처리하지 못함
+        STORE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE);
+
+        private final HttpStatus status;
+
+        ErrorCase(HttpStatus status) {
+            this.status = status;
+        }
     }
 
     public RefreshTokenException(ErrorCase errorCase){
@@ -23,14 +36,16 @@ public class RefreshTokenException extends RuntimeException{
         this.errorCase = errorCase;
     }
 
+    public ErrorCase getErrorCase() {
+        return errorCase;
+    }
+
     public void sendResponseError(HttpServletResponse response){
 
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setStatus(errorCase.status.value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
 
-        Gson gson = new Gson();
-
-        String responseStr = gson.toJson(Map.of("msg", errorCase.name(), "time", new Date()));
+        String responseStr = GSON.toJson(Map.of("msg", errorCase.name(), "time", new Date()));
 
         try {
             response.getWriter().println(responseStr);
@@ -0,0 +1,123 @@
+package io.github.beom.practiceboard.security.filter;
+
+import com.google.gson.Gson;
+import io.github.beom.practiceboard.security.util.JWTUtil;
+import io.github.beom.practiceboard.security.util.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 속도 제한 필터
+ * 인증 필터들보다 앞에서 동작하므로 토큰이 없거나 잘못된 /api/ 요청과 로그인/토큰 갱신 요청도 제한합니다.
+ * 유효한 Access Token이 있으면 사용자 ID(JWT id 클레임)로, 그 외 요청은 클라이언트 IP로 버킷을 구분합니다.
+ * 제한을 넘으면 429와 Retry-After 헤더를 응답합니다.
+ *
+ * X-Real-IP 헤더는 요청이 신뢰하는 프록시(rate-limit.trusted-proxies)에서 온 경우에만 사용합니다.
+ * 그렇지 않으면 누구나 헤더를 바꿔 가며 IP 버킷을 우회할 수 있기 때문입니다.
+ */
+@Log4j2
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Gson GSON = new Gson();
+
+    private final RateLimiter rateLimiter;
+    private final JWTUtil jwtUtil;
+
+    //"/api/" 외에 제한할 경로 (로그인, 토큰 갱신/폐기)
+    private final Set<String> authPaths;
+
+    //X-Real-IP를 믿을 수 있는 프록시 주소 (비어 있으면 항상 접속 주소 사용)
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public RateLimitFilter(RateLimiter rateLimiter, JWTUtil jwtUtil, Set<String> authPaths, String[] trustedProxies) {
+        this.rateLimiter = rateLimiter;
+        this.jwtUtil = jwtUtil;
+        this.authPaths = authPaths;
+        this.trustedProxies = Arrays.stream(trustedProxies)
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String path = request.getRequestURI();
+
+        if (!rateLimiter.isEnabled() || !(path.startsWith("/api/") || authPaths.contains(path))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String principal = resolvePrincipal(request);
+        long waitMillis = rateLimiter.tryAcquire(request.getMethod(), path, principal);
+
+        if (waitMillis > 0) {
+            log.debug("요청 속도 제한 - {} {} {}", principal, request.getMethod(), path);
+            sendTooManyRequests(response, waitMillis);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolvePrincipal(HttpServletRequest request) {
+        String userId = resolveUserId(request);
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        return "ip:" + resolveClientIp(request);
+    }
+
+    /**
+     * Access Token의 사용자 ID (검증 결과는 JWTUtil이 캐시하므로 TokenCheckFilter와 중복 검증 비용이 작음)
+     */
+    private String resolveUserId(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header == null || !header.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            Object id = jwtUtil.validateToken(header.substring(7)).get("id");
+            return id != null ? id.toString() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private String resolveClientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (trustedProxies.stream().noneMatch(proxy -> proxy.matches(remoteAddr))) {
+            return remoteAddr;
+        }
+        String realIp = request.getHeader("X-Real-IP");
+        return realIp != null && !realIp.isBlank() ? realIp.trim() : remoteAddr;
+    }
+
+    private void sendTooManyRequests(HttpServletResponse response, long waitMillis) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, (waitMillis + 999) / 1000)));
+
+        response.getWriter().println(GSON.toJson(Map.of("msg", "Too many requests",
+                "time", new Date())));
+    }
+}
@@ -4,6 +4,7 @@ import io.github.beom.practiceboard.security.exception.RefreshTokenException;
 
 import com.google.gson.Gson;
 import io.github.beom.practiceboard.security.util.JWTUtil;
+import io.github.beom.practiceboard.security.util.RefreshTokenStore;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,40 +18,51 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.time.Instant;
-import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 @Log4j2
 @RequiredArgsConstructor
 public class RefreshTokenFilter  extends OncePerRequestFilter {
 
+    //Gson은 스레드 안전하므로 요청마다 생성하지 않고 공유
+    private static final Gson GSON = new Gson();
+
     private final String refreshPath;
 
+    private final String revokePath;
+
     private final JWTUtil jwtUtil;
 
+    private final RefreshTokenStore refreshTokenStore;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
         String path = request.getRequestURI();
 
+        if (path.equals(revokePath)) {
+            revoke(request, response);
+            return;
+        }
+
         if (!path.equals(refreshPath)) {
-            log.info("skip refresh token filter.....");
             filterChain.doFilter(request, response);
             return;
         }
 
-        log.info("Refresh Token Filter...run..............1");
+        log.debug("Refresh Token Filter...run..............1");
 
         //전송된 JSON에서 accessToken과 refreshToken을 얻어온다.
         Map<String, String> tokens = parseRequestJSON(request);
+        if (tokens == null) {
+            new RefreshTokenException(RefreshTokenException.ErrorCase.NO_REFRESH).sendResponseError(response);
+            return;
+        }
 
         String accessToken = tokens.get("accessToken");
         String refreshToken = tokens.get("refreshToken");
 
-        log.info("accessToken: " + accessToken);
-        log.info("refreshToken: " + refreshToken);
-
         try{
             checkAccessToken(accessToken);
         }catch(RefreshTokenException refreshTokenException){
@@ -58,55 +70,52 @@ public class RefreshTokenFilter  extends OncePerRequestFilter {
             return;
         }
 
-        Map<String, Object> refreshClaims = null;
+        String accessTokenValue;
+        String refreshTokenValue;
 
         try {
 
-            refreshClaims = checkRefreshToken(refreshToken);
-            log.info(refreshClaims);
+            Map<String, Object> refreshClaims = checkRefreshToken(refreshToken);
+
+            //Refresh Token은 갱신할 때마다 교체 (이미 교체된 토큰이 다시 오면 패밀리 폐기)
+            refreshTokenValue = refreshTokenStore.rotate(refreshToken, refreshClaims);
+
+            //이상태까지 오면 무조건 AccessToken은 새로 생성
+            Map<String, Object> accessClaims = new HashMap<>();
+            accessClaims.put("id", refreshClaims.get("id"));
+            if (refreshClaims.get("roles") != null) {
+                accessClaims.put("roles", refreshClaims.get("roles"));
+            }
+            accessTokenValue = jwtUtil.generateToken(accessClaims, true);
 
         }catch(RefreshTokenException refreshTokenException){
             refreshTokenException.sendResponseError(response);
             return;
         }
 
-        //Refresh Token의 유효시간이 얼마 남지 않은 경우
-        Integer exp = (Integer)refreshClaims.get("exp");
-
-        Date expTime = new Date(Instant.ofEpochMilli(exp).toEpochMilli() * 1000);
-
-        Date current = new Date(System.currentTimeMillis());
+        log.debug("Refresh Token result....................");
 
-        //만료 시간과 현재 시간의 간격 계산
-        //만일 3일 미만인 경우에는 Refresh Token도 다시 생성
-        long gapTime = (expTime.getTime() - current.getTime());
-
-        log.info("-----------------------------------------");
-        log.info("current: " + current);
-        log.info("expTime: " + expTime);
-        log.info("gap: " + gapTime );
+        sendTokens(accessTokenValue, refreshTokenValue, response);
 
-        String id = (String)refreshClaims.get("id");
 
-        //이상태까지 오면 무조건 AccessToken은 새로 생성
-        String accessTokenValue = jwtUtil.generateToken(Map.of("id", id), true);
+    }
 
-        String refreshTokenValue = tokens.get("refreshToken");
+    /**
+     * Refresh Token 폐기 (패밀리 키 삭제)
+     */
+    private void revoke(HttpServletRequest request, HttpServletResponse response) {
+        Map<String, String> tokens = parseRequestJSON(request);
+        String refreshToken = tokens != null ? tokens.get("refreshToken") : null;
 
-        //RefrshToken이 3일도 안남았다면..
-        if(gapTime < (1000 * 60  * 3  ) ){
-            //if(gapTime < (1000 * 60 * 60 * 24 * 3  ) ){
-            log.info("new Refresh Token required...  ");
-            refreshTokenValue = jwtUtil.generateToken(Map.of("id", id), false);
+        try {
+            Map<String, Object> refreshClaims = checkRefreshToken(refreshToken);
+            refreshTokenStore.revoke(refreshToken, refreshClaims);
+        } catch (RefreshTokenException refreshTokenException) {
+            refreshTokenException.sendResponseError(response);
+            return;
         }
 
-        log.info("Refresh Token result....................");
-        log.info("accessToken: " + accessTokenValue);
-        log.info("refreshToken: " + refreshTokenValue);
-
-        sendTokens(accessTokenValue, refreshTokenValue, response);
-
-
+        response.setStatus(HttpServletResponse.SC_NO_CONTENT);
     }
 
     private Map<String,String> parseRequestJSON(HttpServletRequest request) {
@@ -114,9 +123,7 @@ public class RefreshTokenFilter  extends OncePerRequestFilter {
         //JSON 데이터를 분석해서 mid, mpw 전달 값을 Map으로 처리
         try(Reader reader = new InputStreamReader(request.getInputStream())){
 
-            Gson gson = new Gson();
-
-            return gson.fromJson(reader, Map.class);
+            return GSON.fromJson(reader, Map.class);
 
         }catch(Exception e){
             log.error(e.getMessage());
@@ -152,9 +159,7 @@ public class RefreshTokenFilter  extends OncePerRequestFilter {
 
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
 
-        Gson gson = new Gson();
-
-        String jsonStr = gson.toJson(Map.of("accessToken", accessTokenValue,
+        String jsonStr = GSON.toJson(Map.of("accessToken", accessTokenValue,
                 "refreshToken", refreshTokenValue));
 
         try {
@@ -39,8 +39,7 @@ public class TokenCheckFilter extends OncePerRequestFilter {
             return;
         }
 
-        log.info("Token Check Filter...........................");
-        log.info("JWTUtil: " + jwtUtil);
+        log.debug("Token Check Filter...........................");
 
         //preAuthorize 적용 가능
         //jwt와 PreAuthorize를 이용하는 경우 매번 호출 때마다 UserDetailsService를 이용해서
@@ -55,8 +54,8 @@ public class TokenCheckFilter extends OncePerRequestFilter {
             @SuppressWarnings("unchecked")
             List<String> roles = (List<String>) payload.get("roles");
 
-            log.info("JWT 클레임에서 추출된 사용자 ID: {}", id);
-            log.info("JWT 클레임에서 추출된 권한: {}", roles);
+            log.debug("JWT 클레임에서 추출된 사용자 ID: {}", id);
+            log.debug("JWT 클레임에서 추출된 권한: {}", roles);
 
             // 클레임 기반으로 Authentication 객체 생성 (DB 호출 없음)
             List<SimpleGrantedAuthority> authorities = roles.stream()
@@ -2,6 +2,7 @@ package io.github.beom.practiceboard.security.handler;
 
 import com.google.gson.Gson;
 import io.github.beom.practiceboard.security.util.JWTUtil;
+import io.github.beom.practiceboard.security.util.RefreshTokenStore;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,7 +19,10 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class LoginSuccessHandler implements AuthenticationSuccessHandler {
 
+    private static final Gson GSON = new Gson();
+
     private final JWTUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
 
     public void onAuthenticationSuccess(HttpServletRequest request,
                                         HttpServletResponse response,
@@ -40,15 +44,14 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler {
         );
         //액세스 토큰 생성
         String accessToken = jwtUtil.generateToken(claim, true);
-        //Refresh Token 생성
-        String refreshToken = jwtUtil.generateToken(claim, false);
+        //Refresh Token 생성 (새 토큰 패밀리로 Redis에 등록)
+        String refreshToken = refreshTokenStore.issue(claim);
 
-        Gson gson = new Gson();
         Map<String,String> keyMap = Map.of(
                 "accessToken",accessToken,
                 "refreshToken",refreshToken);
 
-        String jsonStr = gson.toJson(keyMap);
+        String jsonStr = GSON.toJson(keyMap);
 
         response.getWriter().println(jsonStr);
 
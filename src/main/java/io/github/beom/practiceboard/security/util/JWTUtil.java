@@ -1,17 +1,28 @@
 package io.github.beom.practiceboard.security.util;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 @Log4j2
@@ -26,8 +37,33 @@ public class JWTUtil {
     @Value("${jwt.refresh-token.expiration}")
     private long refreshTokenExpiration;
 
+    //검증 완료 토큰 캐시 설정
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
+    @Value("${jwt.verified-cache.ttl-seconds:300}")
+    private long verifiedCacheTtlSeconds;
+
+    //시크릿 키와 파서는 스레드 안전하므로 한 번만 생성해서 재사용
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+
+    //토큰 해시 -> 검증된 클레임 (토큰 만료 시각과 TTL 중 이른 시각까지만 유효)
+    //요청 스레드끼리 전역 락을 잡지 않도록 ConcurrentHashMap을 사용하고, 최대 크기를 넘으면 한 스레드만 정리
+    private Map<String, VerifiedToken> verifiedTokens;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    @PostConstruct
+    public void init() {
+        this.secretKey = Keys.hmacShaKeyFor(key.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey) //검증 키 설정
+                .build();
+        this.verifiedTokens = new ConcurrentHashMap<>();
+    }
+
     public String generateToken(Map<String, Object> valueMap, boolean isAccessToken){
-        log.info("generateKey..." + key);
+        log.debug("generateToken... accessToken: {}", isAccessToken);
 
         //헤더
         Map<String, Object> headers = new HashMap<>();
@@ -40,8 +76,6 @@ public class JWTUtil {
 
         long expiration = isAccessToken ? accessTokenExpiration : refreshTokenExpiration;
 
-        SecretKey secretKey = Keys.hmacShaKeyFor(key.getBytes());
-
         String jwtStr = Jwts.builder()
                 .header() //헤더 설정
                 .add(headers)
@@ -56,17 +90,87 @@ public class JWTUtil {
     }
 
 
+    /**
+     * 토큰 검증
+     * 같은 토큰이 반복해서 들어오면 서명 검증과 파싱을 건너뛰고 캐시된 클레임을 반환합니다.
+     * 캐시는 토큰 원문이 아닌 SHA-256 해시를 키로 사용하며, 토큰 만료 시각 이후에는 사용하지 않습니다.
+     */
     public Map<String, Object> validateToken(String token) throws JwtException {
-        Map<String, Object> claim = null;
-
-        SecretKey secretKey = Keys.hmacShaKeyFor(key.getBytes()); //시크릿 키 생성
-
-        claim = Jwts.parser()
-                .verifyWith(secretKey) //검증 키 설정
-                .build()
-                .parseSignedClaims(token) //서명된 클레임 파심
+        String cacheKey = hash(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(cacheKey);
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                return cached.claims;
+            }
+            verifiedTokens.remove(cacheKey, cached);
+        }
+
+        Claims claims = jwtParser
+                .parseSignedClaims(token) //서명된 클레임 파싱
                 .getPayload(); //페이로드 반환
 
+        Map<String, Object> claim = Collections.unmodifiableMap(new HashMap<>(claims));
+        cache(cacheKey, claim, claims.getExpiration(), now);
+
         return claim;
     }
+
+    private void cache(String cacheKey, Map<String, Object> claim, Date expiration, long now) {
+        long expiresAt = now + verifiedCacheTtlSeconds * 1000;
+        if (expiration != null) {
+            expiresAt = Math.min(expiresAt, expiration.getTime());
+        }
+        if (expiresAt <= now || verifiedCacheMaxSize <= 0) {
+            return;
+        }
+
+        verifiedTokens.put(cacheKey, new VerifiedToken(claim, expiresAt));
+        if (verifiedTokens.size() > verifiedCacheMaxSize) {
+            evict(now);
+        }
+    }
+
+    /**
+     * 최대 크기를 넘은 캐시 정리
+     * 만료된 항목을 먼저 제거하고, 그래도 많으면 최대 크기의 90%가 될 때까지 임의의 항목을 제거합니다.
+     * 정리 중인 스레드가 있으면 다른 스레드는 기다리지 않고 지나갑니다.
+     */
+    private void evict(long now) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            verifiedTokens.values().removeIf(token -> token.expiresAt <= now);
+
+            int target = verifiedCacheMaxSize - verifiedCacheMaxSize / 10;
+            Iterator<String> keys = verifiedTokens.keySet().iterator();
+            while (verifiedTokens.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static class VerifiedToken {
+        private final Map<String, Object> claims;
+        private final long expiresAt;
+
+        private VerifiedToken(Map<String, Object> claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
@@ -0,0 +1,255 @@
+package io.github.beom.practiceboard.security.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 속도 제한기 (토큰 버킷)
+ * 사용자(JWT id 클레임) 또는 IP별로 경로 규칙마다 토큰 버킷을 두고, 토큰이 없으면 요청을 거절합니다.
+ *
+ * - 로컬 버킷: 인스턴스 안에서 락 없이 CAS 한 번으로 판정합니다.
+ * - 글로벌 버킷(선택): rate-limit.global.enabled=true이면 경로 규칙에 대해 Redis에서도 한 번 더 판정해
+ *   app1/app2 전체 합계를 제한합니다. Redis 장애 시에는 로컬 판정만 적용합니다.
+ *
+ * 경로 규칙 형식: "METHOD 경로패턴=버킷크기/초당충전수" (예: POST /api/favorites/toggle=10/5)
+ * 규칙에 해당하지 않는 요청은 기본 버킷(default-capacity, default-refill-per-second)을 사용합니다.
+ * 로그인(/generateToken)과 토큰 갱신(/refreshToken)은 기본 규칙에서 IP 기준으로 더 엄격하게 제한합니다.
+ */
+@Component
+@Log4j2
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate:";
+    private static final String DEFAULT_RULE = "default";
+
+    /**
+     * GCRA 방식의 토큰 버킷 (이론상 다음 도착 시각만 저장)
+     * ARGV[1]: 토큰 1개 충전 간격(ms), ARGV[2]: 버킷 크기만큼의 허용 구간(ms)
+     * 허용하면 0, 거절하면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    private static final DefaultRedisScript<Long> ACQUIRE = new DefaultRedisScript<>(
+            "local t = redis.call('TIME') " +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+            "local interval = tonumber(ARGV[1]) " +
+            "local burst = tonumber(ARGV[2]) " +
+            "local tat = tonumber(redis.call('GET', KEYS[1]) or now) " +
+            "if tat < now then tat = now end " +
+            "local next = tat + interval " +
+            "if next - now > burst then return next - now - burst end " +
+            "redis.call('SET', KEYS[1], next, 'PX', next - now) " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Getter
+    private final boolean enabled;
+    private final boolean globalEnabled;
+    private final List<Rule> rules;
+    private final Rule defaultRule;
+
+    //규칙:주체 -> 버킷
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(StringRedisTemplate redisTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${rate-limit.enabled:true}") boolean enabled,
+                       @Value("${rate-limit.global.enabled:false}") boolean globalEnabled,
+                       @Value("${rate-limit.default-capacity:100}") long defaultCapacity,
+                       @Value("${rate-limit.default-refill-per-second:50}") double defaultRefillPerSecond,
+                       @Value("${rate-limit.routes:POST /api/favorites/toggle=10/5,POST /api/boards/*/comments=10/2,POST /generateToken=5/1,POST /refreshToken=10/1}") String[] routes) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.globalEnabled = globalEnabled;
+        this.defaultRule = new Rule(DEFAULT_RULE, null, "/api/**", defaultCapacity, defaultRefillPerSecond);
+        this.rules = Collections.unmodifiableList(Arrays.stream(routes)
+                .map(String::trim)
+                .filter(route -> !route.isEmpty())
+                .map(Rule::parse)
+                .collect(Collectors.toList()));
+
+        meterRegistry.gauge("rate.limit.buckets", buckets, Map::size);
+        log.info("요청 속도 제한 규칙: {}, 기본: {}/{}s, 글로벌: {}",
+                rules, defaultCapacity, defaultRefillPerSecond, globalEnabled);
+    }
+
+    /**
+     * 요청 허용 여부 판정
+     *
+     * @param method    HTTP 메서드
+     * @param path      요청 경로
+     * @param principal 사용자 ID 또는 IP 기반 식별자
+     * @return 허용하면 0, 거절하면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(String method, String path, String principal) {
+        Rule rule = match(method, path);
+        String key = rule.getName() + ":" + principal;
+
+        long waitNanos = buckets.computeIfAbsent(key, k -> new TokenBucket(rule)).tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            throttled(rule, "local");
+            return Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+
+        //기본 규칙은 인스턴스별 보호 목적이므로 경로 규칙만 Redis로 합산
+        if (globalEnabled && rule != defaultRule) {
+            long waitMillis = tryAcquireGlobal(rule, key);
+            if (waitMillis > 0) {
+                throttled(rule, "global");
+                return waitMillis;
+            }
+        }
+        return 0;
+    }
+
+    private long tryAcquireGlobal(Rule rule, String key) {
+        try {
+            Long result = redisTemplate.execute(ACQUIRE, List.of(KEY_PREFIX + key),
+                    String.valueOf(rule.getIntervalMillis()), String.valueOf(rule.getBurstMillis()));
+            return result != null ? result : 0;
+        } catch (Exception e) {
+            log.debug("글로벌 속도 제한 판정 실패 - 로컬 판정만 적용: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private Rule match(String method, String path) {
+        for (Rule rule : rules) {
+            if (rule.matches(pathMatcher, method, path)) {
+                return rule;
+            }
+        }
+        return defaultRule;
+    }
+
+    private void throttled(Rule rule, String scope) {
+        meterRegistry.counter("rate.limit.throttled", "rule", rule.getName(), "scope", scope).increment();
+    }
+
+    /**
+     * 가득 찬 버킷 정리
+     * 가득 찬 버킷은 새로 만든 버킷과 같으므로 제거해도 판정이 달라지지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        log.debug("속도 제한 버킷 정리: {} -> {}", before, buckets.size());
+    }
+
+    /**
+     * 경로 규칙
+     */
+    @Getter
+    static class Rule {
+
+        private final String name;
+        private final String method;
+        private final String pattern;
+        private final long intervalNanos;
+        private final long burstNanos;
+
+        Rule(String name, String method, String pattern, long capacity, double refillPerSecond) {
+            if (capacity < 1 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("잘못된 속도 제한 규칙: " + name);
+            }
+            this.name = name;
+            this.method = method;
+            this.pattern = pattern;
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+            this.burstNanos = intervalNanos * capacity;
+        }
+
+        static Rule parse(String route) {
+            try {
+                String[] ruleAndLimit = route.split("=");
+                String[] methodAndPattern = ruleAndLimit[0].trim().split("\\s+");
+                String[] limit = ruleAndLimit[1].trim().split("/");
+                String method = methodAndPattern.length > 1 ? methodAndPattern[0].toUpperCase() : null;
+                String pattern = methodAndPattern[methodAndPattern.length - 1];
+                return new Rule(ruleAndLimit[0].trim(), method, pattern,
+                        Long.parseLong(limit[0].trim()), Double.parseDouble(limit[1].trim()));
+            } catch (IllegalArgumentException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 속도 제한 규칙: " + route, e);
+            }
+        }
+
+        boolean matches(AntPathMatcher pathMatcher, String requestMethod, String path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && pathMatcher.match(pattern, path);
+        }
+
+        long getIntervalMillis() {
+            return Math.max(1, TimeUnit.NANOSECONDS.toMillis(intervalNanos));
+        }
+
+        long getBurstMillis() {
+            return Math.max(1, TimeUnit.NANOSECONDS.toMillis(burstNanos));
+        }
+
+        @Override
+        public String toString() {
+            return name + "=" + TimeUnit.SECONDS.toNanos(1) / intervalNanos + "/s";
+        }
+    }
+
+    /**
+     * 락 없는 토큰 버킷 (GCRA)
+     * 토큰 수 대신 "이론상 다음 도착 시각(tat)" 하나만 AtomicLong으로 저장하므로 CAS 한 번으로 판정합니다.
+     * tat - now가 버킷 크기만큼의 시간(burst)을 넘지 않으면 토큰이 남아 있는 것입니다.
+     */
+    static class TokenBucket {
+
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final AtomicLong tat;
+
+        TokenBucket(Rule rule) {
+            this.intervalNanos = rule.getIntervalNanos();
+            this.burstNanos = rule.getBurstNanos();
+            this.tat = new AtomicLong(System.nanoTime());
+        }
+
+        /**
+         * @return 허용하면 0, 거절하면 다시 시도할 수 있을 때까지 남은 시간(ns)
+         */
+        long tryAcquire(long now) {
+            while (true) {
+                long current = tat.get();
+                long next = Math.max(current, now) + intervalNanos;
+                long over = next - now - burstNanos;
+                if (over > 0) {
+                    return over;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return tat.get() <= now;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package io.github.beom.practiceboard.security.util;
+
+import io.github.beom.practiceboard.security.exception.RefreshTokenException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh Token 저장소
+ * Refresh Token을 토큰 패밀리 단위로 Redis에 등록하고, 갱신할 때마다 새 토큰으로 교체(rotation)합니다.
+ *
+ * - refresh:family:{fid} 키에 패밀리의 현재 토큰 ID(jti)만 저장하므로 폐기는 키 하나를 지우는 것으로 끝납니다.
+ * - 이미 교체된 예전 토큰이 다시 사용되면 탈취로 보고 패밀리 전체를 폐기합니다.
+ * - 폐기된 패밀리는 로컬 니어 캐시에 잠시 기억해 같은 토큰의 반복 요청을 Redis 왕복 없이 거절합니다.
+ * - 패밀리 정보가 없는 예전 형식의 토큰은 refresh:legacy:{토큰 해시}를 SET NX로 기록해 한 번만 새 패밀리로 전환합니다.
+ *
+ * Redis를 사용할 수 없으면 폐기 여부를 확인할 수 없으므로 갱신을 거절합니다.
+ */
+@Component
+@Log4j2
+public class RefreshTokenStore {
+
+    public static final String FAMILY_CLAIM = "fid";
+    public static final String TOKEN_ID_CLAIM = "jti";
+
+    private static final String KEY_PREFIX = "refresh:family:";
+    private static final String LEGACY_KEY_PREFIX = "refresh:legacy:";
+
+    /**
+     * 현재 토큰이면 새 토큰 ID로 교체(1), 패밀리가 없으면 0, 예전 토큰이면 패밀리를 폐기하고 -1
+     */
+    private static final DefaultRedisScript<Long> ROTATE = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if not current then return 0 end " +
+            "if current == ARGV[1] then redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end " +
+            "redis.call('DEL', KEYS[1]) return -1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JWTUtil jwtUtil;
+    private final long refreshTokenExpiration;
+    private final int nearCacheSize;
+    private final long nearCacheTtlMs;
+
+    //폐기된 패밀리 ID -> 니어 캐시 만료 시각
+    private final Map<String, Long> revokedFamilies = new ConcurrentHashMap<>();
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate,
+                             JWTUtil jwtUtil,
+                             @Value("${jwt.refresh-token.expiration}") long refreshTokenExpiration,
+                             @Value("${jwt.refresh-token.near-cache-size:10000}") int nearCacheSize,
+                             @Value("${jwt.refresh-token.near-cache-ttl-ms:60000}") long nearCacheTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.jwtUtil = jwtUtil;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.nearCacheSize = nearCacheSize;
+        this.nearCacheTtlMs = nearCacheTtlMs;
+    }
+
+    /**
+     * 새 패밀리로 Refresh Token 발급 (로그인 시)
+     *
+     * @param claims 토큰에 담을 사용자 클레임
+     * @return Refresh Token
+     */
+    public String issue(Map<String, Object> claims) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + familyId, tokenId, Duration.ofMillis(refreshTokenExpiration));
+        } catch (Exception e) {
+            log.error("Refresh Token 등록 실패: {}", e.getMessage());
+            throw new RefreshTokenException(RefreshTokenException.ErrorCase.NO_REFRESH);
+        }
+        return generate(claims, familyId, tokenId);
+    }
+
+    /**
+     * Refresh Token 교체
+     * 검증이 끝난 Refresh Token의 클레임을 받아 같은 패밀리의 새 토큰을 발급합니다.
+     *
+     * @param refreshToken 검증된 Refresh Token 원문
+     * @param refreshClaims 검증된 Refresh Token 클레임
+     * @return 새 Refresh Token
+     * @throws RefreshTokenException 폐기되었거나 재사용된 토큰인 경우
+     */
+    public String rotate(String refreshToken, Map<String, Object> refreshClaims) throws RefreshTokenException {
+        Object familyId = refreshClaims.get(FAMILY_CLAIM);
+        Object tokenId = refreshClaims.get(TOKEN_ID_CLAIM);
+        Map<String, Object> userClaims = userClaims(refreshClaims);
+
+        if (familyId == null || tokenId == null) {
+            return rotateLegacy(refreshToken, refreshClaims, userClaims);
+        }
+
+        String family = familyId.toString();
+        if (isRevokedNearCache(family)) {
+            throw new RefreshTokenException(RefreshTokenException.ErrorCase.REVOKED_REFRESH);
+        }
+
+        String newTokenId = UUID.randomUUID().toString();
+        Long result;
+        try {
+            result = redisTemplate.execute(ROTATE, List.of(KEY_PREFIX + family),
+                    tokenId.toString(), newTokenId, String.valueOf(refreshTokenExpiration));
+        } catch (Exception e) {
+            log.error("Refresh Token 교체 실패 - Redis 오류: {}", e.getMessage());
+            throw new RefreshTokenException(RefreshTokenException.ErrorCase.NO_REFRESH);
+        }
+
+        if (result != null && result == 1L) {
+            return generate(userClaims, family, newTokenId);
+        }
+
+        rememberRevoked(family);
+        if (result != null && result == -1L) {
+            log.warn("이미 교체된 Refresh Token 재사용 감지 - 패밀리 폐기: {}", family);
+        }
+        throw new RefreshTokenException(RefreshTokenException.ErrorCase.REVOKED_REFRESH);
+    }
+
+    /**
+     * 패밀리 폐기 (로그아웃 등)
+     * 예전 형식의 토큰은 전환 기록을 남겨 이후 갱신에 사용할 수 없게 합니다.
+     *
+     * @param refreshToken 검증된 Refresh Token 원문
+     * @param refreshClaims 검증된 Refresh Token 클레임
+     * @throws RefreshTokenException Redis 오류로 폐기하지 못한 경우
+     */
+    public void revoke(String refreshToken, Map<String, Object> refreshClaims) throws RefreshTokenException {
+        Object familyId = refreshClaims.get(FAMILY_CLAIM);
+
+        try {
+            if (familyId == null) {
+                redisTemplate.opsForValue().set(legacyKey(refreshToken), "revoked", remainingLifetime(refreshClaims));
+                log.info("예전 형식 Refresh Token 폐기");
+                return;
+            }
+            redisTemplate.delete(KEY_PREFIX + familyId);
+        } catch (Exception e) {
+            log.error("Refresh Token 폐기 실패 - Redis 오류: {}", e.getMessage());
+            throw new RefreshTokenException(RefreshTokenException.ErrorCase.STORE_UNAVAILABLE);
+        }
+
+        rememberRevoked(familyId.toString());
+        log.info("Refresh Token 패밀리 폐기: {}", familyId);
+    }
+
+    /**
+     * 패밀리 정보가 없는 예전 형식의 토큰을 한 번만 새 패밀리로 전환
+     * 같은 토큰으로 다시 전환을 시도하면(재사용 또는 폐기된 토큰) 거절합니다.
+     */
+    private String rotateLegacy(String refreshToken, Map<String, Object> refreshClaims, Map<String, Object> userClaims) {
+        Boolean first;
+        try {
+            first = redisTemplate.opsForValue()
+                    .setIfAbsent(legacyKey(refreshToken), "rotated", remainingLifetime(refreshClaims));
+        } catch (Exception e) {
+            log.error("예전 형식 Refresh Token 전환 실패 - Redis 오류: {}", e.getMessage());
+            throw new RefreshTokenException(RefreshTokenException.ErrorCase.NO_REFRESH);
+        }
+
+        if (!Boolean.TRUE.equals(first)) {
+            log.warn("이미 전환되었거나 폐기된 예전 형식 Refresh Token 재사용 - 거절");
+            throw new RefreshTokenException(RefreshTokenException.ErrorCase.REVOKED_REFRESH);
+        }
+
+        log.info("패밀리 정보가 없는 Refresh Token - 새 패밀리로 전환");
+        return issue(userClaims);
+    }
+
+    private String legacyKey(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return LEGACY_KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 토큰 만료까지 남은 시간 (전환 기록은 토큰이 만료되면 필요 없음)
+     */
+    private Duration remainingLifetime(Map<String, Object> refreshClaims) {
+        Object exp = refreshClaims.get("exp");
+        long expiresAt;
+        if (exp instanceof Date date) {
+            expiresAt = date.getTime();
+        } else if (exp instanceof Number number) {
+            expiresAt = number.longValue() * 1000;
+        } else {
+            return Duration.ofMillis(refreshTokenExpiration);
+        }
+        return Duration.ofMillis(Math.max(1000L, expiresAt - System.currentTimeMillis()));
+    }
+
+    private String generate(Map<String, Object> claims, String familyId, String tokenId) {
+        Map<String, Object> values = new HashMap<>(claims);
+        values.put(FAMILY_CLAIM, familyId);
+        values.put(TOKEN_ID_CLAIM, tokenId);
+        return jwtUtil.generateToken(values, false);
+    }
+
+    /**
+     * 등록 클레임(exp, iat 등)과 패밀리 정보를 제외한 사용자 클레임
+     */
+    private Map<String, Object> userClaims(Map<String, Object> refreshClaims) {
+        Map<String, Object> claims = new HashMap<>(refreshClaims);
+        claims.keySet().removeAll(List.of("exp", "iat", "nbf", FAMILY_CLAIM, TOKEN_ID_CLAIM));
+        return claims;
+    }
+
+    private boolean isRevokedNearCache(String familyId) {
+        Long until = revokedFamilies.get(familyId);
+        if (until == null) {
+            return false;
+        }
+        if (until > System.currentTimeMillis()) {
+            return true;
+        }
+        revokedFamilies.remove(familyId, until);
+        return false;
+    }
+
+    private void rememberRevoked(String familyId) {
+        long now = System.currentTimeMillis();
+        if (revokedFamilies.size() >= nearCacheSize) {
+            revokedFamilies.values().removeIf(until -> until <= now);
+            if (revokedFamilies.size() >= nearCacheSize) {
+                revokedFamilies.clear();
+            }
+        }
+        revokedFamilies.put(familyId, now + nearCacheTtlMs);
+    }
+}
@@ -25,9 +25,9 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        log.info("사용자 인증 시도: {}", username);
+        log.debug("사용자 인증 시도: {}", username);
 
-        User user = userRepository.findByEmail(username)
+        User user = userRepository.findByEmailWithPassword(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
 
         // 삭제된 사용자 체크
@@ -35,7 +35,7 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("삭제된 사용자입니다: " + username);
         }
 
-        log.info("사용자 인증 성공: {}", username);
+        log.debug("사용자 인증 성공: {}", username);
 
         // UserRole enum을 Spring Security GrantedAuthority로 변환
         UserSecurityDTO userSecurityDTO = new UserSecurityDTO(
@@ -49,7 +49,7 @@ public class CustomUserDetailsService implements UserDetailsService {
                         .collect(Collectors.toList())
         );
 
-        log.info("사용자 권한: {}", userSecurityDTO.getAuthorities());
+        log.debug("사용자 권한: {}", userSecurityDTO.getAuthorities());
 
         return userSecurityDTO;
     }
@@ -7,8 +7,10 @@ import java.util.Optional;
 public interface UserRepository {
     Optional<User> findById(Long id);
     Optional<User> findByEmail(String email);
+    Optional<User> findByEmailWithPassword(String email);
     User save(User user);
     boolean existsById(Long id);
     void deleteById(Long id);
+    void updatePassword(Long id, String password);
     Optional<User> findByEmailAndSocialProvider(String email, String socialProvider);
 }
@@ -48,7 +48,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public User findById(String id) {
-        log.info("사용자 조회: {}", id);
+        log.debug("사용자 조회: {}", id);
         return userRepository.findByEmail(id)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + id));
     }
@@ -56,7 +56,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public User findByEmail(String email) {
-        log.info("사용자 이메일 조회: {}", email);
+        log.debug("사용자 이메일 조회: {}", email);
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
     }
@@ -82,4 +82,14 @@ public class UserServiceImpl implements UserService {
 
         log.info("사용자 삭제 완료: {}", id);
     }
+
+    @Override
+    public void updatePassword(String id, String newPassword) {
+        log.info("사용자 비밀번호 변경: {}", id);
+
+        User user = findById(id);
+        userRepository.updatePassword(user.getId(), passwordEncoder.encode(newPassword));
+
+        log.info("사용자 비밀번호 변경 완료: {}", id);
+    }
 }
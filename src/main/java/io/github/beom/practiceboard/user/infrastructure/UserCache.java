@@ -0,0 +1,342 @@
+package io.github.beom.practiceboard.user.infrastructure;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.beom.practiceboard.user.domain.User;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 캐시 (로컬 LRU + Redis 2단계)
+ * 로그인과 사용자 조회마다 users-roles 조인이 실행되지 않도록 불변 User 도메인 스냅샷을 ID와 이메일로 캐싱합니다.
+ *
+ * - 로컬 LRU: 최대 local-capacity 건, local-ttl-seconds 동안 보관합니다.
+ * - Redis: user:cache:id:{id}, user:cache:email:{email} 키에 JSON으로 ttl-seconds 동안 보관합니다.
+ *   여러 인스턴스가 공유하는 저장소이므로 비밀번호 해시는 빼고 저장합니다.
+ *   Redis에서 읽은 사용자는 비밀번호 없이 반환하므로 일반 조회는 DB를 거치지 않고,
+ *   인증 조회({@link #getByEmailWithPassword})만 기본 키로 해시를 조회해 채운 뒤 로컬 캐시에 보관합니다.
+ * - 이메일 키는 소문자로 정규화합니다 (대소문자만 다른 이메일이 서로 다른 키로 남아 무효화에서 빠지지 않도록).
+ * - 존재하지 않는 이메일은 조회한 이메일 원문과 함께 negative-ttl-seconds 동안 기억해 크리덴셜 스터핑 요청이 DB까지 가지 않게 합니다.
+ *   원문이 다른(대소문자만 다른) 조회에는 negative 결과를 재사용하지 않습니다.
+ *
+ * 사용자가 변경되면 Redis 키를 지우고 다른 인스턴스에도 무효화 메시지를 발행해 로컬 캐시를 비웁니다.
+ * 트랜잭션 안에서 변경된 경우 커밋 이후에 한 번 더 무효화해 커밋 전에 다시 채워진 예전 값을 지웁니다.
+ * Redis 장애 시에는 로컬 캐시와 DB만 사용합니다.
+ */
+@Component
+@Log4j2
+public class UserCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "user:cache:";
+    private static final String INVALIDATE_CHANNEL = "user:cache:invalidate";
+    private static final String NEGATIVE_PREFIX = "!";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final UserJpaRepository userJpaRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long localTtlMillis;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Map<String, CachedUser> local;
+
+    public UserCache(StringRedisTemplate redisTemplate,
+                     RedisMessageListenerContainer listenerContainer,
+                     UserJpaRepository userJpaRepository,
+                     ObjectMapper objectMapper,
+                     @Value("${user.cache.enabled:true}") boolean enabled,
+                     @Value("${user.cache.local-capacity:10000}") int localCapacity,
+                     @Value("${user.cache.local-ttl-seconds:30}") long localTtlSeconds,
+                     @Value("${user.cache.ttl-seconds:600}") long ttlSeconds,
+                     @Value("${user.cache.negative-ttl-seconds:60}") long negativeTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.userJpaRepository = userJpaRepository;
+        //User는 setter가 없고 is*() 비즈니스 메서드가 많으므로 필드 기준으로 직렬화
+        this.objectMapper = objectMapper.copy()
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.enabled = enabled;
+        this.localTtlMillis = localTtlSeconds * 1000L;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+                return size() > localCapacity;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * ID로 사용자 조회 (캐시 미스 시 loader로 조회 후 저장)
+     */
+    public Optional<User> getById(Long id, Supplier<Optional<User>> loader) {
+        if (!enabled || id == null) {
+            return loader.get();
+        }
+        return get(idKey(id), null, loader);
+    }
+
+    /**
+     * 이메일로 사용자 조회 (캐시 미스 시 loader로 조회 후 저장, 없는 이메일은 negative 캐싱)
+     */
+    public Optional<User> getByEmail(String email, Supplier<Optional<User>> loader) {
+        if (!enabled || email == null) {
+            return loader.get();
+        }
+        return get(emailKey(email), email, loader);
+    }
+
+    /**
+     * 인증용 이메일 조회 (비밀번호 해시 포함)
+     * 캐시된 사용자에 비밀번호가 없으면(Redis에서 읽은 경우) 기본 키로 해시만 조회해 채우고 로컬 캐시에 보관합니다.
+     */
+    public Optional<User> getByEmailWithPassword(String email, Supplier<Optional<User>> loader) {
+        Optional<User> found = getByEmail(email, loader);
+        if (found.isEmpty() || found.get().getPassword() != null) {
+            return found;
+        }
+
+        User user = withPassword(found.get());
+        if (user == null) {
+            return loader.get();
+        }
+        long now = System.currentTimeMillis();
+        putLocal(idKey(user.getId()), user, null, now);
+        if (user.getEmail() != null) {
+            putLocal(emailKey(user.getEmail()), user, null, now);
+        }
+        return Optional.of(user);
+    }
+
+    /**
+     * 사용자 캐시 무효화
+     * @param id 사용자 ID (null 가능)
+     * @param emails 변경 전후 이메일 (null 가능)
+     */
+    public void evict(Long id, String... emails) {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        if (id != null) {
+            keys.add(idKey(id));
+        }
+        for (String email : emails) {
+            if (email != null) {
+                keys.add(emailKey(email));
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        evictKeys(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictKeys(keys);
+                }
+            });
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        removeLocal(key);
+    }
+
+    /**
+     * @param email 이메일로 조회한 경우 조회한 원문 (negative 결과 재사용 여부 판단용), ID 조회는 null
+     */
+    private Optional<User> get(String key, String email, Supplier<Optional<User>> loader) {
+        long now = System.currentTimeMillis();
+        CachedUser cached;
+        synchronized (local) {
+            cached = local.get(key);
+        }
+        if (cached != null && cached.expiresAt > now && cached.matches(email)) {
+            return Optional.ofNullable(cached.user);
+        }
+
+        String value = readRedis(key);
+        if (value != null) {
+            if (value.startsWith(NEGATIVE_PREFIX)) {
+                if (value.substring(NEGATIVE_PREFIX.length()).equals(email)) {
+                    putLocal(key, null, email, now);
+                    return Optional.empty();
+                }
+            } else {
+                User user = deserialize(value);
+                if (user != null) {
+                    putLocal(key, user, null, now);
+                    return Optional.of(user);
+                }
+            }
+        }
+
+        Optional<User> loaded = loader.get();
+        put(key, email, loaded.orElse(null), now);
+        return loaded;
+    }
+
+    private void put(String key, String email, User user, long now) {
+        if (user == null) {
+            putLocal(key, null, email, now);
+            //Redis에는 없는 이메일만 기억 (크리덴셜 스터핑 대상)
+            if (email != null) {
+                writeRedis(key, NEGATIVE_PREFIX + email, negativeTtl);
+            }
+            return;
+        }
+
+        //공유 Redis에는 비밀번호 해시를 저장하지 않음 (로컬 캐시는 프로세스 안에만 있으므로 그대로 보관)
+        String json = serialize(user.toBuilder().password(null).build());
+        if (json == null) {
+            return;
+        }
+        writeRedis(idKey(user.getId()), json, ttl);
+        putLocal(idKey(user.getId()), user, null, now);
+        if (user.getEmail() != null) {
+            writeRedis(emailKey(user.getEmail()), json, ttl);
+            putLocal(emailKey(user.getEmail()), user, null, now);
+        }
+    }
+
+    /**
+     * Redis에서 읽은 사용자에 비밀번호 해시 채우기 (인증 조회에서만 사용)
+     *
+     * @return 비밀번호를 채운 사용자, 사용자가 없어졌거나 조회에 실패하면 null (DB에서 다시 로딩)
+     */
+    private User withPassword(User user) {
+        if (user == null) {
+            return null;
+        }
+        try {
+            List<String> passwords = userJpaRepository.findPasswordById(user.getId());
+            return passwords.isEmpty() ? null : user.toBuilder().password(passwords.get(0)).build();
+        } catch (Exception e) {
+            log.warn("사용자 비밀번호 조회 실패 - DB에서 다시 로딩: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putLocal(String key, User user, String email, long now) {
+        long localTtl = user == null ? Math.min(localTtlMillis, negativeTtl.toMillis()) : localTtlMillis;
+        synchronized (local) {
+            local.put(key, new CachedUser(user, user == null ? email : null, now + localTtl));
+        }
+    }
+
+    private void removeLocal(String key) {
+        synchronized (local) {
+            local.remove(key);
+        }
+    }
+
+    private void evictKeys(List<String> keys) {
+        keys.forEach(this::removeLocal);
+        try {
+            redisTemplate.delete(keys);
+            keys.forEach(key -> redisTemplate.convertAndSend(INVALIDATE_CHANNEL, key));
+        } catch (Exception e) {
+            log.warn("사용자 캐시 Redis 무효화 실패 - 로컬 캐시만 무효화: {}", e.getMessage());
+        }
+    }
+
+    private String readRedis(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.debug("사용자 캐시 Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, String value, Duration timeout) {
+        try {
+            redisTemplate.opsForValue().set(key, value, timeout);
+        } catch (Exception e) {
+            log.debug("사용자 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private String serialize(User user) {
+        try {
+            return objectMapper.writeValueAsString(user);
+        } catch (Exception e) {
+            log.warn("사용자 캐시 직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private User deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, User.class);
+        } catch (Exception e) {
+            log.warn("사용자 캐시 역직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String idKey(Long id) {
+        return KEY_PREFIX + "id:" + id;
+    }
+
+    private static String emailKey(String email) {
+        return KEY_PREFIX + "email:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class CachedUser {
+        private final User user;
+        //negative 항목인 경우 조회한 이메일 원문
+        private final String negativeFor;
+        private final long expiresAt;
+
+        CachedUser(User user, String negativeFor, long expiresAt) {
+            this.user = user;
+            this.negativeFor = negativeFor;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean matches(String email) {
+            return user != null || Objects.equals(negativeFor, email);
+        }
+    }
+}
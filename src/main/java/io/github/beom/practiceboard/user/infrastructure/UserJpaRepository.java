@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
@@ -18,6 +19,13 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
     @EntityGraph(attributePaths = {"roleSet"})
     Optional<UserJpaEntity> findByEmail(String email);
 
+    /**
+     * 비밀번호 해시만 조회 (사용자가 없으면 빈 목록, 소셜 가입자는 null 원소)
+     * 사용자 캐시는 공유 Redis에 비밀번호 해시를 두지 않으므로 Redis 적중 시 이 조회로 채웁니다.
+     */
+    @Query("select u.password from UserJpaEntity u where u.id = :id")
+    List<String> findPasswordById(@Param("id") Long id);
+
     @Modifying
     @Transactional
     @Query("update UserJpaEntity u set u.password = :password where u.id = :id")
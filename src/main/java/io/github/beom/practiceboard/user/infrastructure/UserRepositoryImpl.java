@@ -12,6 +12,7 @@ import java.util.Optional;
 /**
  * 사용자 리포지토리 구현체
  * Infrastructure 레이어에서 JPA를 통한 데이터 영속성을 담당
+ * 조회는 {@link UserCache}를 거치고, 변경 시 변경 전후 이메일과 ID의 캐시를 무효화합니다.
  */
 @Repository
 @RequiredArgsConstructor
@@ -20,36 +21,58 @@ public class UserRepositoryImpl implements UserRepository {
 
     private final UserJpaRepository userJpaRepository;
     private final UserMapper userMapper;
+    private final UserCache userCache;
 
     @Override
     public Optional<User> findById(Long id) {
-        log.info("사용자 ID로 조회: {}", id);
+        log.debug("사용자 ID로 조회: {}", id);
 
-        return userJpaRepository.findById(id)
-                .map(userMapper::convertToUser);
+        return userCache.getById(id, () -> userJpaRepository.getWithRoles(id)
+                .map(userMapper::convertToUser));
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
-        log.info("사용자 이메일로 조회: {}", email);
+        log.debug("사용자 이메일로 조회: {}", email);
 
-        return userJpaRepository.findByEmail(email)
-                .map(userMapper::convertToUser);
+        return userCache.getByEmail(email, () -> userJpaRepository.findByEmail(email)
+                .map(userMapper::convertToUser));
+    }
+
+    @Override
+    public Optional<User> findByEmailWithPassword(String email) {
+        log.debug("인증용 사용자 이메일로 조회: {}", email);
+
+        return userCache.getByEmailWithPassword(email, () -> userJpaRepository.findByEmail(email)
+                .map(userMapper::convertToUser));
     }
 
     @Override
     public User save(User user) {
-        log.info("사용자 저장: {}", user.getId());
+        log.debug("사용자 저장: {}", user.getId());
+
+        //이메일이 바뀌는 경우 예전 이메일 키도 무효화 (merge 시 어차피 조회하므로 추가 비용 없음)
+        UserJpaEntity existing = user.getId() != null
+                ? userJpaRepository.findById(user.getId()).orElse(null)
+                : null;
+        String previousEmail = existing != null ? existing.getEmail() : null;
+
+        //Redis 캐시에서 읽은 사용자는 비밀번호 해시가 비어 있으므로 저장된 해시를 유지
+        if (user.getPassword() == null && existing != null) {
+            user = user.toBuilder().password(existing.getPassword()).build();
+        }
 
         UserJpaEntity jpaEntity = userMapper.convertToJpaEntity(user);
         UserJpaEntity savedEntity = userJpaRepository.save(jpaEntity);
 
+        userCache.evict(savedEntity.getId(), previousEmail, savedEntity.getEmail());
+
         return userMapper.convertToUser(savedEntity);
     }
 
     @Override
     public boolean existsById(Long id) {
-        log.info("사용자 ID 존재 여부 확인: {}", id);
+        log.debug("사용자 ID 존재 여부 확인: {}", id);
 
         return userJpaRepository.existsById(id);
     }
@@ -58,13 +81,24 @@ public class UserRepositoryImpl implements UserRepository {
     public void deleteById(Long id) {
         log.info("사용자 삭제: {}", id);
 
+        String email = userJpaRepository.findById(id).map(UserJpaEntity::getEmail).orElse(null);
         userJpaRepository.deleteById(id);
+        userCache.evict(id, email);
+    }
+
+    @Override
+    public void updatePassword(Long id, String password) {
+        log.info("사용자 비밀번호 변경: {}", id);
+
+        String email = userJpaRepository.findById(id).map(UserJpaEntity::getEmail).orElse(null);
+        userJpaRepository.updatePassword(password, id);
+        userCache.evict(id, email);
     }
 
     @Override
     public Optional<User> findByEmailAndSocialProvider(String email, String socialProvider) {
-        log.info("사용자 이메일과 소셜 제공자로 조회: {} ({})", email, socialProvider);
-        
+        log.debug("사용자 이메일과 소셜 제공자로 조회: {} ({})", email, socialProvider);
+
         // 현재 구현에서는 소셜 제공자별 구분이 없으므로 이메일만으로 조회
         return findByEmail(email);
     }
@@ -15,6 +15,8 @@ public interface UserService {
     void updateUser(String id, String email);
     //사용자 논리적 삭제
     void deleteUser(String id);
+    //사용자 비밀번호 변경
+    void updatePassword(String id, String newPassword);
 
     // 예외 클래스
     class IdExistException extends Exception {
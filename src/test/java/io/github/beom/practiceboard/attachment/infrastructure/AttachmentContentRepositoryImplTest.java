@@ -0,0 +1,143 @@
+package io.github.beom.practiceboard.attachment.infrastructure;
+
+import io.github.beom.practiceboard.attachment.application.AttachmentContentRepository.ReleasedReference;
+import io.github.beom.practiceboard.attachment.exception.FileAccessDeniedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AttachmentContentRepositoryImplTest {
+
+    private static final String S3_KEY = "board/abc123_file.png";
+
+    private AttachmentContentJpaRepository contentJpaRepository;
+    private AttachmentReferenceJpaRepository referenceJpaRepository;
+    private AttachmentContentRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        contentJpaRepository = mock(AttachmentContentJpaRepository.class);
+        referenceJpaRepository = mock(AttachmentReferenceJpaRepository.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        repository = new AttachmentContentRepositoryImpl(contentJpaRepository, referenceJpaRepository, transactionTemplate);
+    }
+
+    @Test
+    void 다른_참조가_남아_있으면_참조_수만_줄이고_삭제_대상이_아니다() {
+        AttachmentContentJpaEntity content = content(2);
+        AttachmentReferenceJpaEntity reference = reference("a1", "kim");
+        when(referenceJpaRepository.findByAttachmentIdForUpdate("a1")).thenReturn(Optional.of(reference));
+        when(contentJpaRepository.findByS3KeyForUpdate(S3_KEY)).thenReturn(Optional.of(content));
+
+        ReleasedReference released = repository.release("a1", "kim");
+
+        assertThat(released.getS3Key()).isEqualTo(S3_KEY);
+        assertThat(released.isLastReference()).isFalse();
+        assertThat(content.getRefCount()).isEqualTo(1);
+        assertThat(content.getUnreferencedAt()).isNull();
+        verify(referenceJpaRepository).delete(reference);
+    }
+
+    @Test
+    void 마지막_참조를_해제하면_삭제_대기로_바꾸고_삭제_대상으로_반환한다() {
+        AttachmentContentJpaEntity content = content(1);
+        when(referenceJpaRepository.findByAttachmentIdForUpdate("a1")).thenReturn(Optional.of(reference("a1", "kim")));
+        when(contentJpaRepository.findByS3KeyForUpdate(S3_KEY)).thenReturn(Optional.of(content));
+
+        ReleasedReference released = repository.release("a1", "kim");
+
+        assertThat(released.isLastReference()).isTrue();
+        assertThat(content.getRefCount()).isZero();
+        assertThat(content.getUnreferencedAt()).isNotNull();
+    }
+
+    @Test
+    void 같은_참조를_다시_해제해도_참조_수는_한_번만_줄어든다() {
+        AttachmentContentJpaEntity content = content(3);
+        when(referenceJpaRepository.findByAttachmentIdForUpdate("a1"))
+                .thenReturn(Optional.of(reference("a1", "kim")))
+                .thenReturn(Optional.empty());
+        when(contentJpaRepository.findByS3KeyForUpdate(S3_KEY)).thenReturn(Optional.of(content));
+
+        ReleasedReference first = repository.release("a1", "kim");
+        ReleasedReference retried = repository.release("a1", "kim");
+
+        assertThat(first).isNotNull();
+        assertThat(retried).isNull();
+        assertThat(content.getRefCount()).isEqualTo(2);
+        verify(contentJpaRepository, times(1)).findByS3KeyForUpdate(S3_KEY);
+    }
+
+    @Test
+    void 다른_사용자는_참조를_해제할_수_없다() {
+        AttachmentContentJpaEntity content = content(1);
+        AttachmentReferenceJpaEntity reference = reference("a1", "kim");
+        when(referenceJpaRepository.findByAttachmentIdForUpdate("a1")).thenReturn(Optional.of(reference));
+        when(contentJpaRepository.findByS3KeyForUpdate(S3_KEY)).thenReturn(Optional.of(content));
+
+        assertThatThrownBy(() -> repository.release("a1", "lee"))
+                .isInstanceOf(FileAccessDeniedException.class);
+
+        assertThat(content.getRefCount()).isEqualTo(1);
+        verify(referenceJpaRepository, never()).delete(any());
+        verify(contentJpaRepository, never()).findByS3KeyForUpdate(anyString());
+    }
+
+    @Test
+    void 삭제_대기_중인_내용에는_참조를_추가하지_않는다() {
+        when(contentJpaRepository.saveAndFlush(any(AttachmentContentJpaEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_attachment_content_s3_key"));
+        when(contentJpaRepository.incrementRefCount(eq(S3_KEY), any(LocalDateTime.class))).thenReturn(0);
+
+        boolean registered = repository.register("a1", "kim", S3_KEY, "abc123", 10L, "image/png");
+
+        assertThat(registered).isFalse();
+        verify(referenceJpaRepository, never()).save(any());
+    }
+
+    @Test
+    void 이미_저장된_내용을_참조하면_첨부파일별_참조를_남긴다() {
+        when(contentJpaRepository.incrementRefCount(eq(S3_KEY), any(LocalDateTime.class))).thenReturn(1);
+
+        boolean acquired = repository.acquire("a2", "lee", S3_KEY);
+
+        assertThat(acquired).isTrue();
+        verify(referenceJpaRepository).save(any(AttachmentReferenceJpaEntity.class));
+    }
+
+    private AttachmentContentJpaEntity content(long refCount) {
+        AttachmentContentJpaEntity content = AttachmentContentJpaEntity.builder()
+                .s3Key(S3_KEY)
+                .contentHash("abc123")
+                .fileSize(10L)
+                .contentType("image/png")
+                .build();
+        ReflectionTestUtils.setField(content, "refCount", refCount);
+        return content;
+    }
+
+    private AttachmentReferenceJpaEntity reference(String attachmentId, String ownerId) {
+        return AttachmentReferenceJpaEntity.builder()
+                .attachmentId(attachmentId)
+                .ownerId(ownerId)
+                .s3Key(S3_KEY)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.beom.practiceboard.global.event;
+
+import io.github.beom.practiceboard.global.config.event.RabbitMQConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PartitionRetryOrderTest {
+
+    private static final String KEY = "42";
+
+    private PartitionRetryOrder order;
+
+    @BeforeEach
+    void setUp() {
+        order = new PartitionRetryOrder(mock(RabbitMQConfig.class), 60_000);
+    }
+
+    @Test
+    void 재시도가_예약되면_다음_배치의_같은_키_이벤트도_뒤로_미룬다() {
+        Message failed = message();
+        order.beforeRecover(failed);
+        order.recovered(KEY, failed, 1);
+
+        // 다음 배치에서 들어온 같은 게시글의 새 이벤트
+        Message next = message();
+        assertThat(order.deferAttempt(KEY, next)).isEqualTo(1);
+        assertThat(order.deferAttempt("7", message())).isNull();
+
+        // 재시도 메시지가 돌아오면 처리하고, 뒤따르던 이벤트는 그 다음에 처리
+        assertThat(order.deferAttempt(KEY, failed)).isNull();
+        order.completed(KEY, failed);
+        assertThat(order.deferAttempt(KEY, next)).isNull();
+        order.completed(KEY, next);
+
+        assertThat(order.deferAttempt(KEY, message())).isNull();
+    }
+
+    @Test
+    void 앞선_메시지가_다시_실패하면_먼저_돌아온_뒤따르는_이벤트를_다시_미룬다() {
+        Message failed = message();
+        order.beforeRecover(failed);
+        order.recovered(KEY, failed, 1);
+        Message next = message();
+        order.deferAttempt(KEY, next);
+
+        // 앞선 메시지가 돌아와 다시 실패해 2차 지연 큐로 감
+        assertThat(order.deferAttempt(KEY, failed)).isNull();
+        order.beforeRecover(failed);
+        order.recovered(KEY, failed, 2);
+
+        assertThat(order.deferAttempt(KEY, next)).isEqualTo(2);
+    }
+
+    @Test
+    void 데드레터로_빠진_메시지는_뒤따르는_이벤트를_막지_않는다() {
+        Message failed = message();
+        order.beforeRecover(failed);
+        order.recovered(KEY, failed, 0);
+
+        assertThat(order.deferAttempt(KEY, message())).isNull();
+    }
+
+    private Message message() {
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(RabbitMQConfig.PARTITION_KEY_HEADER, KEY);
+        return new Message(new byte[0], properties);
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.beom.practiceboard.global.event.serialization;
+
+import io.github.beom.practiceboard.comment.event.CommentCreatedEvent;
+import io.github.beom.practiceboard.comment.event.CommentDeletedEvent;
+import io.github.beom.practiceboard.comment.event.CommentUpdatedEvent;
+import io.github.beom.practiceboard.comment.event.DomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DomainEventMessageConverterTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123456789);
+
+    private SimpleMeterRegistry meterRegistry;
+    private DomainEventMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        converter = new DomainEventMessageConverter(new Jackson2JsonMessageConverter(), "binary", meterRegistry);
+    }
+
+    @Test
+    void 댓글_생성_이벤트를_그대로_복원한다() {
+        CommentCreatedEvent event = CommentCreatedEvent.builder()
+                .occurredAt(TIME)
+                .aggregateId("10")
+                .eventData(CommentCreatedEvent.CommentEventData.builder()
+                        .commentId(10L)
+                        .postId(20L)
+                        .boardId(30L)
+                        .content("안녕하세요 👋")
+                        .author("kim")
+                        .parentCommentId(5L)
+                        .depth(2)
+                        .createdAt(TIME)
+                        .build())
+                .build();
+
+        assertRoundTrip(event);
+    }
+
+    @Test
+    void 댓글_수정_이벤트를_그대로_복원한다() {
+        CommentUpdatedEvent event = CommentUpdatedEvent.builder()
+                .occurredAt(TIME)
+                .aggregateId("10")
+                .eventData(CommentUpdatedEvent.CommentUpdateData.builder()
+                        .commentId(10L)
+                        .postId(-20L)
+                        .boardId(Long.MAX_VALUE)
+                        .oldContent("이전")
+                        .newContent("")
+                        .author("lee")
+                        .updatedAt(TIME)
+                        .build())
+                .build();
+
+        assertRoundTrip(event);
+    }
+
+    @Test
+    void 댓글_삭제_이벤트를_그대로_복원한다() {
+        CommentDeletedEvent event = CommentDeletedEvent.builder()
+                .occurredAt(TIME)
+                .aggregateId("10")
+                .eventData(CommentDeletedEvent.CommentDeleteData.builder()
+                        .commentId(10L)
+                        .postId(20L)
+                        .boardId(30L)
+                        .content("삭제된 댓글")
+                        .author("park")
+                        .parentCommentId(Long.MIN_VALUE)
+                        .hasChildren(true)
+                        .deletedAt(TIME)
+                        .build())
+                .build();
+
+        assertRoundTrip(event);
+    }
+
+    @Test
+    void null_필드와_UUID가_아닌_이벤트_ID도_복원한다() {
+        CommentCreatedEvent event = CommentCreatedEvent.builder()
+                .eventId("legacy-event-1")
+                .occurredAt(TIME)
+                .aggregateId(null)
+                .eventData(CommentCreatedEvent.CommentEventData.builder()
+                        .commentId(null)
+                        .postId(null)
+                        .boardId(null)
+                        .content(null)
+                        .author(null)
+                        .parentCommentId(null)
+                        .depth(0)
+                        .createdAt(TIME)
+                        .build())
+                .build();
+
+        assertRoundTrip(event);
+    }
+
+    @Test
+    void 바이너리_메시지에는_타입과_스키마_버전_헤더만_싣는다() {
+        Message message = converter.toMessage(CommentCreatedEvent.of(1L, 2L, 3L, "내용", "kim", null, 0),
+                new MessageProperties());
+
+        MessageProperties properties = message.getMessageProperties();
+        assertThat(properties.getContentType()).isEqualTo(DomainEventMessageConverter.BINARY_CONTENT_TYPE);
+        assertThat(properties.<Object>getHeader(DomainEventMessageConverter.EVENT_TYPE_HEADER)).isEqualTo("COMMENT_CREATED");
+        assertThat(properties.<Object>getHeader(DomainEventMessageConverter.SCHEMA_VERSION_HEADER))
+                .isEqualTo(CommentEventBinaryCodec.SCHEMA_VERSION);
+        assertThat(properties.getHeaders()).doesNotContainKey("__TypeId__");
+    }
+
+    @Test
+    void 알_수_없는_스키마_버전은_변환_오류로_거부한다() {
+        Message message = converter.toMessage(CommentCreatedEvent.of(1L, 2L, 3L, "내용", "kim", null, 0),
+                new MessageProperties());
+        message.getMessageProperties().setHeader(DomainEventMessageConverter.SCHEMA_VERSION_HEADER,
+                CommentEventBinaryCodec.SCHEMA_VERSION + 1);
+
+        assertThatThrownBy(() -> converter.fromMessage(message))
+                .isInstanceOf(MessageConversionException.class);
+    }
+
+    @Test
+    void 스키마_버전_헤더가_없으면_변환_오류로_거부한다() {
+        Message message = converter.toMessage(CommentCreatedEvent.of(1L, 2L, 3L, "내용", "kim", null, 0),
+                new MessageProperties());
+        message.getMessageProperties().getHeaders().remove(DomainEventMessageConverter.SCHEMA_VERSION_HEADER);
+
+        assertThatThrownBy(() -> converter.fromMessage(message))
+                .isInstanceOf(MessageConversionException.class);
+    }
+
+    @Test
+    void 미터는_생성_시점에_한_번만_등록한다() {
+        assertThat(meterRegistry.find("event.serialization").timers()).hasSize(4);
+        assertThat(meterRegistry.find("event.payload.bytes").summaries()).hasSize(2);
+
+        for (int i = 0; i < 3; i++) {
+            converter.fromMessage(converter.toMessage(CommentCreatedEvent.of(1L, 2L, 3L, "내용", "kim", null, 0),
+                    new MessageProperties()));
+        }
+
+        assertThat(meterRegistry.find("event.serialization").timers()).hasSize(4);
+        assertThat(meterRegistry.get("event.serialization")
+                .tag("format", "binary").tag("operation", "serialize").timer().count()).isEqualTo(3);
+    }
+
+    private void assertRoundTrip(DomainEvent event) {
+        Message message = converter.toMessage(event, new MessageProperties());
+
+        Object decoded = converter.fromMessage(message);
+
+        assertThat(decoded).isInstanceOf(event.getClass());
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+}
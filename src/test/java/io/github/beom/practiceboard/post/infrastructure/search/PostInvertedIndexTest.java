@@ -0,0 +1,91 @@
+package io.github.beom.practiceboard.post.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostInvertedIndexTest {
+
+    private static final String[] TITLE_AND_CONTENT = {"t", "c"};
+
+    private PostInvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostInvertedIndex();
+    }
+
+    @Test
+    void 모든_n_gram을_포함한_게시글만_찾는다() {
+        index.index(1L, "스프링 게시판", "내용", "kim");
+        index.index(2L, "스프링 부트", "게시판 만들기", "lee");
+        index.index(3L, "자바", "컬렉션", "park");
+
+        PostInvertedIndex.SearchResult result = index.search("게시판", TITLE_AND_CONTENT, 10);
+
+        assertThat(result.getIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(result.getTotalMatches()).isEqualTo(2);
+        assertThat(result.isTruncated()).isFalse();
+    }
+
+    @Test
+    void 제목_일치가_내용_일치보다_먼저_온다() {
+        index.index(1L, "일반 글", "검색엔진 소개", "kim");
+        index.index(2L, "검색엔진 소개", "일반 글", "lee");
+
+        PostInvertedIndex.SearchResult result = index.search("검색엔진", TITLE_AND_CONTENT, 10);
+
+        assertThat(result.getIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void limit을_넘으면_전체_일치_수와_잘림_여부를_알려준다() {
+        for (long id = 1; id <= 5; id++) {
+            index.index(id, "공지 " + id, "내용", "admin");
+        }
+
+        PostInvertedIndex.SearchResult result = index.search("공지", new String[]{"t"}, 3);
+
+        assertThat(result.getIds()).hasSize(3);
+        assertThat(result.getTotalMatches()).isEqualTo(5);
+        assertThat(result.isTruncated()).isTrue();
+    }
+
+    @Test
+    void 선택하지_않은_필드는_검색하지_않는다() {
+        index.index(1L, "제목", "본문", "홍길동");
+
+        assertThat(index.search("홍길동", TITLE_AND_CONTENT, 10).getIds()).isEmpty();
+        assertThat(index.search("홍길동", new String[]{"a"}, 10).getIds()).containsExactly(1L);
+    }
+
+    @Test
+    void 재색인과_삭제가_반영된다() {
+        index.index(1L, "스프링", "내용", "kim");
+        index.index(1L, "자바", "내용", "kim");
+
+        assertThat(index.search("스프링", TITLE_AND_CONTENT, 10).getIds()).isEmpty();
+        assertThat(index.search("자바", TITLE_AND_CONTENT, 10).getIds()).containsExactly(1L);
+
+        index.remove(1L);
+
+        assertThat(index.search("자바", TITLE_AND_CONTENT, 10).getTotalMatches()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void n_gram_일치는_구문_일치를_보장하지_않는다() {
+        // "시판 게시"는 "게시판"의 bigram(게시, 시판)을 모두 포함하지만 구문은 없으므로 호출 측에서 원문 확인이 필요
+        index.index(1L, "시판 게시", "", "kim");
+
+        assertThat(index.search("게시판", new String[]{"t"}, 10).getIds()).containsExactly(1L);
+    }
+
+    @Test
+    void 한_글자_구간만_있는_키워드는_색인_검색_대상이_아니다() {
+        assertThat(NGramTokenizer.isSearchable("a b")).isFalse();
+        assertThat(NGramTokenizer.isSearchable("게시판 a")).isFalse();
+        assertThat(NGramTokenizer.isSearchable("게시판 검색")).isTrue();
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.beom.practiceboard.security.util;
+
+import io.github.beom.practiceboard.security.exception.RefreshTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenStoreTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256-signing";
+
+    private JWTUtil jwtUtil;
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jwtUtil = new JWTUtil();
+        ReflectionTestUtils.setField(jwtUtil, "key", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 100);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheTtlSeconds", 300L);
+        jwtUtil.init();
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        store = new RefreshTokenStore(redisTemplate, jwtUtil, 86_400_000L, 100, 60_000L);
+    }
+
+    @Test
+    void 교체하면_같은_패밀리의_새_토큰을_발급한다() {
+        String token = store.issue(Map.of("id", "kim", "roles", "USER"));
+        Map<String, Object> claims = jwtUtil.validateToken(token);
+        String familyId = claims.get(RefreshTokenStore.FAMILY_CLAIM).toString();
+        String tokenId = claims.get(RefreshTokenStore.TOKEN_ID_CLAIM).toString();
+        verify(valueOperations).set(eq("refresh:family:" + familyId), eq(tokenId), any(Duration.class));
+
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any()))
+                .thenReturn(1L);
+
+        Map<String, Object> rotated = jwtUtil.validateToken(store.rotate(token, claims));
+
+        ArgumentCaptor<Object> newTokenId = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of("refresh:family:" + familyId)), eq(tokenId), newTokenId.capture(), any());
+        assertThat(rotated.get(RefreshTokenStore.FAMILY_CLAIM)).isEqualTo(familyId);
+        assertThat(rotated.get(RefreshTokenStore.TOKEN_ID_CLAIM))
+                .isEqualTo(newTokenId.getValue())
+                .isNotEqualTo(tokenId);
+        assertThat(rotated.get("id")).isEqualTo("kim");
+        assertThat(rotated.get("roles")).isEqualTo("USER");
+    }
+
+    @Test
+    void 이미_교체된_토큰이_다시_오면_거절하고_이후_요청은_Redis_없이_거절한다() {
+        String token = store.issue(Map.of("id", "kim"));
+        Map<String, Object> claims = jwtUtil.validateToken(token);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any()))
+                .thenReturn(-1L);
+
+        assertRevoked(() -> store.rotate(token, claims));
+        assertRevoked(() -> store.rotate(token, claims));
+
+        verify(redisTemplate, times(1))
+                .execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any(), any());
+    }
+
+    @Test
+    void 패밀리_정보가_없는_예전_토큰은_한_번만_전환한다() {
+        String legacyToken = jwtUtil.generateToken(Map.of("id", "kim"), false);
+        Map<String, Object> claims = jwtUtil.validateToken(legacyToken);
+        when(valueOperations.setIfAbsent(startsWith("refresh:legacy:"), anyString(), any(Duration.class)))
+                .thenReturn(true, false);
+
+        Map<String, Object> converted = jwtUtil.validateToken(store.rotate(legacyToken, claims));
+
+        assertThat(converted.get(RefreshTokenStore.FAMILY_CLAIM)).isNotNull();
+        assertThat(converted.get(RefreshTokenStore.TOKEN_ID_CLAIM)).isNotNull();
+        assertRevoked(() -> store.rotate(legacyToken, claims));
+    }
+
+    @Test
+    void Redis_오류로_폐기하지_못하면_저장소_사용_불가로_응답한다() {
+        String token = store.issue(Map.of("id", "kim"));
+        Map<String, Object> claims = jwtUtil.validateToken(token);
+        when(redisTemplate.delete(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatThrownBy(() -> store.revoke(token, claims))
+                .isInstanceOfSatisfying(RefreshTokenException.class, e ->
+                        assertThat(e.getErrorCase()).isEqualTo(RefreshTokenException.ErrorCase.STORE_UNAVAILABLE));
+    }
+
+    private void assertRevoked(Runnable rotation) {
+        assertThatThrownBy(rotation::run)
+                .isInstanceOfSatisfying(RefreshTokenException.class, e ->
+                        assertThat(e.getErrorCase()).isEqualTo(RefreshTokenException.ErrorCase.REVOKED_REFRESH));
+    }
+}